@@ -0,0 +1,602 @@
+package com.github.mygreen.supercsv.apt;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.CsvPostRead;
+import com.github.mygreen.supercsv.annotation.CsvPostWrite;
+import com.github.mygreen.supercsv.annotation.CsvPreRead;
+import com.github.mygreen.supercsv.annotation.CsvPreWrite;
+import com.github.mygreen.supercsv.builder.BeanAccessor;
+import com.github.mygreen.supercsv.builder.BeanAccessorResolver;
+
+/**
+ * アノテーション{@link CsvBean}を付与したクラスに対して、{@link BeanAccessor}の実装クラスを生成するアノテーションプロセッサ。
+ * <p>生成したクラスは、Beanのインスタンスの作成と、アノテーション{@link CsvColumn}を付与したフィールドの値の取得／設定を、
+ *    リフレクションを使用せずに直接行います。
+ *    <br>実行時は、{@link BeanAccessorResolver}により検出され、CSVの読み込み／書き込み時に使用されます。
+ * </p>
+ * <p>さらに、アノテーション{@link CsvColumn}を付与したフィールドの名前と、コールバック用のアノテーションを付与したメソッドのシグネチャを
+ *    生成したクラスに埋め込みます。
+ *    <br>{@link com.github.mygreen.supercsv.builder.BeanMappingFactory}は、この情報を元に該当するフィールドとメソッドのみを名前で取得するため、
+ *    Beanのクラスの全てのフィールドやメソッドを走査しません。
+ *    <br>ただし、フィールドやメソッドに付与したアノテーションは、従来通り実行時にリフレクションで読み込みます。
+ *    また、リスナークラスのコールバックメソッドは、インスタンスの実際のクラスが実行時まで決まらないため、従来通り走査します。
+ *    <br>コールバックメソッドの引数に、生成したクラスから参照できないクラスタイプがある場合は、メソッドのシグネチャは埋め込みません。
+ * </p>
+ * <p>次の条件を満たさないクラスは、生成をスキップし、従来通りリフレクションでアクセスします。</p>
+ * <ul>
+ *   <li>抽象クラスやインタフェースではなく、型パラメータを持たないこと。</li>
+ *   <li>クラス及び外側のクラスが{@literal private}ではなく、ネストしたクラスの場合は{@literal static}であること。</li>
+ *   <li>{@literal private}ではない引数なしのコンストラクタを持つこと。</li>
+ *   <li>各フィールドに、{@literal private}ではないsetter/getterメソッドがあるか、フィールド自体が{@literal private}ではないこと。</li>
+ * </ul>
+ * <p>また、GraalVMのnative-image用に、Beanと生成したクラスをリフレクションの対象として登録する設定ファイル
+ *    {@literal META-INF/native-image/<オプション supercsv.nativeImageDir の値>/reflect-config.json} を出力します。
+ *    <br>オプションの初期値は、{@value #DEFAULT_NATIVE_IMAGE_DIR} です。空文字を指定した場合は出力しません。
+ * </p>
+ * <p>{@literal META-INF/services}には登録していないため、利用する場合は明示的に指定します。</p>
+ * <pre class="highlight"><code class="xml">
+ * &lt;plugin&gt;
+ *     &lt;groupId&gt;org.apache.maven.plugins&lt;/groupId&gt;
+ *     &lt;artifactId&gt;maven-compiler-plugin&lt;/artifactId&gt;
+ *     &lt;configuration&gt;
+ *         &lt;annotationProcessors&gt;
+ *             &lt;annotationProcessor&gt;com.github.mygreen.supercsv.apt.CsvBeanAccessorProcessor&lt;/annotationProcessor&gt;
+ *         &lt;/annotationProcessors&gt;
+ *     &lt;/configuration&gt;
+ * &lt;/plugin&gt;
+ * </code></pre>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+@SupportedAnnotationTypes("com.github.mygreen.supercsv.annotation.CsvBean")
+@SupportedOptions(CsvBeanAccessorProcessor.OPTION_NATIVE_IMAGE_DIR)
+public class CsvBeanAccessorProcessor extends AbstractProcessor {
+
+    /**
+     * native-image用の設定ファイルの出力先のディレクトリを指定するオプション名
+     */
+    public static final String OPTION_NATIVE_IMAGE_DIR = "supercsv.nativeImageDir";
+
+    /**
+     * native-image用の設定ファイルの出力先のディレクトリの初期値
+     */
+    public static final String DEFAULT_NATIVE_IMAGE_DIR = "com.github.mygreen/super-csv-annotation-generated";
+
+    /**
+     * 生成済みのクラス名
+     */
+    private final Set<String> generatedNames = new HashSet<>();
+
+    /**
+     * native-image用に、リフレクションの対象として登録するBeanのクラス名（バイナリ名）
+     */
+    private final Set<String> beanNames = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+
+        for(Element element : roundEnv.getElementsAnnotatedWith(CsvBean.class)) {
+            if(element.getKind() != ElementKind.CLASS) {
+                continue;
+            }
+
+            final TypeElement beanType = (TypeElement) element;
+            beanNames.add(processingEnv.getElementUtils().getBinaryName(beanType).toString());
+
+            final List<Property> properties = new ArrayList<>();
+            final Optional<String> reason = collectProperties(beanType, properties);
+            if(reason.isPresent()) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                        String.format("skip generating BeanAccessor for '%s', because %s.", beanType.getQualifiedName(), reason.get()),
+                        beanType);
+                continue;
+            }
+
+            final String accessorName = getAccessorClassName(beanType);
+            if(!generatedNames.add(accessorName)) {
+                continue;
+            }
+
+            final Optional<List<Callback>> callbacks = collectCallbacks(beanType);
+
+            try {
+                writeAccessor(beanType, accessorName, properties, callbacks);
+
+            } catch(IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("fail generating BeanAccessor for '%s' : %s", beanType.getQualifiedName(), e.getMessage()),
+                        beanType);
+            }
+        }
+
+        if(roundEnv.processingOver() && !beanNames.isEmpty()) {
+            try {
+                writeNativeImageConfig();
+
+            } catch(IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                        String.format("fail writing native-image configuration : %s", e.getMessage()));
+            }
+        }
+
+        // 他のプロセッサでも処理できるようにする
+        return false;
+    }
+
+    /**
+     * native-image用のリフレクションの設定ファイルを出力する。
+     * <p>Beanは、フィールドのアノテーションの読み込みや、コールバックメソッドの呼び出しのために全てのメンバーを登録し、
+     *    生成したクラスは、{@link BeanAccessorResolver}でインスタンスを作成するためにコンストラクタを登録します。
+     * </p>
+     */
+    private void writeNativeImageConfig() throws IOException {
+
+        final String dir = processingEnv.getOptions().getOrDefault(OPTION_NATIVE_IMAGE_DIR, DEFAULT_NATIVE_IMAGE_DIR);
+        if(dir.isEmpty()) {
+            return;
+        }
+
+        final List<String> entries = new ArrayList<>();
+        for(String beanName : beanNames) {
+            entries.add(String.format("  {%n"
+                    + "    \"name\" : \"%s\",%n"
+                    + "    \"allDeclaredFields\" : true,%n"
+                    + "    \"allDeclaredMethods\" : true,%n"
+                    + "    \"allDeclaredConstructors\" : true%n"
+                    + "  }", beanName));
+        }
+
+        for(String accessorName : new TreeSet<>(generatedNames)) {
+            entries.add(String.format("  {%n"
+                    + "    \"name\" : \"%s\",%n"
+                    + "    \"methods\" : [ { \"name\" : \"<init>\", \"parameterTypes\" : [ ] } ]%n"
+                    + "  }", accessorName));
+        }
+
+        final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+                "META-INF/native-image/" + dir + "/reflect-config.json");
+        try(PrintWriter out = new PrintWriter(file.openWriter())) {
+            out.printf("[%n");
+            out.print(String.join(String.format(",%n"), entries));
+            out.printf("%n]%n");
+        }
+
+    }
+
+    /**
+     * 生成するクラスの名前を取得する。
+     * <p>{@link BeanAccessorResolver#getAccessorClassName(Class)}と同じ規則で作成します。</p>
+     */
+    private String getAccessorClassName(final TypeElement beanType) {
+
+        final String binaryName = processingEnv.getElementUtils().getBinaryName(beanType).toString();
+        final int index = binaryName.lastIndexOf('.');
+        final String packageName = index < 0 ? "" : binaryName.substring(0, index + 1);
+        final String simpleName = binaryName.substring(index + 1).replace('$', '_');
+
+        return packageName + simpleName + BeanAccessorResolver.ACCESSOR_CLASS_SUFFIX;
+    }
+
+    /**
+     * アクセス対象のフィールドの情報を取得する。
+     * @param beanType Beanのクラス
+     * @param properties 取得したフィールドの情報を格納する。
+     * @return 生成できない場合は、その理由を返す。
+     */
+    private Optional<String> collectProperties(final TypeElement beanType, final List<Property> properties) {
+
+        if(beanType.getModifiers().contains(Modifier.ABSTRACT)) {
+            return Optional.of("the class is abstract");
+        }
+
+        if(!beanType.getTypeParameters().isEmpty()) {
+            return Optional.of("the class has type parameters");
+        }
+
+        // クラスにアクセスできるかどうか
+        Element current = beanType;
+        while(current instanceof TypeElement) {
+            final TypeElement type = (TypeElement) current;
+            if(type.getModifiers().contains(Modifier.PRIVATE)) {
+                return Optional.of("the class or enclosing class is private");
+            }
+
+            if(type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+                return Optional.of("the class is local or anonymous");
+            }
+
+            if(type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+                    && type.getEnclosingElement().getKind() != ElementKind.INTERFACE) {
+                return Optional.of("the class is not static");
+            }
+
+            current = type.getEnclosingElement();
+        }
+
+        final boolean hasDefaultConstructor = ElementFilter.constructorsIn(beanType.getEnclosedElements()).stream()
+                .anyMatch(c -> c.getParameters().isEmpty() && !c.getModifiers().contains(Modifier.PRIVATE));
+        if(!hasDefaultConstructor) {
+            return Optional.of("the class has no accessible default constructor");
+        }
+
+        final PackageElement beanPackage = processingEnv.getElementUtils().getPackageOf(beanType);
+        final List<ExecutableElement> methods = ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(beanType));
+
+        for(VariableElement field : ElementFilter.fieldsIn(beanType.getEnclosedElements())) {
+            if(field.getAnnotation(CsvColumn.class) == null) {
+                continue;
+            }
+
+            final String fieldName = field.getSimpleName().toString();
+            final boolean fieldAccessible = !field.getModifiers().contains(Modifier.PRIVATE)
+                    && !field.getModifiers().contains(Modifier.STATIC);
+
+            final Optional<ExecutableElement> setter = findMethod(methods, beanPackage, field, "set");
+            final Optional<ExecutableElement> getter = findMethod(methods, beanPackage, field, "get", "is");
+
+            if(!setter.isPresent() && (!fieldAccessible || field.getModifiers().contains(Modifier.FINAL))) {
+                return Optional.of(String.format("the field '%s' has no accessible setter", fieldName));
+            }
+
+            if(!getter.isPresent() && !fieldAccessible) {
+                return Optional.of(String.format("the field '%s' has no accessible getter", fieldName));
+            }
+
+            properties.add(new Property(fieldName, field.asType(),
+                    setter.map(m -> m.getSimpleName().toString()).orElse(null),
+                    getter.map(m -> m.getSimpleName().toString()).orElse(null)));
+        }
+
+        if(properties.isEmpty()) {
+            return Optional.of("the class has no field with @CsvColumn");
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * コールバック用のアノテーションを付与したメソッドの情報を取得する。
+     * @param beanType Beanのクラス
+     * @return 生成したクラスから引数のクラスタイプを参照できないメソッドがある場合は、空を返す。
+     */
+    private Optional<List<Callback>> collectCallbacks(final TypeElement beanType) {
+
+        final PackageElement beanPackage = processingEnv.getElementUtils().getPackageOf(beanType);
+        final List<Callback> callbacks = new ArrayList<>();
+
+        for(ExecutableElement method : ElementFilter.methodsIn(beanType.getEnclosedElements())) {
+            if(method.getAnnotation(CsvPreRead.class) == null && method.getAnnotation(CsvPostRead.class) == null
+                    && method.getAnnotation(CsvPreWrite.class) == null && method.getAnnotation(CsvPostWrite.class) == null) {
+                continue;
+            }
+
+            final List<String> parameterTypes = new ArrayList<>();
+            for(VariableElement parameter : method.getParameters()) {
+                final TypeMirror type = processingEnv.getTypeUtils().erasure(parameter.asType());
+                if(!isReferable(type, beanPackage)) {
+                    return Optional.empty();
+                }
+                parameterTypes.add(type.toString());
+            }
+
+            callbacks.add(new Callback(method.getSimpleName().toString(), parameterTypes));
+        }
+
+        return Optional.of(callbacks);
+    }
+
+    /**
+     * 生成したクラスからクラスリテラルとして参照できるかどうか判定する。
+     * @param type イレイジャ後のクラスタイプ
+     * @param beanPackage 生成したクラスのパッケージ
+     * @return 参照できる場合は{@literal true}を返す。
+     */
+    private boolean isReferable(final TypeMirror type, final PackageElement beanPackage) {
+
+        if(type.getKind().isPrimitive()) {
+            return true;
+
+        } else if(type.getKind() == TypeKind.ARRAY) {
+            return isReferable(((ArrayType) type).getComponentType(), beanPackage);
+
+        } else if(type.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+
+        Element current = ((DeclaredType) type).asElement();
+        while(current instanceof TypeElement) {
+            final TypeElement typeElement = (TypeElement) current;
+            if(typeElement.getModifiers().contains(Modifier.PRIVATE)
+                    || typeElement.getNestingKind() == NestingKind.LOCAL
+                    || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+                return false;
+            }
+
+            // 異なるパッケージの場合は、publicのみアクセス可能
+            if(!typeElement.getModifiers().contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(typeElement).equals(beanPackage)) {
+                return false;
+            }
+
+            current = typeElement.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * フィールドに対するアクセッサメソッドを探す。
+     * @param methods Beanのメソッド一覧
+     * @param beanPackage Beanのパッケージ
+     * @param field フィールド
+     * @param prefixes メソッド名の接頭語。setterの場合は{@literal set}のみ。
+     * @return 見つからない場合は空を返す。
+     */
+    private Optional<ExecutableElement> findMethod(final List<ExecutableElement> methods, final PackageElement beanPackage,
+            final VariableElement field, final String... prefixes) {
+
+        final String fieldName = field.getSimpleName().toString();
+        final String capitalizedName = Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+        final boolean setter = prefixes[0].equals("set");
+
+        for(String prefix : prefixes) {
+            final String methodName = prefix + capitalizedName;
+
+            for(ExecutableElement method : methods) {
+                if(!method.getSimpleName().contentEquals(methodName)
+                        || method.getModifiers().contains(Modifier.STATIC)
+                        || method.getModifiers().contains(Modifier.PRIVATE)) {
+                    continue;
+                }
+
+                // 異なるパッケージの場合は、publicのみアクセス可能
+                if(!method.getModifiers().contains(Modifier.PUBLIC)
+                        && !processingEnv.getElementUtils().getPackageOf(method).equals(beanPackage)) {
+                    continue;
+                }
+
+                if(setter) {
+                    if(method.getParameters().size() == 1
+                            && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType())) {
+                        return Optional.of(method);
+                    }
+
+                } else {
+                    if(method.getParameters().isEmpty()
+                            && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType())) {
+                        return Optional.of(method);
+                    }
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * {@link BeanAccessor}の実装クラスのソースを出力する。
+     */
+    private void writeAccessor(final TypeElement beanType, final String accessorName, final List<Property> properties,
+            final Optional<List<Callback>> callbacks) throws IOException {
+
+        final int index = accessorName.lastIndexOf('.');
+        final String packageName = index < 0 ? null : accessorName.substring(0, index);
+        final String simpleName = accessorName.substring(index + 1);
+        final String beanName = beanType.getQualifiedName().toString();
+
+        final JavaFileObject file = processingEnv.getFiler().createSourceFile(accessorName, beanType);
+        try(PrintWriter out = new PrintWriter(file.openWriter())) {
+
+            if(packageName != null) {
+                out.printf("package %s;%n%n", packageName);
+            }
+
+            out.printf("/**%n");
+            out.printf(" * {@link %s}に対する{@link %s}。%n", beanName, BeanAccessor.class.getName());
+            out.printf(" * <p>{@link %s}により生成されたクラスです。</p>%n", CsvBeanAccessorProcessor.class.getName());
+            out.printf(" */%n");
+            out.printf("public final class %s implements %s<%s> {%n%n", simpleName, BeanAccessor.class.getName(), beanName);
+
+            final List<String> fieldNames = new ArrayList<>();
+            for(Property property : properties) {
+                fieldNames.add(String.format("\"%s\"", property.name));
+            }
+            out.printf("    private static final java.util.Optional<java.util.List<String>> COLUMN_FIELD_NAMES =%n");
+            out.printf("            java.util.Optional.of(%s);%n%n", getListExpression(fieldNames));
+
+            if(callbacks.isPresent()) {
+                final String signatureName = BeanAccessor.MethodSignature.class.getCanonicalName();
+                final List<String> signatures = new ArrayList<>();
+                for(Callback callback : callbacks.get()) {
+                    final StringBuilder signature = new StringBuilder();
+                    signature.append(String.format("new %s(\"%s\"", signatureName, callback.name));
+                    for(String parameterType : callback.parameterTypes) {
+                        signature.append(String.format(", %s.class", parameterType));
+                    }
+                    signature.append(")");
+                    signatures.add(signature.toString());
+                }
+                out.printf("    private static final java.util.Optional<java.util.List<%s>> CALLBACK_METHOD_SIGNATURES =%n", signatureName);
+                out.printf("            java.util.Optional.of(%s);%n%n", getListExpression(signatures));
+            }
+
+            out.printf("    @Override%n");
+            out.printf("    public Class<%s> getBeanType() {%n", beanName);
+            out.printf("        return %s.class;%n", beanName);
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    public %s newInstance() {%n", beanName);
+            out.printf("        return new %s();%n", beanName);
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    public Object getValue(final %s bean, final String fieldName) {%n", beanName);
+            out.printf("        switch(fieldName) {%n");
+            for(Property property : properties) {
+                out.printf("            case \"%s\":%n", property.name);
+                if(property.getterName != null) {
+                    out.printf("                return bean.%s();%n", property.getterName);
+                } else {
+                    out.printf("                return bean.%s;%n", property.name);
+                }
+            }
+            out.printf("            default:%n");
+            out.printf("                throw new IllegalArgumentException(\"not found accessible field : \" + fieldName);%n");
+            out.printf("        }%n");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    public void setValue(final %s bean, final String fieldName, final Object value) {%n", beanName);
+            out.printf("        switch(fieldName) {%n");
+            for(Property property : properties) {
+                out.printf("            case \"%s\":%n", property.name);
+                final String castType = getCastTypeName(property.type);
+                if(property.setterName != null) {
+                    out.printf("                bean.%s((%s) value);%n", property.setterName, castType);
+                } else {
+                    out.printf("                bean.%s = (%s) value;%n", property.name, castType);
+                }
+                out.printf("                return;%n");
+            }
+            out.printf("            default:%n");
+            out.printf("                throw new IllegalArgumentException(\"not found accessible field : \" + fieldName);%n");
+            out.printf("        }%n");
+            out.printf("    }%n%n");
+
+            out.printf("    @Override%n");
+            out.printf("    public java.util.Optional<java.util.List<String>> getColumnFieldNames() {%n");
+            out.printf("        return COLUMN_FIELD_NAMES;%n");
+            out.printf("    }%n%n");
+
+            if(callbacks.isPresent()) {
+                out.printf("    @Override%n");
+                out.printf("    public java.util.Optional<java.util.List<%s>> getCallbackMethodSignatures() {%n",
+                        BeanAccessor.MethodSignature.class.getCanonicalName());
+                out.printf("        return CALLBACK_METHOD_SIGNATURES;%n");
+                out.printf("    }%n%n");
+            }
+
+            out.printf("}%n");
+        }
+
+    }
+
+    /**
+     * 変更不可なリストを作成する式を取得する。
+     * @param elements リストの要素の式
+     */
+    private String getListExpression(final List<String> elements) {
+
+        if(elements.isEmpty()) {
+            return "java.util.Collections.emptyList()";
+        }
+
+        final StringBuilder expression = new StringBuilder("java.util.Collections.unmodifiableList(java.util.Arrays.asList(");
+        for(int i = 0; i < elements.size(); i++) {
+            expression.append(String.format("%n                    %s", elements.get(i)));
+            if(i < elements.size() - 1) {
+                expression.append(",");
+            }
+        }
+        expression.append("))");
+
+        return expression.toString();
+    }
+
+    /**
+     * キャストする際のクラス名を取得する。
+     * <p>プリミティブ型の場合はラッパークラス、総称型の場合はイレイジャとする。</p>
+     */
+    private String getCastTypeName(final TypeMirror type) {
+
+        if(type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * アクセス対象のフィールドの情報
+     */
+    private static class Property {
+
+        private final String name;
+
+        private final TypeMirror type;
+
+        /** setterメソッドの名前。存在しない場合は{@literal null} */
+        private final String setterName;
+
+        /** getterメソッドの名前。存在しない場合は{@literal null} */
+        private final String getterName;
+
+        Property(final String name, final TypeMirror type, final String setterName, final String getterName) {
+            this.name = name;
+            this.type = type;
+            this.setterName = setterName;
+            this.getterName = getterName;
+        }
+
+    }
+
+    /**
+     * コールバック用のメソッドの情報
+     */
+    private static class Callback {
+
+        private final String name;
+
+        /** 引数のイレイジャ後のクラス名 */
+        private final List<String> parameterTypes;
+
+        Callback(final String name, final List<String> parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+        }
+
+    }
+
+}
@@ -0,0 +1,8 @@
+/**
+ * コンパイル時に処理するアノテーションプロセッサを提供します。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+package com.github.mygreen.supercsv.apt;
@@ -27,7 +27,11 @@ import com.github.mygreen.supercsv.annotation.conversion.CsvRightPad;
 import com.github.mygreen.supercsv.annotation.conversion.CsvTrim;
 import com.github.mygreen.supercsv.annotation.conversion.CsvUpper;
 import com.github.mygreen.supercsv.annotation.conversion.CsvWordReplace;
+import com.github.mygreen.supercsv.annotation.format.CsvBooleanFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvDateTimeFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvEnumFormat;
 import com.github.mygreen.supercsv.annotation.format.CsvFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvNumberFormat;
 import com.github.mygreen.supercsv.cellprocessor.ConstraintProcessorFactory;
 import com.github.mygreen.supercsv.cellprocessor.ConstraintProcessorHandler;
 import com.github.mygreen.supercsv.cellprocessor.ConversionProcessorFactory;
@@ -53,13 +57,14 @@ import com.github.mygreen.supercsv.cellprocessor.conversion.WordReplaceFactory;
 import com.github.mygreen.supercsv.cellprocessor.format.ParseProcessorFactory;
 import com.github.mygreen.supercsv.cellprocessor.format.PrintProcessorFactory;
 import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
+import com.github.mygreen.supercsv.cellprocessor.format.TextFormatterPool;
 
 /**
  * アノテーションによる{@link CellProcessor}を組み立てるベースとなるクラス。
  * <p>共通の{@link CellProcessor}などを追加する処理を定義します。
  *
  * @param <T> 処理対象のクラスタイプ。
- * @version 2.0
+ * @version 2.5
  * @author T.TSUCHIE
  *
  */
@@ -219,12 +224,21 @@ public abstract class AbstractProcessorBuilder<T> implements ProcessorBuilder<T>
     /**
      * 文字列とオブジェクトを相互変換するフォーマッタを取得します。
      * <p>アノテーション{@link CsvFormat}が指定されている場合は、そちらを優先します。</p>
+     * <p>作成したフォーマッタは、フィールドごとにキャッシュし、読み込み用、書き込み用のCellProcessorと
+     *    カラム情報で同じインスタンスを使用します。
+     *    <br>{@link Configuration#getFormatterPool()}が設定されている場合は、書式が同じ標準のフォーマッタを
+     *    同じシステム設定を使用する他のフィールドと共有します。
+     * </p>
      * @param field フィールド情報
      * @param config システム設定
      * @return フォーマッタを取得します。
      */
-    @SuppressWarnings("unchecked")
     public TextFormatter<T> getFormatter(final FieldAccessor field, final Configuration config) {
+        return field.getFormatter(this, config, () -> createTextFormatter(field, config));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private TextFormatter<T> createTextFormatter(final FieldAccessor field, final Configuration config) {
 
         if(field.hasAnnotation(CsvFormat.class)) {
             CsvFormat formatAnno = field.getAnnotation(CsvFormat.class).get();
@@ -235,10 +249,25 @@ public abstract class AbstractProcessorBuilder<T> implements ProcessorBuilder<T>
             }
             return formatter;
 
-        } else {
+        }
+        
+        final TextFormatterPool pool = config.getFormatterPool();
+        if(pool == null) {
             return getDefaultFormatter(field, config);
-
         }
+        
+        // 書式のアノテーションは、属性の値で比較される
+        // フォーマッタはシステム設定を参照して作成するため、システム設定のインスタンスごとに区別する
+        final List<Object> key = new ArrayList<>();
+        key.add(config);
+        key.add(getClass());
+        key.add(field.getType());
+        key.addAll(field.getAnnotations(CsvNumberFormat.class));
+        key.addAll(field.getAnnotations(CsvDateTimeFormat.class));
+        key.addAll(field.getAnnotations(CsvBooleanFormat.class));
+        key.addAll(field.getAnnotations(CsvEnumFormat.class));
+        
+        return pool.intern(key, () -> getDefaultFormatter(field, config));
     }
 
     /**
@@ -102,7 +102,8 @@ public class AnnotationExpander {
         if(isRepeated(targetAnno)) {
             // 繰り返しのアノテーションの場合、要素を抽出する。
             try {
-                final Method method = targetAnno.getClass().getMethod("value");
+                final Method method = targetAnno.annotationType().getMethod("value");
+                method.setAccessible(true);
                 final Annotation[] annos = (Annotation[]) method.invoke(targetAnno);
                 
                 int index = 0;
@@ -159,7 +160,8 @@ public class AnnotationExpander {
     private boolean isRepeated(final Annotation targetAnno) {
         
         try {
-            final Method method = targetAnno.getClass().getMethod("value");
+            final Method method = targetAnno.annotationType().getMethod("value");
+            method.setAccessible(true);
             
             // 値のクラスタイプがアノテーションの配列かどうかのチェック
             final Class<?> returnType = method.getReturnType();
@@ -0,0 +1,143 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * リフレクションを使用せずに、Beanのインスタンスの作成と、フィールドの値へのアクセスを行うためのインタフェース。
+ * <p>アノテーションプロセッサ {@link com.github.mygreen.supercsv.apt.CsvBeanAccessorProcessor} により、
+ *    コンパイル時に{@literal @CsvBean}を付与したクラスごとに実装クラスが生成されます。
+ *    <br>生成されたクラスは、{@link BeanAccessorResolver}により実行時に検出され、{@link BeanMapping}に設定されます。
+ * </p>
+ * <p>また、マッピング対象のフィールドとコールバックメソッドの情報をコンパイル時に収集して提供します。
+ *    <br>{@link BeanMappingFactory}は、この情報が提供されている場合、Beanのクラスの全てのフィールドやメソッドを走査せずに、
+ *    該当するフィールドとメソッドのみを名前で取得します。
+ * </p>
+ *
+ * @param <T> Beanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public interface BeanAccessor<T> {
+
+    /**
+     * アクセス対象のBeanのクラスタイプを取得します。
+     * @return Beanのクラスタイプ
+     */
+    Class<T> getBeanType();
+
+    /**
+     * Beanのインスタンスを作成します。
+     * @return 作成したインスタンス。
+     */
+    T newInstance();
+
+    /**
+     * フィールドの値を取得します。
+     * @param bean 取得対象のBeanのインスタンス。
+     * @param fieldName フィールド名。
+     * @return フィールドの値。
+     * @throws IllegalArgumentException アクセスできないフィールド名を指定した場合。
+     */
+    Object getValue(T bean, String fieldName);
+
+    /**
+     * フィールドの値を設定します。
+     * @param bean 設定対象のBeanのインスタンス。
+     * @param fieldName フィールド名。
+     * @param value 設定する値。
+     * @throws IllegalArgumentException アクセスできないフィールド名を指定した場合。
+     * @throws ClassCastException 値のクラスタイプがフィールドのクラスタイプと一致しない場合。
+     */
+    void setValue(T bean, String fieldName, Object value);
+
+    /**
+     * アノテーション{@literal @CsvColumn}を付与したフィールドの名前を取得します。
+     * <p>Beanのクラス自身に宣言されているフィールドが対象で、親クラスのフィールドは含みません。</p>
+     * @return 宣言順のフィールド名。情報を提供しない場合は空を返します。
+     */
+    default Optional<List<String>> getColumnFieldNames() {
+        return Optional.empty();
+    }
+
+    /**
+     * アノテーション{@literal @CsvPreRead}、{@literal @CsvPostRead}、{@literal @CsvPreWrite}、{@literal @CsvPostWrite}
+     * のいずれかを付与したメソッドのシグネチャを取得します。
+     * <p>Beanのクラス自身に宣言されているメソッドが対象で、親クラスのメソッドやリスナークラスのメソッドは含みません。</p>
+     * @return 宣言順のメソッドのシグネチャ。情報を提供しない場合は空を返します。
+     */
+    default Optional<List<MethodSignature>> getCallbackMethodSignatures() {
+        return Optional.empty();
+    }
+
+    /**
+     * メソッドのシグネチャ。
+     * <p>{@link Class#getDeclaredMethod(String, Class...)}でメソッドを取得するための情報を保持します。</p>
+     *
+     * @since 2.5
+     * @author T.TSUCHIE
+     *
+     */
+    final class MethodSignature {
+
+        private final String name;
+
+        private final Class<?>[] parameterTypes;
+
+        /**
+         * メソッドのシグネチャを作成します。
+         * @param name メソッド名
+         * @param parameterTypes 引数のクラスタイプ
+         * @throws NullPointerException {@literal name or parameterTypes is null.}
+         */
+        public MethodSignature(final String name, final Class<?>... parameterTypes) {
+            this.name = Objects.requireNonNull(name, "name should not be null.");
+            this.parameterTypes = Objects.requireNonNull(parameterTypes, "parameterTypes should not be null.").clone();
+        }
+
+        /**
+         * メソッド名を取得します。
+         * @return メソッド名
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 引数のクラスタイプを取得します。
+         * @return 引数のクラスタイプのコピー
+         */
+        public Class<?>[] getParameterTypes() {
+            return parameterTypes.clone();
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+
+            if(!(obj instanceof MethodSignature)) {
+                return false;
+            }
+
+            final MethodSignature other = (MethodSignature) obj;
+            return name.equals(other.name) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public String toString() {
+            return name + Arrays.toString(parameterTypes);
+        }
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * アノテーションプロセッサにより生成された{@link BeanAccessor}の実装クラスを検出するクラス。
+ * <p>生成されたクラスは、Beanと同じパッケージに、{@link #getAccessorClassName(Class)}で取得できる名前で配置されます。
+ *    <br>検出結果は、存在しない場合も含めてクラスごとにキャッシュします。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class BeanAccessorResolver {
+
+    /**
+     * 生成されるクラス名の接尾語
+     */
+    public static final String ACCESSOR_CLASS_SUFFIX = "_CsvBeanAccessor";
+
+    private static final ClassValue<Optional<BeanAccessor<?>>> CACHE = new ClassValue<Optional<BeanAccessor<?>>>() {
+
+        @Override
+        protected Optional<BeanAccessor<?>> computeValue(final Class<?> beanType) {
+            return load(beanType);
+        }
+    };
+
+    private BeanAccessorResolver() {
+
+    }
+
+    /**
+     * Beanのクラスに対応する、生成された{@link BeanAccessor}のインスタンスを取得します。
+     *
+     * @param <T> Beanのタイプ
+     * @param beanType Beanのクラスタイプ
+     * @return 生成されたクラスが存在しない場合は、空を返します。
+     * @throws NullPointerException {@literal beanType is null.}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Optional<BeanAccessor<T>> resolve(final Class<T> beanType) {
+        Objects.requireNonNull(beanType, "beanType should not be null.");
+
+        return CACHE.get(beanType).map(accessor -> (BeanAccessor<T>) accessor);
+
+    }
+
+    /**
+     * Beanのクラスに対応する、生成される{@link BeanAccessor}のクラス名（FQCN）を取得します。
+     * <p>ネストしたクラスの場合は、外側のクラス名と{@literal _}で連結した名前となります。</p>
+     *
+     * @param beanType Beanのクラスタイプ
+     * @return {@literal <パッケージ名>.<クラス名>_CsvBeanAccessor}
+     */
+    public static String getAccessorClassName(final Class<?> beanType) {
+
+        final String binaryName = beanType.getName();
+        final int index = binaryName.lastIndexOf('.');
+        final String packageName = index < 0 ? "" : binaryName.substring(0, index + 1);
+        final String simpleName = binaryName.substring(index + 1).replace('$', '_');
+
+        return packageName + simpleName + ACCESSOR_CLASS_SUFFIX;
+    }
+
+    private static Optional<BeanAccessor<?>> load(final Class<?> beanType) {
+
+        if(beanType.isInterface() || beanType.isPrimitive() || beanType.isArray()) {
+            return Optional.empty();
+        }
+
+        final Class<?> accessorClass;
+        try {
+            accessorClass = Class.forName(getAccessorClassName(beanType), true, beanType.getClassLoader());
+
+        } catch(ClassNotFoundException | LinkageError e) {
+            return Optional.empty();
+        }
+
+        if(!BeanAccessor.class.isAssignableFrom(accessorClass)) {
+            return Optional.empty();
+        }
+
+        try {
+            final BeanAccessor<?> accessor = (BeanAccessor<?>) accessorClass.getConstructor().newInstance();
+            if(!accessor.getBeanType().equals(beanType)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(accessor);
+
+        } catch(ReflectiveOperationException e) {
+            return Optional.empty();
+        }
+
+    }
+
+}
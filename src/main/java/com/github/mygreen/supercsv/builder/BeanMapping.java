@@ -46,6 +46,8 @@ public class BeanMapping<T> {
     
     private Configuration configuration;
     
+    private BeanAccessor<T> beanAccessor;
+    
     public BeanMapping(final Class<T> type) {
         this.type = type;
     }
@@ -259,5 +261,23 @@ public class BeanMapping<T> {
     public void setConfiguration(Configuration configuraton) {
         this.configuration = configuraton;
     }
+    
+    /**
+     * アノテーションプロセッサにより生成された、Beanにアクセスするためのクラスを取得します。
+     * @since 2.5
+     * @return 生成されたクラスが存在しない場合は、空を返します。
+     */
+    public Optional<BeanAccessor<T>> getBeanAccessor() {
+        return Optional.ofNullable(beanAccessor);
+    }
+    
+    /**
+     * アノテーションプロセッサにより生成された、Beanにアクセスするためのクラスを設定します。
+     * @since 2.5
+     * @param beanAccessor Beanにアクセスするためのクラス。{@literal null}の場合は、リフレクションでアクセスします。
+     */
+    public void setBeanAccessor(BeanAccessor<T> beanAccessor) {
+        this.beanAccessor = beanAccessor;
+    }
 
 }
@@ -62,6 +62,9 @@ public class BeanMappingFactory {
         final BeanMapping<T> beanMapping = new BeanMapping<>(beanType);
         beanMapping.setConfiguration(configuration);
         
+        // 生成されたBeanAccessorの設定
+        buildBeanAccessor(beanMapping, beanType);
+        
         // アノテーション @CsvBeanの取得
         final CsvBean beanAnno = beanType.getAnnotation(CsvBean.class);
         if(beanAnno == null) {
@@ -86,6 +89,30 @@ public class BeanMappingFactory {
         return beanMapping;
     }
     
+    /**
+     * アノテーションプロセッサにより生成された{@link BeanAccessor}を設定します。
+     * 
+     * @since 2.5
+     * @param <T> Beanのタイプ
+     * @param beanMapping Beanのマッピング情報
+     * @param beanType Beanのクラスタイプ
+     * @throws SuperCsvInvalidAnnotationException {@link Configuration#isRequireBeanAccessor()}が{@literal true}で、
+     *         生成されたクラスが見つからない場合。
+     */
+    protected <T> void buildBeanAccessor(final BeanMapping<T> beanMapping, final Class<T> beanType) {
+        
+        final Optional<BeanAccessor<T>> beanAccessor = BeanAccessorResolver.resolve(beanType);
+        if(!beanAccessor.isPresent() && configuration.isRequireBeanAccessor()) {
+            throw new SuperCsvInvalidAnnotationException(MessageBuilder.create("beanAccessor.notFound")
+                    .varWithClass("property", beanType)
+                    .var("accessorClass", BeanAccessorResolver.getAccessorClassName(beanType))
+                    .format());
+        }
+        
+        beanMapping.setBeanAccessor(beanAccessor.orElse(null));
+        
+    }
+    
     /**
      * ヘッダーのマッピングの処理や設定を組み立てます。
      * 
@@ -136,7 +163,7 @@ public class BeanMappingFactory {
     protected <T> void buildColumnMappingList(final BeanMapping<T> beanMapping, final Class<T> beanType, final Class<?>[] groups) {
         
         final List<ColumnMapping> columnMappingList = new ArrayList<>();
-        for(Field field : beanType.getDeclaredFields()) {
+        for(Field field : findColumnFields(beanMapping, beanType)) {
             
             final CsvColumn columnAnno = field.getAnnotation(CsvColumn.class);
             if(columnAnno != null) {
@@ -152,6 +179,44 @@ public class BeanMappingFactory {
         
     }
     
+    /**
+     * アノテーション{@link CsvColumn}を付与したフィールドの候補を取得します。
+     * <p>生成された{@link BeanAccessor}がフィールドの名前を提供している場合は、そのフィールドのみを名前で取得し、
+     *    Beanのクラスの全てのフィールドを走査しません。
+     *    <br>提供していない場合は、Beanのクラスに宣言されている全てのフィールドを返します。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> Beanのタイプ
+     * @param beanMapping Beanのマッピング情報
+     * @param beanType Beanのクラスタイプ
+     * @return フィールドの一覧
+     * @throws SuperCsvReflectionException 提供された名前のフィールドが存在しない場合。
+     */
+    protected <T> List<Field> findColumnFields(final BeanMapping<T> beanMapping, final Class<T> beanType) {
+        
+        final Optional<List<String>> fieldNames = beanMapping.getBeanAccessor()
+                .flatMap(BeanAccessor::getColumnFieldNames);
+        if(!fieldNames.isPresent()) {
+            return Arrays.asList(beanType.getDeclaredFields());
+        }
+        
+        final List<Field> fields = new ArrayList<>(fieldNames.get().size());
+        for(String fieldName : fieldNames.get()) {
+            try {
+                fields.add(beanType.getDeclaredField(fieldName));
+                
+            } catch(NoSuchFieldException e) {
+                throw new SuperCsvReflectionException(
+                        String.format("Not found field '%s' in %s, which is provided by generated BeanAccessor.",
+                                fieldName, beanType.getName()), e);
+            }
+        }
+        
+        return fields;
+        
+    }
+    
     /**
      * カラム情報を組み立てる
      * 
@@ -282,22 +347,22 @@ public class BeanMappingFactory {
     protected <T> void buildCallbackMethods(final BeanMapping<T> beanMapping, final Class<T> beanType, final CsvBean beanAnno) {
         
         // コールバック用のメソッドの取得
-        for(Method method : beanType.getDeclaredMethods()) {
+        for(Method method : findCallbackMethods(beanMapping, beanType)) {
             
             if(method.getAnnotation(CsvPreRead.class) != null) {
-                beanMapping.addPreReadMethod(new CallbackMethod(method));
+                beanMapping.addPreReadMethod(new CallbackMethod(method, beanType));
             }
             
             if(method.getAnnotation(CsvPostRead.class) != null) {
-                beanMapping.addPostReadMethod(new CallbackMethod(method));
+                beanMapping.addPostReadMethod(new CallbackMethod(method, beanType));
             }
             
             if(method.getAnnotation(CsvPreWrite.class) != null) {
-                beanMapping.addPreWriteMethod(new CallbackMethod(method));
+                beanMapping.addPreWriteMethod(new CallbackMethod(method, beanType));
             }
             
             if(method.getAnnotation(CsvPostWrite.class) != null) {
-                beanMapping.addPostWriteMethod(new CallbackMethod(method));
+                beanMapping.addPostWriteMethod(new CallbackMethod(method, beanType));
             }
         }
         
@@ -310,19 +375,19 @@ public class BeanMappingFactory {
         for(Object listener : listeners) {
             for(Method method : listener.getClass().getDeclaredMethods()) {
                 if(method.getAnnotation(CsvPreRead.class) != null) {
-                    beanMapping.addPreReadMethod(new ListenerCallbackMethod(listener, method));
+                    beanMapping.addPreReadMethod(new ListenerCallbackMethod(listener, method, beanType));
                 }
                 
                 if(method.getAnnotation(CsvPostRead.class) != null) {
-                    beanMapping.addPostReadMethod(new ListenerCallbackMethod(listener, method));
+                    beanMapping.addPostReadMethod(new ListenerCallbackMethod(listener, method, beanType));
                 }
                 
                 if(method.getAnnotation(CsvPreWrite.class) != null) {
-                    beanMapping.addPreWriteMethod(new ListenerCallbackMethod(listener, method));
+                    beanMapping.addPreWriteMethod(new ListenerCallbackMethod(listener, method, beanType));
                 }
                 
                 if(method.getAnnotation(CsvPostWrite.class) != null) {
-                    beanMapping.addPostWriteMethod(new ListenerCallbackMethod(listener, method));
+                    beanMapping.addPostWriteMethod(new ListenerCallbackMethod(listener, method, beanType));
                 }
             }
         }
@@ -334,6 +399,44 @@ public class BeanMappingFactory {
         
     }
     
+    /**
+     * コールバック用のアノテーションを付与したメソッドの候補を取得します。
+     * <p>生成された{@link BeanAccessor}がメソッドのシグネチャを提供している場合は、そのメソッドのみをシグネチャで取得し、
+     *    Beanのクラスの全てのメソッドを走査しません。
+     *    <br>提供していない場合は、Beanのクラスに宣言されている全てのメソッドを返します。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> Beanのタイプ
+     * @param beanMapping Beanのマッピング情報
+     * @param beanType Beanのクラスタイプ
+     * @return メソッドの一覧
+     * @throws SuperCsvReflectionException 提供されたシグネチャのメソッドが存在しない場合。
+     */
+    protected <T> List<Method> findCallbackMethods(final BeanMapping<T> beanMapping, final Class<T> beanType) {
+        
+        final Optional<List<BeanAccessor.MethodSignature>> signatures = beanMapping.getBeanAccessor()
+                .flatMap(BeanAccessor::getCallbackMethodSignatures);
+        if(!signatures.isPresent()) {
+            return Arrays.asList(beanType.getDeclaredMethods());
+        }
+        
+        final List<Method> methods = new ArrayList<>(signatures.get().size());
+        for(BeanAccessor.MethodSignature signature : signatures.get()) {
+            try {
+                methods.add(beanType.getDeclaredMethod(signature.getName(), signature.getParameterTypes()));
+                
+            } catch(NoSuchMethodException e) {
+                throw new SuperCsvReflectionException(
+                        String.format("Not found method '%s' in %s, which is provided by generated BeanAccessor.",
+                                signature, beanType.getName()), e);
+            }
+        }
+        
+        return methods;
+        
+    }
+    
     /**
      * システム情報を取得します。
      * @return 既存のシステム情報を変更する際に取得します。
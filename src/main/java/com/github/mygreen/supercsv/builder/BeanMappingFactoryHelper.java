@@ -1,6 +1,9 @@
 package com.github.mygreen.supercsv.builder;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.stream.Collectors;
@@ -235,6 +238,50 @@ public class BeanMappingFactoryHelper {
 
     }
     
+    /**
+     * ヘッダーのラベルを元に、番号が決定していないカラムの番号を決定する。
+     * <p>{@link HeaderMapper}による変換はカラムごとに1回のみ行い、ラベルの索引を作成して、ヘッダーを1回走査して決定します。
+     *    <br>同じラベルのヘッダーが複数ある場合は、先頭のヘッダーの位置とします。
+     *    <br>既に番号が決定しているが、ラベルが一致しないカラムは、ここではチェックしません。
+     * </p>
+     *
+     * @since 2.5
+     * @param beanMapping Beanのマッピング情報
+     * @param list カラム情報の一覧
+     * @param headers ヘッダー
+     */
+    public static void determineColumnNumberByHeader(final BeanMapping<?> beanMapping, final List<ColumnMapping> list,
+            final String[] headers) {
+
+        final HeaderMapper headerMapper = beanMapping.getHeaderMapper();
+
+        // 番号が決まっていないカラムの、ラベルの索引を作成する
+        final Map<String, List<ColumnMapping>> labelIndex = new HashMap<>();
+        for(ColumnMapping column : list) {
+            if(column.isDeterminedNumber()) {
+                continue;
+            }
+
+            final String label = headerMapper.toMap(column, beanMapping.getConfiguration(), beanMapping.getGroups());
+            labelIndex.computeIfAbsent(label, k -> new ArrayList<>(1)).add(column);
+        }
+
+        final int headerSize = headers.length;
+        for(int i=0; i < headerSize && !labelIndex.isEmpty(); i++) {
+            final String header = headers[i];
+            if(header == null) {
+                continue;
+            }
+
+            final List<ColumnMapping> matchedColumns = labelIndex.remove(header);
+            if(matchedColumns != null) {
+                final int columnNumber = i+1;
+                matchedColumns.forEach(col -> col.setNumber(columnNumber));
+            }
+        }
+
+    }
+
     /**
      * 固定長のアノテーション{@link CsvFixedSize}から、固定長のプロパティを作成する。
      * 
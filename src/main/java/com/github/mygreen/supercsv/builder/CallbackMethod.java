@@ -1,7 +1,13 @@
 package com.github.mygreen.supercsv.builder;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import org.supercsv.exception.SuperCsvReflectionException;
@@ -12,23 +18,85 @@ import com.github.mygreen.supercsv.validation.ValidationContext;
 
 /**
  * 
+ * <p>引数の組み立て方は、初回の実行時(Beanのクラスタイプを指定した場合はインスタンスの作成時)に
+ *   {@link MethodHandle}として組み立てて保持し、以降のレコードでは再利用します。
+ *   <br>ただし、サブクラスで{@link #execute(Object, Object[])}をオーバーライドしている場合は、
+ *   従来通りレコードごとに引数を組み立てて、{@link #execute(Object, Object[])}を呼び出します。
+ * </p>
  *
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
  */
 public class CallbackMethod implements Comparable<CallbackMethod> {
     
+    /**
+     * 組み立てたメソッドの呼び出し形式。
+     * <p>{@literal (target, record, csvContext, bindingErrors, beanMapping)void}</p>
+     */
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(void.class,
+            Object.class, Object.class, CsvContext.class, CsvBindingErrors.class, BeanMapping.class);
+    
+    /** {@link #INVOKER_TYPE}の引数のインデックス */
+    private static final int ARG_RECORD = 1;
+    private static final int ARG_CSV_CONTEXT = 2;
+    private static final int ARG_BINDING_ERRORS = 3;
+    private static final int ARG_BEAN_MAPPING = 4;
+    
+    /** {@link BeanMapping#getGroups()} */
+    private static final MethodHandle GET_GROUPS;
+    
+    /** {@link ValidationContext#ValidationContext(CsvContext, BeanMapping)} */
+    private static final MethodHandle NEW_VALIDATION_CONTEXT;
+    
+    static {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            GET_GROUPS = lookup.findVirtual(BeanMapping.class, "getGroups",
+                    MethodType.methodType(Class[].class));
+            NEW_VALIDATION_CONTEXT = lookup.findConstructor(ValidationContext.class,
+                    MethodType.methodType(void.class, CsvContext.class, BeanMapping.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+    
     protected final Method method;
     
+    /**
+     * 組み立てたメソッドの呼び出し。
+     * <p>Beanのクラスタイプごとに引数の割り当てが変わるため、組み立てたときのクラスタイプと一緒に保持します。</p>
+     */
+    private volatile Binder binder;
+    
+    /**
+     * サブクラスで{@link #execute(Object, Object[])}をオーバーライドしているかどうか。
+     */
+    private final boolean executeOverridden;
+    
     public CallbackMethod(final Method method) {
         Objects.requireNonNull(method);
         
         method.setAccessible(true);
         this.method = method;
+        this.executeOverridden = isExecuteOverridden(getClass());
         
     }
     
+    /**
+     * Beanのクラスタイプを指定して、引数の組み立て方を事前に作成します。
+     * @since 2.5
+     * @param method 実行対象のメソッド。
+     * @param beanType Beanのクラスタイプ。
+     */
+    public CallbackMethod(final Method method, final Class<?> beanType) {
+        this(method);
+        Objects.requireNonNull(beanType);
+        
+        this.binder = new Binder(beanType, createInvoker(beanType));
+    }
+    
     /**
      * メソッドの実行
      * @param record Beanのオブジェクト
@@ -37,52 +105,252 @@ public class CallbackMethod implements Comparable<CallbackMethod> {
      * @param beanMapping マッピング情報
      * @throws SuperCsvReflectionException メソッドの実行に失敗した場合。
      */
-    public void invoke(final Object record, final CsvContext csvContext, final CsvBindingErrors bindingErrors, 
+    public void invoke(final Object record, final CsvContext csvContext, final CsvBindingErrors bindingErrors,
             final BeanMapping<?> beanMapping) {
         
-        // 引数の組み立て
-        final Class<?>[] paramTypes = method.getParameterTypes();
-        final Object[] paramValues =  new Object[paramTypes.length];
+        if(executeOverridden) {
+            execute(record, createParamValues(record, csvContext, bindingErrors, beanMapping));
+            return;
+        }
         
-        for(int i=0; i < paramTypes.length; i++) {
-            
-            if(CsvContext.class.isAssignableFrom(paramTypes[i])) {
-                paramValues[i] = csvContext;
-                
-            } else if(CsvBindingErrors.class.isAssignableFrom(paramTypes[i])) {
-                paramValues[i] = bindingErrors;
-                
-            } else if(paramTypes[i].isArray() && Class.class.isAssignableFrom(paramTypes[i].getComponentType())) {
-                paramValues[i] = beanMapping.getGroups();
-                
-            } else if(ValidationContext.class.isAssignableFrom(paramTypes[i])) {
-                paramValues[i] = new ValidationContext<>(csvContext, beanMapping);
-                
-            } else if(beanMapping.getType().isAssignableFrom(paramTypes[i])) {
-                paramValues[i] = record;
-                
-            } else {
-                paramValues[i] = null;
-            }
-            
+        Binder current = binder;
+        if(current == null || current.beanType != beanMapping.getType()) {
+            current = new Binder(beanMapping.getType(), createInvoker(beanMapping.getType()));
+            this.binder = current;
         }
         
-        execute(record, paramValues);
+        final Object target = getTarget(record);
+        try {
+            current.invoker.invokeExact(target, record, csvContext, bindingErrors, (BeanMapping) beanMapping);
+            
+        } catch (Throwable e) {
+            throw new SuperCsvReflectionException(
+                    String.format("Fail execute method '%s#%s'.", target.getClass().getName(), method.getName()),
+                    e);
+        }
         
     }
     
+    /**
+     * 組み立てた引数で、メソッドを実行します。
+     * @param record Beanのオブジェクト
+     * @param paramValues メソッドの引数
+     * @throws SuperCsvReflectionException メソッドの実行に失敗した場合。
+     * @deprecated 2.5から、{@link #invoke(Object, CsvContext, CsvBindingErrors, BeanMapping)}は、
+     *   組み立てた{@link MethodHandle}で実行するため、オーバーライドしている場合のみ呼び出されます。
+     *   実行対象のインスタンスを変更する場合は、{@link #getTarget(Object)}をオーバーライドしてください。
+     */
+    @Deprecated
     protected void execute(final Object record, final Object[] paramValues) {
+        final Object target = getTarget(record);
         try {
-            method.invoke(record, paramValues);
+            method.invoke(target, paramValues);
             
         } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
             Throwable t = e.getCause() == null ? e : e.getCause();
             throw new SuperCsvReflectionException(
-                    String.format("Fail execute method '%s#%s'.", record.getClass().getName(), method.getName()),
+                    String.format("Fail execute method '%s#%s'.", target.getClass().getName(), method.getName()),
                     t);
         }
         
+    }
+    
+    /**
+     * {@link #execute(Object, Object[])}に渡す引数を組み立てます。
+     * @param record Beanのオブジェクト
+     * @param csvContext 現在のCSVのレコード情報
+     * @param bindingErrors エラー情報。
+     * @param beanMapping マッピング情報
+     * @return メソッドの引数
+     */
+    private Object[] createParamValues(final Object record, final CsvContext csvContext, final CsvBindingErrors bindingErrors,
+            final BeanMapping<?> beanMapping) {
+        
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Object[] paramValues = new Object[paramTypes.length];
+        
+        for(int i=0; i < paramTypes.length; i++) {
+            switch(ArgumentKind.of(paramTypes[i], beanMapping.getType())) {
+                case CSV_CONTEXT:
+                    paramValues[i] = csvContext;
+                    break;
+                case BINDING_ERRORS:
+                    paramValues[i] = bindingErrors;
+                    break;
+                case GROUPS:
+                    paramValues[i] = beanMapping.getGroups();
+                    break;
+                case VALIDATION_CONTEXT:
+                    paramValues[i] = new ValidationContext<>(csvContext, beanMapping);
+                    break;
+                case RECORD:
+                    paramValues[i] = record;
+                    break;
+                default:
+                    paramValues[i] = null;
+                    break;
+            }
+        }
+        
+        return paramValues;
+    }
+    
+    /**
+     * {@link #execute(Object, Object[])}をオーバーライドしているか判定します。
+     * @param type 判定対象のクラス
+     * @return オーバーライドしている場合は{@literal true}。
+     */
+    private static boolean isExecuteOverridden(final Class<?> type) {
         
+        for(Class<?> clazz = type; clazz != CallbackMethod.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod("execute", Object.class, Object[].class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // 親クラスを判定する
+            }
+        }
+        
+        return false;
+    }
+    
+    /**
+     * メソッドを実行するインスタンスを取得します。
+     * @since 2.5
+     * @param record Beanのオブジェクト
+     * @return 実行対象のインスタンス。
+     */
+    protected Object getTarget(final Object record) {
+        return record;
+    }
+    
+    /**
+     * メソッドの引数の種類に合わせて、{@link #INVOKER_TYPE}の形式で呼び出せるように組み立てます。
+     * @param beanType Beanのクラスタイプ
+     * @return 組み立てたメソッドの呼び出し
+     * @throws SuperCsvReflectionException メソッドへのアクセスに失敗した場合。
+     */
+    private MethodHandle createInvoker(final Class<?> beanType) {
+        
+        MethodHandle handle;
+        try {
+            handle = MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new SuperCsvReflectionException(
+                    String.format("Fail access method '%s#%s'.", method.getDeclaringClass().getName(), method.getName()),
+                    e);
+        }
+        
+        if(Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        
+        // 引数を、置き換える前のタイプに合わせる
+        final Class<?>[] paramTypes = method.getParameterTypes();
+        final Class<?>[] handleTypes = new Class<?>[paramTypes.length + 1];
+        final ArgumentKind[] kinds = new ArgumentKind[paramTypes.length];
+        handleTypes[0] = Object.class;
+        
+        for(int i=0; i < paramTypes.length; i++) {
+            kinds[i] = ArgumentKind.of(paramTypes[i], beanType);
+            handleTypes[i+1] = kinds[i].parameterType;
+        }
+        
+        handle = handle.asType(MethodType.methodType(void.class, handleTypes));
+        
+        // 後ろの引数から置き換えることで、前の引数の位置を変えないようにする
+        for(int i=paramTypes.length-1; i >= 0; i--) {
+            final int pos = i + 1;
+            switch(kinds[i]) {
+                case GROUPS:
+                    handle = MethodHandles.filterArguments(handle, pos, GET_GROUPS);
+                    break;
+                case VALIDATION_CONTEXT:
+                    handle = MethodHandles.collectArguments(handle, pos, NEW_VALIDATION_CONTEXT);
+                    break;
+                case NONE:
+                    handle = MethodHandles.insertArguments(handle, pos, (Object)null);
+                    break;
+                default:
+                    break;
+            }
+        }
+        
+        // 引数の並びを、呼び出し形式の引数のインデックスで指定する
+        final List<Integer> reorder = new ArrayList<>();
+        reorder.add(0);
+        for(ArgumentKind kind : kinds) {
+            for(int index : kind.sourceIndexes) {
+                reorder.add(index);
+            }
+        }
+        
+        return MethodHandles.permuteArguments(handle, INVOKER_TYPE,
+                reorder.stream().mapToInt(Integer::intValue).toArray());
+        
+    }
+    
+    /**
+     * メソッドの引数の種類
+     */
+    private enum ArgumentKind {
+        
+        CSV_CONTEXT(CsvContext.class, ARG_CSV_CONTEXT),
+        BINDING_ERRORS(CsvBindingErrors.class, ARG_BINDING_ERRORS),
+        GROUPS(Class[].class, ARG_BEAN_MAPPING),
+        VALIDATION_CONTEXT(ValidationContext.class, ARG_CSV_CONTEXT, ARG_BEAN_MAPPING),
+        RECORD(Object.class, ARG_RECORD),
+        
+        /** 該当しない引数には、nullを渡す。 */
+        NONE(Object.class);
+        
+        /** 置き換える前の引数のタイプ */
+        private final Class<?> parameterType;
+        
+        /** 置き換えた後の引数に対応する、呼び出し形式の引数のインデックス */
+        private final int[] sourceIndexes;
+        
+        private ArgumentKind(final Class<?> parameterType, final int... sourceIndexes) {
+            this.parameterType = parameterType;
+            this.sourceIndexes = sourceIndexes;
+        }
+        
+        static ArgumentKind of(final Class<?> paramType, final Class<?> beanType) {
+            
+            if(CsvContext.class.isAssignableFrom(paramType)) {
+                return CSV_CONTEXT;
+                
+            } else if(CsvBindingErrors.class.isAssignableFrom(paramType)) {
+                return BINDING_ERRORS;
+                
+            } else if(paramType.isArray() && Class.class.isAssignableFrom(paramType.getComponentType())) {
+                return GROUPS;
+                
+            } else if(ValidationContext.class.isAssignableFrom(paramType)) {
+                return VALIDATION_CONTEXT;
+                
+            } else if(beanType.isAssignableFrom(paramType)) {
+                return RECORD;
+                
+            } else {
+                return NONE;
+            }
+        }
+    }
+    
+    /**
+     * Beanのクラスタイプと、組み立てたメソッドの呼び出し
+     */
+    private static final class Binder {
+        
+        private final Class<?> beanType;
+        
+        private final MethodHandle invoker;
+        
+        private Binder(final Class<?> beanType, final MethodHandle invoker) {
+            this.beanType = beanType;
+            this.invoker = invoker;
+        }
     }
     
     /**
@@ -5,6 +5,8 @@ import java.util.Comparator;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
+import com.github.mygreen.supercsv.cellprocessor.format.TextFormatterPool;
+
 /**
  * {@link CellProcessor}を組み立てる際の設定を保持するクラス。
  *
@@ -34,6 +36,16 @@ public class Configuration {
      */
     private boolean skipValidationOnWrite = false;
     
+    /**
+     * アノテーションプロセッサにより生成された{@link BeanAccessor}を必須とするかどうか。
+     */
+    private boolean requireBeanAccessor = false;
+    
+    /**
+     * 書式が同じフォーマッタを共有するためのプール
+     */
+    private TextFormatterPool formatterPool;
+    
     public Configuration() {
         
     }
@@ -111,4 +123,49 @@ public class Configuration {
     public void setSkipValidationOnWrite(boolean skipValidationOnWrite) {
         this.skipValidationOnWrite = skipValidationOnWrite;
     }
+    
+    /**
+     * アノテーションプロセッサにより生成された{@link BeanAccessor}を必須とするかどうかを取得します。
+     * <p>GraalVMのnative-imageのように、リフレクションや動的プロキシの使用を避けたい場合に設定します。
+     *    <br>{@literal true}の場合、Beanのインスタンスの作成と、フィールドへのアクセスは必ず生成されたクラスを経由するため、
+     *    setter/getterメソッドのリフレクションによる呼び出しや、インタフェースのBeanに対する動的プロキシは使用しません。
+     * </p>
+     * <p>初期値は、{@literal false}で、生成されたクラスが存在しない場合はリフレクションを使用します。</p>
+     * @since 2.5
+     * @return {@literal true}の場合、生成されたクラスが見つからないときは、マッピング情報の作成時に例外をスローします。
+     */
+    public boolean isRequireBeanAccessor() {
+        return requireBeanAccessor;
+    }
+    
+    /**
+     * アノテーションプロセッサにより生成された{@link BeanAccessor}を必須とするかどうかを設定します。
+     * @since 2.5
+     * @param requireBeanAccessor {@literal true}の場合、生成されたクラスが見つからないときは、マッピング情報の作成時に例外をスローします。
+     */
+    public void setRequireBeanAccessor(boolean requireBeanAccessor) {
+        this.requireBeanAccessor = requireBeanAccessor;
+    }
+    
+    /**
+     * 書式が同じフォーマッタを共有するためのプールを取得します。
+     * <p>初期値は、{@literal null}で、フォーマッタはカラムごとに作成します。</p>
+     * @since 2.5
+     * @return 設定されていない場合は、{@literal null}を返します。
+     */
+    public TextFormatterPool getFormatterPool() {
+        return formatterPool;
+    }
+    
+    /**
+     * 書式が同じフォーマッタを共有するためのプールを設定します。
+     * <p>フォーマッタは、同じ{@link Configuration}のインスタンスを使用するBeanの間で共有します。
+     *    <br>同じプールを複数の{@link Configuration}に設定しても、異なる{@link Configuration}の間では共有しません。
+     * </p>
+     * @since 2.5
+     * @param formatterPool フォーマッタのプール。{@literal null}の場合は共有しません。
+     */
+    public void setFormatterPool(TextFormatterPool formatterPool) {
+        this.formatterPool = formatterPool;
+    }
 }
@@ -3,20 +3,32 @@ package com.github.mygreen.supercsv.builder;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.supercsv.exception.SuperCsvReflectionException;
 
 import com.github.mygreen.supercsv.annotation.DefaultGroup;
+import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
 import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * フィールドに統一的にアクセスするためのクラス。
+ * <p>展開したアノテーションは、インスタンスの作成時にアノテーションのタイプごとに索引を作成し、
+ *    グループによる絞り込み結果は、初回の取得時にキャッシュします。
+ * </p>
  *
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -43,6 +55,33 @@ public class FieldAccessor {
      */
     private final List<ExpandedAnnotation> expandedAnnos = new ArrayList<>();
     
+    /**
+     * 合成のアノテーションを展開した、末端のアノテーションの一覧
+     */
+    private final List<Annotation> leafAnnos;
+    
+    /**
+     * アノテーションのタイプごとの一覧
+     */
+    private final Map<Class<?>, List<Annotation>> annosByType;
+    
+    /**
+     * アノテーションごとの属性{@literal groups}の値。属性を持たない場合は{@literal null}。
+     */
+    private final Map<Annotation, Class<?>[]> groupsByAnno;
+    
+    /**
+     * グループで絞り込んだアノテーションのキャッシュ。
+     * <p>キーは、先頭がアノテーションのタイプ（タイプを指定しない場合は{@literal null}）で、その後にグループが続く。</p>
+     */
+    private final Map<List<Class<?>>, List<? extends Annotation>> annosByGroupCache = new ConcurrentHashMap<>();
+    
+    /**
+     * カラムのフォーマッタのキャッシュ。
+     * <p>キーは、{@link ProcessorBuilder}と{@link Configuration}のインスタンスの組み合わせ。</p>
+     */
+    private final Map<List<Object>, TextFormatter<?>> formatterCache = new ConcurrentHashMap<>();
+    
     /**
      * フィールド情報を指定するコンストラクタ。
      * @param field フィールド情報
@@ -61,6 +100,48 @@ public class FieldAccessor {
         
         final AnnotationExpander expander = new AnnotationExpander(comparator);
         this.expandedAnnos.addAll(expander.expand(field.getAnnotations()));
+        
+        this.leafAnnos = Collections.unmodifiableList(getAnnotations(expandedAnnos));
+        
+        final Map<Class<?>, List<Annotation>> typeIndex = new HashMap<>();
+        indexByType(expandedAnnos, typeIndex, new ArrayList<>());
+        typeIndex.replaceAll((k, v) -> Collections.unmodifiableList(v));
+        this.annosByType = typeIndex;
+        
+        // 属性groupsの値は、アノテーションごとに1度だけ取得する
+        this.groupsByAnno = new IdentityHashMap<>();
+        final List<Annotation> allAnnos = new ArrayList<>(leafAnnos);
+        annosByType.values().forEach(allAnnos::addAll);
+        for(Annotation anno : allAnnos) {
+            if(!groupsByAnno.containsKey(anno)) {
+                groupsByAnno.put(anno, Utils.getAnnotationAttribute(anno, "groups", Class[].class).orElse(null));
+            }
+        }
+    }
+    
+    /**
+     * アノテーションのタイプごとの索引を作成する。
+     * <p>アノテーションのタイプが一致する場合、そのアノテーションの子要素は検索しない。</p>
+     * @param expanedAnnos 展開したアノテーション
+     * @param index 索引の格納先
+     * @param ancestorTypes 親のアノテーションのタイプ
+     */
+    private static void indexByType(final List<ExpandedAnnotation> expanedAnnos, final Map<Class<?>, List<Annotation>> index,
+            final List<Class<?>> ancestorTypes) {
+        
+        for(ExpandedAnnotation anno : expanedAnnos) {
+            final Class<?> annoType = anno.getOriginal().annotationType();
+            if(!ancestorTypes.contains(annoType)) {
+                index.computeIfAbsent(annoType, k -> new ArrayList<>()).add(anno.getOriginal());
+            }
+            
+            if(anno.isComposed()) {
+                ancestorTypes.add(annoType);
+                indexByType(anno.getChilds(), index, ancestorTypes);
+                ancestorTypes.remove(ancestorTypes.size() - 1);
+            }
+        }
+        
     }
     
     /**
@@ -75,7 +156,7 @@ public class FieldAccessor {
     public <A extends Annotation> Optional<A> getAnnotation(final Class<A> annoClass) {
         Objects.requireNonNull(annoClass, "annoClass should not be null.");
         
-        return getAnnotationsByType(expandedAnnos, annoClass).stream()
+        return getAnnotations(annoClass).stream()
                 .findFirst();
         
     }
@@ -86,37 +167,15 @@ public class FieldAccessor {
      * 
      * @param <A> 取得対象のアノテーションのタイプ
      * @param annoClass 取得対象のアノテーションのタイプ。
-     * @return 指定したアノテーションが見つからない場合は、空のリスト返します。
+     * @return 指定したアノテーションが見つからない場合は、空のリスト返します。変更はできません。
      * @throws NullPointerException {@literal annoClass is null.}
      */
+    @SuppressWarnings("unchecked")
     public <A extends Annotation> List<A> getAnnotations(final Class<A> annoClass) {
         Objects.requireNonNull(annoClass, "annoClass should not be null.");
         
-        return getAnnotationsByType(expandedAnnos, annoClass);
-    }
-    
-    @SuppressWarnings({"unchecked"})
-    private static <A extends Annotation> List<A> getAnnotationsByType(
-            final List<ExpandedAnnotation> expanedAnnos, final Class<A> annoClass) {
-        
-        final List<A> list = new ArrayList<>();
-        
-        for(ExpandedAnnotation anno : expanedAnnos) {
-            
-            if(anno.isAnnotationType(annoClass)) {
-                list.add((A)anno.getOriginal());
-            
-            } else if(anno.isComposed()) {
-                
-                list.addAll(getAnnotationsByType(anno.getChilds(), annoClass));
-                
-            }
-            
-            
-        }
-        
-        return list;
-        
+        final List<Annotation> list = annosByType.get(annoClass);
+        return list == null ? Collections.emptyList() : (List<A>) list;
     }
     
     /**
@@ -138,15 +197,15 @@ public class FieldAccessor {
      * @param <A> 取得対象のアノテーションのタイプ
      * @param annoClass 取得対象のアノテーションのタイプ。
      * @param groups グループ（クラスタイプ）による絞り込み。属性groupsが存在する場合に、絞り込みます。
-     * @return 指定したアノテーションが見つからない場合は、サイズ0のリストを返します。
+     * @return 指定したアノテーションが見つからない場合は、サイズ0のリストを返します。変更はできません。
      * @throws NullPointerException {@literal annoClass is null.}
      */
+    @SuppressWarnings("unchecked")
     public <A extends Annotation> List<A> getAnnotationsByGroup(final Class<A> annoClass, final Class<?>... groups) {
         Objects.requireNonNull(annoClass, "annoClass should not be null.");
         
-        return getAnnotations(annoClass).stream()
-                .filter(anno -> hasGroups(anno, groups))
-                .collect(Collectors.toList());
+        return (List<A>) annosByGroupCache.computeIfAbsent(createGroupKey(annoClass, groups),
+                key -> filterByGroup(getAnnotations(annoClass), groups));
         
     }
     
@@ -160,7 +219,7 @@ public class FieldAccessor {
      */
     public <A extends Annotation> boolean hasAnnotationByGroup(final Class<A> annoClass, final Class<?>... groups) {
         
-        return getAnnotationsByGroup(annoClass, groups).size() > 0;
+        return !getAnnotationsByGroup(annoClass, groups).isEmpty();
         
     }
     
@@ -169,16 +228,37 @@ public class FieldAccessor {
      * 付与されているアノテーションの一覧を取得する。
      * 
      * @param groups グループ（クラスタイプ）による絞り込み。属性groupsが存在する場合に、絞り込みます。
-     * @return 指定したアノテーションが見つからない場合は、サイズ0のリストを返します。
+     * @return 指定したアノテーションが見つからない場合は、サイズ0のリストを返します。変更はできません。
      */
+    @SuppressWarnings("unchecked")
     public List<Annotation> getAnnotationsByGroup(final Class<?>... groups) {
         
-        return getAnnotations(expandedAnnos).stream()
-                .filter(anno -> hasGroups(anno, groups))
-                .collect(Collectors.toList());
+        return (List<Annotation>) annosByGroupCache.computeIfAbsent(createGroupKey(null, groups),
+                key -> filterByGroup(leafAnnos, groups));
         
     }
     
+    /**
+     * グループで絞り込んだ結果をキャッシュする際のキーを作成する。
+     */
+    private static List<Class<?>> createGroupKey(final Class<?> annoClass, final Class<?>[] groups) {
+        
+        final Class<?>[] key = new Class<?>[groups.length + 1];
+        key[0] = annoClass;
+        System.arraycopy(groups, 0, key, 1, groups.length);
+        return Arrays.asList(key);
+    }
+    
+    /**
+     * アノテーションをグループで絞り込む。
+     */
+    private <A extends Annotation> List<A> filterByGroup(final List<A> annos, final Class<?>[] groups) {
+        
+        return Collections.unmodifiableList(annos.stream()
+                .filter(anno -> hasGroups(anno, groups))
+                .collect(Collectors.toList()));
+    }
+    
     @SuppressWarnings({"unchecked"})
     private static <A extends Annotation> List<A> getAnnotations(final List<ExpandedAnnotation> expanedAnnos) {
         
@@ -205,10 +285,9 @@ public class FieldAccessor {
      * @param groups 比較対象のグループ情報。
      * @return {@literal true}の場合、指定したグループを持ちます。
      */
-    @SuppressWarnings("rawtypes")
     private boolean hasGroups(final Annotation anno, final Class<?>... groups) {
         
-        final Optional<Class[]> targetGroups = Utils.getAnnotationAttribute(anno, "groups", Class[].class);
+        final Optional<Class<?>[]> targetGroups = Optional.ofNullable(groupsByAnno.get(anno));
         
         if(!targetGroups.isPresent()) {
             // groups属性を持たない場合
@@ -328,4 +407,44 @@ public class FieldAccessor {
         }
         
     }
+    /**
+     * フィールドに対するフォーマッタを取得します。
+     * <p>読み込み用、書き込み用の{@link org.supercsv.cellprocessor.ift.CellProcessor}の組み立て時や、
+     *    エラーメッセージの作成時に、同じインスタンスを共有するためにキャッシュします。
+     *    <br>キャッシュが存在しない場合は、{@literal factory}によりフォーマッタを作成します。
+     * </p>
+     *
+     * @since 2.5
+     * @param <T> フォーマッタの処理対象のクラスタイプ
+     * @param builder フォーマッタを作成する{@link ProcessorBuilder}
+     * @param config システム設定
+     * @param factory キャッシュが存在しない場合に、フォーマッタを作成する処理。
+     * @return キャッシュしたフォーマッタ。
+     * @throws NullPointerException {@literal builder or config or factory is null.}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TextFormatter<T> getFormatter(final ProcessorBuilder<T> builder, final Configuration config,
+            final Supplier<TextFormatter<T>> factory) {
+        Objects.requireNonNull(builder, "builder should not be null.");
+        Objects.requireNonNull(config, "config should not be null.");
+        Objects.requireNonNull(factory, "factory should not be null.");
+        
+        // ProcessorBuilderとConfigurationは、equalsをオーバーライドしていないため、インスタンスの同一性で比較される
+        final List<Object> key = Arrays.asList(builder, config);
+        final TextFormatter<?> cached = formatterCache.get(key);
+        if(cached != null) {
+            return (TextFormatter<T>) cached;
+        }
+        
+        // 作成処理中に他のフィールドのフォーマッタを取得する場合を考慮し、computeIfAbsentは使用しない
+        final TextFormatter<T> formatter = factory.get();
+        if(formatter == null) {
+            return null;
+        }
+        
+        final TextFormatter<?> previous = formatterCache.putIfAbsent(key, formatter);
+        return previous != null ? (TextFormatter<T>) previous : formatter;
+        
+    }
+    
 }
@@ -48,6 +48,9 @@ public class LazyBeanMappingFactory extends BeanMappingFactory {
         final BeanMapping<T> beanMapping = new BeanMapping<>(beanType);
         beanMapping.setConfiguration(configuration);
         
+        // 生成されたBeanAccessorの設定
+        buildBeanAccessor(beanMapping, beanType);
+        
         // アノテーション @CsvBeanの取得
         final CsvBean beanAnno = beanType.getAnnotation(CsvBean.class);
         if(beanAnno == null) {
@@ -83,7 +86,7 @@ public class LazyBeanMappingFactory extends BeanMappingFactory {
     protected <T> void buildColumnMappingList(final BeanMapping<T> beanMapping, final Class<T> beanType, final Class<?>[] groups) {
         
         final List<ColumnMapping> columnMappingList = new ArrayList<>();
-        for(Field field : beanType.getDeclaredFields()) {
+        for(Field field : findColumnFields(beanMapping, beanType)) {
             
             final CsvColumn columnAnno = field.getAnnotation(CsvColumn.class);
             if(columnAnno != null) {
@@ -1,11 +1,8 @@
 package com.github.mygreen.supercsv.builder;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
 
-import org.supercsv.exception.SuperCsvReflectionException;
-
 /**
  * Listenerクラス用のコールバック用メソッドの実行
  *
@@ -23,19 +20,22 @@ public class ListenerCallbackMethod extends CallbackMethod {
         this.listener = listener;
     }
     
+    /**
+     * Beanのクラスタイプを指定して、引数の組み立て方を事前に作成します。
+     * @since 2.5
+     * @param listener リスナークラスのインスタンス。
+     * @param method 実行対象のメソッド。
+     * @param beanType Beanのクラスタイプ。
+     */
+    public ListenerCallbackMethod(final Object listener, final Method method, final Class<?> beanType) {
+        super(method, beanType);
+        Objects.requireNonNull(listener);
+        this.listener = listener;
+    }
+    
     @Override
-    protected void execute(final Object record, final Object[] paramValues) {
-        try {
-            method.invoke(listener, paramValues);
-            
-        } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-            Throwable t = e.getCause() == null ? e : e.getCause();
-            throw new SuperCsvReflectionException(
-                    String.format("Fail execute method '%s#%s'.", listener.getClass().getName(), method.getName()),
-                    t);
-        }
-        
-        
+    protected Object getTarget(final Object record) {
+        return listener;
     }
     
 }
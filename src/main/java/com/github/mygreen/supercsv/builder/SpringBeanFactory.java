@@ -1,6 +1,8 @@
 package com.github.mygreen.supercsv.builder;
 
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.InitializingBean;
@@ -19,8 +21,11 @@ import org.springframework.stereotype.Service;
  * <p>Springのコンテナに登録されていないクラスは、通常のクラスとしてインスタンスを作成します。
  *  <br>ただし、コンテナ管理外のクラスに対しても、アノテーション{@link Autowired}によるインジェクションが可能です。
  * </p>
+ * <p>クラスごとのBean名の解決結果はキャッシュします。また、スコープがシングルトンのBeanは、インスタンスもキャッシュして再利用します。
+ *  <br>Springのコンテナを再構築した場合など、Beanの定義が変わったときは、{@link #clearCache()}でキャッシュを破棄してください。
+ * </p>
  *
- * @version 2.2
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -33,14 +38,30 @@ public class SpringBeanFactory implements BeanFactory<Class<?>, Object>, Applica
 
     private BeanFactory<Class<?>, Object> defaultBeanFactory = new DefaultBeanFactory();
 
+    /** クラスごとのBeanの解決結果のキャッシュ */
+    private final ConcurrentMap<Class<?>, Resolution> resolutionCache = new ConcurrentHashMap<>();
+
     @Override
     public Object create(final Class<?> clazz) {
         Objects.requireNonNull(clazz, "clazz should not be null.");
 
-        final String beanName = getBeanName(clazz);
-        if(beanFactory.containsBean(beanName)) {
+        Resolution resolution = resolutionCache.get(clazz);
+        if(resolution == null) {
+            // シングルトンのBeanの作成中に、再帰的に呼ばれることがあるため、computeIfAbsentは使用しない。
+            resolution = resolve(clazz);
+            final Resolution existing = resolutionCache.putIfAbsent(clazz, resolution);
+            if(existing != null) {
+                resolution = existing;
+            }
+        }
+
+        if(resolution.singleton != null) {
+            // Spring管理のシングルトンのクラスの場合
+            return resolution.singleton;
+
+        } else if(resolution.beanName != null) {
             // Spring管理のクラスの場合
-            return beanFactory.getBean(beanName, clazz);
+            return beanFactory.getBean(resolution.beanName, clazz);
 
         } else {
             // 通常のBeanクラスの場合
@@ -53,6 +74,25 @@ public class SpringBeanFactory implements BeanFactory<Class<?>, Object>, Applica
         }
     }
 
+    /**
+     * クラスに対するBeanの解決方法を決定します。
+     * @param clazz 作成するクラス
+     * @return Beanの解決結果
+     */
+    private Resolution resolve(final Class<?> clazz) {
+
+        final String beanName = getBeanName(clazz);
+        if(!beanFactory.containsBean(beanName)) {
+            return Resolution.NOT_MANAGED;
+        }
+
+        if(beanFactory.isSingleton(beanName)) {
+            return new Resolution(beanName, beanFactory.getBean(beanName, clazz));
+        }
+
+        return new Resolution(beanName, null);
+    }
+
     private String getBeanName(final Class<?> clazz) {
 
         final Component componentAnno = clazz.getAnnotation(Component.class);
@@ -111,6 +151,14 @@ public class SpringBeanFactory implements BeanFactory<Class<?>, Object>, Applica
             .toString();
     }
 
+    /**
+     * クラスごとのBeanの解決結果と、キャッシュしているシングルトンのインスタンスを破棄します。
+     * @since 2.5
+     */
+    public void clearCache() {
+        resolutionCache.clear();
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
 
@@ -127,6 +175,27 @@ public class SpringBeanFactory implements BeanFactory<Class<?>, Object>, Applica
     @Override
     public void setApplicationContext(final ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        clearCache();
+    }
+
+    /**
+     * クラスに対するBeanの解決結果
+     */
+    private static final class Resolution {
+
+        /** Springのコンテナ管理外のクラス */
+        private static final Resolution NOT_MANAGED = new Resolution(null, null);
+
+        /** Spring管理のクラスのBean名。管理外の場合はnull。 */
+        private final String beanName;
+
+        /** シングルトンのBeanのインスタンス。シングルトン以外の場合はnull。 */
+        private final Object singleton;
+
+        private Resolution(final String beanName, final Object singleton) {
+            this.beanName = beanName;
+            this.singleton = singleton;
+        }
     }
 
 }
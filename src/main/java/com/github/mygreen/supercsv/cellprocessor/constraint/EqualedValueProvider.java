@@ -96,6 +96,27 @@ import com.github.mygreen.supercsv.builder.FieldAccessor;
  * }
  * </code></pre>
  * 
+ * <h3 class="description">比較する値が多い場合</h3>
+ * <p>コードマスタのように比較する値が多い場合は、{@link EqualedValueSet}を作成してキャッシュしておき、
+ *    メソッド{@link #getEqualedValues(FieldAccessor)}の戻り値として返します。
+ *    <br>アノテーションの属性{@link CsvEquals#value()}を指定していない場合は、値をコピーせずにそのまま使用するため、
+ *    複数のフィールドやBeanで索引を共有できます。
+ * </p>
+ * 
+ * <pre class="highlight"><code class="java">
+ * public class CodeEqualedValueProvider implements {@literal EqualedValueProvider<String>} {
+ *     
+ *     // 作成済みの索引を共有する
+ *     private static final {@literal EqualedValueSet<String>} CODES = EqualedValueSet.of(loadCodes());
+ *     
+ *     {@literal @Override}
+ *     public {@literal Collection<String>} getEqualedValues(final FieldAccessor field) {
+ *         return CODES;
+ *     }
+ * }
+ * </code></pre>
+ * 
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
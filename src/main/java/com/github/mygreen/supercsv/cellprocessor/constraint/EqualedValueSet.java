@@ -0,0 +1,158 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import java.util.AbstractCollection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.github.mygreen.supercsv.util.ArgUtils;
+
+/**
+ * {@link Equals}で比較する値の、変更不可能なコレクション。
+ * <p>値は重複を除いて記述順に保持し、{@link #contains(Object)}はハッシュによる索引で判定します。</p>
+ * <ul>
+ *   <li>値が全て文字列の場合は、オープンアドレス法による配列のハッシュ表を使用します。</li>
+ *   <li>値が全て同じ列挙型の場合は、{@link EnumSet}を使用します。</li>
+ *   <li>それ以外の場合は、{@link HashSet}を使用します。</li>
+ * </ul>
+ * <p>{@link EqualedValueProvider#getEqualedValues(com.github.mygreen.supercsv.builder.FieldAccessor)}の戻り値として、
+ *    このクラスのインスタンスを返すと、索引を作り直さずに複数のカラムやBeanで共有します。
+ * </p>
+ *
+ * @param <T> 値のクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class EqualedValueSet<T> extends AbstractCollection<T> {
+
+    private final List<T> values;
+
+    /**
+     * 値が全て文字列の場合のハッシュ表。それ以外の場合は{@literal null}。
+     */
+    private final String[] stringTable;
+
+    /**
+     * 値が文字列以外の場合の索引。
+     */
+    private final Set<Object> index;
+
+    private EqualedValueSet(final List<T> values) {
+        this.values = Collections.unmodifiableList(values);
+
+        if(!values.isEmpty() && values.stream().allMatch(v -> v instanceof String)) {
+            this.stringTable = createStringTable(values);
+            this.index = null;
+
+        } else {
+            this.stringTable = null;
+            this.index = createIndex(values);
+        }
+    }
+
+    /**
+     * 比較する値を指定してインスタンスを作成します。
+     * <p>引数がこのクラスのインスタンスの場合は、そのまま返します。</p>
+     *
+     * @param <T> 値のクラスタイプ
+     * @param values 比較する値。重複している場合は除外します。
+     * @return 変更不可能なコレクション。
+     * @throws NullPointerException {@literal values is null.}
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> EqualedValueSet<T> of(final Collection<? extends T> values) {
+        ArgUtils.notNull(values, "values");
+
+        if(values instanceof EqualedValueSet) {
+            return (EqualedValueSet<T>) values;
+        }
+
+        return new EqualedValueSet<>(new ArrayList<>(new LinkedHashSet<>(values)));
+    }
+
+    private static String[] createStringTable(final List<?> values) {
+
+        // 負荷率が0.5以下となる2の累乗のサイズ
+        final int capacity = Integer.highestOneBit(values.size() * 2 - 1) << 1;
+        final String[] table = new String[capacity];
+        final int mask = capacity - 1;
+
+        for(Object value : values) {
+            final String str = (String) value;
+            int slot = spread(str.hashCode()) & mask;
+            while(table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = str;
+        }
+
+        return table;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Set<Object> createIndex(final List<?> values) {
+
+        if(!values.isEmpty() && values.get(0) instanceof Enum) {
+            final Class enumClass = ((Enum<?>) values.get(0)).getDeclaringClass();
+            if(values.stream().allMatch(v -> enumClass.isInstance(v))) {
+                return Collections.unmodifiableSet(EnumSet.copyOf((Collection)values));
+            }
+        }
+
+        return Collections.unmodifiableSet(new HashSet<>(values));
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public boolean contains(final Object value) {
+
+        if(stringTable == null) {
+            return index.contains(value);
+        }
+
+        if(!(value instanceof String)) {
+            return false;
+        }
+
+        final int mask = stringTable.length - 1;
+        int slot = spread(value.hashCode()) & mask;
+        String entry;
+        while((entry = stringTable[slot]) != null) {
+            if(entry.equals(value)) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return false;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return values.iterator();
+    }
+
+    @Override
+    public int size() {
+        return values.size();
+    }
+
+    /**
+     * 記述順の値の一覧を取得します。
+     * @return 変更不可能なリスト。
+     */
+    public List<T> getValues() {
+        return values;
+    }
+
+}
@@ -12,7 +12,9 @@ import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
 
 /**
  * 指定した値と等しいか検証するCellProcessor
+ * <p>比較する値は{@link EqualedValueSet}として保持し、ハッシュによる索引で判定します。</p>
  * 
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -21,7 +23,7 @@ public class Equals<T> extends ValidationCellProcessor {
     
     private final Class<T> type;
     
-    private final Collection<T> equaledValues;
+    private final EqualedValueSet<T> equaledValues;
     
     private final TextPrinter<T> printer; 
     
@@ -29,9 +31,7 @@ public class Equals<T> extends ValidationCellProcessor {
         super();
         checkPreconditions(type, equaledValues, printer);
         this.type = type;
-        this.equaledValues = equaledValues.stream()
-                .distinct()
-                .collect(Collectors.toList());
+        this.equaledValues = EqualedValueSet.of(equaledValues);
         this.printer = printer;
     }
     
@@ -39,9 +39,7 @@ public class Equals<T> extends ValidationCellProcessor {
         super(next);
         checkPreconditions(type, equaledValues, printer);
         this.type = type;
-        this.equaledValues = equaledValues.stream()
-                .distinct()
-                .collect(Collectors.toList());
+        this.equaledValues = EqualedValueSet.of(equaledValues);
         this.printer = printer;
     }
     
@@ -73,7 +71,7 @@ public class Equals<T> extends ValidationCellProcessor {
             throw createValidationException(context)
                 .rejectedValue(result)
                 .messageFormat("'%s' is not equals any of [%s].", formattedValue, joinedFormattedValues)
-                .messageVariables("equalsValues", equaledValues)
+                .messageVariables("equalsValues", equaledValues.getValues())
                 .messageVariables("printer", getPrinter())
                 .build();
         }
@@ -82,8 +80,8 @@ public class Equals<T> extends ValidationCellProcessor {
     }
     
     /**
-     * 値のプロバイダを取得する。
-     * @return コンストラクタで渡されたプロバイダ。
+     * 比較する値を取得する。
+     * @return 重複を除いた、変更不可能なコレクション。
      */
     public Collection<T> getEqualedValues() {
         return equaledValues;
@@ -19,7 +19,9 @@ import com.github.mygreen.supercsv.localization.MessageBuilder;
 
 /**
  * アノテーション{@link CsvEquals}をハンドリングして、CellProcessorの{@link Equals}を作成する。
+ * <p>比較する値は、ハッシュによる索引を持つ{@link EqualedValueSet}に変換します。</p>
  * 
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -54,12 +56,6 @@ public class EqualsFactory<T> implements ConstraintProcessorFactory<CsvEquals> {
             
         }
         
-        if(anno.provider().length > 0) {
-            final EqualedValueProvider provider = (EqualedValueProvider) config.getBeanFactory().create(anno.provider()[0]);
-            equaledValues.addAll((Collection<T>)provider.getEqualedValues(field));
-            
-        }
-        
         if(anno.value().length == 0 && anno.provider().length == 0) {
             throw new SuperCsvInvalidAnnotationException(anno, MessageBuilder.create("anno.attr.required")
                     .var("property", field.getNameWithClass())
@@ -68,9 +64,26 @@ public class EqualsFactory<T> implements ConstraintProcessorFactory<CsvEquals> {
                     .format());
         }
         
+        final EqualedValueSet<T> equaledValueSet;
+        if(anno.provider().length > 0) {
+            final EqualedValueProvider provider = (EqualedValueProvider) config.getBeanFactory().create(anno.provider()[0]);
+            final Collection<T> providedValues = (Collection<T>)provider.getEqualedValues(field);
+            
+            if(equaledValues.isEmpty()) {
+                // プロバイダが作成済みの索引を返す場合は、そのまま共有する
+                equaledValueSet = EqualedValueSet.of(providedValues);
+            } else {
+                equaledValues.addAll(providedValues);
+                equaledValueSet = EqualedValueSet.of(equaledValues);
+            }
+            
+        } else {
+            equaledValueSet = EqualedValueSet.of(equaledValues);
+        }
+        
         final Class<T> fieldType = (Class<T>)field.getType();
-        final Equals<T> processor = next.map(n -> new Equals<>(fieldType, equaledValues, typeFormatter, n))
-                .orElseGet(() -> new Equals<>(fieldType, equaledValues, typeFormatter));
+        final Equals<T> processor = next.map(n -> new Equals<>(fieldType, equaledValueSet, typeFormatter, n))
+                .orElseGet(() -> new Equals<>(fieldType, equaledValueSet, typeFormatter));
         
         processor.setValidationMessage(anno.message());
         
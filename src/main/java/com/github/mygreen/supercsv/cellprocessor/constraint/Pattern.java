@@ -4,11 +4,14 @@ import org.supercsv.cellprocessor.ift.StringCellProcessor;
 import org.supercsv.util.CsvContext;
 
 import com.github.mygreen.supercsv.cellprocessor.ValidationCellProcessor;
+import com.github.mygreen.supercsv.util.RegexMatcher;
 
 
 /**
  * 文字列に対して、正規表現に一致するか検証するCellProcessor.
+ * <p>単純な形式の正規表現は、{@link RegexMatcher}により正規表現を使用せずに判定します。</p>
  *
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -19,11 +22,14 @@ public class Pattern extends ValidationCellProcessor implements StringCellProces
     
     private final String description;
     
+    private final RegexMatcher matcher;
+    
     public Pattern(final java.util.regex.Pattern regexPattern, final String regexDescriptoin) {
         super();
         checkPreconditions(regexPattern);
         this.pattern = regexPattern;
         this.description = regexDescriptoin;
+        this.matcher = new RegexMatcher(regexPattern);
     }
     
     public Pattern(final java.util.regex.Pattern regexPattern, final String regexDescriptoin, final StringCellProcessor next) {
@@ -31,6 +37,7 @@ public class Pattern extends ValidationCellProcessor implements StringCellProces
         checkPreconditions(regexPattern);
         this.pattern = regexPattern;
         this.description = regexDescriptoin;
+        this.matcher = new RegexMatcher(regexPattern);
     }
     
     private static void checkPreconditions(final java.util.regex.Pattern regexPattern) {
@@ -47,7 +54,7 @@ public class Pattern extends ValidationCellProcessor implements StringCellProces
             return next.execute(value, context);
         }
         
-        final boolean matches = pattern.matcher((String) value).matches();
+        final boolean matches = matcher.matches((String) value);
         if(!matches) {
             throw createValidationException(context)
                 .messageFormat("'%s' does not match the regular expression '%s'", value, getRegex())
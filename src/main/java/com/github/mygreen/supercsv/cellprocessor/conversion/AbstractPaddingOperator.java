@@ -6,6 +6,7 @@ import com.github.mygreen.supercsv.util.Utils;
  * パディング処理の抽象クラス。
  * <p>サロゲートペアを考慮します。</p>
  *
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -16,122 +17,103 @@ public abstract class AbstractPaddingOperator implements PaddingProcessor {
     public String pad(final String text, final int size, final char padChar, final boolean rightAlign, final boolean chopped) {
 
         final int currentSize = count(text);
-        final int padCharSize = count(String.valueOf(padChar));
+        if(currentSize == size) {
+            // パディング不要な場合は、文字列を作り直さない
+            return text;
+
+        } else if(currentSize > size && !chopped) {
+            return text;
+
+        } else if(currentSize < size) {
+            return appendPadChar(text, size - currentSize, padChar, rightAlign);
+        }
+
         final int[] codePointArray = Utils.toCodePointArray(text);
         final int codePointSize = codePointArray.length;
 
         if(rightAlign) {
-            // 右詰
-            if(currentSize == size) {
-                return text;
-
-            } else if(currentSize > size) {
-                // 指定した長さを超える場合
-                if(chopped) {
-                    // 切り出す場合
-
-                    /*
-                     * 左端から長さをカウントしていき、オーバした長さ分を切り取る
-                     */
-                    final int overLength = currentSize - size;
-                    for(int i=0, chopLength=0; i < codePointSize; i++) {
-                        final int codePoint = codePointArray[i];
-                        chopLength += count(codePoint);
-                        if(chopLength >= overLength) {
-                            // substring(i+1)
-                            String chopText = new String(codePointArray, i+1, codePointSize-(i+1));
-
-                            // 切り取った後の再調整。
-                            // パディング文字が全角の場合は、余分に切り取る場合があるため。
-                            return pad(chopText, size, padChar, rightAlign, chopped);
-                        }
-
-                    }
-
-                    // 全て切り出す場合
-                    return "";
-
-                } else {
-                    // 切り出さない場合
-                    return text;
-                }
-            } else {
-                // 指定したサイズより少ない場合
-
-                /*
-                 * パディング文字を付与していく
-                 * ・パディング文字が全角の時があり、長さが2以上になるので注意する
-                 */
-                final int lackLength = size - currentSize;
-                int padCount = lackLength / padCharSize;
-
-                StringBuilder appender = new StringBuilder();
-                for(int i=0; i < padCount; i++) {
-                    appender.append(padChar);
+            // 右詰 - 指定した長さを超える場合は切り出す
+
+            /*
+             * 左端から長さをカウントしていき、オーバした長さ分を切り取る
+             */
+            final int overLength = currentSize - size;
+            for(int i=0, chopLength=0; i < codePointSize; i++) {
+                final int codePoint = codePointArray[i];
+                chopLength += count(codePoint);
+                if(chopLength >= overLength) {
+                    // substring(i+1)
+                    String chopText = new String(codePointArray, i+1, codePointSize-(i+1));
+
+                    // 切り取った後の再調整。
+                    // パディング文字が全角の場合は、余分に切り取る場合があるため。
+                    return pad(chopText, size, padChar, rightAlign, chopped);
                 }
 
-                appender.append(text);
-
-                return appender.toString();
-
             }
-        } else {
-            // 左詰
 
-            if(currentSize == size) {
-                return text;
+            // 全て切り出す場合
+            return "";
 
-            } else if(currentSize > size) {
-                // 指定したサイズを超える場合
-                if(chopped) {
-                    // 切り出す場合
+        } else {
+            // 左詰 - 指定したサイズを超える場合は切り出す
+
+            /*
+             * 右端から長さをカウントしていき、オーバした長さ分を切り取る
+             */
+            final int overLength = currentSize - size;
+            for(int i=codePointSize-1, chopLength=0; i >= 0; i--) {
+                final int codePoint = codePointArray[i];
+                chopLength += count(codePoint);
+                if(chopLength >= overLength) {
+                    // substring(0, i)
+                    String chopText = new String(codePointArray, 0, i);
+
+                    // 切り取った後の再調整。
+                    // パディング文字が全角の場合は、余分に切り取る場合があるため。
+                    return pad(chopText, size, padChar, rightAlign, chopped);
+                }
 
-                    /*
-                     * 右端から長さをカウントしていき、オーバした長さ分を切り取る
-                     */
-                    final int overLength = currentSize - size;
-                    for(int i=codePointSize-1, chopLength=0; i >= 0; i--) {
-                        final int codePoint = codePointArray[i];
-                        chopLength += count(codePoint);
-                        if(chopLength >= overLength) {
-                            // substring(0, i)
-                            String chopText = new String(codePointArray, 0, i);
+            }
 
-                            // 切り取った後の再調整。
-                            // パディング文字が全角の場合は、余分に切り取る場合があるため。
-                            return pad(chopText, size, padChar, rightAlign, chopped);
-                        }
+            // 全て切り出す場合
+            return "";
 
-                    }
+        }
 
+    }
 
-                    // 全て切り出す場合
-                    return "";
+    /**
+     * 指定したサイズより少ない場合に、パディング文字を付与していく。
+     * <p>パディング文字が全角の時があり、長さが2以上になるので注意する。</p>
+     * @param text パディング対象の文字
+     * @param lackLength 不足している長さ
+     * @param padChar パディングする文字。
+     * @param rightAlign 右詰めするかどうか。
+     * @return パディングされた文字列
+     */
+    private String appendPadChar(final String text, final int lackLength, final char padChar, final boolean rightAlign) {
+
+        final int padCount = lackLength / count(padChar);
+        if(padCount == 0) {
+            return text;
+        }
 
-                } else {
-                    // 切り出さない場合
-                    return text;
-                }
-            } else {
-                // 指定したサイズより少ない場合
-
-                /*
-                 * パディング文字を付与していく
-                 * ・パディング文字が全角の時があり、長さが2以上になるので注意する
-                 */
-                final int lackLength = size - currentSize;
-                int padCount = lackLength / padCharSize;
-
-                StringBuilder appender = new StringBuilder(text);
-                for(int i=0; i < padCount; i++) {
-                    appender.append(padChar);
-                }
+        final StringBuilder appender = new StringBuilder(text.length() + padCount);
+        if(!rightAlign) {
+            appender.append(text);
+        }
 
-                return appender.toString();
-            }
+        for(int i=0; i < padCount; i++) {
+            appender.append(padChar);
+        }
 
+        if(rightAlign) {
+            appender.append(text);
         }
 
+        return appender.toString();
+
     }
 
 }
@@ -1,21 +1,41 @@
 package com.github.mygreen.supercsv.cellprocessor.conversion;
 
 import java.nio.charset.Charset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.github.mygreen.supercsv.util.ArgUtils;
 
 /**
  * 文字数をバイトサイズでカウントして、パディングする。
  * <p>バイト数は、エンコードによって変わるため、環境によってこのクラスを継承しクラスを使用してください。</p>
+ * <p>文字ごとのバイト数は、文字コードごとに表を作成し、共有します。
+ *   <br>ただし、ISO-2022-JPやBOMを付与するUTF-16のように、前後の文字によってバイト数が変わる文字コードの場合は、
+ *   文字列全体をエンコードしてカウントします。
+ * </p>
  *
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
  */
 public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
     
+    /**
+     * 文字コードごとのバイト数の表。表を使用できない文字コードの場合は空。
+     */
+    private static final Map<Charset, Optional<CharCountTable>> TABLE_CACHE = new ConcurrentHashMap<>();
+    
+    /**
+     * 文字コードが1文字ごとにエンコードできるか判定するための文字列
+     */
+    private static final String STATELESS_PROBE = "aあ漢ｱ\u00e9a";
+    
     private final Charset charset;
     
+    private final CharCountTable table;
+    
     /**
      * 文字コードを指定するコンストラクタ
      * @param charset 文字コード
@@ -24,18 +44,63 @@ public abstract class ByteSizePaddingProcessor extends AbstractPaddingOperator {
     public ByteSizePaddingProcessor(final Charset charset) {
         ArgUtils.notNull(charset, "charset");
         this.charset = charset;
+        this.table = TABLE_CACHE.computeIfAbsent(charset, ByteSizePaddingProcessor::createTable).orElse(null);
+    }
+    
+    /**
+     * 文字ごとのバイト数の表を作成します。
+     * @param charset 文字コード
+     * @return 1文字ごとのバイト数の合計と、文字列全体のバイト数が一致しない文字コードの場合は、空を返します。
+     */
+    private static Optional<CharCountTable> createTable(final Charset charset) {
+        
+        if(!charset.canEncode()) {
+            return Optional.empty();
+        }
+        
+        int sum = 0;
+        for(int i=0; i < STATELESS_PROBE.length(); i++) {
+            sum += String.valueOf(STATELESS_PROBE.charAt(i)).getBytes(charset).length;
+        }
+        
+        if(sum != STATELESS_PROBE.getBytes(charset).length) {
+            return Optional.empty();
+        }
+        
+        return Optional.of(new CharCountTable(c -> String.valueOf((char)c).getBytes(charset).length));
+    }
+    
+    /**
+     * バイト数をカウントする際の文字コードを取得します。
+     * @since 2.5
+     * @return 文字コード
+     */
+    public Charset getCharset() {
+        return charset;
     }
     
     @Override
     public int count(int codePoint) {
-        return count(String.valueOf(Character.toChars(codePoint)));
+        if(table != null && Character.charCount(codePoint) == 1) {
+            return table.get((char)codePoint);
+        }
+        
+        return encodedSize(codePoint);
+    }
+    
+    private int encodedSize(final int codePoint) {
+        return String.valueOf(Character.toChars(codePoint)).getBytes(charset).length;
     }
     
     @Override
     public int count(final String text) {
         ArgUtils.notNull(text, "text");
         
-        return text.getBytes(charset).length;
+        if(table == null) {
+            return text.getBytes(charset).length;
+        }
+        
+        return table.count(text, this::encodedSize);
     }
     
     /**
@@ -0,0 +1,138 @@
+package com.github.mygreen.supercsv.cellprocessor.conversion;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 基本多言語面（BMP）の文字ごとの文字数を保持する2段階の表。
+ * <p>上位8ビットでブロックを選択し、下位8ビットでブロック内の文字数を参照します。
+ *    <br>ブロックは初回の参照時に作成し、全ての文字数が同じブロックは共有します。
+ * </p>
+ * <p>サロゲートペアの文字は、表の対象外のため、呼び出し元で処理します。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+class CharCountTable {
+
+    private static final int BLOCK_SIZE = 256;
+
+    /**
+     * 共有するブロックを作成する文字数の上限
+     */
+    private static final int MAX_UNIFORM_COUNT = 8;
+
+    /**
+     * 全ての文字数が同じブロック。インデックスは文字数。
+     */
+    private static final byte[][] UNIFORM_BLOCKS = new byte[MAX_UNIFORM_COUNT + 1][];
+    static {
+        for(int i=0; i <= MAX_UNIFORM_COUNT; i++) {
+            UNIFORM_BLOCKS[i] = new byte[BLOCK_SIZE];
+            Arrays.fill(UNIFORM_BLOCKS[i], (byte)i);
+        }
+    }
+
+    /**
+     * 1文字の文字数をカウントする処理
+     */
+    private final IntUnaryOperator counter;
+
+    private final AtomicReferenceArray<byte[]> blocks = new AtomicReferenceArray<>(BLOCK_SIZE);
+
+    /**
+     * ASCIIの範囲で、先頭から連続して文字数が1となる文字の上限。該当する文字がない場合は{@literal -1}。
+     */
+    private final int singleCountLimit;
+
+    /**
+     * 1文字の文字数をカウントする処理を指定するコンストラクタ。
+     * @param counter コードポイントを引数に取り、文字数を返す処理。文字数は、{@literal 0~127}である必要があります。
+     */
+    CharCountTable(final IntUnaryOperator counter) {
+        this.counter = counter;
+
+        int limit = -1;
+        while(limit < 0x7f && get((char)(limit + 1)) == 1) {
+            limit++;
+        }
+        this.singleCountLimit = limit;
+    }
+
+    /**
+     * 1文字の文字数を取得します。
+     * @param c 文字
+     * @return 文字数
+     */
+    int get(final char c) {
+        final int high = c >>> 8;
+        byte[] block = blocks.get(high);
+        if(block == null) {
+            // 同時に作成された場合も、内容は同じになる
+            block = createBlock(high);
+            blocks.set(high, block);
+        }
+
+        return block[c & 0xff];
+    }
+
+    private byte[] createBlock(final int high) {
+
+        final byte[] block = new byte[BLOCK_SIZE];
+        boolean uniform = true;
+        for(int i=0; i < BLOCK_SIZE; i++) {
+            final int count = counter.applyAsInt((high << 8) | i);
+            if(count < 0 || count > Byte.MAX_VALUE) {
+                throw new IllegalStateException(String.format("count of the character '\\u%04x' is out of range : %d.",
+                        (high << 8) | i, count));
+            }
+            block[i] = (byte)count;
+            uniform &= (block[i] == block[0]);
+        }
+
+        if(uniform && block[0] <= MAX_UNIFORM_COUNT) {
+            return UNIFORM_BLOCKS[block[0]];
+        }
+
+        return block;
+    }
+
+    /**
+     * 文字列の文字数をカウントします。
+     * <p>全ての文字の文字数が1となる場合は、文字列の長さを返します。</p>
+     *
+     * @param text カウント対象の文字列
+     * @param supplementaryCounter サロゲートペアの文字のコードポイントを引数に取り、文字数を返す処理。
+     * @return 文字数
+     */
+    int count(final String text, final IntUnaryOperator supplementaryCounter) {
+
+        final int length = text.length();
+
+        // 英数字のみの場合は、文字列の長さとなる
+        int i = 0;
+        while(i < length && text.charAt(i) <= singleCountLimit) {
+            i++;
+        }
+
+        if(i == length) {
+            return length;
+        }
+
+        int count = i;
+        for(; i < length; i++) {
+            final char c = text.charAt(i);
+            if(Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                count += supplementaryCounter.applyAsInt(Character.toCodePoint(c, text.charAt(i + 1)));
+                i++;
+            } else {
+                count += get(c);
+            }
+        }
+
+        return count;
+    }
+
+}
@@ -6,13 +6,20 @@ import com.github.mygreen.supercsv.util.ArgUtils;
  * 文字の幅によって区別してパディングする。
  * <p>半角は長さ1、全角は長さ2としてカウントして処理します。</p>
  * <p>サロゲートペアは長さ2としてカウントします。</p>
+ * <p>文字の幅は、事前に作成した表を参照し、英数字のみの場合は文字列の長さをそのまま返します。</p>
  *
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
  */
 public class CharWidthPaddingProcessor extends AbstractPaddingOperator {
 
+    /**
+     * 基本多言語面の文字の幅の表
+     */
+    private static final CharCountTable WIDTH_TABLE = new CharCountTable(CharWidthPaddingProcessor::width);
+
     @Override
     public int count(int codePoint) {
         if(Character.charCount(codePoint) >= 2) {
@@ -20,6 +27,16 @@ public class CharWidthPaddingProcessor extends AbstractPaddingOperator {
             return 2;
         }
 
+        return WIDTH_TABLE.get((char)codePoint);
+    }
+
+    /**
+     * 基本多言語面の文字の幅を判定します。
+     * @param codePoint 基本多言語面の文字のコードポイント
+     * @return 半角の場合は1、全角の場合は2。
+     */
+    private static int width(final int codePoint) {
+
         final char c = (char)codePoint;
         if(c <= '\u007e'    // 英数字
                 || c == '\u00a5'    // \記号
@@ -37,15 +54,7 @@ public class CharWidthPaddingProcessor extends AbstractPaddingOperator {
 
         ArgUtils.notNull(text, "text");
 
-        int count=0;
-
-        final int length = text.length();
-        for(int i=0, codePoint=0; i < length; i+=Character.charCount(codePoint)) {
-            codePoint = text.codePointAt(i);
-            count += count(codePoint);
-        }
-
-        return count;
+        return WIDTH_TABLE.count(text, codePoint -> 2);
     }
 
 
@@ -1,5 +1,6 @@
 package com.github.mygreen.supercsv.cellprocessor.conversion;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -8,10 +9,15 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.cellprocessor.ift.StringCellProcessor;
 import org.supercsv.util.CsvContext;
 
+import com.github.mygreen.supercsv.util.RegexMatcher;
+
 /**
  * 文字列を置換する{@link CellProcessor}です。
+ * <p>正規表現がリテラル文字列の選択のみで、置換文字列が参照を含まない場合は、正規表現を使用せずに置換します。
+ *   <br>それ以外の場合は、スレッドごとに{@link Matcher}のインスタンスを再利用します。
+ * </p>
  * 
- * @version 2.2
+ * @version 2.5
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -24,6 +30,13 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
     
     private final boolean partialMatched;
     
+    private final RegexMatcher matcher;
+    
+    /**
+     * 正規表現を使用せずに置換する場合の、記述順のリテラル文字列。使用しない場合は{@literal null}。
+     */
+    private final List<String> literals;
+    
     /**
      * 正規表現と置換文字を指定してインスタンスを作成するコンストラクタ。
      * 
@@ -38,6 +51,8 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
         this.pattern = pattern;
         this.replacement = replacement;
         this.partialMatched = partialMatched;
+        this.matcher = new RegexMatcher(pattern);
+        this.literals = isLiteralReplacement(replacement) ? RegexMatcher.parseLiteralAlternation(pattern).orElse(null) : null;
     }
     
     /**
@@ -56,6 +71,8 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
         this.pattern = pattern;
         this.replacement = replacement;
         this.partialMatched = partialMatched;
+        this.matcher = new RegexMatcher(pattern);
+        this.literals = isLiteralReplacement(replacement) ? RegexMatcher.parseLiteralAlternation(pattern).orElse(null) : null;
     }
     
     /**
@@ -75,6 +92,13 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
         }
     }
     
+    /**
+     * 置換文字列が、グループの参照やエスケープを含まないかどうか。
+     */
+    private static boolean isLiteralReplacement(final String replacement) {
+        return replacement.indexOf('$') < 0 && replacement.indexOf('\\') < 0;
+    }
+    
     @Override
     public <T> T execute(final Object value, final CsvContext context) {
         
@@ -82,7 +106,19 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
             return next.execute(value, context);
         }
         
-        final Matcher matcher = pattern.matcher(value.toString());
+        if(literals != null) {
+            final String text = value.toString();
+            if(partialMatched || this.matcher.matches(text)) {
+                final String result = replaceLiterals(text);
+                if(result != null) {
+                    return next.execute(result, context);
+                }
+            }
+            
+            return next.execute(value, context);
+        }
+        
+        final Matcher matcher = this.matcher.matcher(value.toString());
         final boolean matched = partialMatched ? matcher.find() : matcher.matches();
         if(matched) {
             final String result = matcher.replaceAll(replacement);
@@ -92,6 +128,47 @@ public class RegexReplace extends CellProcessorAdaptor implements StringCellProc
         return next.execute(value, context);
     }
     
+    /**
+     * 先頭から順に、リテラル文字列と一致する箇所を置換する。
+     * <p>同じ位置で複数の文字列と一致する場合は、正規表現の選択と同様に、記述順で先に一致したものを優先します。</p>
+     * @param text 置換対象の文字列
+     * @return 一致する箇所がない場合は{@literal null}を返します。
+     */
+    private String replaceLiterals(final String text) {
+        
+        final int length = text.length();
+        StringBuilder result = null;
+        int last = 0;
+        int i = 0;
+        while(i < length) {
+            String found = null;
+            for(String literal : literals) {
+                if(text.startsWith(literal, i)) {
+                    found = literal;
+                    break;
+                }
+            }
+            
+            if(found == null) {
+                i++;
+                continue;
+            }
+            
+            if(result == null) {
+                result = new StringBuilder(length + replacement.length());
+            }
+            result.append(text, last, i).append(replacement);
+            i += found.length();
+            last = i;
+        }
+        
+        if(result == null) {
+            return null;
+        }
+        
+        return result.append(text, last, length).toString();
+    }
+    
     /**
      * 
      * @return 設定せれた正規表現
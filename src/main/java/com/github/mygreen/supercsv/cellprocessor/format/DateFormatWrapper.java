@@ -13,6 +13,7 @@ import java.util.Optional;
 
 /**
  * スレッドセーフな{@link DateFormat}。
+ * <p>{@link DateFormat}のインスタンスは、ロックせずにスレッドごとに取り出して使用します。</p>
  *
  * @since 1.2
  * @author T.TSUCHIE
@@ -20,7 +21,7 @@ import java.util.Optional;
  */
 public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T> {
     
-    private final DateFormat formatter;
+    private final FormatPool<DateFormat> formatter;
     
     private final Class<T> type;
     
@@ -34,7 +35,7 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
         Objects.requireNonNull(formatter);
         Objects.requireNonNull(type);
         
-        this.formatter = (DateFormat) formatter.clone();
+        this.formatter = new FormatPool<>((DateFormat) formatter.clone());
         this.type = type;
         
     }
@@ -70,7 +71,7 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
             pattern = "yyyy-MM-dd HH:mm:ss";
         }
         
-        this.formatter = new SimpleDateFormat(pattern);
+        this.formatter = new FormatPool<>(new SimpleDateFormat(pattern));
     }
     
     /**
@@ -79,20 +80,29 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
      * @return フォーマットした文字列。
      */
     @Override
-    public synchronized String print(final Date date) {
-        return formatter.format(date);
+    public String print(final Date date) {
+        
+        final DateFormat format = formatter.borrow();
+        try {
+            return format.format(date);
+        } finally {
+            formatter.release(format);
+        }
         
     }
     
     @SuppressWarnings("unchecked")
     @Override
-    public synchronized T parse(final String text) throws TextParseException {
+    public T parse(final String text) throws TextParseException {
         
         final Date date;
+        final DateFormat format = formatter.borrow();
         try {
-            date = formatter.parse(text);
+            date = format.parse(text);
         } catch (ParseException e) {
             throw new TextParseException(text, Date.class);
+        } finally {
+            formatter.release(format);
         }
         
         if(Timestamp.class.isAssignableFrom(type)) {
@@ -115,8 +125,8 @@ public class DateFormatWrapper<T extends Date> extends AbstractTextFormatter<T>
     @Override
     public Optional<String> getPattern() {
         
-        if(formatter instanceof SimpleDateFormat) {
-            SimpleDateFormat sdf = (SimpleDateFormat) formatter;
+        if(formatter.getPrototype() instanceof SimpleDateFormat) {
+            SimpleDateFormat sdf = (SimpleDateFormat) formatter.getPrototype();
             return Optional.of(sdf.toPattern());
         }
         
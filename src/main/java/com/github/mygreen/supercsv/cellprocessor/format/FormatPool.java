@@ -0,0 +1,83 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import java.text.Format;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * スレッドセーフでない{@link Format}を、複数のスレッドから使用するためのプール。
+ * <p>使用中のインスタンスを排他せず、空いているインスタンスを取り出して使用します。
+ *   <br>空いているインスタンスがない場合は、元のインスタンスを複製します。
+ *   <br>{@literal synchronized}によるロックを使用しないため、仮想スレッドから呼び出しても、キャリアスレッドを占有しません。
+ * </p>
+ *
+ * @param <F> フォーマッタのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+final class FormatPool<F extends Format> {
+
+    /** プールに保持する空いているインスタンスの最大数 */
+    private static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    /** 複製元のインスタンス。設定値の参照のみで、フォーマットには使用しない。 */
+    private final F prototype;
+
+    private final Queue<F> idle = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    /**
+     * 複製元のインスタンスを指定して、プールを作成します。
+     * @param prototype 複製元のインスタンス。以降は変更しないでください。
+     * @throws NullPointerException {@literal prototype is null.}
+     */
+    FormatPool(final F prototype) {
+        Objects.requireNonNull(prototype);
+        this.prototype = prototype;
+    }
+
+    /**
+     * 複製元のインスタンスを取得します。
+     * <p>設定値の参照のみに使用します。</p>
+     * @return 複製元のインスタンス。
+     */
+    F getPrototype() {
+        return prototype;
+    }
+
+    /**
+     * 使用するインスタンスを取り出します。
+     * <p>使用後は、{@link #release(Format)}で返却します。</p>
+     * @return 他のスレッドが使用していないインスタンス。
+     */
+    @SuppressWarnings("unchecked")
+    F borrow() {
+
+        final F format = idle.poll();
+        if(format != null) {
+            idleCount.decrementAndGet();
+            return format;
+        }
+
+        return (F) prototype.clone();
+    }
+
+    /**
+     * 使用したインスタンスを返却します。
+     * <p>空いているインスタンスが最大数を超える場合は、破棄します。</p>
+     * @param format {@link #borrow()}で取り出したインスタンス。
+     */
+    void release(final F format) {
+
+        if(idleCount.incrementAndGet() <= MAX_IDLE) {
+            idle.offer(format);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+
+}
@@ -13,6 +13,7 @@ import java.util.Optional;
 
 /**
  * 書式を指定した数値のフォーマッタ。
+ * <p>{@link NumberFormat}のインスタンスは、ロックせずにスレッドごとに取り出して使用します。</p>
  * 
  * @since 1.2
  * @author T.TSUCHIE
@@ -20,7 +21,7 @@ import java.util.Optional;
  */
 public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter<T> {
     
-    private final NumberFormat formatter;
+    private final FormatPool<NumberFormat> formatter;
     
     private final Class<T> type;
     
@@ -34,15 +35,21 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
         Objects.requireNonNull(formatter);
         Objects.requireNonNull(type);
         
-        this.formatter = (NumberFormat) formatter.clone();
+        this.formatter = new FormatPool<>((NumberFormat) formatter.clone());
         this.type = type;
         this.lenient = lenient;
         
     }
     
     @Override
-    public synchronized String print(final Number number) {
-        return formatter.format(number);
+    public String print(final Number number) {
+        
+        final NumberFormat format = formatter.borrow();
+        try {
+            return format.format(number);
+        } finally {
+            formatter.release(format);
+        }
     }
     
     @Override
@@ -61,22 +68,27 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
      * @throws TextParseException fail convert Number or BigDecimal.
      */
     @SuppressWarnings("unchecked")
-    synchronized <N extends Number> N parse(final Class<N> type, final String text) {
+    <N extends Number> N parse(final Class<N> type, final String text) {
         
         final Number result;
-        if(lenient) {
-            try {
-                result = formatter.parse(text);
-            } catch(ParseException e) {
-                throw new TextParseException(text, type, e);
-            }
-        } else {
-            ParsePosition position = new ParsePosition(0);
-            result = formatter.parse(text, position);
-            
-            if(position.getIndex() != text.length()) {
-                throw new TextParseException(text, type, String.format("Cannot parse '%s' using fromat %s", text, getPattern()));
+        final NumberFormat format = formatter.borrow();
+        try {
+            if(lenient) {
+                try {
+                    result = format.parse(text);
+                } catch(ParseException e) {
+                    throw new TextParseException(text, type, e);
+                }
+            } else {
+                ParsePosition position = new ParsePosition(0);
+                result = format.parse(text, position);
+                
+                if(position.getIndex() != text.length()) {
+                    throw new TextParseException(text, type, String.format("Cannot parse '%s' using fromat %s", text, getPattern()));
+                }
             }
+        } finally {
+            formatter.release(format);
         }
         
         try {
@@ -159,8 +171,8 @@ public class NumberFormatWrapper<T extends Number> extends AbstractTextFormatter
     @Override
     public Optional<String> getPattern() {
         
-        if(formatter instanceof DecimalFormat) {
-            DecimalFormat df = (DecimalFormat) formatter;
+        if(formatter.getPrototype() instanceof DecimalFormat) {
+            DecimalFormat df = (DecimalFormat) formatter.getPrototype();
             return Optional.of(df.toPattern());
         }
         
@@ -0,0 +1,78 @@
+package com.github.mygreen.supercsv.cellprocessor.format;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 書式が同じフォーマッタを、複数のカラムやBeanの間で共有するためのプール。
+ * <p>{@link com.github.mygreen.supercsv.builder.Configuration#setFormatterPool(TextFormatterPool)}で設定すると、
+ *    標準のフォーマッタは、{@link com.github.mygreen.supercsv.builder.Configuration}のインスタンス、
+ *    ProcessorBuilderのクラス、フィールドのクラスタイプ、
+ *    書式のアノテーション（{@literal @CsvNumberFormat}など）の属性の値が同じ場合に、
+ *    同じインスタンスが使用されます。
+ * </p>
+ * <p>フォーマッタはシステム設定を参照して作成するため、異なる{@link com.github.mygreen.supercsv.builder.Configuration}の間では共有しません。
+ *    <br>プールを複数の{@link com.github.mygreen.supercsv.builder.Configuration}に設定した場合でも、設定ごとに区別して登録されます。
+ *    また、登録したキーとして{@link com.github.mygreen.supercsv.builder.Configuration}を保持するため、
+ *    不要になった場合は{@link #clear()}で削除してください。
+ * </p>
+ * <p>標準のフォーマッタは、作成後は状態を変更しないため、スレッドセーフに共有できます。
+ *    <br>ただし、アノテーション{@literal @CsvFormat}で独自のフォーマッタを指定した場合は、共有の対象外となります。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class TextFormatterPool {
+
+    private final Map<Object, TextFormatter<?>> pool = new ConcurrentHashMap<>();
+
+    /**
+     * キーに対応するフォーマッタを取得します。
+     * <p>プールに存在しない場合は、{@literal factory}により作成し、プールに登録します。</p>
+     *
+     * @param <T> フォーマッタの処理対象のクラスタイプ
+     * @param key フォーマッタを識別するキー。{@link Object#equals(Object)}で比較可能なオブジェクトを指定します。
+     * @param factory プールに存在しない場合に、フォーマッタを作成する処理。
+     * @return プールに登録されているフォーマッタ。
+     * @throws NullPointerException {@literal key or factory is null.}
+     */
+    @SuppressWarnings("unchecked")
+    public <T> TextFormatter<T> intern(final Object key, final Supplier<TextFormatter<T>> factory) {
+        Objects.requireNonNull(key, "key should not be null.");
+        Objects.requireNonNull(factory, "factory should not be null.");
+
+        final TextFormatter<?> cached = pool.get(key);
+        if(cached != null) {
+            return (TextFormatter<T>) cached;
+        }
+
+        final TextFormatter<T> formatter = factory.get();
+        if(formatter == null) {
+            return null;
+        }
+
+        final TextFormatter<?> previous = pool.putIfAbsent(key, formatter);
+        return previous != null ? (TextFormatter<T>) previous : formatter;
+
+    }
+
+    /**
+     * プールに登録されているフォーマッタの個数を取得します。
+     * @return フォーマッタの個数
+     */
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * プールに登録されているフォーマッタを全て削除します。
+     */
+    public void clear() {
+        pool.clear();
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.github.mygreen.supercsv.exception;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
+
+/**
+ * 読み込み時のエラーが、許容範囲を超えたときにスローされる例外。
+ * <p>許容範囲を超える原因となったエラーを、{@link #getCause()}で取得できます。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class SuperCsvErrorPolicyException extends SuperCsvException {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = 1L;
+
+    public SuperCsvErrorPolicyException(final String msg, final CsvContext context, final SuperCsvException cause) {
+        super(msg, context, cause);
+    }
+
+    @Override
+    public synchronized SuperCsvException getCause() {
+        return (SuperCsvException) super.getCause();
+    }
+
+}
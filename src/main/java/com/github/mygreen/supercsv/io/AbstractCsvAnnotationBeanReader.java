@@ -9,9 +9,13 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -28,12 +32,16 @@ import org.supercsv.util.BeanInterfaceProxy;
 import org.supercsv.util.CsvContext;
 import org.supercsv.util.MethodCache;
 
+import com.github.mygreen.supercsv.builder.BeanAccessor;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.CallbackMethod;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
 import com.github.mygreen.supercsv.exception.SuperCsvRowException;
+import com.github.mygreen.supercsv.util.Utils;
 import com.github.mygreen.supercsv.validation.CsvBindingErrors;
 import com.github.mygreen.supercsv.validation.CsvError;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
@@ -46,7 +54,7 @@ import com.github.mygreen.supercsv.validation.ValidationContext;
  * @param <T> マッピング対象のBeanのクラスタイプ
  *
  * @see CsvBeanReader
- * @version 2.3
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -74,8 +82,24 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     /** validator */
     protected final List<CsvValidator<T>> validators = new ArrayList<>();
     
+    /** 例外をエラーメッセージに変換するかどうか */
+    protected boolean formatErrorMessages = true;
+    
+    /** エラー情報をJSON Lines形式で出力する。nullの場合は出力しない。 */
+    protected CsvErrorJsonLinesWriter errorJsonLinesWriter;
+    
+    /**
+     * {@link Reader}を指定して作成するコンストラクタ。
+     * <p>レコードは{@link CsvTokenizer}で分解します。
+     *   <br>Super CSVの{@link org.supercsv.io.Tokenizer}を使用する場合は、{@link ITokenizer}を指定するコンストラクタを使用します。
+     * </p>
+     * 
+     * @param reader the Reader。
+     * @param preference the CSV preferences.
+     * @throws NullPointerException {@literal if reader or preferences are null.}
+     */
     public AbstractCsvAnnotationBeanReader(final Reader reader, final CsvPreference preference) {
-        super(reader, preference);
+        super(new CsvTokenizer(reader, preference), preference);
     }
     
     public AbstractCsvAnnotationBeanReader(final ITokenizer tokenizer, final CsvPreference preference) {
@@ -98,57 +122,158 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         if(readRow()) {
             
             final T bean = instantiateBean(beanMappingCache.getOriginal().getType());
-            final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
-            
-            final CsvContext context = new CsvContext(getLineNumber(), getRowNumber(), 1);
-            context.setRowSource(new ArrayList<Object>(processedColumns));
-            
-            Optional<SuperCsvRowException> rowException = Optional.empty();
-            try {
-                executeCellProcessor(processedColumns, getColumns(), beanMappingCache.getCellProcessorsForReading(), context);
-                
-            } catch(SuperCsvRowException e) {
-                /*
-                 * カラムごとのCellProcessorのエラーの場合、別なValidatorで値を検証するために、
-                 * 後から判定を行うようにする。
-                 */
-                rowException = Optional.of(e);
-                
-                final List<CsvError> errors = exceptionConverter.convert(e, beanMappingCache.getOriginal());
-                bindingErrors.addAllErrors(errors);
-                
-            } catch(SuperCsvException e) {
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
-                throw e;
-            }
+            processRow(bean, false);
+            return bean;
             
-            // コールバックメソッドの実行（読み込み前）
-            for(CallbackMethod callback : beanMappingCache.getOriginal().getPreReadMethods()) {
-                callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
+        
+        return null; // EOF
+        
+        
+    }
+    
+    /**
+     * 引数で指定したBeanのインスタンスに、1レコード分を読み込みます。
+     * <p>レコードごとにBeanのインスタンスを作成せずに、呼び出し元で再利用する場合に使用します。
+     *   <br>読み込んだBeanをすぐにJDBCのバッチなどに渡して破棄する場合、インスタンスの作成を省略することができます。
+     * </p>
+     * <p>カラムに対応するフィールドは、レコードごとに必ず上書きされます。
+     *   <br>値が{@literal null}のカラムや、エラーとなったカラムは、{@literal null}（プリミティブ型の場合は初期値）で上書きされるため、
+     *   前のレコードの値が残ることはありません。
+     *   <br>ただし、カラムに対応しないフィールドは上書きされないため、必要であれば、読み込み前のコールバックメソッドなどで初期化してください。
+     * </p>
+     * 
+     * @since 2.5
+     * @param bean 読み込んだ値を設定するBeanのインスタンス。
+     * @return 読み込んだ場合は{@literal true}、読み込むレコードがない場合は{@literal false}を返します。
+     * 
+     * @throws NullPointerException {@literal bean is null.}
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvNoMatchColumnSizeException レコードのカラムサイズに問題がある場合
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    public boolean readInto(final T bean) throws IOException {
+        
+        Objects.requireNonNull(bean, "bean should not be null.");
+        
+        if(readRow()) {
+            processRow(bean, true);
+            return true;
+        }
+        
+        return false; // EOF
+        
+    }
+    
+    /**
+     * 成功時、例外発生時の処理を指定して、引数で指定したBeanのインスタンスに1レコード分を読み込みます。
+     * <p>成功時の処理には、引数で指定したBeanのインスタンスが渡されます。
+     *   <br>1つのインスタンスを使いまわす場合や、プールから取得したインスタンスを渡す場合に使用します。
+     * </p>
+     * <p>次のレコードを読み込むと、同じインスタンスの値は上書きされます。
+     *   <br>成功時の処理では、インスタンスをそのままリストなどに保持せず、その場で値を使用するか、コピーを保持してください。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * SampleCsv bean = new SampleCsv();
+     * while(csvReader.readInto(bean, record -&gt; {
+     *         // JDBCのバッチに値を渡し、インスタンスは保持しない
+     *         statement.setInt(1, record.getId());
+     *         statement.setString(2, record.getName());
+     *         statement.addBatch();
+     *     }, error -&gt; {}) != CsvReadStatus.EOF) {
+     *     // 何もしない
+     * }
+     * </code></pre>
+     * 
+     * @since 2.5
+     * @param bean 読み込んだ値を設定するBeanのインスタンス。
+     * @param successHandler 読み込み成功時の処理の実装。
+     * @param errorHandler CSVに関する例外発生時の処理の実装。
+     * @return CSVの読み込み処理ステータスを返します。
+     * @throws NullPointerException {@literal bean is null.}
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     * @see #readInto(Object)
+     */
+    public CsvReadStatus readInto(final T bean, final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler)
+            throws IOException {
+        
+        try {
+            if(readInto(bean)) {
+                successHandler.onSuccess(bean);
+                return CsvReadStatus.SUCCESS;
+            } else {
+                return CsvReadStatus.EOF;
             }
             
-            // beanへのマッピング
-            populateBean(bean, beanMappingCache.getNameMapping(), bindingErrors);
-            
-            // Bean(レコード)の入力値検証
-            for(CsvValidator<T> recordValidator : validators) {
-                recordValidator.validate(bean, bindingErrors, new ValidationContext<>(context, beanMappingCache.getOriginal()));
-            }
+        } catch(SuperCsvException e) {
+            errorHandler.onError(e);
+            return CsvReadStatus.ERROR;
             
-            // コールバックメソッドの実行（読み込み後）
-            for(CallbackMethod callback : beanMappingCache.getOriginal().getPostReadMethods()) {
-                callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
-            }
+        }
+        
+    }
+    
+    /**
+     * 読み込んだ行の値を、Beanにマッピングします。
+     * 
+     * @since 2.5
+     * @param bean マッピング先のBeanのインスタンス。
+     * @param clearNullValue 値が{@literal null}のカラム、エラーとなったカラムのフィールドを、{@literal null}などで上書きするかどうか。
+     * @throws SuperCsvNoMatchColumnSizeException レコードのカラムサイズに問題がある場合
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    protected void processRow(final T bean, final boolean clearNullValue) {
+        
+        final CsvBindingErrors bindingErrors = new CsvBindingErrors(beanMappingCache.getOriginal().getType());
+        
+        final CsvContext context = new CsvContext(getLineNumber(), getRowNumber(), 1);
+        context.setRowSource(new ArrayList<Object>(processedColumns));
+        
+        Optional<SuperCsvRowException> rowException = Optional.empty();
+        try {
+            executeCellProcessor(processedColumns, getColumns(), beanMappingCache.getCellProcessorsForReading(), context);
             
-            // エラーメッセージの変換
-            processErrors(bindingErrors, context, rowException);
+        } catch(SuperCsvRowException e) {
+            /*
+             * カラムごとのCellProcessorのエラーの場合、別なValidatorで値を検証するために、
+             * 後から判定を行うようにする。
+             */
+            rowException = Optional.of(e);
             
-            return bean;
+            final List<CsvError> errors = exceptionConverter.convert(e, beanMappingCache.getOriginal());
+            bindingErrors.addAllErrors(errors);
             
+        } catch(SuperCsvException e) {
+            addErrorMessages(e);
+            throw e;
         }
         
-        return null; // EOF
+        // コールバックメソッドの実行（読み込み前）
+        for(CallbackMethod callback : beanMappingCache.getOriginal().getPreReadMethods()) {
+            callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
         
+        // beanへのマッピング
+        if(clearNullValue) {
+            populateBeanWithClear(bean, beanMappingCache.getNameMapping(), bindingErrors);
+        } else {
+            populateBean(bean, beanMappingCache.getNameMapping(), bindingErrors);
+        }
+        
+        // Bean(レコード)の入力値検証
+        for(CsvValidator<T> recordValidator : validators) {
+            recordValidator.validate(bean, bindingErrors, new ValidationContext<>(context, beanMappingCache.getOriginal()));
+        }
+        
+        // コールバックメソッドの実行（読み込み後）
+        for(CallbackMethod callback : beanMappingCache.getOriginal().getPostReadMethods()) {
+            callback.invoke(bean, context, bindingErrors, beanMappingCache.getOriginal());
+        }
+        
+        // エラーメッセージの変換
+        processErrors(bindingErrors, context, rowException);
         
     }
     
@@ -227,6 +352,136 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
 
     }
     
+    /**
+     * エラーの許容範囲を判定しながら、残りのレコードを全て読み込みます。
+     * <p>許容範囲を超えた時点で、以降のレコードは読み込みません。</p>
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。
+     * @return 読み込んだレコード情報。
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合。
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    protected List<T> readAllRecords(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        final List<T> list = new ArrayList<>();
+        
+        while(true) {
+            final T record;
+            try {
+                record = read();
+                
+            } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                checkErrorPolicy(errorPolicy, e);
+                continue;
+            }
+            
+            if(record == null) {
+                break;
+            }
+            
+            list.add(record);
+            errorPolicy.record(false);
+        }
+        
+        return list;
+    }
+    
+    /**
+     * 残りのレコードを、購読者の要求に応じて読み込む{@link CsvFlow.Publisher}を作成します。
+     * <p>エラーが発生した時点で、購読者に通知して読み込みを終了します。</p>
+     * 
+     * @since 2.5
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @return 読み込んだレコードを通知する{@link CsvFlow.Publisher}。
+     * @throws NullPointerException {@literal executor is null.}
+     * @see CsvAnnotationBeanPublisher
+     */
+    public CsvAnnotationBeanPublisher<T> publisher(final Executor executor) {
+        return new CsvAnnotationBeanPublisher<>(this, executor, null);
+    }
+    
+    /**
+     * エラーの許容範囲を指定して、残りのレコードを、購読者の要求に応じて読み込む{@link CsvFlow.Publisher}を作成します。
+     * <p>許容範囲内のエラーは読み飛ばし、許容範囲を超えた時点で、購読者に通知して読み込みを終了します。</p>
+     * 
+     * @since 2.5
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param errorPolicy エラーの許容範囲。購読の開始時に初期化します。
+     * @return 読み込んだレコードを通知する{@link CsvFlow.Publisher}。
+     * @throws NullPointerException {@literal executor or errorPolicy is null.}
+     * @see CsvAnnotationBeanPublisher
+     */
+    public CsvAnnotationBeanPublisher<T> publisher(final Executor executor, final CsvErrorPolicy errorPolicy) {
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        return new CsvAnnotationBeanPublisher<>(this, executor, errorPolicy);
+    }
+    
+    /**
+     * 読み込み処理を、指定した{@link Executor}で非同期に実行します。
+     * <p>処理中に発生した例外は、ラップせずに{@link CompletableFuture}の例外として設定します。</p>
+     * <p>処理が完了するまでは、このインスタンスを他のスレッドから使用しないでください。</p>
+     * 
+     * @since 2.5
+     * @param <R> 処理結果のクラスタイプ
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param task 読み込み処理。
+     * @return 処理結果。
+     * @throws NullPointerException {@literal executor or task is null.}
+     */
+    protected <R> CompletableFuture<R> executeAsync(final Executor executor, final Callable<R> task) {
+        
+        Objects.requireNonNull(executor, "executor should not be null.");
+        Objects.requireNonNull(task, "task should not be null.");
+        
+        final CompletableFuture<R> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(task.call());
+            } catch(Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        
+        return future;
+    }
+    
+    /**
+     * レコードを読み込む前に、ヘッダー行を処理します。
+     * <p>{@link CsvAnnotationBeanReader#readAll(CsvErrorPolicy)}や、{@link #publisher(Executor, CsvErrorPolicy)}で、読み込みの開始時に呼び出されます。
+     *   <br>デフォルトの実装では、何もしません。
+     * </p>
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。{@literal null}の場合は、エラーをそのままスローします。
+     * @throws IOException ヘッダー行の読み込みに失敗した場合。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合。
+     */
+    protected void processHeader(final CsvErrorPolicy errorPolicy) throws IOException {
+        // do nothing.
+    }
+    
+    /**
+     * エラーを記録して、許容範囲を超えたかどうか判定します。
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。{@literal null}の場合は、発生したエラーをそのままスローします。
+     * @param exception 発生したエラー。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合。
+     */
+    protected void checkErrorPolicy(final CsvErrorPolicy errorPolicy, final SuperCsvException exception) {
+        
+        if(errorPolicy == null) {
+            throw exception;
+        }
+        
+        if(!errorPolicy.record(true)) {
+            throw new SuperCsvErrorPolicyException(String.format("errors exceeded the policy : %s", errorPolicy),
+                    exception.getCsvContext(), exception);
+        }
+    }
+    
     /**
      * CSVのヘッダーの検証を行います。
      * 
@@ -263,10 +518,20 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
     protected void processErrors(final CsvBindingErrors bindingErrors, final CsvContext context,
             final Optional<SuperCsvRowException> rowException) {
         if(bindingErrors.hasErrors()) {
-            final List<String> message = bindingErrors.getAllErrors().stream()
-                    .map(error -> error.format(exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()))
-                    .collect(Collectors.toList());
-            errorMessages.addAll(message);
+            if(formatErrorMessages) {
+                final List<String> message = bindingErrors.getAllErrors().stream()
+                        .map(error -> error.format(exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()))
+                        .collect(Collectors.toList());
+                errorMessages.addAll(message);
+            }
+            
+            if(errorJsonLinesWriter != null) {
+                try {
+                    errorJsonLinesWriter.write(bindingErrors, context, getUntokenizedRow());
+                } catch(IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
             
             final SuperCsvBindingException bindingException = new SuperCsvBindingException("has binding error.", context, bindingErrors);
             rowException.ifPresent(re -> bindingException.addAllProcessingErrors(re.getColumnErrors()));
@@ -275,6 +540,29 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         }
     }
     
+    /**
+     * 例外をメッセージに変換して、エラーメッセージに追加します。
+     * <p>{@link #isFormatErrorMessages()} が {@literal false} の場合は、メッセージに変換しません。</p>
+     * <p>{@link #setErrorJsonLinesWriter(CsvErrorJsonLinesWriter)} を設定している場合は、エラー情報を出力します。</p>
+     * 
+     * @since 2.5
+     * @param exception 変換対象の例外。
+     * @throws UncheckedIOException エラー情報の出力に失敗した場合。
+     */
+    protected void addErrorMessages(final SuperCsvException exception) {
+        if(formatErrorMessages) {
+            errorMessages.addAll(exceptionConverter.convertAndFormat(exception, beanMappingCache.getOriginal()));
+        }
+        
+        if(errorJsonLinesWriter != null) {
+            try {
+                errorJsonLinesWriter.write(exception, beanMappingCache.getOriginal(), exceptionConverter, getUntokenizedRow());
+            } catch(IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+    
     /**
      * 指定したBeanのクラスのインスタンスを作成する。
      * 
@@ -284,8 +572,12 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
      */
     protected T instantiateBean(final Class<T> clazz) {
         
+        final BeanAccessor<T> beanAccessor = beanMappingCache.getBeanAccessor();
+        
         final T bean;
-        if( clazz.isInterface() ) {
+        if(beanAccessor != null) {
+            bean = beanAccessor.newInstance();
+        } else if( clazz.isInterface() ) {
             bean = BeanInterfaceProxy.createProxy(clazz);
         } else {
             try {
@@ -361,6 +653,8 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
      */
     protected void populateBean(final T resultBean, final String[] nameMapping, final CsvBindingErrors bindingErrors) {
         
+        final BeanAccessor<T> beanAccessor = beanMappingCache.getBeanAccessor();
+        
         // map each column to its associated field on the bean
         for( int i = 0; i < nameMapping.length; i++ ) {
             final String fieldName = nameMapping[i];
@@ -371,6 +665,11 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
                 continue;
             }
             
+            if(beanAccessor != null) {
+                setValueWithAccessor(beanAccessor, resultBean, fieldName, fieldValue);
+                continue;
+            }
+            
             // invoke the setter on the bean
             final Method setMethod = cache.getSetMethod(resultBean, fieldName, fieldValue.getClass());
             try {
@@ -384,6 +683,70 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         
     }
     
+    /**
+     * Beanの各フィールドに対して値を設定する。
+     * <p>{@link #populateBean(Object, String[], CsvBindingErrors)}と異なり、値が{@literal null}のカラムと、
+     *    エラーとなったカラムのフィールドは、{@literal null}（プリミティブ型の場合は初期値）で上書きする。
+     * </p>
+     * 
+     * @since 2.5
+     * @param resultBean 値を設定するBeanのインスタンス
+     * @param nameMapping カラムに対応するフィールド名
+     * @param bindingErrors エラー情報
+     */
+    protected void populateBeanWithClear(final T resultBean, final String[] nameMapping, final CsvBindingErrors bindingErrors) {
+        
+        final List<ColumnMapping> columns = beanMappingCache.getOriginal().getColumns();
+        final BeanAccessor<T> beanAccessor = beanMappingCache.getBeanAccessor();
+        
+        for( int i = 0; i < nameMapping.length; i++ ) {
+            final String fieldName = nameMapping[i];
+            if(fieldName == null) {
+                continue;
+            }
+            
+            Object fieldValue = processedColumns.get(i);
+            if(beanAccessor != null) {
+                if(fieldValue == null || bindingErrors.hasFieldErrors(fieldName)) {
+                    fieldValue = Utils.getPrimitiveDefaultValue(columns.get(i).getField().getType());
+                }
+                setValueWithAccessor(beanAccessor, resultBean, fieldName, fieldValue);
+                continue;
+            }
+            
+            final Method setMethod;
+            if(fieldValue == null || bindingErrors.hasFieldErrors(fieldName)) {
+                final Class<?> fieldType = columns.get(i).getField().getType();
+                fieldValue = Utils.getPrimitiveDefaultValue(fieldType);
+                setMethod = cache.getSetMethod(resultBean, fieldName, fieldType);
+            } else {
+                setMethod = cache.getSetMethod(resultBean, fieldName, fieldValue.getClass());
+            }
+            
+            try {
+                setMethod.invoke(resultBean, fieldValue);
+                
+            } catch(final Exception e) {
+                throw new SuperCsvReflectionException(String.format("error invoking method %s()", setMethod.getName()), e);
+            }
+        }
+        
+    }
+    
+    /**
+     * 生成された{@link BeanAccessor}を使用して、フィールドに値を設定する。
+     */
+    private void setValueWithAccessor(final BeanAccessor<T> beanAccessor, final T resultBean,
+            final String fieldName, final Object fieldValue) {
+        
+        try {
+            beanAccessor.setValue(resultBean, fieldName, fieldValue);
+            
+        } catch(final RuntimeException e) {
+            throw new SuperCsvReflectionException(String.format("error setting value of field %s", fieldName), e);
+        }
+    }
+    
     /**
      * Beanのマッピング情報をキャッシュするクラスを取得します。
      * @return Beanのマッピング情報をキャッシュするクラス
@@ -424,6 +787,53 @@ public abstract class AbstractCsvAnnotationBeanReader<T> extends AbstractCsvRead
         return errorMessages;
     }
     
+    /**
+     * 処理中に発生した例外をエラーメッセージに変換するかどうかを取得します。
+     * 
+     * @since 2.5
+     * @return {@literal true}の場合、変換します。デフォルトは{@literal true}です。
+     */
+    public boolean isFormatErrorMessages() {
+        return formatErrorMessages;
+    }
+    
+    /**
+     * 処理中に発生した例外をエラーメッセージに変換するかどうかを設定します。
+     * <p>{@literal false}の場合、{@link #getErrorMessages()}にメッセージは追加されません。
+     *   <br>例外から後でエラー情報を取得する場合など、メッセージのフォーマット処理が不要なときに設定します。
+     * </p>
+     * 
+     * @since 2.5
+     * @param formatErrorMessages {@literal true}の場合、変換します。
+     */
+    public void setFormatErrorMessages(boolean formatErrorMessages) {
+        this.formatErrorMessages = formatErrorMessages;
+    }
+    
+    /**
+     * エラー情報をJSON Lines形式で出力するクラスを取得します。
+     * 
+     * @since 2.5
+     * @return 設定していない場合は{@literal null}。
+     */
+    public CsvErrorJsonLinesWriter getErrorJsonLinesWriter() {
+        return errorJsonLinesWriter;
+    }
+    
+    /**
+     * エラー情報をJSON Lines形式で出力するクラスを設定します。
+     * <p>レコードの値のエラーや、カラム数、見出しのエラーが発生するたびに出力します。
+     *   <br>メッセージのフォーマットは不要なため、{@link #setFormatErrorMessages(boolean)}と組み合わせて使用します。
+     * </p>
+     * <p>出力先は、このインスタンスをクローズしてもクローズされません。</p>
+     * 
+     * @since 2.5
+     * @param errorJsonLinesWriter エラー情報の出力先。{@literal null}の場合は出力しません。
+     */
+    public void setErrorJsonLinesWriter(CsvErrorJsonLinesWriter errorJsonLinesWriter) {
+        this.errorJsonLinesWriter = errorJsonLinesWriter;
+    }
+    
     /**
      * 処理中に発生した例外をメッセージに変換するクラスを取得します。
      * @return 
@@ -21,6 +21,7 @@ import org.supercsv.prefs.CsvPreference;
 import org.supercsv.util.CsvContext;
 import org.supercsv.util.MethodCache;
 
+import com.github.mygreen.supercsv.builder.BeanAccessor;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.CallbackMethod;
 import com.github.mygreen.supercsv.builder.ColumnMapping;
@@ -213,6 +214,8 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
         
         beanValues.clear();
         
+        final BeanAccessor<T> beanAccessor = beanMappingCache.getBeanAccessor();
+        
         for( int i = 0; i < nameMapping.length; i++ ) {
             
             final String fieldName = nameMapping[i];
@@ -220,6 +223,15 @@ public abstract class AbstractCsvAnnotationBeanWriter<T> extends AbstractCsvWrit
             if( fieldName == null ) {
                 beanValues.add(null); // assume they always want a blank column
                 
+            } else if(beanAccessor != null) {
+                try {
+                    beanValues.add(beanAccessor.getValue(beanAccessor.getBeanType().cast(source), fieldName));
+                }
+                catch(final RuntimeException e) {
+                    throw new SuperCsvReflectionException(String.format("error extracting bean value for field %s",
+                        fieldName), e);
+                }
+                
             } else {
                 Method getMethod = cache.getGetMethod(source, fieldName);
                 try {
@@ -0,0 +1,674 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.annotation.constraint.CsvUnique;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUniqueHashCode;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
+import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
+import com.github.mygreen.supercsv.localization.MessageBuilder;
+import com.github.mygreen.supercsv.util.ArgUtils;
+import com.github.mygreen.supercsv.validation.CsvBindingErrors;
+import com.github.mygreen.supercsv.validation.CsvError;
+import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
+import com.github.mygreen.supercsv.validation.CsvFieldError;
+import com.github.mygreen.supercsv.validation.CsvValidator;
+
+/**
+ * 1つの大きなファイルを複数の範囲に分割し、並列に読み込むための抽象クラス。
+ * <p>分割した範囲ごとに、{@link AbstractCsvAnnotationBeanReader}の読み込み処理を別スレッドで実行します。
+ *   <br>Beanのマッピング情報 {@link BeanMapping} は、全ての範囲で共有します。
+ * </p>
+ * <p>各範囲の読み込み結果は、ファイルの先頭から順に統合（マージ）します。
+ *   <br>範囲ごとの読み込みでは、行番号とレコード番号は範囲の先頭からの値となるため、
+ *   統合時に前の範囲までの行数とレコード数を加算して、ファイル全体での値に補正します。
+ *   <br>エラーメッセージへの変換は、補正後に統合するスレッドで行います。
+ * </p>
+ * <p>{@link BeanMapping}を共有するため、{@literal @CsvBean(listeners=...)}で指定したリスナークラスのインスタンスも、
+ *    全ての範囲で共有します。リスナークラスは{@link com.github.mygreen.supercsv.builder.BeanFactory}から取得するため、
+ *    通常はシングルトンとなります。
+ *    <br>そのため、リスナークラスの{@literal @CsvPreRead}、{@literal @CsvPostRead}などのコールバックメソッドは、
+ *    複数のスレッドから同時に呼び出されます。リスナークラスは、Validatorと同様にスレッドセーフである必要があります。
+ *    <br>{@literal @CsvBean(validators=...)}で指定したValidatorも同様です。
+ *    なお、Beanクラス自身に定義したコールバックメソッドは、レコードごとのインスタンスに対して呼び出されます。
+ * </p>
+ * <p>レコードをまたがって値を検証する {@link CsvUnique}、{@link CsvUniqueHashCode} は、
+ *    範囲ごとに並列に処理できないため、サポートしていません。
+ * </p>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public abstract class AbstractParallelCsvAnnotationBeanReader<T> {
+
+    /**
+     * 1つの範囲のデフォルトのサイズ（バイト）。
+     */
+    public static final long DEFAULT_SPLIT_SIZE = 64L * 1024L * 1024L;
+
+    /** Beanのマッピング情報 */
+    protected final BeanMapping<T> beanMapping;
+
+    /** 読み込み対象のファイル */
+    protected final Path file;
+
+    /** ファイルの文字コード */
+    protected final Charset charset;
+
+    /** exception converter. */
+    protected CsvExceptionConverter exceptionConverter = new CsvExceptionConverter();
+
+    /** processing error messages. */
+    protected final List<String> errorMessages = new ArrayList<>();
+
+    /** validator */
+    protected final List<CsvValidator<T>> validators = new ArrayList<>();
+
+    /** エラー情報をJSON Lines形式で出力する。nullの場合は出力しない。 */
+    protected CsvErrorJsonLinesWriter errorJsonLinesWriter;
+
+    /** 並列に処理するスレッド数 */
+    private int parallelism = Runtime.getRuntime().availableProcessors();
+
+    /** 1つの範囲のサイズ（バイト） */
+    private long splitSize = DEFAULT_SPLIT_SIZE;
+
+    /** 外部から指定されたスレッドプール */
+    private ExecutorService executorService;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param beanMapping Beanのマッピング情報
+     * @param file 読み込み対象のファイル
+     * @param charset ファイルの文字コード
+     * @throws NullPointerException {@literal if beanMapping or file or charset are null.}
+     * @throws SuperCsvInvalidAnnotationException 並列に処理できないアノテーションが付与されている場合。
+     */
+    protected AbstractParallelCsvAnnotationBeanReader(final BeanMapping<T> beanMapping, final Path file, final Charset charset) {
+
+        Objects.requireNonNull(beanMapping, "beanMapping should not be null.");
+        Objects.requireNonNull(file, "file should not be null.");
+        Objects.requireNonNull(charset, "charset should not be null.");
+
+        validateBeanMapping(beanMapping);
+
+        this.beanMapping = beanMapping;
+        this.file = file;
+        this.charset = charset;
+        this.validators.addAll(beanMapping.getValidators());
+    }
+
+    /**
+     * 範囲ごとに並列に処理できるマッピング情報か検証する。
+     * @param beanMapping Beanのマッピング情報
+     * @throws SuperCsvInvalidAnnotationException 並列に処理できないアノテーションが付与されている場合。
+     */
+    private static void validateBeanMapping(final BeanMapping<?> beanMapping) {
+
+        for(ColumnMapping column : beanMapping.getColumns()) {
+            if(column.getField() == null) {
+                continue;
+            }
+
+            for(Class<? extends Annotation> annoClass : Arrays.asList(CsvUnique.class, CsvUniqueHashCode.class)) {
+                if(column.getField().hasAnnotationByGroup(annoClass, beanMapping.getGroups())) {
+                    throw new SuperCsvInvalidAnnotationException(MessageBuilder.create("parallel.notSupportedAnno")
+                            .var("property", column.getField().getNameWithClass())
+                            .varWithAnno("anno", annoClass)
+                            .format());
+                }
+            }
+        }
+
+    }
+
+    /**
+     * ファイルを範囲に分割します。
+     *
+     * @param splitCount 分割数
+     * @param executor 並列に処理するためのスレッドプール
+     * @return 分割した範囲。ファイルの先頭から順に格納します。
+     * @throws IOException ファイルの読み込みに失敗した場合。
+     */
+    protected abstract List<CsvFileSplitter.Range> split(int splitCount, ExecutorService executor) throws IOException;
+
+    /**
+     * 範囲を読み込むための {@link AbstractCsvAnnotationBeanReader} を作成します。
+     *
+     * @param range 読み込む範囲
+     * @return 範囲を読み込むReaderのインスタンス。
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    protected abstract AbstractCsvAnnotationBeanReader<T> createRangeReader(CsvFileSplitter.Range range) throws IOException;
+
+    /**
+     * レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     * <p>レコード処理中に例外が発生した場合、その時点で処理を終了します。</p>
+     *
+     * @return 読み込んだレコード情報。ファイルの先頭からの順序となります。
+     *
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvNoMatchColumnSizeException レコードのカラムサイズに問題がある場合
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    public List<T> readAll() throws IOException {
+        return readAll(false);
+    }
+
+    /**
+     * レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     *
+     * @param continueOnError レコードの処理中に、
+     *        例外{@link SuperCsvNoMatchColumnSizeException}、{@link SuperCsvNoMatchHeaderException}、{@link SuperCsvBindingException}
+     *        が発生しても続行するかどう指定します。
+     *        trueの場合、例外が発生しても、次の処理を行います。
+     * @return 読み込んだレコード情報。ファイルの先頭からの順序となります。
+     *
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvNoMatchColumnSizeException レコードのカラムサイズに問題がある場合
+     * @throws SuperCsvBindingException セルの値に問題がある場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    public List<T> readAll(final boolean continueOnError) throws IOException {
+
+        final List<T> list = new ArrayList<>();
+        execute(continueOnError, new MergeHandler<T>() {
+
+            @Override
+            public void onSuccess(final T record) {
+                list.add(record);
+            }
+
+            @Override
+            public boolean onError(final SuperCsvException exception, final boolean fatal) {
+                if(fatal || !continueOnError) {
+                    throw exception;
+                }
+                return true;
+            }
+        });
+
+        return list;
+    }
+
+    /**
+     * 成功時、例外発生時の処理を指定して、レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     * <p>各処理は、ファイルの先頭からの順序で、このメソッドを呼び出したスレッドで実行されます。</p>
+     * <p>レコードのカラムサイズや値の問題以外の例外が発生した場合は、例外発生時の処理を呼び出した後に、処理を終了します。</p>
+     *
+     * @param successHandler 読み込み成功時の処理の実装。
+     * @param errorHandler CSVに関する例外発生時の処理の実装。
+     * @throws NullPointerException {@literal successHandler or errorHandler is null.}
+     * @throws IOException 致命的なレコードの読み込みに失敗した場合にスローされます。
+     */
+    public void readAll(final CsvSuccessHandler<T> successHandler, final CsvErrorHandler errorHandler) throws IOException {
+
+        Objects.requireNonNull(successHandler, "successHandler should not be null.");
+        Objects.requireNonNull(errorHandler, "errorHandler should not be null.");
+
+        execute(true, new MergeHandler<T>() {
+
+            @Override
+            public void onSuccess(final T record) {
+                successHandler.onSuccess(record);
+            }
+
+            @Override
+            public boolean onError(final SuperCsvException exception, final boolean fatal) {
+                errorHandler.onError(exception);
+                return !fatal;
+            }
+        });
+
+    }
+
+    /**
+     * 範囲ごとに並列に読み込み、結果を先頭から順に統合する。
+     * @param continueOnError 範囲の読み込み中に例外が発生しても続行するかどうか。
+     * @param handler 統合した結果を処理するハンドラ。
+     */
+    private void execute(final boolean continueOnError, final MergeHandler<T> handler) throws IOException {
+
+        final ExecutorService executor = executorService != null ? executorService
+                : Executors.newFixedThreadPool(parallelism, new WorkerThreadFactory());
+
+        final Deque<Future<RangeResult>> inflight = new ArrayDeque<>();
+        try {
+            final long size = Files.size(file);
+            final int splitCount = (int)Math.max(parallelism, Math.min(Integer.MAX_VALUE, (size + splitSize - 1L) / splitSize));
+            final List<CsvFileSplitter.Range> ranges = split(splitCount, executor);
+
+            // 処理待ちの範囲の結果を保持するため、同時に処理する範囲の数を制限する
+            final int maxInflight = parallelism * 2;
+            int nextIndex = 0;
+            int lineOffset = 0;
+            int rowOffset = 0;
+
+            for(int i=0; i < ranges.size(); i++) {
+
+                while(nextIndex < ranges.size() && inflight.size() < maxInflight) {
+                    final CsvFileSplitter.Range range = ranges.get(nextIndex++);
+                    inflight.add(executor.submit(() -> readRange(range, continueOnError)));
+                }
+
+                final RangeResult result = await(inflight.poll());
+                for(Object item : result.items) {
+                    if(item instanceof Failure) {
+                        final Failure failure = (Failure) item;
+                        final SuperCsvException exception = relocate(failure.exception, lineOffset, rowOffset);
+                        addErrorMessages(exception);
+                        if(errorJsonLinesWriter != null) {
+                            errorJsonLinesWriter.write(exception, beanMapping, exceptionConverter, failure.untokenizedRow);
+                        }
+                        if(!handler.onError(exception, failure.fatal)) {
+                            return;
+                        }
+
+                    } else {
+                        @SuppressWarnings("unchecked")
+                        final T record = (T) item;
+                        handler.onSuccess(record);
+                    }
+                }
+
+                lineOffset += result.lineCount;
+                rowOffset += result.rowCount;
+            }
+
+        } finally {
+            for(Future<RangeResult> future : inflight) {
+                future.cancel(true);
+            }
+
+            if(executor != executorService) {
+                executor.shutdownNow();
+            }
+        }
+
+    }
+
+    /**
+     * 1つの範囲を読み込む。
+     * <p>ワーカースレッドで実行される。</p>
+     * @param range 読み込む範囲
+     * @param continueOnError 例外が発生しても続行するかどうか。
+     * @return 読み込んだ結果。
+     */
+    private RangeResult readRange(final CsvFileSplitter.Range range, final boolean continueOnError) throws IOException {
+
+        final RangeResult result = new RangeResult();
+        try(AbstractCsvAnnotationBeanReader<T> reader = createRangeReader(range)) {
+
+            // メッセージは、行番号を補正した後に統合時に変換する。
+            reader.setFormatErrorMessages(false);
+            reader.setExceptionConverter(exceptionConverter);
+            reader.getValidators().clear();
+            reader.getValidators().addAll(validators);
+
+            if(range.getIndex() == 0 && beanMapping.isHeader()) {
+                try {
+                    reader.getHeader(true);
+
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
+                    result.items.add(new Failure(e, false, reader.getUntokenizedRow()));
+                    if(!continueOnError) {
+                        return result;
+                    }
+                }
+            }
+
+            while(!Thread.currentThread().isInterrupted()) {
+                try {
+                    final T record = reader.read();
+                    if(record == null) {
+                        break;
+                    }
+                    result.items.add(record);
+
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                    result.items.add(new Failure(e, false, reader.getUntokenizedRow()));
+                    if(!continueOnError) {
+                        break;
+                    }
+
+                } catch(SuperCsvException e) {
+                    result.items.add(new Failure(e, true, reader.getUntokenizedRow()));
+                    break;
+                }
+            }
+
+            result.lineCount = reader.getLineNumber();
+            result.rowCount = reader.getRowNumber();
+        }
+
+        return result;
+    }
+
+    /**
+     * 範囲内の行番号、レコード番号を、ファイル全体での値に補正する。
+     * @param exception 補正対象の例外
+     * @param lineOffset 前の範囲までの行数
+     * @param rowOffset 前の範囲までのレコード数
+     * @return 補正した例外
+     */
+    private SuperCsvException relocate(final SuperCsvException exception, final int lineOffset, final int rowOffset) {
+
+        if(lineOffset == 0 && rowOffset == 0) {
+            return exception;
+        }
+
+        relocate(exception.getCsvContext(), lineOffset, rowOffset);
+
+        if(exception instanceof SuperCsvBindingException) {
+            final SuperCsvBindingException bindingException = (SuperCsvBindingException) exception;
+            for(SuperCsvException processingError : bindingException.getProcessingErrors()) {
+                relocate(processingError.getCsvContext(), lineOffset, rowOffset);
+            }
+
+            final CsvBindingErrors bindingErrors = bindingException.getBindingErrors();
+            final List<CsvError> errors = bindingErrors.getAllErrors().stream()
+                    .map(error -> relocate(error, lineOffset, rowOffset))
+                    .collect(Collectors.toList());
+            bindingErrors.clearAllErrors();
+            bindingErrors.addAllErrors(errors);
+        }
+
+        return exception;
+    }
+
+    /**
+     * 例外をメッセージに変換して、エラーメッセージに追加する。
+     * <p>{@link SuperCsvBindingException}の場合は、順次読み込む場合と同様に、保持しているエラー情報を変換する。</p>
+     * @param exception 変換対象の例外
+     */
+    private void addErrorMessages(final SuperCsvException exception) {
+
+        if(exception instanceof SuperCsvBindingException) {
+            ((SuperCsvBindingException) exception).getBindingErrors().getAllErrors().stream()
+                .map(error -> error.format(exceptionConverter.getMessageResolver(), exceptionConverter.getMessageInterpolator()))
+                .forEach(errorMessages::add);
+
+        } else {
+            errorMessages.addAll(exceptionConverter.convertAndFormat(exception, beanMapping));
+        }
+    }
+
+    private void relocate(final CsvContext context, final int lineOffset, final int rowOffset) {
+        if(context == null) {
+            return;
+        }
+
+        context.setLineNumber(context.getLineNumber() + lineOffset);
+        context.setRowNumber(context.getRowNumber() + rowOffset);
+    }
+
+    private CsvError relocate(final CsvError error, final int lineOffset, final int rowOffset) {
+
+        final Map<String, Object> variables = new HashMap<>(error.getVariables());
+        shiftVariable(variables, "lineNumber", lineOffset);
+        shiftVariable(variables, "rowNumber", rowOffset);
+
+        if(error instanceof CsvFieldError) {
+            final CsvFieldError fieldError = (CsvFieldError) error;
+            return new CsvFieldError(fieldError.getObjectName(), fieldError.getField(), fieldError.isProcessingFailure(),
+                    fieldError.getCodes(), variables, fieldError.getDefaultMessage());
+        }
+
+        return new CsvError(error.getObjectName(), error.getCodes(), variables, error.getDefaultMessage());
+    }
+
+    private void shiftVariable(final Map<String, Object> variables, final String key, final int offset) {
+        final Object value = variables.get(key);
+        if(value instanceof Integer) {
+            variables.put(key, (Integer)value + offset);
+        }
+    }
+
+    private RangeResult await(final Future<RangeResult> future) throws IOException {
+        try {
+            return future.get();
+
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while reading file.", e);
+
+        } catch(ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if(cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if(cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 統合した結果を処理するハンドラ。
+     */
+    private interface MergeHandler<T> {
+
+        void onSuccess(T record);
+
+        /**
+         * @return falseの場合、処理を終了する。
+         */
+        boolean onError(SuperCsvException exception, boolean fatal);
+    }
+
+    /**
+     * 1つの範囲の読み込み結果。
+     */
+    private static final class RangeResult {
+
+        /** 読み込んだBean、または、{@link Failure} */
+        private final List<Object> items = new ArrayList<>();
+
+        /** 範囲内の行数 */
+        private int lineCount;
+
+        /** 範囲内のレコード数 */
+        private int rowCount;
+
+    }
+
+    /**
+     * レコードの読み込み時に発生した例外。
+     */
+    private static final class Failure {
+
+        private final SuperCsvException exception;
+
+        /** 続行できない例外かどうか */
+        private final boolean fatal;
+
+        /** 例外が発生したレコードの分解前の値 */
+        private final String untokenizedRow;
+
+        private Failure(final SuperCsvException exception, final boolean fatal, final String untokenizedRow) {
+            this.exception = exception;
+            this.fatal = fatal;
+            this.untokenizedRow = untokenizedRow;
+        }
+    }
+
+    /**
+     * デーモンスレッドを作成するファクトリ。
+     */
+    private static final class WorkerThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable r) {
+            final Thread thread = new Thread(r, "super-csv-parallel-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * エラーメッセージを取得します。
+     * @return 処理中に発生した例外をメッセージに変換したもの。行番号はファイル全体での値となります。
+     */
+    public List<String> getErrorMessages() {
+        return errorMessages;
+    }
+
+    /**
+     * エラー情報をJSON Lines形式で出力するクラスを取得します。
+     * @return 設定していない場合は{@literal null}。
+     */
+    public CsvErrorJsonLinesWriter getErrorJsonLinesWriter() {
+        return errorJsonLinesWriter;
+    }
+
+    /**
+     * エラー情報をJSON Lines形式で出力するクラスを設定します。
+     * <p>エラー情報は、範囲の結果を統合するときに、ファイルの先頭からの順序で出力します。</p>
+     * @param errorJsonLinesWriter エラー情報の出力先。{@literal null}の場合は出力しません。
+     */
+    public void setErrorJsonLinesWriter(CsvErrorJsonLinesWriter errorJsonLinesWriter) {
+        this.errorJsonLinesWriter = errorJsonLinesWriter;
+    }
+
+    /**
+     * 処理中に発生した例外をメッセージに変換するクラスを取得します。
+     * @return 例外をメッセージに変換するクラス。
+     */
+    public CsvExceptionConverter getExceptionConverter() {
+        return exceptionConverter;
+    }
+
+    /**
+     * 処理中に発生した例外をメッセージに変換するクラスを設定します。
+     * <p>複数のスレッドから参照されるため、スレッドセーフである必要があります。</p>
+     * @param exceptionConverter 独自にカスタマイズした値を設定します。
+     */
+    public void setExceptionConverter(CsvExceptionConverter exceptionConverter) {
+        this.exceptionConverter = exceptionConverter;
+    }
+
+    /**
+     * レコードの値を検証するValidatorを追加します。
+     * <p>複数のスレッドから同時に呼び出されるため、スレッドセーフである必要があります。</p>
+     * @param validators {@link CsvValidator}の実装クラスを設定します。
+     */
+    @SuppressWarnings("unchecked")
+    public void addValidator(CsvValidator<T>... validators) {
+        this.validators.addAll(Arrays.asList(validators));
+    }
+
+    /**
+     * レコードの値を検証するValidatorを取得します。
+     * @return {@link CsvValidator}の実装クラスを設定します。
+     */
+    public List<CsvValidator<T>> getValidators() {
+        return validators;
+    }
+
+    /**
+     * Beanのマッピング情報を取得します。
+     * @return Beanのマッピング情報
+     */
+    public BeanMapping<T> getBeanMapping() {
+        return beanMapping;
+    }
+
+    /**
+     * 並列に処理するスレッド数を取得します。
+     * @return 並列に処理するスレッド数。デフォルトは、利用可能なプロセッサ数です。
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * 並列に処理するスレッド数を設定します。
+     * @param parallelism 並列に処理するスレッド数。
+     * @throws IllegalArgumentException {@literal parallelism < 1}
+     */
+    public void setParallelism(int parallelism) {
+        ArgUtils.notMin(parallelism, 1, "parallelism");
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * 1つの範囲のサイズを取得します。
+     * @return 1つの範囲のサイズ（バイト）。デフォルトは、{@value #DEFAULT_SPLIT_SIZE}です。
+     */
+    public long getSplitSize() {
+        return splitSize;
+    }
+
+    /**
+     * 1つの範囲のサイズを設定します。
+     * <p>ファイルは、このサイズ、または、並列に処理するスレッド数の多い方で分割されます。
+     *   <br>統合待ちの範囲の読み込み結果はメモリ上に保持されるため、小さくすると使用するメモリ量を抑えることができます。
+     * </p>
+     * @param splitSize 1つの範囲のサイズ（バイト）。
+     * @throws IllegalArgumentException {@literal splitSize < 1}
+     */
+    public void setSplitSize(long splitSize) {
+        ArgUtils.notMin(splitSize, 1L, "splitSize");
+        this.splitSize = splitSize;
+    }
+
+    /**
+     * 並列に処理するためのスレッドプールを取得します。
+     * @return 設定されていない場合は、{@literal null}を返します。
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * 並列に処理するためのスレッドプールを設定します。
+     * <p>設定しない場合は、読み込み処理ごとに{@link #getParallelism()}のスレッド数のスレッドプールを作成し、終了時に破棄します。
+     *   <br>設定したスレッドプールは、読み込みの終了時に破棄しません。
+     * </p>
+     * @param executorService 並列に処理するためのスレッドプール。
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+}
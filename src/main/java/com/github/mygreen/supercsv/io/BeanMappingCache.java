@@ -2,6 +2,7 @@ package com.github.mygreen.supercsv.io;
 
 import org.supercsv.cellprocessor.ift.CellProcessor;
 
+import com.github.mygreen.supercsv.builder.BeanAccessor;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 
 
@@ -25,6 +26,8 @@ public class BeanMappingCache<T> {
     
     private CellProcessor[] cellProcessorsForWriting;
     
+    private BeanAccessor<T> beanAccessor;
+    
     private BeanMappingCache(final BeanMapping<T> beanMapping) {
         this.beanMapping = beanMapping;
     }
@@ -37,6 +40,7 @@ public class BeanMappingCache<T> {
         cache.nameMapping = beanMapping.getNameMapping();
         cache.cellProcessorsForReading = beanMapping.getCellProcessorsForReading();
         cache.cellProcessorsForWriting = beanMapping.getCellProcessorsForWriting();
+        cache.beanAccessor = beanMapping.getBeanAccessor().orElse(null);
         
         return cache;
     }
@@ -66,4 +70,13 @@ public class BeanMappingCache<T> {
         return cellProcessorsForWriting;
     }
     
+    /**
+     * アノテーションプロセッサにより生成された、Beanにアクセスするためのクラスを取得します。
+     * @since 2.5
+     * @return 生成されたクラスが存在しない場合は、{@literal null}を返します。
+     */
+    public BeanAccessor<T> getBeanAccessor() {
+        return beanAccessor;
+    }
+    
 }
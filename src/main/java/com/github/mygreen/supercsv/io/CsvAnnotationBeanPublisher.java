@@ -0,0 +1,266 @@
+package com.github.mygreen.supercsv.io;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
+
+/**
+ * {@link AbstractCsvAnnotationBeanReader}から、購読者の要求に応じてレコードを読み込み、通知する発行者。
+ * <p>購読者が{@link CsvFlow.Subscription#request(long)}で要求した件数分だけ、レコードを読み込みます。
+ *   <br>先読みはしないため、購読者の処理が遅い場合でも、読み込んだレコードがメモリに溜まることはありません。
+ * </p>
+ * <p>読み込みと通知は、指定した{@link Executor}で実行します。要求したスレッドでは読み込みません。
+ *   <br>購読の開始時に、{@link AbstractCsvAnnotationBeanReader#processHeader(CsvErrorPolicy)}でヘッダー行を処理します。
+ * </p>
+ * <p>Readerは状態を持つため、購読できるのは1回のみです。2回目以降の購読は、{@link IllegalStateException}が通知されます。
+ *   <br>終了時にReaderはクローズしません。購読者の{@link CsvFlow.Subscriber#onComplete()}などで、クローズしてください。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * CsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader = new CsvAnnotationBeanReader&lt;&gt;(
+ *         SampleCsv.class, Files.newBufferedReader(csvFile), CsvPreference.STANDARD_PREFERENCE);
+ *
+ * csvReader.publisher(executor, CsvErrorPolicy.maxErrors(100))
+ *     .subscribe(subscriber);
+ * </code></pre>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvAnnotationBeanPublisher<T> implements CsvFlow.Publisher<T> {
+
+    private final AbstractCsvAnnotationBeanReader<T> reader;
+
+    private final Executor executor;
+
+    /** エラーの許容範囲。nullの場合は、最初のエラーで終了する。 */
+    private final CsvErrorPolicy errorPolicy;
+
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+    /**
+     * 発行者を作成します。
+     * @param reader レコードを読み込むReader。
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param errorPolicy エラーの許容範囲。{@literal null}の場合は、最初のエラーで終了します。
+     * @throws NullPointerException {@literal reader or executor is null.}
+     */
+    public CsvAnnotationBeanPublisher(final AbstractCsvAnnotationBeanReader<T> reader, final Executor executor,
+            final CsvErrorPolicy errorPolicy) {
+        Objects.requireNonNull(reader, "reader should not be null.");
+        Objects.requireNonNull(executor, "executor should not be null.");
+
+        this.reader = reader;
+        this.executor = executor;
+        this.errorPolicy = errorPolicy;
+    }
+
+    @Override
+    public void subscribe(final CsvFlow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber should not be null.");
+
+        if(!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new CsvFlow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                    // ignore
+                }
+
+                @Override
+                public void cancel() {
+                    // ignore
+                }
+            });
+            subscriber.onError(new IllegalStateException("the publisher can be subscribed only once."));
+            return;
+        }
+
+        final ReadSubscription subscription = new ReadSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    /**
+     * 要求に応じて、レコードを読み込み通知する購読の制御。
+     * <p>読み込み処理は、同時に1つのスレッドのみが実行するよう、実行中の要求の件数{@link #wip}で制御します。</p>
+     */
+    private class ReadSubscription implements CsvFlow.Subscription, Runnable {
+
+        private final CsvFlow.Subscriber<? super T> subscriber;
+
+        /** 未通知の要求件数 */
+        private final AtomicLong demand = new AtomicLong();
+
+        /** 読み込み処理の実行要求の件数 */
+        private final AtomicInteger wip = new AtomicInteger();
+
+        private volatile boolean cancelled;
+
+        /** 終了を通知したかどうか。読み込み処理のスレッドからのみ参照する。 */
+        private boolean done;
+
+        /** ヘッダー行を処理したかどうか。読み込み処理のスレッドからのみ参照する。 */
+        private boolean started;
+
+        /** 0以下の件数が要求されたときの例外 */
+        private volatile IllegalArgumentException invalidRequest;
+
+        private ReadSubscription(final CsvFlow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(final long n) {
+
+            if(n <= 0L) {
+                this.invalidRequest = new IllegalArgumentException(String.format("request should be positive. but '%d'.", n));
+            } else {
+                addDemand(n);
+            }
+
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        private void addDemand(final long n) {
+            long current;
+            long next;
+            do {
+                current = demand.get();
+                if(current == Long.MAX_VALUE) {
+                    return;
+                }
+                next = current + n;
+                if(next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+            } while(!demand.compareAndSet(current, next));
+        }
+
+        private void schedule() {
+            if(wip.getAndIncrement() == 0) {
+                try {
+                    executor.execute(this);
+                } catch(RuntimeException e) {
+                    // 実行できない場合は、通知して終了する
+                    this.cancelled = true;
+                    subscriber.onError(e);
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+
+            int missed = 1;
+            while(true) {
+                if(!drain()) {
+                    return;
+                }
+
+                missed = wip.addAndGet(-missed);
+                if(missed == 0) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * 要求件数分のレコードを読み込み、通知します。
+         * @return 続けて要求を受け付ける場合は{@literal true}。終了した場合は{@literal false}。
+         */
+        private boolean drain() {
+
+            if(done) {
+                return false;
+            }
+
+            try {
+                if(!started) {
+                    this.started = true;
+                    if(errorPolicy != null) {
+                        errorPolicy.reset();
+                    }
+                    reader.processHeader(errorPolicy);
+                }
+
+                long requested = demand.get();
+                long emitted = 0L;
+
+                while(true) {
+                    if(cancelled) {
+                        this.done = true;
+                        return false;
+                    }
+
+                    if(invalidRequest != null) {
+                        this.done = true;
+                        subscriber.onError(invalidRequest);
+                        return false;
+                    }
+
+                    if(emitted == requested) {
+                        if(requested != Long.MAX_VALUE) {
+                            requested = demand.addAndGet(-emitted);
+                        }
+                        emitted = 0L;
+                        if(requested == 0L) {
+                            return true;
+                        }
+                    }
+
+                    final T record;
+                    try {
+                        record = reader.read();
+
+                    } catch(SuperCsvNoMatchColumnSizeException | SuperCsvBindingException e) {
+                        reader.checkErrorPolicy(errorPolicy, e);
+                        continue;
+                    }
+
+                    if(record == null) {
+                        this.done = true;
+                        subscriber.onComplete();
+                        return false;
+                    }
+
+                    if(errorPolicy != null) {
+                        errorPolicy.record(false);
+                    }
+
+                    try {
+                        subscriber.onNext(record);
+                    } catch(Throwable e) {
+                        // 購読者自身の例外は、購読者には通知せずに購読を中止する(Reactive Streams §2.13)
+                        this.cancelled = true;
+                        this.done = true;
+                        return false;
+                    }
+                    emitted++;
+                }
+
+            } catch(Throwable e) {
+                if(done) {
+                    // onComplete/onErrorで購読者がスローした例外は、購読者には通知しない
+                    return false;
+                }
+
+                // 許容範囲を超えたエラー(SuperCsvErrorPolicyException)や、IOExceptionなどは、そのまま通知する
+                this.done = true;
+                subscriber.onError(e);
+                return false;
+            }
+        }
+    }
+
+}
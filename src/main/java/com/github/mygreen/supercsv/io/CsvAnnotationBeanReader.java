@@ -3,9 +3,13 @@ package com.github.mygreen.supercsv.io;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.io.ITokenizer;
@@ -14,6 +18,7 @@ import org.supercsv.prefs.CsvPreference;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.BeanMappingFactory;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
 
@@ -21,7 +26,7 @@ import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
  * アノテーションを元にCSVファイルを読み込むためのクラス。
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
- * @version 2.１
+ * @version 2.5
  * @author T.TSUCHIE
  *
  */
@@ -107,6 +112,106 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
         this.validators.addAll(beanMapping.getValidators());
     }
     
+    /**
+     * Beanのクラスタイプを指定して、メモリにマッピングしたファイルから読み込む{@link CsvAnnotationBeanReader}を作成します。
+     * <p>{@link MappedFileReader}を使用して、マッピングしたバッファから直接デコードして読み込みます。
+     *   <br>行番号やコメント行の読み飛ばし、クォートの扱いなどは、{@link Reader}を指定した場合と同じです。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @param beanType Beanのクラスタイプ。
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param preference the CSV preferences.
+     * @param groups グループ情報。適用するアノテーションを切り替える際に指定します。
+     * @return {@link CsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal if beanType or file or charset or preferences are null.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    public static <T> CsvAnnotationBeanReader<T> ofMappedFile(final Class<T> beanType, final Path file, final Charset charset,
+            final CsvPreference preference, final Class<?>... groups) throws IOException {
+        
+        Objects.requireNonNull(beanType, "beanType should not be null.");
+        
+        BeanMappingFactory factory = new BeanMappingFactory();
+        return ofMappedFile(factory.create(beanType, groups), file, charset, preference);
+    }
+    
+    /**
+     * Beanのマッピング情報を指定して、メモリにマッピングしたファイルから読み込む{@link CsvAnnotationBeanReader}を作成します。
+     * <p>{@link MappedFileReader}を使用して、マッピングしたバッファから直接デコードして読み込みます。
+     *   <br>行番号やコメント行の読み飛ばし、クォートの扱いなどは、{@link Reader}を指定した場合と同じです。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @param beanMapping Beanのマッピング情報。
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param preference the CSV preferences.
+     * @return {@link CsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal if beanMapping or file or charset or preferences are null.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    public static <T> CsvAnnotationBeanReader<T> ofMappedFile(final BeanMapping<T> beanMapping, final Path file, final Charset charset,
+            final CsvPreference preference) throws IOException {
+        
+        Objects.requireNonNull(beanMapping, "beanMapping should not be null.");
+        Objects.requireNonNull(preference, "preference should not be null.");
+        
+        return new CsvAnnotationBeanReader<>(beanMapping, new MappedFileReader(file, charset), preference);
+    }
+    
+    /**
+     * Beanのクラスタイプを指定して、フィールドにマッピングするカラムのみを読み込む{@link CsvAnnotationBeanReader}を作成します。
+     * <p>{@link CsvTokenizer}を使用して、アノテーション{@literal @CsvPartial}で補完したカラムなど、
+     *    マッピングしないカラムは値を作成せずに読み飛ばします。
+     *   <br>クォートの扱いなどは、{@link Reader}を指定した場合と同じです。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @param beanType Beanのクラスタイプ。
+     * @param reader the Reader。
+     * @param preference the CSV preferences.
+     * @param groups グループ情報。適用するアノテーションを切り替える際に指定します。
+     * @return {@link CsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal if beanType or reader or preferences are null.}
+     */
+    public static <T> CsvAnnotationBeanReader<T> ofColumnProjection(final Class<T> beanType, final Reader reader,
+            final CsvPreference preference, final Class<?>... groups) {
+        
+        Objects.requireNonNull(beanType, "beanType should not be null.");
+        
+        BeanMappingFactory factory = new BeanMappingFactory();
+        return ofColumnProjection(factory.create(beanType, groups), reader, preference);
+    }
+    
+    /**
+     * Beanのマッピング情報を指定して、フィールドにマッピングするカラムのみを読み込む{@link CsvAnnotationBeanReader}を作成します。
+     * <p>{@link CsvTokenizer}を使用して、アノテーション{@literal @CsvPartial}で補完したカラムなど、
+     *    マッピングしないカラムは値を作成せずに読み飛ばします。
+     *   <br>クォートの扱いなどは、{@link Reader}を指定した場合と同じです。
+     * </p>
+     * 
+     * @since 2.5
+     * @param <T> マッピング対象のBeanのクラスタイプ
+     * @param beanMapping Beanのマッピング情報。
+     * @param reader the Reader。
+     * @param preference the CSV preferences.
+     * @return {@link CsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal if beanMapping or reader or preferences are null.}
+     */
+    public static <T> CsvAnnotationBeanReader<T> ofColumnProjection(final BeanMapping<T> beanMapping, final Reader reader,
+            final CsvPreference preference) {
+        
+        Objects.requireNonNull(beanMapping, "beanMapping should not be null.");
+        Objects.requireNonNull(preference, "preference should not be null.");
+        
+        return new CsvAnnotationBeanReader<>(beanMapping, new CsvTokenizer(reader, preference, beanMapping), preference);
+    }
+    
     /**
      * {@inheritDoc}
      * 
@@ -128,7 +233,7 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
                 
             } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
                 // convert exception and format to message.
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+                addErrorMessages(e);
                 throw e;
             }
         }
@@ -200,4 +305,73 @@ public class CsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanReader<
         return list;
     }
     
+    /**
+     * エラーの許容範囲を指定して、レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     * <p>例外{@link SuperCsvNoMatchColumnSizeException}、{@link SuperCsvNoMatchHeaderException}、{@link SuperCsvBindingException}
+     *    が発生しても続行し、エラーが許容範囲を超えた時点で処理を終了します。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * // 連続して10件のエラーが発生した場合は中断する
+     * List&lt;SampleCsv&gt; list = csvReader.readAll(CsvErrorPolicy.maxConsecutiveErrors(9));
+     * </code></pre>
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。
+     * 
+     * @throws NullPointerException {@literal errorPolicy is null.}
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    public List<T> readAll(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        errorPolicy.reset();
+        
+        processHeader(errorPolicy);
+        
+        return readAllRecords(errorPolicy);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>ヘッダー行を持つ場合は、{@link #getHeader(boolean)}で読み込み、定義と一致するか検証します。</p>
+     */
+    @Override
+    protected void processHeader(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        if(beanMappingCache.getOriginal().isHeader()) {
+            try {
+                getHeader(true);
+            } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
+                checkErrorPolicy(errorPolicy, e);
+            }
+        }
+    }
+    
+    /**
+     * エラーの許容範囲を指定して、レコードを全て非同期に読み込みます。
+     * <p>{@link #readAll(CsvErrorPolicy)}を、指定した{@link Executor}で実行します。
+     *   <br>Java21以降では、仮想スレッドのExecutorを指定することで、CSVごとにプラットフォームスレッドを占有せずに読み込めます。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * csvReader.readAllAsync(Executors.newVirtualThreadPerTaskExecutor(), CsvErrorPolicy.maxErrors(100))
+     *     .thenAccept(list -&gt; service.register(list));
+     * </code></pre>
+     * <p>読み込みが完了するまでは、このインスタンスを他のスレッドから使用しないでください。</p>
+     * 
+     * @since 2.5
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。{@link IOException}などの例外は、ラップせずに例外として設定されます。
+     * @throws NullPointerException {@literal executor or errorPolicy is null.}
+     */
+    public CompletableFuture<List<T>> readAllAsync(final Executor executor, final CsvErrorPolicy errorPolicy) {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        return executeAsync(executor, () -> readAll(errorPolicy));
+    }
+    
 }
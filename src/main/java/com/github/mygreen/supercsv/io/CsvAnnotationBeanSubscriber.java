@@ -0,0 +1,193 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import org.supercsv.exception.SuperCsvException;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
+import com.github.mygreen.supercsv.util.ArgUtils;
+
+/**
+ * 発行者から受け取ったレコードを、{@link AbstractCsvAnnotationBeanWriter}で書き込む購読者。
+ * <p>指定した件数ずつ発行者に要求し、要求した件数分を書き込むごとに、出力先をフラッシュします。
+ *   <br>そのため、1件ごとにフラッシュせずに済み、また、書き込みが追いつかない件数は要求しません。
+ * </p>
+ * <p>ヘッダー行は書き込みません。必要な場合は、購読する前に{@link CsvAnnotationBeanWriter#writeHeader()}などで書き込んでください。
+ *   <br>終了時にWriterはクローズしません。{@link #getCompletion()}で完了を待ってから、クローズしてください。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * CsvAnnotationBeanSubscriber&lt;SampleCsv&gt; subscriber = new CsvAnnotationBeanSubscriber&lt;&gt;(csvWriter);
+ * publisher.subscribe(subscriber);
+ *
+ * subscriber.getCompletion()
+ *     .whenComplete((result, error) -&gt; csvWriter.close());
+ * </code></pre>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvAnnotationBeanSubscriber<T> implements CsvFlow.Subscriber<T> {
+
+    /**
+     * 一度に要求する件数のデフォルト値。
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private final AbstractCsvAnnotationBeanWriter<T> writer;
+
+    /** 一度に要求する件数。この件数を書き込むごとにフラッシュする。 */
+    private final int batchSize;
+
+    /** エラーの許容範囲。nullの場合は、最初のエラーで終了する。 */
+    private final CsvErrorPolicy errorPolicy;
+
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private CsvFlow.Subscription subscription;
+
+    /** 要求した件数の中で、まだ受け取っていない件数 */
+    private int remaining;
+
+    /**
+     * 一度に要求する件数をデフォルト値{@value #DEFAULT_BATCH_SIZE}として、購読者を作成します。
+     * <p>最初のエラーで、購読を中止して終了します。</p>
+     * @param writer レコードを書き込むWriter。
+     * @throws NullPointerException {@literal writer is null.}
+     */
+    public CsvAnnotationBeanSubscriber(final AbstractCsvAnnotationBeanWriter<T> writer) {
+        this(writer, DEFAULT_BATCH_SIZE, null);
+    }
+
+    /**
+     * 購読者を作成します。
+     * @param writer レコードを書き込むWriter。
+     * @param batchSize 一度に要求する件数。この件数を書き込むごとにフラッシュします。
+     * @param errorPolicy エラーの許容範囲。{@literal null}の場合は、最初のエラーで終了します。
+     * @throws NullPointerException {@literal writer is null.}
+     * @throws IllegalArgumentException {@literal batchSize < 1}
+     */
+    public CsvAnnotationBeanSubscriber(final AbstractCsvAnnotationBeanWriter<T> writer, final int batchSize,
+            final CsvErrorPolicy errorPolicy) {
+        Objects.requireNonNull(writer, "writer should not be null.");
+        ArgUtils.notMin(batchSize, 1, "batchSize");
+
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.errorPolicy = errorPolicy;
+    }
+
+    @Override
+    public void onSubscribe(final CsvFlow.Subscription subscription) {
+        Objects.requireNonNull(subscription, "subscription should not be null.");
+
+        if(this.subscription != null || completion.isDone()) {
+            // 既に購読している場合は、受け付けない
+            subscription.cancel();
+            return;
+        }
+
+        this.subscription = subscription;
+        if(errorPolicy != null) {
+            errorPolicy.reset();
+        }
+
+        this.remaining = batchSize;
+        subscription.request(batchSize);
+    }
+
+    @Override
+    public void onNext(final T item) {
+        Objects.requireNonNull(item, "item should not be null.");
+
+        if(completion.isDone()) {
+            return;
+        }
+
+        try {
+            try {
+                writer.write(item);
+                if(errorPolicy != null) {
+                    errorPolicy.record(false);
+                }
+
+            } catch(SuperCsvBindingException e) {
+                if(errorPolicy == null) {
+                    throw e;
+                }
+
+                if(!errorPolicy.record(true)) {
+                    throw new SuperCsvErrorPolicyException(String.format("errors exceeded the policy : %s", errorPolicy),
+                            e.getCsvContext(), e);
+                }
+            }
+
+            remaining--;
+            if(remaining == 0) {
+                // 要求した件数を書き込んだら、フラッシュして次を要求する
+                writer.flush();
+                this.remaining = batchSize;
+                subscription.request(batchSize);
+            }
+
+        } catch(IOException | SuperCsvException e) {
+            subscription.cancel();
+
+            // 書き込み済みのレコードを出力する
+            try {
+                writer.flush();
+            } catch(IOException flushError) {
+                e.addSuppressed(flushError);
+            }
+
+            completion.completeExceptionally(e);
+        }
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+        Objects.requireNonNull(throwable, "throwable should not be null.");
+
+        if(completion.isDone()) {
+            return;
+        }
+
+        try {
+            writer.flush();
+        } catch(IOException e) {
+            throwable.addSuppressed(e);
+        }
+
+        completion.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+
+        if(completion.isDone()) {
+            return;
+        }
+
+        try {
+            writer.flush();
+            completion.complete(null);
+
+        } catch(IOException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 書き込みの完了を取得します。
+     * <p>書き込みや発行者でエラーが発生した場合は、その例外で完了します。</p>
+     * @return 書き込みの完了。
+     */
+    public CompletableFuture<Void> getCompletion() {
+        return completion;
+    }
+
+}
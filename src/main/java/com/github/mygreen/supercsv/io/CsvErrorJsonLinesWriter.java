@@ -0,0 +1,404 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.validation.CsvBindingErrors;
+import com.github.mygreen.supercsv.validation.CsvError;
+import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
+import com.github.mygreen.supercsv.validation.CsvFieldError;
+
+/**
+ * 読み込み時のエラー情報を、JSON Lines形式で出力するクラス。
+ * <p>1つのエラー情報を、1行のJSONオブジェクトとして、発生するたびに出力します。
+ *   <br>フォーマットしたメッセージを解析せずに、エラーコードやメッセージ変数を参照できます。
+ * </p>
+ * <p>JSONオブジェクトは、次の要素を持ちます。値がない要素は出力しません。</p>
+ * <ul>
+ *   <li>{@literal lineNumber} : 行番号。</li>
+ *   <li>{@literal rowNumber} : レコード番号。</li>
+ *   <li>{@literal columnNumber} : カラム番号。メッセージ変数に含まれる場合のみ。</li>
+ *   <li>{@literal objectName} : Beanのクラス名。</li>
+ *   <li>{@literal field} : フィールド名。{@link CsvFieldError}の場合のみ。</li>
+ *   <li>{@literal codes} : メッセージコードの候補。</li>
+ *   <li>{@literal variables} : メッセージ変数。
+ *       ただし、メッセージのフォーマット用の{@link TextPrinter}（{@literal printer}など）は、データではないため出力しません。</li>
+ *   <li>{@literal message} : フォーマットしたメッセージ。{@link #setMessageConverter(CsvExceptionConverter)}を設定した場合のみ。</li>
+ *   <li>{@literal untokenizedRow} : 分解前のレコードの値。</li>
+ * </ul>
+ * <pre class="highlight"><code class="java">
+ * try(CsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader = new CsvAnnotationBeanReader&lt;&gt;(
+ *             SampleCsv.class, Files.newBufferedReader(csvFile), CsvPreference.STANDARD_PREFERENCE);
+ *         CsvErrorJsonLinesWriter errorWriter = new CsvErrorJsonLinesWriter(Files.newBufferedWriter(errorFile))) {
+ *
+ *     csvReader.setFormatErrorMessages(false);
+ *     csvReader.setErrorJsonLinesWriter(errorWriter);
+ *
+ *     List&lt;SampleCsv&gt; list = csvReader.readAll(true);
+ * }
+ * </code></pre>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorJsonLinesWriter implements Closeable, Flushable {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final Writer writer;
+
+    /**
+     * 複数のスレッドからの出力の排他。
+     * <p>出力中に仮想スレッドがキャリアスレッドを占有しないよう、{@literal synchronized}は使用しない。</p>
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** 1行分の出力を組み立てるためのバッファ */
+    private final StringBuilder line = new StringBuilder(256);
+
+    /**
+     * 出力中のMap、Collection、配列。
+     * <p>自身を参照している場合に、無限に再帰しないように判定する。</p>
+     */
+    private final Set<Object> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** メッセージをフォーマットするときに使用する。nullの場合はフォーマットしない。 */
+    private CsvExceptionConverter messageConverter;
+
+    /**
+     * 出力先を指定してインスタンスを作成します。
+     * @param writer 出力先。
+     * @throws NullPointerException {@literal writer is null.}
+     */
+    public CsvErrorJsonLinesWriter(final Writer writer) {
+        Objects.requireNonNull(writer, "writer should not be null.");
+        this.writer = writer;
+    }
+
+    /**
+     * 例外に含まれるエラー情報を出力します。
+     * <p>{@link SuperCsvBindingException}の場合は、保持しているエラー情報を出力します。
+     *   <br>それ以外の場合は、{@link CsvExceptionConverter}でエラー情報に変換して出力します。
+     * </p>
+     *
+     * @param exception 出力対象の例外。
+     * @param beanMapping Beanのマッピング情報。
+     * @param exceptionConverter 例外をエラー情報に変換するクラス。
+     * @param untokenizedRow 分解前のレコードの値。不明な場合は{@literal null}。
+     * @throws IOException 出力に失敗した場合。
+     */
+    public void write(final SuperCsvException exception, final BeanMapping<?> beanMapping,
+            final CsvExceptionConverter exceptionConverter, final String untokenizedRow) throws IOException {
+
+        if(exception instanceof SuperCsvBindingException) {
+            write(((SuperCsvBindingException) exception).getBindingErrors(), exception.getCsvContext(), untokenizedRow);
+
+        } else {
+            write(exceptionConverter.convert(exception, beanMapping), exception.getCsvContext(), untokenizedRow);
+        }
+    }
+
+    /**
+     * レコードのエラー情報を出力します。
+     *
+     * @param bindingErrors レコードのエラー情報。
+     * @param context 行番号などの情報。
+     * @param untokenizedRow 分解前のレコードの値。不明な場合は{@literal null}。
+     * @throws IOException 出力に失敗した場合。
+     */
+    public void write(final CsvBindingErrors bindingErrors, final CsvContext context, final String untokenizedRow)
+            throws IOException {
+        write(bindingErrors.getAllErrors(), context, untokenizedRow);
+    }
+
+    /**
+     * エラー情報を出力します。
+     *
+     * @param errors エラー情報。
+     * @param context 行番号などの情報。不明な場合は{@literal null}。
+     * @param untokenizedRow 分解前のレコードの値。不明な場合は{@literal null}。
+     * @throws IOException 出力に失敗した場合。
+     */
+    public void write(final List<? extends CsvError> errors, final CsvContext context, final String untokenizedRow)
+            throws IOException {
+
+        lock.lock();
+        try {
+            for(CsvError error : errors) {
+                line.setLength(0);
+                appendError(error, context, untokenizedRow);
+                line.append('\n');
+                writer.append(line);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void appendError(final CsvError error, final CsvContext context, final String untokenizedRow) {
+
+        final Map<String, Object> variables = error.getVariables();
+
+        line.append('{');
+        if(context != null) {
+            line.append("\"lineNumber\":").append(context.getLineNumber());
+            line.append(",\"rowNumber\":").append(context.getRowNumber());
+        } else {
+            appendMember("lineNumber", variables.get("lineNumber"));
+            appendMember("rowNumber", variables.get("rowNumber"));
+        }
+
+        appendMember("columnNumber", variables.get("columnNumber"));
+        appendMember("objectName", error.getObjectName());
+
+        if(error instanceof CsvFieldError) {
+            appendMember("field", ((CsvFieldError) error).getField());
+        }
+
+        appendMember("codes", error.getCodes());
+        appendVariables(variables);
+
+        if(messageConverter != null) {
+            appendMember("message", error.format(messageConverter.getMessageResolver(), messageConverter.getMessageInterpolator()));
+        }
+
+        appendMember("untokenizedRow", untokenizedRow);
+        line.append('}');
+    }
+
+    /**
+     * メッセージ変数を出力します。
+     * <p>{@link TextPrinter}は、メッセージ中で値をフォーマットするための変数のため除外します。
+     *   <br>そのまま出力すると、{@link Object#toString()}の値となり、意味を持たないため。
+     * </p>
+     * @param variables メッセージ変数
+     */
+    private void appendVariables(final Map<String, Object> variables) {
+
+        if(variables == null) {
+            return;
+        }
+
+        if(line.charAt(line.length() - 1) != '{') {
+            line.append(',');
+        }
+
+        appendString("variables");
+        line.append(":{");
+        visiting.add(variables);
+        try {
+            boolean first = true;
+            for(Map.Entry<String, Object> entry : variables.entrySet()) {
+                if(entry.getValue() instanceof TextPrinter) {
+                    continue;
+                }
+
+                if(!first) {
+                    line.append(',');
+                }
+                appendString(entry.getKey());
+                line.append(':');
+                appendValue(entry.getValue());
+                first = false;
+            }
+        } finally {
+            visiting.remove(variables);
+        }
+        line.append('}');
+    }
+
+    private void appendMember(final String name, final Object value) {
+
+        if(value == null) {
+            return;
+        }
+
+        if(line.charAt(line.length() - 1) != '{') {
+            line.append(',');
+        }
+
+        appendString(name);
+        line.append(':');
+        appendValue(value);
+    }
+
+    private void appendValue(final Object value) {
+
+        if(value == null) {
+            line.append("null");
+
+        } else if(value instanceof Boolean) {
+            line.append(value.toString());
+
+        } else if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte
+                || value instanceof BigInteger || value instanceof BigDecimal) {
+            line.append(value.toString());
+
+        } else if(value instanceof Double || value instanceof Float) {
+            final double number = ((Number) value).doubleValue();
+            if(Double.isNaN(number) || Double.isInfinite(number)) {
+                appendString(value.toString());
+            } else {
+                line.append(value.toString());
+            }
+
+        } else if(value instanceof Map || value instanceof Collection || value.getClass().isArray()) {
+            if(!visiting.add(value)) {
+                // 出力中のコンテナを参照している場合は、再帰せずに識別子のみを出力する
+                appendString(value.getClass().getName() + "@" + Integer.toHexString(System.identityHashCode(value)));
+                return;
+            }
+
+            try {
+                appendContainer(value);
+            } finally {
+                visiting.remove(value);
+            }
+
+        } else {
+            appendString(value.toString());
+        }
+    }
+
+    /**
+     * Map、Collection、配列の値を出力します。
+     * @param value 出力する値
+     */
+    private void appendContainer(final Object value) {
+
+        if(value instanceof Map) {
+            line.append('{');
+            boolean first = true;
+            for(Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                if(!first) {
+                    line.append(',');
+                }
+                appendString(String.valueOf(entry.getKey()));
+                line.append(':');
+                appendValue(entry.getValue());
+                first = false;
+            }
+            line.append('}');
+
+        } else if(value instanceof Collection) {
+            line.append('[');
+            boolean first = true;
+            for(Object element : (Collection<?>) value) {
+                if(!first) {
+                    line.append(',');
+                }
+                appendValue(element);
+                first = false;
+            }
+            line.append(']');
+
+        } else if(value.getClass().isArray()) {
+            line.append('[');
+            final int length = Array.getLength(value);
+            for(int i=0; i < length; i++) {
+                if(i > 0) {
+                    line.append(',');
+                }
+                appendValue(Array.get(value, i));
+            }
+            line.append(']');
+        }
+    }
+
+    private void appendString(final String value) {
+
+        line.append('"');
+        final int length = value.length();
+        for(int i=0; i < length; i++) {
+            final char c = value.charAt(i);
+            switch(c) {
+                case '"':
+                    line.append("\\\"");
+                    break;
+                case '\\':
+                    line.append("\\\\");
+                    break;
+                case '\n':
+                    line.append("\\n");
+                    break;
+                case '\r':
+                    line.append("\\r");
+                    break;
+                case '\t':
+                    line.append("\\t");
+                    break;
+                default:
+                    if(c < 0x20 || c == '\u2028' || c == '\u2029') {
+                        line.append("\\u")
+                            .append(HEX[(c >> 12) & 0xF])
+                            .append(HEX[(c >> 8) & 0xF])
+                            .append(HEX[(c >> 4) & 0xF])
+                            .append(HEX[c & 0xF]);
+                    } else {
+                        line.append(c);
+                    }
+            }
+        }
+        line.append('"');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        lock.lock();
+        try {
+            writer.flush();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            writer.close();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * メッセージをフォーマットするときに使用するクラスを取得します。
+     * @return 設定していない場合は{@literal null}。
+     */
+    public CsvExceptionConverter getMessageConverter() {
+        return messageConverter;
+    }
+
+    /**
+     * メッセージをフォーマットするときに使用するクラスを設定します。
+     * <p>設定した場合、要素{@literal message}として、フォーマットしたメッセージを出力します。
+     *   <br>デフォルトは{@literal null}で、メッセージはフォーマットしません。
+     * </p>
+     * @param messageConverter メッセージのフォーマットに使用するクラス。
+     */
+    public void setMessageConverter(CsvExceptionConverter messageConverter) {
+        this.messageConverter = messageConverter;
+    }
+
+}
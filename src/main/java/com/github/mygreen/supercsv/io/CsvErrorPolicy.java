@@ -0,0 +1,285 @@
+package com.github.mygreen.supercsv.io;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
+import com.github.mygreen.supercsv.util.ArgUtils;
+
+/**
+ * レコードの読み込み時に、エラーをどこまで許容するかの方針。
+ * <p>{@link CsvAnnotationBeanReader#readAll(CsvErrorPolicy)}などで、1レコードを処理するたびに結果を記録し、
+ *    許容範囲を超えた時点で、例外{@link SuperCsvErrorPolicyException}をスローして読み込みを終了します。
+ * </p>
+ * <p>実装は、エラーの件数などの状態を保持します。そのため、複数のReaderで同時に使用することはできません。</p>
+ * <pre class="highlight"><code class="java">
+ * // エラーが100件を超える、または、直近1000レコード中のエラーが10%を超える場合に中断する
+ * List&lt;SampleCsv&gt; list = csvReader.readAll(CsvErrorPolicy.anyOf(
+ *         CsvErrorPolicy.maxErrors(100),
+ *         CsvErrorPolicy.maxErrorRate(0.1, 1000)));
+ * </code></pre>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public interface CsvErrorPolicy {
+
+    /**
+     * エラーの件数の上限を指定した方針を作成します。
+     * @param maxErrors 許容するエラーの件数。0の場合は、最初のエラーで中断します。
+     * @return エラーの件数が上限を超えると中断する方針。
+     * @throws IllegalArgumentException {@literal maxErrors < 0}
+     */
+    static CsvErrorPolicy maxErrors(final int maxErrors) {
+        return new MaxErrors(maxErrors);
+    }
+
+    /**
+     * 直近のレコード中のエラーの割合の上限を指定した方針を作成します。
+     * <p>読み込んだレコード数が、判定するレコード数に達するまでは中断しません。</p>
+     * @param maxErrorRate 許容するエラーの割合。0.0～1.0の範囲で指定します。
+     * @param windowSize 割合を判定する直近のレコード数。
+     * @return エラーの割合が上限を超えると中断する方針。
+     * @throws IllegalArgumentException {@literal maxErrorRate < 0.0 or maxErrorRate > 1.0 or windowSize < 1}
+     */
+    static CsvErrorPolicy maxErrorRate(final double maxErrorRate, final int windowSize) {
+        return new MaxErrorRate(maxErrorRate, windowSize);
+    }
+
+    /**
+     * 連続するエラーの件数の上限を指定した方針を作成します。
+     * @param maxConsecutiveErrors 許容する連続したエラーの件数。
+     * @return 連続するエラーの件数が上限を超えると中断する方針。
+     * @throws IllegalArgumentException {@literal maxConsecutiveErrors < 0}
+     */
+    static CsvErrorPolicy maxConsecutiveErrors(final int maxConsecutiveErrors) {
+        return new MaxConsecutiveErrors(maxConsecutiveErrors);
+    }
+
+    /**
+     * 複数の方針を組み合わせます。
+     * @param policies 組み合わせる方針。
+     * @return いずれかの方針が許容範囲を超えると中断する方針。
+     * @throws NullPointerException {@literal policies is null.}
+     * @throws IllegalArgumentException {@literal policies is empty.}
+     */
+    static CsvErrorPolicy anyOf(final CsvErrorPolicy... policies) {
+        return new AnyOf(policies);
+    }
+
+    /**
+     * レコードの処理結果を記録し、読み込みを続行できるか判定します。
+     * @param error レコードの処理でエラーが発生した場合は{@literal true}。
+     * @return 許容範囲内の場合は{@literal true}。許容範囲を超えた場合は{@literal false}。
+     */
+    boolean record(boolean error);
+
+    /**
+     * 記録した状態を初期化します。
+     * <p>読み込みを開始するときに呼び出されます。</p>
+     */
+    void reset();
+
+    /**
+     * エラーの件数の上限を判定する方針。
+     */
+    public static class MaxErrors implements CsvErrorPolicy {
+
+        private final int maxErrors;
+
+        private int errorCount;
+
+        public MaxErrors(final int maxErrors) {
+            ArgUtils.notMin(maxErrors, 0, "maxErrors");
+            this.maxErrors = maxErrors;
+        }
+
+        @Override
+        public boolean record(final boolean error) {
+            if(error) {
+                errorCount++;
+            }
+            return errorCount <= maxErrors;
+        }
+
+        @Override
+        public void reset() {
+            this.errorCount = 0;
+        }
+
+        /**
+         * 記録したエラーの件数を取得します。
+         * @return エラーの件数。
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("maxErrors=%d (errors=%d)", maxErrors, errorCount);
+        }
+    }
+
+    /**
+     * 直近のレコード中のエラーの割合を判定する方針。
+     * <p>直近のレコードの結果をリングバッファに保持し、エラーの件数を差分で更新します。</p>
+     */
+    public static class MaxErrorRate implements CsvErrorPolicy {
+
+        private final double maxErrorRate;
+
+        /** 直近のレコードの結果 */
+        private final boolean[] window;
+
+        /** 判定するレコード数の中で、許容するエラーの件数 */
+        private final int maxErrorsInWindow;
+
+        /** 次に記録する位置 */
+        private int position;
+
+        /** 記録したレコード数。最大で判定するレコード数。 */
+        private int recordCount;
+
+        /** 直近のレコード中のエラーの件数 */
+        private int errorCount;
+
+        public MaxErrorRate(final double maxErrorRate, final int windowSize) {
+            if(maxErrorRate < 0.0d || maxErrorRate > 1.0d) {
+                throw new IllegalArgumentException(String.format("'maxErrorRate' should be between 0.0 and 1.0. but '%s'.", maxErrorRate));
+            }
+            ArgUtils.notMin(windowSize, 1, "windowSize");
+
+            this.maxErrorRate = maxErrorRate;
+            this.window = new boolean[windowSize];
+            // 0.29 * 100 = 28.999...のように、浮動小数の誤差で切り捨てられないよう、10進数で計算する。
+            this.maxErrorsInWindow = BigDecimal.valueOf(maxErrorRate)
+                    .multiply(BigDecimal.valueOf(windowSize))
+                    .setScale(0, RoundingMode.FLOOR)
+                    .intValueExact();
+        }
+
+        @Override
+        public boolean record(final boolean error) {
+
+            if(recordCount < window.length) {
+                recordCount++;
+            } else if(window[position]) {
+                errorCount--;
+            }
+
+            window[position] = error;
+            if(error) {
+                errorCount++;
+            }
+
+            position++;
+            if(position == window.length) {
+                position = 0;
+            }
+
+            return recordCount < window.length || errorCount <= maxErrorsInWindow;
+        }
+
+        @Override
+        public void reset() {
+            Arrays.fill(window, false);
+            this.position = 0;
+            this.recordCount = 0;
+            this.errorCount = 0;
+        }
+
+        /**
+         * 直近のレコード中のエラーの件数を取得します。
+         * @return エラーの件数。
+         */
+        public int getErrorCount() {
+            return errorCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("maxErrorRate=%s, windowSize=%d (errors=%d)", maxErrorRate, window.length, errorCount);
+        }
+    }
+
+    /**
+     * 連続するエラーの件数を判定する方針。
+     */
+    public static class MaxConsecutiveErrors implements CsvErrorPolicy {
+
+        private final int maxConsecutiveErrors;
+
+        private int consecutiveErrors;
+
+        public MaxConsecutiveErrors(final int maxConsecutiveErrors) {
+            ArgUtils.notMin(maxConsecutiveErrors, 0, "maxConsecutiveErrors");
+            this.maxConsecutiveErrors = maxConsecutiveErrors;
+        }
+
+        @Override
+        public boolean record(final boolean error) {
+            if(error) {
+                consecutiveErrors++;
+            } else {
+                consecutiveErrors = 0;
+            }
+            return consecutiveErrors <= maxConsecutiveErrors;
+        }
+
+        @Override
+        public void reset() {
+            this.consecutiveErrors = 0;
+        }
+
+        /**
+         * 連続したエラーの件数を取得します。
+         * @return 連続したエラーの件数。
+         */
+        public int getConsecutiveErrors() {
+            return consecutiveErrors;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("maxConsecutiveErrors=%d (errors=%d)", maxConsecutiveErrors, consecutiveErrors);
+        }
+    }
+
+    /**
+     * 複数の方針を組み合わせた方針。
+     */
+    public static class AnyOf implements CsvErrorPolicy {
+
+        private final List<CsvErrorPolicy> policies;
+
+        public AnyOf(final CsvErrorPolicy... policies) {
+            ArgUtils.notEmpty(policies, "policies");
+            this.policies = Arrays.asList(policies.clone());
+        }
+
+        @Override
+        public boolean record(final boolean error) {
+            // 全ての方針に記録するため、途中で打ち切らない
+            boolean accepted = true;
+            for(CsvErrorPolicy policy : policies) {
+                accepted &= policy.record(error);
+            }
+            return accepted;
+        }
+
+        @Override
+        public void reset() {
+            policies.forEach(CsvErrorPolicy::reset);
+        }
+
+        @Override
+        public String toString() {
+            return policies.toString();
+        }
+    }
+
+}
@@ -0,0 +1,426 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.supercsv.comment.CommentMatcher;
+import org.supercsv.prefs.CsvPreference;
+
+/**
+ * 1つの大きなCSVファイルを、レコードの境界で複数のバイト範囲に分割するクラス。
+ * <p>分割は次の手順で行います。</p>
+ * <ol>
+ *   <li>ファイルサイズを均等に分割した仮の範囲ごとに、クォート文字の出現数を並列に数えます。</li>
+ *   <li>出現数の累積の偶奇から、仮の分割位置がクォートの内側かどうかを判定します。
+ *     <br>エスケープされたクォート（{@literal ""}）は2文字として数えるため、偶奇の判定に影響しません。</li>
+ *   <li>仮の分割位置から、クォートの外側にある改行までを読み進め、その直後をレコードの境界とします。
+ *     <br>そのため、クォートで囲まれた改行を含むカラムがあっても、レコードの途中で分割されることはありません。</li>
+ * </ol>
+ * <p>バイト単位で判定するため、改行とクォート文字が1バイトで表現され、マルチバイト文字の2バイト目以降に
+ *   出現しない文字コード（UTF-8、MS932、EUC-JPなど）のみをサポートします。
+ * </p>
+ * <p>{@link CsvPreference#getCommentMatcher()}が設定されている場合、コメント行のクォート文字は、
+ *   Tokenizerと同様にクォートとして扱いません。
+ *   <br>ただし、コメント行かどうかはレコードの先頭行ごとに判定する必要があるため、
+ *   ファイルの先頭から1つのスレッドで順に走査して分割します。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvFileSplitter {
+
+    /** 1度にマッピングするサイズ（バイト） */
+    private static final int WINDOW_SIZE = MappedFileReader.DEFAULT_WINDOW_SIZE;
+
+    private static final byte CR = '\r';
+
+    private static final byte LF = '\n';
+
+    private final Path file;
+
+    private final Charset charset;
+
+    private final byte quote;
+
+    /** コメント行の判定。nullの場合は、コメント行を考慮しない。 */
+    private final CommentMatcher commentMatcher;
+
+    /**
+     * コンストラクタ。
+     * <p>コメント行は考慮しません。</p>
+     *
+     * @param file 分割対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param quoteChar クォート文字。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IllegalArgumentException バイト単位で分割できない文字コード、またはクォート文字の場合。
+     */
+    public CsvFileSplitter(final Path file, final Charset charset, final char quoteChar) {
+        this(file, charset, quoteChar, null);
+    }
+
+    /**
+     * CSVの設定を指定するコンストラクタ。
+     * <p>クォート文字とコメント行の判定は、CSVの設定の値を使用します。</p>
+     *
+     * @param file 分割対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param preference CSVの設定。
+     * @throws NullPointerException {@literal file or charset or preference is null.}
+     * @throws IllegalArgumentException バイト単位で分割できない文字コード、またはクォート文字の場合。
+     */
+    public CsvFileSplitter(final Path file, final Charset charset, final CsvPreference preference) {
+        this(file, charset, Objects.requireNonNull(preference, "preference should not be null.").getQuoteChar(),
+                preference.getCommentMatcher());
+    }
+
+    private CsvFileSplitter(final Path file, final Charset charset, final char quoteChar, final CommentMatcher commentMatcher) {
+        Objects.requireNonNull(file, "file should not be null.");
+        Objects.requireNonNull(charset, "charset should not be null.");
+
+        if(!isSplittable(charset, quoteChar)) {
+            throw new IllegalArgumentException(String.format(
+                    "not support splitting file by byte with charset '%s' and quote char '%s'.", charset.name(), quoteChar));
+        }
+
+        this.file = file;
+        this.charset = charset;
+        this.quote = (byte) quoteChar;
+        this.commentMatcher = commentMatcher;
+    }
+
+    /**
+     * バイト単位でレコードの境界を判定可能な文字コードかどうか判定する。
+     * <p>改行とクォート文字が、ASCIIと同じ1バイトで表現される必要がある。
+     *   <br>また、クォート文字は、MS932などのマルチバイト文字の2バイト目に出現しない範囲（{@literal 0x40}未満）である必要がある。
+     * </p>
+     * @param charset 判定対象の文字コード。
+     * @param quoteChar クォート文字。
+     * @return {@literal true}の場合、分割可能。
+     */
+    public static boolean isSplittable(final Charset charset, final char quoteChar) {
+
+        if(quoteChar >= 0x40 || !charset.canEncode()) {
+            return false;
+        }
+
+        final String text = new String(new char[]{quoteChar, '\r', '\n'});
+        return Arrays.equals(text.getBytes(charset), new byte[]{(byte) quoteChar, CR, LF});
+    }
+
+    /**
+     * ファイルをレコードの境界で分割する。
+     *
+     * @param splitCount 分割数。ファイルサイズが小さい場合、実際の範囲の数は少なくなることがあります。
+     * @param executor 並列に処理するためのスレッドプール。
+     * @return 分割した範囲。ファイルの先頭から順に格納されます。空のファイルの場合は、空のリストを返します。
+     * @throws IllegalArgumentException {@literal splitCount < 1}
+     * @throws IOException ファイルの読み込みに失敗した場合。
+     */
+    public List<Range> split(final int splitCount, final ExecutorService executor) throws IOException {
+
+        if(splitCount < 1) {
+            throw new IllegalArgumentException(String.format("splitCount should be greater than 0, but %d.", splitCount));
+        }
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            final long size = channel.size();
+            if(size == 0L) {
+                return Collections.emptyList();
+            }
+
+            final int count = (int)Math.min(splitCount, size);
+            if(count == 1) {
+                return Collections.singletonList(new Range(0, 0L, size));
+            }
+
+            final long[] nominal = new long[count + 1];
+            for(int i=0; i <= count; i++) {
+                nominal[i] = size * i / count;
+            }
+
+            if(commentMatcher != null) {
+                // コメント行のクォート文字は数えないため、先頭から順に判定する
+                return splitSkippingComments(channel, nominal);
+            }
+
+            // 仮の範囲ごとに、クォート文字の出現数を数える
+            final List<Future<Long>> quoteCounts = new ArrayList<>(count);
+            for(int i=0; i < count; i++) {
+                final long start = nominal[i];
+                final long end = nominal[i + 1];
+                quoteCounts.add(executor.submit(() -> countQuotes(channel, start, end)));
+            }
+
+            // クォートの外側にある改行の直後を境界とする
+            final List<Future<Long>> boundaries = new ArrayList<>(count);
+            long totalQuotes = 0L;
+            for(int i=0; i < count; i++) {
+                if(i == 0) {
+                    boundaries.add(null);
+                } else {
+                    final long start = nominal[i];
+                    final boolean inQuote = (totalQuotes % 2L) != 0L;
+                    boundaries.add(executor.submit(() -> findRecordBoundary(channel, start, inQuote)));
+                }
+                totalQuotes += get(quoteCounts.get(i));
+            }
+
+            final List<Range> ranges = new ArrayList<>(count);
+            long start = 0L;
+            for(int i=1; i < count; i++) {
+                final long boundary = get(boundaries.get(i));
+                if(boundary > start) {
+                    ranges.add(new Range(ranges.size(), start, boundary));
+                    start = boundary;
+                }
+            }
+
+            if(start < size) {
+                ranges.add(new Range(ranges.size(), start, size));
+            }
+
+            return ranges;
+        }
+
+    }
+
+    /**
+     * コメント行を除外しながら、ファイルの先頭から順にレコードの境界を探して分割する。
+     * <p>Tokenizerと同様に、レコードの先頭行のみをコメント行かどうか判定します。
+     *   <br>コメント行の場合は、その行のクォート文字を無視します。
+     * </p>
+     * @param channel ファイルのチャネル
+     * @param nominal 仮の分割位置。先頭は0、末尾はファイルサイズ。
+     * @return 分割した範囲。
+     */
+    private List<Range> splitSkippingComments(final FileChannel channel, final long[] nominal) throws IOException {
+
+        final long size = channel.size();
+        final int count = nominal.length - 1;
+        final List<Range> ranges = new ArrayList<>(count);
+
+        // レコードの先頭行の値
+        final ByteArrayOutputStream firstLine = new ByteArrayOutputStream();
+
+        long start = 0L;
+        int next = 1;
+        boolean recordStart = true;
+        boolean inFirstLine = false;
+        boolean quoted = false;
+        boolean afterCr = false;
+
+        for(long pos = 0L; pos < size; pos += WINDOW_SIZE) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(WINDOW_SIZE, size - pos));
+            final int limit = buffer.limit();
+            for(int i=0; i < limit; i++) {
+                final byte b = buffer.get(i);
+                if(afterCr) {
+                    afterCr = false;
+                    if(b == LF) {
+                        // CRLFは1つの改行とする
+                        continue;
+                    }
+                }
+
+                if(recordStart) {
+                    // 仮の分割位置を超えた最初のレコードの先頭を、境界とする
+                    final long current = pos + i;
+                    boolean reached = false;
+                    while(next < count && nominal[next] <= current) {
+                        reached = true;
+                        next++;
+                    }
+
+                    if(reached && current > start) {
+                        ranges.add(new Range(ranges.size(), start, current));
+                        start = current;
+                    }
+
+                    recordStart = false;
+                    inFirstLine = true;
+                    quoted = false;
+                }
+
+                if(b == LF || b == CR) {
+                    if(inFirstLine) {
+                        // クォートの内側で改行する場合のみ、コメント行かどうかで境界が変わる
+                        // コメント行の場合は、クォートの内側かどうかに関わらず、次の行からレコードとなる
+                        recordStart = !quoted || commentMatcher.isComment(new String(firstLine.toByteArray(), charset));
+                        firstLine.reset();
+                        inFirstLine = false;
+
+                    } else if(!quoted) {
+                        recordStart = true;
+                    }
+
+                    afterCr = (b == CR);
+                    continue;
+                }
+
+                if(inFirstLine) {
+                    firstLine.write(b);
+                }
+
+                if(b == quote) {
+                    quoted = !quoted;
+                }
+            }
+        }
+
+        if(start < size) {
+            ranges.add(new Range(ranges.size(), start, size));
+        }
+
+        return ranges;
+    }
+
+    /**
+     * 範囲内のクォート文字の出現数を数える。
+     */
+    private long countQuotes(final FileChannel channel, final long start, final long end) throws IOException {
+
+        long count = 0L;
+        for(long pos = start; pos < end; pos += WINDOW_SIZE) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(WINDOW_SIZE, end - pos));
+            final int limit = buffer.limit();
+            for(int i=0; i < limit; i++) {
+                if(buffer.get(i) == quote) {
+                    count++;
+                }
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * 指定した位置以降で、クォートの外側にある最初の改行の直後の位置を探す。
+     * @param channel ファイルのチャネル
+     * @param start 探索の開始位置
+     * @param inQuote 開始位置がクォートの内側かどうか。
+     * @return レコードの境界の位置。見つからない場合はファイルサイズを返す。
+     */
+    private long findRecordBoundary(final FileChannel channel, final long start, final boolean inQuote) throws IOException {
+
+        final long size = channel.size();
+        boolean quoted = inQuote;
+        boolean afterCr = false;
+
+        for(long pos = start; pos < size; pos += WINDOW_SIZE) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, pos, Math.min(WINDOW_SIZE, size - pos));
+            final int limit = buffer.limit();
+            for(int i=0; i < limit; i++) {
+                final byte b = buffer.get(i);
+                if(afterCr) {
+                    // CRの直後にLFが続く場合は、LFの直後を境界とする
+                    return b == LF ? pos + i + 1 : pos + i;
+                }
+
+                if(b == quote) {
+                    quoted = !quoted;
+                } else if(!quoted && b == LF) {
+                    return pos + i + 1;
+                } else if(!quoted && b == CR) {
+                    afterCr = true;
+                }
+            }
+        }
+
+        return size;
+    }
+
+    private static long get(final Future<Long> future) throws IOException {
+        try {
+            return future.get();
+
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while splitting file.", e);
+
+        } catch(ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if(cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if(cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 分割したファイルの範囲。
+     *
+     */
+    public static final class Range {
+
+        private final int index;
+
+        private final long start;
+
+        private final long end;
+
+        /**
+         * コンストラクタ。
+         * @param index ファイルの先頭からの範囲のインデックス。0から始まります。
+         * @param start 開始位置（バイト）
+         * @param end 終了位置（バイト）。この位置は含みません。
+         */
+        public Range(final int index, final long start, final long end) {
+            this.index = index;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * ファイルの先頭からの範囲のインデックスを取得する。
+         * @return 0から始まります。
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * 開始位置を取得する。
+         * @return 開始位置（バイト）
+         */
+        public long getStart() {
+            return start;
+        }
+
+        /**
+         * 終了位置を取得する。
+         * @return 終了位置（バイト）。この位置は含みません。
+         */
+        public long getEnd() {
+            return end;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Range [index=%d, start=%d, end=%d]", index, start, end);
+        }
+
+    }
+
+}
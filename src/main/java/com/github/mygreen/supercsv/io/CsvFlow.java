@@ -0,0 +1,105 @@
+package com.github.mygreen.supercsv.io;
+
+/**
+ * 購読者の要求(バックプレッシャー)に応じて、レコードを非同期に受け渡すためのインタフェース。
+ * <p>Java9の{@code java.util.concurrent.Flow}、および、Reactive Streamsと同じ構成、同じメソッドのシグネチャです。
+ *   <br>Java8でも使用できるよう、独自に定義しています。
+ *   各メソッドをそのまま委譲するだけで、{@code java.util.concurrent.Flow}やReactorなどのライブラリと相互に変換できます。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * // Java9以降で、java.util.concurrent.Flow.Publisherに変換する
+ * CsvFlow.Publisher&lt;SampleCsv&gt; publisher = csvReader.publisher(executor);
+ * Flow.Publisher&lt;SampleCsv&gt; flowPublisher = subscriber -&gt; publisher.subscribe(new CsvFlow.Subscriber&lt;SampleCsv&gt;() {
+ *     public void onSubscribe(CsvFlow.Subscription s) {
+ *         subscriber.onSubscribe(new Flow.Subscription() {
+ *             public void request(long n) { s.request(n); }
+ *             public void cancel() { s.cancel(); }
+ *         });
+ *     }
+ *     public void onNext(SampleCsv item) { subscriber.onNext(item); }
+ *     public void onError(Throwable throwable) { subscriber.onError(throwable); }
+ *     public void onComplete() { subscriber.onComplete(); }
+ * });
+ * </code></pre>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public final class CsvFlow {
+
+    private CsvFlow() {
+        // インスタンスは作成しない
+    }
+
+    /**
+     * 購読者の要求に応じて、要素を通知する発行者。
+     *
+     * @param <T> 通知する要素のクラスタイプ
+     */
+    @FunctionalInterface
+    public static interface Publisher<T> {
+
+        /**
+         * 購読者を登録します。
+         * <p>購読者には、{@link Subscriber#onSubscribe(Subscription)}が最初に通知されます。</p>
+         * @param subscriber 購読者
+         * @throws NullPointerException {@literal subscriber is null.}
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+
+    }
+
+    /**
+     * 発行者から要素を受け取る購読者。
+     *
+     * @param <T> 受け取る要素のクラスタイプ
+     */
+    public static interface Subscriber<T> {
+
+        /**
+         * 購読を開始したときに呼び出されます。
+         * <p>{@link Subscription#request(long)}で要求するまで、要素は通知されません。</p>
+         * @param subscription 購読の制御
+         */
+        void onSubscribe(Subscription subscription);
+
+        /**
+         * 要求した要素ごとに呼び出されます。
+         * @param item 要素
+         */
+        void onNext(T item);
+
+        /**
+         * エラーが発生したときに呼び出されます。以降は、何も通知されません。
+         * @param throwable 発生したエラー
+         */
+        void onError(Throwable throwable);
+
+        /**
+         * 全ての要素を通知したときに呼び出されます。以降は、何も通知されません。
+         */
+        void onComplete();
+
+    }
+
+    /**
+     * 発行者と購読者を結びつける購読の制御。
+     */
+    public static interface Subscription {
+
+        /**
+         * 通知する要素を、指定した件数分追加で要求します。
+         * @param n 要求する件数。{@link Long#MAX_VALUE}の場合は、無制限となります。
+         *        0以下の場合は、{@link Subscriber#onError(Throwable)}で{@link IllegalArgumentException}が通知されます。
+         */
+        void request(long n);
+
+        /**
+         * 購読を中止します。以降は、要素の通知は停止されます。
+         */
+        void cancel();
+
+    }
+
+}
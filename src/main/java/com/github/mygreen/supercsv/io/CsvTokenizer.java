@@ -0,0 +1,640 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Objects;
+
+import org.supercsv.comment.CommentMatcher;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.io.Tokenizer;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
+
+/**
+ * 区切り文字形式の行をカラムに分解するTokenizer。
+ * <p>クォートやエスケープ、コメント行、空行の扱いは、Super CSVの{@link Tokenizer}と同じです。</p>
+ * <p>{@link Reader}から読み込んだ文字をブロック単位でバッファに保持し、区切り文字やクォートをまとめて探索します。
+ *   <br>クォートで囲まれていないカラムや、エスケープを含まないクォートで囲まれたカラムは、バッファから直接切り出します。
+ * </p>
+ * <p>Beanのマッピング情報を指定した場合、アノテーション{@literal @CsvPartial}で補完したカラムなど、
+ *    フィールドにマッピングしないカラムは、クォートの状態のみを追跡して読み飛ばし、値として{@literal null}を設定します。
+ *   <br>ただし、最初の行は見出し行の可能性があるため、全てのカラムを読み込みます。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvTokenizer implements ITokenizer {
+
+    private static final char NEWLINE = '\n';
+
+    private static final char CR = '\r';
+
+    private static final char SPACE = ' ';
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+
+    /** 現在のカラム。クォートで囲まれた値を組み立てる場合に使用する。 */
+    private final StringBuilder currentColumn = new StringBuilder();
+
+    private final int quoteChar;
+
+    private final int delimiterChar;
+
+    private final boolean surroundingSpacesNeedQuotes;
+
+    private final boolean ignoreEmptyLines;
+
+    /** コメント行判定。指定しない場合はnull。(CsvPreferenceで設定) */
+    private final CommentMatcher commentMatcher;
+
+    private final int maxLinesPerRow;
+
+    /** ASCII文字ごとの、カラムの探索を止める文字かどうか。 */
+    private final boolean[] stopChars = new boolean[128];
+
+    /** 読み込むカラムを判定するためのマッピング情報。全てのカラムを読み込む場合はnull。 */
+    private final BeanMapping<?> beanMapping;
+
+    /** カラムのインデックスごとの読み飛ばすかどうかの情報。未作成の場合はnull。 */
+    private boolean[] skippedColumns;
+
+    /** 読み込んだ行数 */
+    private int rowCount;
+
+    private char[] buffer = new char[DEFAULT_BUFFER_SIZE];
+
+    /** 次に読み込むバッファの位置 */
+    private int position;
+
+    /** バッファの有効な文字数 */
+    private int limit;
+
+    /** 入力の終端に達したかどうか */
+    private boolean eof;
+
+    /** 現在のレコードの開始位置。バッファを詰める際に、この位置以降を保持する。 */
+    private int rowStart;
+
+    /** 現在のレコードの終了位置（改行の位置） */
+    private int rowEnd;
+
+    /** 現在のカラムの開始位置 */
+    private int columnStart;
+
+    /** 読み込んだ物理行の数 */
+    private int lineNumber;
+
+    /** 変換済みの現在のレコード */
+    private String untokenizedRow;
+
+    /**
+     * 全てのカラムを読み込むTokenizerを作成します。
+     *
+     * @param reader the Reader
+     * @param preferences the CSV preferences
+     * @throws NullPointerException {@literal if reader or preferences is null}
+     */
+    public CsvTokenizer(final Reader reader, final CsvPreference preferences) {
+        if( reader == null ) {
+            throw new NullPointerException("reader should not be null");
+        }
+        if( preferences == null ) {
+            throw new NullPointerException("preferences should not be null");
+        }
+
+        this.reader = reader;
+        this.quoteChar = preferences.getQuoteChar();
+        this.delimiterChar = preferences.getDelimiterChar();
+        this.surroundingSpacesNeedQuotes = preferences.isSurroundingSpacesNeedQuotes();
+        this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
+        this.commentMatcher = preferences.getCommentMatcher();
+        this.maxLinesPerRow = preferences.getMaxLinesPerRow();
+        this.beanMapping = null;
+
+        initStopChars();
+    }
+
+    /**
+     * フィールドにマッピングするカラムのみを読み込むTokenizerを作成します。
+     * <p>読み込むカラムは、2行目を読み込む際にマッピング情報から決定します。
+     *   <br>そのため、{@link LazyCsvAnnotationBeanReader}のように、見出し行を読み込んだ後にカラム番号を決定する場合も使用できます。
+     * </p>
+     *
+     * @param reader the Reader
+     * @param preferences the CSV preferences
+     * @param beanMapping 読み込むカラムを判定するBeanのマッピング情報。
+     * @throws NullPointerException {@literal if reader or preferences or beanMapping is null}
+     */
+    public CsvTokenizer(final Reader reader, final CsvPreference preferences, final BeanMapping<?> beanMapping) {
+        if( reader == null ) {
+            throw new NullPointerException("reader should not be null");
+        }
+        if( preferences == null ) {
+            throw new NullPointerException("preferences should not be null");
+        }
+        Objects.requireNonNull(beanMapping, "beanMapping should not be null.");
+
+        this.reader = reader;
+        this.quoteChar = preferences.getQuoteChar();
+        this.delimiterChar = preferences.getDelimiterChar();
+        this.surroundingSpacesNeedQuotes = preferences.isSurroundingSpacesNeedQuotes();
+        this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
+        this.commentMatcher = preferences.getCommentMatcher();
+        this.maxLinesPerRow = preferences.getMaxLinesPerRow();
+        this.beanMapping = beanMapping;
+
+        initStopChars();
+    }
+
+    private void initStopChars() {
+        stopChars[CR] = true;
+        stopChars[NEWLINE] = true;
+        if(delimiterChar < stopChars.length) {
+            stopChars[delimiterChar] = true;
+        }
+        if(quoteChar < stopChars.length) {
+            stopChars[quoteChar] = true;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException {@literal if columns is null.}
+     * @throws SuperCsvException クォートで囲まれたカラムが閉じられていない場合。
+     */
+    @Override
+    public boolean readColumns(final List<String> columns) throws IOException {
+
+        if( columns == null ) {
+            throw new NullPointerException("columns should not be null");
+        }
+
+        columns.clear();
+        untokenizedRow = null;
+
+        // 空行、コメント行の読み飛ばし
+        while(true) {
+            rowStart = position;
+            rowEnd = position;
+            if(position >= limit && !fill()) {
+                return false; // EOF
+            }
+
+            lineNumber++;
+
+            final char first = buffer[position];
+            if(ignoreEmptyLines && (first == CR || first == NEWLINE)) {
+                skipLineTerminator();
+                continue;
+            }
+
+            if(commentMatcher != null) {
+                final int lineEnd = findLineEnd();
+                if(commentMatcher.isComment(new String(buffer, rowStart, lineEnd - rowStart))) {
+                    position = lineEnd;
+                    skipLineTerminator();
+                    continue;
+                }
+            }
+
+            break;
+        }
+
+        final boolean[] skippedColumns = (rowCount++ == 0) ? null : getSkippedColumns();
+
+        while(true) {
+            columnStart = position;
+            final boolean skipped = isSkipped(skippedColumns, columns.size());
+
+            // クォートで囲まれていないカラム
+            final int stop = scanColumn();
+            if(stop >= limit || buffer[stop] != quoteChar) {
+                columns.add(skipped ? null : cutColumn(columnStart, stop));
+                position = stop;
+                if(stop < limit && buffer[stop] == delimiterChar) {
+                    position++;
+                    continue;
+                }
+
+                rowEnd = stop;
+                skipLineTerminator();
+                return true;
+            }
+
+            // クォートで囲まれたカラム
+            final int state = readSimpleQuotedColumn(columns, stop, skipped);
+            if(state == COLUMN_END) {
+                continue;
+            } else if(state == ROW_END) {
+                return true;
+            }
+
+            if(readColumn(columns, skipped)) {
+                return true;
+            }
+        }
+
+    }
+
+    private static final int COLUMN_END = 0;
+
+    private static final int ROW_END = 1;
+
+    private static final int NOT_SIMPLE = 2;
+
+    /**
+     * 現在の位置から、区切り文字、クォート、改行のいずれかの位置を探索します。
+     * @return 見つかった位置。入力の終端に達した場合は{@link #limit}。
+     */
+    private int scanColumn() throws IOException {
+
+        int index = position;
+        while(true) {
+            final char[] buf = buffer;
+            final int end = limit;
+            for(; index < end; index++) {
+                final char c = buf[index];
+                if(c < 128 ? stopChars[c] : (c == delimiterChar || c == quoteChar)) {
+                    return index;
+                }
+            }
+
+            final int offset = index - columnStart;
+            if(!fill()) {
+                return limit;
+            }
+            index = columnStart + offset;
+        }
+    }
+
+    /**
+     * 現在の物理行の終端（改行の位置）を探索します。
+     * @return 改行の位置。入力の終端に達した場合は{@link #limit}。
+     */
+    private int findLineEnd() throws IOException {
+
+        int index = position;
+        while(true) {
+            for(; index < limit; index++) {
+                final char c = buffer[index];
+                if(c == CR || c == NEWLINE) {
+                    return index;
+                }
+            }
+
+            final int offset = index - rowStart;
+            if(!fill()) {
+                return limit;
+            }
+            index = rowStart + offset;
+        }
+    }
+
+    /**
+     * 現在の位置の改行を読み飛ばします。CRLFは1つの改行として扱います。
+     */
+    private void skipLineTerminator() throws IOException {
+
+        if(position >= limit && !fill()) {
+            return;
+        }
+
+        final char c = buffer[position];
+        if(c == NEWLINE) {
+            position++;
+
+        } else if(c == CR) {
+            position++;
+            if((position < limit || fill()) && buffer[position] == NEWLINE) {
+                position++;
+            }
+        }
+    }
+
+    /**
+     * カラムの先頭にクォートがあり、エスケープや改行を含まない場合に、バッファから直接切り出します。
+     * @param quoteIndex 開始のクォートの位置
+     * @return カラムの終わりの場合は{@link #COLUMN_END}、レコードの終わりの場合は{@link #ROW_END}、
+     *         該当しない場合は{@link #NOT_SIMPLE}。
+     */
+    private int readSimpleQuotedColumn(final List<String> columns, final int quoteIndex, final boolean skipped) throws IOException {
+
+        if(quoteIndex != columnStart) {
+            if(!surroundingSpacesNeedQuotes) {
+                return NOT_SIMPLE;
+            }
+            for(int i = columnStart; i < quoteIndex; i++) {
+                if(buffer[i] != SPACE) {
+                    return NOT_SIMPLE;
+                }
+            }
+        }
+
+        final int quoteOffset = quoteIndex - columnStart;
+
+        // 閉じるクォートの探索
+        position = quoteIndex + 1;
+        while(true) {
+            if(position >= limit && !fill()) {
+                return NOT_SIMPLE;
+            }
+
+            final char c = buffer[position];
+            if(c == quoteChar) {
+                break;
+            } else if(c == CR || c == NEWLINE) {
+                return NOT_SIMPLE;
+            }
+            position++;
+        }
+
+        final int closeOffset = position - columnStart;
+        position++;
+
+        final boolean end = position >= limit && !fill();
+        final char next = end ? 0 : buffer[position];
+        if(!end && next != delimiterChar && next != CR && next != NEWLINE) {
+            // エスケープされたクォートや、クォートの後に文字がある場合
+            return NOT_SIMPLE;
+        }
+
+        final int valueStart = columnStart + quoteOffset + 1;
+        final int valueLength = closeOffset - quoteOffset - 1;
+        columns.add(skipped || valueLength == 0 ? null : new String(buffer, valueStart, valueLength));
+
+        if(!end && next == delimiterChar) {
+            position++;
+            return COLUMN_END;
+        }
+
+        rowEnd = position;
+        skipLineTerminator();
+        return ROW_END;
+    }
+
+    /**
+     * Super CSVの{@link Tokenizer}と同じ状態遷移で、1つのカラムを読み込みます。
+     * @return レコードの終わりに達した場合は{@literal true}。
+     * @throws SuperCsvException クォートで囲まれたカラムが閉じられていない場合。
+     */
+    private boolean readColumn(final List<String> columns, final boolean skipped) throws IOException {
+
+        currentColumn.setLength(0);
+        position = columnStart;
+
+        boolean quoteMode = false;
+        int quoteScopeStartingLine = -1;
+        int potentialSpaces = 0;
+
+        while(true) {
+            if(position >= limit && !fill()) {
+                if(quoteMode) {
+                    checkMaxLinesPerRow(quoteScopeStartingLine);
+                    throw newUnexpectedEofException(quoteScopeStartingLine);
+                }
+
+                addColumn(columns, potentialSpaces, skipped);
+                rowEnd = position;
+                return true;
+            }
+
+            final char c = buffer[position];
+
+            if(!quoteMode) {
+                if(c == CR || c == NEWLINE) {
+                    addColumn(columns, potentialSpaces, skipped);
+                    rowEnd = position;
+                    skipLineTerminator();
+                    return true;
+
+                } else if(c == delimiterChar) {
+                    addColumn(columns, potentialSpaces, skipped);
+                    position++;
+                    return false;
+
+                } else if(c == quoteChar) {
+                    quoteMode = true;
+                    quoteScopeStartingLine = lineNumber;
+                    if(!skipped && (!surroundingSpacesNeedQuotes || currentColumn.length() > 0)) {
+                        appendSpaces(currentColumn, potentialSpaces);
+                    }
+                    potentialSpaces = 0;
+
+                } else if(skipped) {
+                    // 読み飛ばすカラムの値は保持しない
+
+                } else if(c == SPACE) {
+                    potentialSpaces++;
+
+                } else {
+                    if(!surroundingSpacesNeedQuotes || currentColumn.length() > 0) {
+                        appendSpaces(currentColumn, potentialSpaces);
+                    }
+                    potentialSpaces = 0;
+                    currentColumn.append(c);
+                }
+                position++;
+
+            } else if(c == CR || c == NEWLINE) {
+                // クォートで囲まれたカラム内の改行
+                checkMaxLinesPerRow(quoteScopeStartingLine);
+                skipLineTerminator();
+                if(position >= limit && !fill()) {
+                    throw newUnexpectedEofException(quoteScopeStartingLine);
+                }
+
+                lineNumber++;
+                if(!skipped) {
+                    currentColumn.append(NEWLINE);
+                }
+
+            } else if(c == quoteChar) {
+                position++;
+                if((position < limit || fill()) && buffer[position] == quoteChar) {
+                    // エスケープされたクォート
+                    if(!skipped) {
+                        currentColumn.append(c);
+                    }
+                    position++;
+                } else {
+                    quoteMode = false;
+                    quoteScopeStartingLine = -1;
+                }
+
+            } else {
+                if(!skipped) {
+                    currentColumn.append(c);
+                }
+                position++;
+            }
+        }
+
+    }
+
+    private void checkMaxLinesPerRow(final int quoteScopeStartingLine) {
+
+        if(maxLinesPerRow > 0 && lineNumber - quoteScopeStartingLine + 1 >= maxLinesPerRow) {
+            final String message = maxLinesPerRow == 1 ?
+                    String.format("unexpected end of line while reading quoted column on line %d", lineNumber) :
+                    String.format("max number of lines to read exceeded while reading quoted column"
+                            + " beginning on line %d and ending on line %d", quoteScopeStartingLine, lineNumber);
+            throw new SuperCsvException(message);
+        }
+    }
+
+    private SuperCsvException newUnexpectedEofException(final int quoteScopeStartingLine) {
+        return new SuperCsvException(String.format("unexpected end of file while reading quoted column"
+                + " beginning on line %d and ending on line %d", quoteScopeStartingLine, lineNumber));
+    }
+
+    private void addColumn(final List<String> columns, final int potentialSpaces, final boolean skipped) {
+
+        if(skipped) {
+            columns.add(null);
+            return;
+        }
+
+        if(!surroundingSpacesNeedQuotes) {
+            appendSpaces(currentColumn, potentialSpaces);
+        }
+        columns.add(currentColumn.length() == 0 ? null : currentColumn.toString());
+    }
+
+    /**
+     * クォートで囲まれていないカラムの値を、バッファから切り出します。
+     */
+    private String cutColumn(int start, int end) {
+
+        if(surroundingSpacesNeedQuotes) {
+            while(start < end && buffer[start] == SPACE) {
+                start++;
+            }
+            while(start < end && buffer[end - 1] == SPACE) {
+                end--;
+            }
+        }
+
+        return start == end ? null : new String(buffer, start, end - start);
+    }
+
+    /**
+     * バッファに文字を読み込みます。
+     * <p>バッファに空きがない場合は、現在のレコードより前を詰めるか、バッファを拡張します。
+     *   <br>詰めた場合は、保持している位置の情報も移動します。
+     * </p>
+     * @return 読み込んだ場合は{@literal true}、入力の終端に達した場合は{@literal false}。
+     */
+    private boolean fill() throws IOException {
+
+        if(eof) {
+            return false;
+        }
+
+        if(limit == buffer.length) {
+            final int shift = rowStart;
+            if(shift > 0) {
+                System.arraycopy(buffer, shift, buffer, 0, limit - shift);
+                limit -= shift;
+                position -= shift;
+                rowStart -= shift;
+                rowEnd -= shift;
+                columnStart -= shift;
+
+            } else {
+                final char[] newBuffer = new char[buffer.length * 2];
+                System.arraycopy(buffer, 0, newBuffer, 0, limit);
+                this.buffer = newBuffer;
+            }
+        }
+
+        final int count = reader.read(buffer, limit, buffer.length - limit);
+        if(count < 0) {
+            eof = true;
+            return false;
+        }
+
+        limit += count;
+        return true;
+    }
+
+    private static boolean isSkipped(final boolean[] skippedColumns, final int columnIndex) {
+        return skippedColumns != null && columnIndex < skippedColumns.length && skippedColumns[columnIndex];
+    }
+
+    /**
+     * マッピング情報から、読み飛ばすカラムの情報を取得します。
+     * @return 全てのカラムを読み込む場合は{@literal null}を返します。
+     */
+    private boolean[] getSkippedColumns() {
+
+        if(beanMapping == null) {
+            return null;
+        }
+
+        if(skippedColumns == null) {
+            final List<ColumnMapping> columnMappings = beanMapping.getColumns();
+            final boolean[] skipped = new boolean[columnMappings.size()];
+            for(ColumnMapping columnMapping : columnMappings) {
+                final int index = columnMapping.getNumber() - 1;
+                if(columnMapping.isPartialized() && index >= 0 && index < skipped.length) {
+                    skipped[index] = true;
+                }
+            }
+            this.skippedColumns = skipped;
+        }
+
+        return skippedColumns;
+    }
+
+    private static void appendSpaces(final StringBuilder sb, final int spaces) {
+        for(int i = 0; i < spaces; i++) {
+            sb.append(SPACE);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>複数行にまたがるレコードの場合、改行は{@literal \n}に変換します。</p>
+     */
+    @Override
+    public String getUntokenizedRow() {
+
+        if(untokenizedRow == null) {
+            final StringBuilder row = new StringBuilder(rowEnd - rowStart);
+            for(int i = rowStart; i < rowEnd; i++) {
+                final char c = buffer[i];
+                if(c == CR) {
+                    row.append(NEWLINE);
+                    if(i + 1 < rowEnd && buffer[i + 1] == NEWLINE) {
+                        i++;
+                    }
+                } else {
+                    row.append(c);
+                }
+            }
+            this.untokenizedRow = row.toString();
+        }
+
+        return untokenizedRow;
+    }
+
+    @Override
+    public int getLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+}
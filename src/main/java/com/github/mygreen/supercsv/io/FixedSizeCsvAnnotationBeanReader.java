@@ -4,10 +4,14 @@ import java.io.IOException;
 import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.supercsv.exception.SuperCsvException;
 
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
 import com.github.mygreen.supercsv.exception.SuperCsvFixedSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
@@ -40,7 +44,7 @@ public class FixedSizeCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBe
              */
             e.getCsvContext().setRowNumber(getRowNumber());
             
-            errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+            addErrorMessages(e);
             throw e;
         }
     }
@@ -108,4 +112,73 @@ public class FixedSizeCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBe
         return list;
     }
     
+    /**
+     * エラーの許容範囲を指定して、レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     * <p>例外{@link SuperCsvNoMatchColumnSizeException}、{@link SuperCsvNoMatchHeaderException}、{@link SuperCsvBindingException}
+     *    が発生しても続行し、エラーが許容範囲を超えた時点で処理を終了します。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * // 連続して10件のエラーが発生した場合は中断する
+     * List&lt;SampleCsv&gt; list = csvReader.readAll(CsvErrorPolicy.maxConsecutiveErrors(9));
+     * </code></pre>
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。
+     * 
+     * @throws NullPointerException {@literal errorPolicy is null.}
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     */
+    public List<T> readAll(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        errorPolicy.reset();
+        
+        processHeader(errorPolicy);
+        
+        return readAllRecords(errorPolicy);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>ヘッダー行を持つ場合は、{@link #getHeader(boolean)}で読み込み、定義と一致するか検証します。</p>
+     */
+    @Override
+    protected void processHeader(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        if(beanMappingCache.getOriginal().isHeader()) {
+            try {
+                getHeader(true);
+            } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
+                checkErrorPolicy(errorPolicy, e);
+            }
+        }
+    }
+    
+    /**
+     * エラーの許容範囲を指定して、レコードを全て非同期に読み込みます。
+     * <p>{@link #readAll(CsvErrorPolicy)}を、指定した{@link Executor}で実行します。
+     *   <br>Java21以降では、仮想スレッドのExecutorを指定することで、CSVごとにプラットフォームスレッドを占有せずに読み込めます。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * csvReader.readAllAsync(Executors.newVirtualThreadPerTaskExecutor(), CsvErrorPolicy.maxErrors(100))
+     *     .thenAccept(list -&gt; service.register(list));
+     * </code></pre>
+     * <p>読み込みが完了するまでは、このインスタンスを他のスレッドから使用しないでください。</p>
+     * 
+     * @since 2.5
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。{@link IOException}などの例外は、ラップせずに例外として設定されます。
+     * @throws NullPointerException {@literal executor or errorPolicy is null.}
+     */
+    public CompletableFuture<List<T>> readAllAsync(final Executor executor, final CsvErrorPolicy errorPolicy) {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        return executeAsync(executor, () -> readAll(errorPolicy));
+    }
+    
 }
@@ -2,6 +2,7 @@ package com.github.mygreen.supercsv.io;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
 
@@ -49,6 +50,17 @@ public class FixedSizeCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBe
      */
     private int columnNumber = 0;
     
+    /**
+     * 1レコード分の文字列を組み立てるバッファ。
+     * <p>レコードごとに再利用し、{@link Writer}にはまとめて書き込みます。</p>
+     */
+    private char[] recordBuffer;
+    
+    /**
+     * {@link #recordBuffer}に格納した文字数。
+     */
+    private int recordLength = 0;
+    
     public FixedSizeCsvAnnotationBeanWriter(final Writer writer, final FixedSizeCsvPreference<T> preference) {
         super(writer, preference.getCsvPreference());
         
@@ -58,6 +70,7 @@ public class FixedSizeCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBe
         
         this.beanMappingCache = preference.getBeanMappingCache();
         this.validators.addAll(beanMappingCache.getOriginal().getValidators());
+        this.recordBuffer = new char[initialBufferSize()];
     }
     
     /**
@@ -78,7 +91,10 @@ public class FixedSizeCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBe
             throw new IllegalArgumentException(String.format("columns to write should not be empty on line %d", lineNumber));
         }
         
-        StringBuilder builder = new StringBuilder();
+        recordLength = 0;
+        
+        // 例外のコンテキストはコピーされるため、1レコード内で使いまわす。
+        final CsvContext context = new CsvContext(lineNumber, rowNumber, 0);
         for( int i = 0; i < columns.length; i++ ) {
             
             this.columnNumber = i + 1; // column no used by CsvEncoder
@@ -87,9 +103,9 @@ public class FixedSizeCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBe
             final String csvElement = columns[i];
             if (csvElement != null) {
                 try {
-                    final CsvContext context = new CsvContext(lineNumber, rowNumber, columnNumber);
+                    context.setColumnNumber(columnNumber);
                     final String escapedCsv = encoder.encode(csvElement, context, preference);
-                    builder.append(escapedCsv);
+                    append(escapedCsv);
                     this.lineNumber = context.getLineNumber(); // line number can increment when encoding multi-line columns
                 } catch(SuperCsvException e) {
                     errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
@@ -99,8 +115,40 @@ public class FixedSizeCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBe
             
         }
         
-        builder.append(preference.getEndOfLineSymbols()); // EOL
-        writer.write(builder.toString());
+        append(preference.getEndOfLineSymbols()); // EOL
+        writer.write(recordBuffer, 0, recordLength);
+    }
+    
+    /**
+     * レコードのバッファに文字列を追加する。
+     * <p>バッファのサイズが不足する場合は拡張する。</p>
+     * @param text 追加する文字列
+     */
+    private void append(final String text) {
+        
+        final int length = text.length();
+        if(recordLength + length > recordBuffer.length) {
+            recordBuffer = Arrays.copyOf(recordBuffer, Math.max(recordBuffer.length * 2, recordLength + length));
+        }
+        
+        text.getChars(0, length, recordBuffer, recordLength);
+        recordLength += length;
+    }
+    
+    /**
+     * レコードのバッファの初期サイズを計算する。
+     * <p>各カラムの固定長のサイズの合計と改行コードの長さとする。
+     *   <br>固定長のサイズは、1文字を1以上としてカウントするため、通常は拡張する必要はない。
+     * </p>
+     * @return バッファの初期サイズ
+     */
+    private int initialBufferSize() {
+        
+        final int columnSize = beanMappingCache.getOriginal().getColumns().stream()
+                .mapToInt(column -> column.getFixedSizeProperty().getSize())
+                .sum();
+        
+        return columnSize + preference.getEndOfLineSymbols().length();
     }
     
     /**
@@ -7,7 +7,9 @@ import org.supercsv.prefs.CsvPreference;
 import org.supercsv.util.CsvContext;
 
 import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.ColumnMapping;
 import com.github.mygreen.supercsv.builder.FixedSizeColumnProperty;
+import com.github.mygreen.supercsv.cellprocessor.conversion.PaddingProcessor;
 import com.github.mygreen.supercsv.exception.SuperCsvFixedSizeException;
 
 
@@ -30,6 +32,12 @@ public class FixedSizeCsvEncoder<T> implements CsvEncoder {
     private final Supplier<BeanMapping<T>> beanMappingSupplier;
     
     /**
+     * 列番号をインデックスとした、カラムの固定長プロパティ。
+     * <p>初回のエンコード時に作成する。複数のスレッドから同時に作成されても、同じ内容となる。</p>
+     */
+    private volatile FixedSizeColumnProperty[] columnProperties;
+    
+    /**
      * コンストラクタ。
      * 
      * @param beanMappingSupplier BeanMappingの情報を取得するためのSupplier。
@@ -42,16 +50,47 @@ public class FixedSizeCsvEncoder<T> implements CsvEncoder {
     /**
      * 指定した列番号のカラムの固定長プロパティを取得する。
      * <p>列番号は1から始まる。</p>
+     * <p>カラムの固定長プロパティは、初回の呼び出し時に列番号をインデックスとした配列として保持し、
+     *    以降はBeanMappingを参照しない。
+     * </p>
      * 
      * @param columnNumber 列番号
      * @return 固定長プロパティ
      * @throws IllegalStateException 列番号に対応するカラムの情報が見つからない場合。
      */
     private FixedSizeColumnProperty getColumnProperty(int columnNumber) {
-        BeanMapping<T> beanMapping = beanMappingSupplier.get();
-        return beanMapping.getColumnMapping(columnNumber)
-                .orElseThrow(() -> new IllegalStateException("columnMappings not found with columnNumber=" + columnNumber))
-                .getFixedSizeProperty();
+        
+        FixedSizeColumnProperty[] properties = this.columnProperties;
+        if(properties == null) {
+            properties = createColumnProperties(beanMappingSupplier.get());
+            this.columnProperties = properties;
+        }
+        
+        final FixedSizeColumnProperty property = columnNumber < properties.length ? properties[columnNumber] : null;
+        if(property == null) {
+            throw new IllegalStateException("columnMappings not found with columnNumber=" + columnNumber);
+        }
+        
+        return property;
+    }
+    
+    /**
+     * 列番号をインデックスとした、カラムの固定長プロパティの配列を作成する。
+     * @param beanMapping Beanのマッピング情報
+     * @return 固定長プロパティの配列。該当するカラムがない要素は{@literal null}となる。
+     */
+    private static FixedSizeColumnProperty[] createColumnProperties(final BeanMapping<?> beanMapping) {
+        
+        final int maxNumber = beanMapping.getColumns().stream()
+                .mapToInt(ColumnMapping::getNumber)
+                .max().orElse(0);
+        
+        final FixedSizeColumnProperty[] properties = new FixedSizeColumnProperty[maxNumber + 1];
+        for(ColumnMapping column : beanMapping.getColumns()) {
+            properties[column.getNumber()] = column.getFixedSizeProperty();
+        }
+        
+        return properties;
     }
     
     /**
@@ -62,13 +101,18 @@ public class FixedSizeCsvEncoder<T> implements CsvEncoder {
     @Override
     public String encode(final String input, final CsvContext context, final CsvPreference preference) {
         
-        FixedSizeColumnProperty fixedSizeProperty = getColumnProperty(context.getColumnNumber());
+        final FixedSizeColumnProperty fixedSizeProperty = getColumnProperty(context.getColumnNumber());
+        final PaddingProcessor paddingProcessor = fixedSizeProperty.getPaddingProcessor();
+        
+        // サイズは文字列全体でカウントする。
+        // ※ステートフルな文字コードは、エスケープシーケンスを含めたバイト数が文字単位の合計と一致しないため。
+        final int actualSize = paddingProcessor.count(input);
+        final boolean containsLineBreak = input.indexOf('\r') >= 0 || input.indexOf('\n') >= 0;
         
         /*
          * 固定長サイズと一致しない場合は例外をスローする。
          * ※固定長サイズを超える場合は、使用者側で事前に切り落としておく。
          */
-        int actualSize = fixedSizeProperty.getPaddingProcessor().count(input);
         if (actualSize > fixedSizeProperty.getSize()) {
             throw new SuperCsvFixedSizeException.Builder("csvError.fixedSizeOver", context)
                     .messageFormat("Over column size. fixedColumnSize: %d, actualSize: %d",
@@ -83,7 +127,7 @@ public class FixedSizeCsvEncoder<T> implements CsvEncoder {
          * 改行コードを含む場合は例外をスローする。
          * ※改行コードを含む場合は、使用者側で事前に除去しておく。
          */
-        if (input.contains("\r") || input.contains("\n")) {
+        if (containsLineBreak) {
             throw new SuperCsvFixedSizeException.Builder("csvError.fixedSizeContainsLineBreak", context)
                     .messageFormat("Contains line break. input: [%s]", input)
                     .messageVariables("validatedValue", input)
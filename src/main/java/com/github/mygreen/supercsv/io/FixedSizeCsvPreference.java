@@ -1,7 +1,10 @@
 package com.github.mygreen.supercsv.io;
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Supplier;
@@ -129,6 +132,36 @@ public class FixedSizeCsvPreference<T> {
         return new FixedSizeCsvAnnotationBeanReader<>(reader, this);
     }
     
+    /**
+     * メモリにマッピングしたファイルから固定長CSVの読み込みを行う {@link FixedSizeCsvAnnotationBeanReader}を作成します。
+     * <p>{@link MappedFileReader}を使用して、マッピングしたバッファから直接デコードして読み込みます。</p>
+     * 
+     * @since 2.5
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @return {@link FixedSizeCsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    public FixedSizeCsvAnnotationBeanReader<T> csvReader(final Path file, final Charset charset) throws IOException {
+        return new FixedSizeCsvAnnotationBeanReader<>(new MappedFileReader(file, charset), this);
+    }
+    
+    /**
+     * 1つの大きな固定長CSVファイルを、分割して並列に読み込む {@link ParallelFixedSizeCsvAnnotationBeanReader}を作成します。
+     * <p>1レコードのバイト長が一定である必要があります。</p>
+     * 
+     * @since 2.5
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @return {@link ParallelFixedSizeCsvAnnotationBeanReader}のインスタンス。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IllegalArgumentException レコードのバイト長を計算できない設定の場合。
+     */
+    public ParallelFixedSizeCsvAnnotationBeanReader<T> parallelCsvReader(final Path file, final Charset charset) {
+        return new ParallelFixedSizeCsvAnnotationBeanReader<>(this, file, charset);
+    }
+    
     /**
      * 固定長CSVの書き込みを行う {@link FixedSizeCsvAnnotationBeanWriter}を作成します。
      * @param writer Writer
@@ -207,6 +240,9 @@ public class FixedSizeCsvPreference<T> {
         
         private Configuration configuration;
         
+        /** マッピングしないカラムを読み飛ばすかどうか */
+        private boolean columnProjection;
+        
         /**
          * コンストラクタ。
          * @param beanType Beanのクラスタイプ
@@ -270,6 +306,19 @@ public class FixedSizeCsvPreference<T> {
             return this;
         }
         
+        /**
+         * 読み込み時に、フィールドにマッピングしないカラムを読み飛ばすかどうかを設定します。
+         * <p>{@literal true}の場合、アノテーション{@literal @CsvPartial}で補完したカラムは、文字列を作成せずに{@literal null}として読み込みます。
+         *   <br>{@link #tokenizerFactory(TokenizerFactory)}で独自のTokenizerを指定した場合は、この設定は使用されません。
+         * </p>
+         * @param columnProjection マッピングしないカラムを読み飛ばす場合は{@literal true}を指定します。
+         * @return Builder自身のインスタンス。
+         */
+        public Builder<T> columnProjection(final boolean columnProjection) {
+            this.columnProjection = columnProjection;
+            return this;
+        }
+        
         /**
          * CsvEncoderを作成する処理を設定します。
          * @param encoderFactory CsvEncoderを作成する処理を設定します。デフォルトは、{@link FixedSizeCsvEncoder}のインスタンスです。
@@ -327,11 +376,12 @@ public class FixedSizeCsvPreference<T> {
             }
             
             if (tokenizerFactory == null) {
+                final boolean projection = columnProjection;
                 tokenizerFactory = new TokenizerFactory<T>() {
                     
                     @Override
                     public ITokenizer create(Reader reader, CsvPreference preference, BeanMapping<T> beanMapping) {
-                        return new FixedSizeTokenizer(reader, preference, beanMapping);
+                        return new FixedSizeTokenizer(reader, preference, beanMapping, projection);
                     }
                 };
                 
@@ -0,0 +1,125 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import com.github.mygreen.supercsv.util.ArgUtils;
+
+/**
+ * 1レコードのバイト長が一定の固定長ファイルを、レコードの境界で複数のバイト範囲に分割するクラス。
+ * <p>レコードの位置は、{@literal レコード長 × レコードのインデックス} で計算できるため、ファイルの内容を走査せずに分割します。
+ *   <br>分割位置の直前が改行コードであることのみを確認し、レコード長が一定でないファイルを誤って分割しないようにします。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeFileSplitter {
+
+    private final Path file;
+
+    /** 改行コードを含む1レコードのバイト長 */
+    private final long recordLength;
+
+    /** 改行コードのバイト列 */
+    private final byte[] lineSeparator;
+
+    /**
+     * コンストラクタ。
+     *
+     * @param file 分割対象のファイル。
+     * @param recordLength 改行コードを含む1レコードのバイト長。
+     * @param lineSeparator 改行コードのバイト列。
+     * @throws NullPointerException {@literal file or lineSeparator is null.}
+     * @throws IllegalArgumentException {@literal recordLength <= lineSeparator.length}
+     */
+    public FixedSizeFileSplitter(final Path file, final long recordLength, final byte[] lineSeparator) {
+        Objects.requireNonNull(file, "file should not be null.");
+        Objects.requireNonNull(lineSeparator, "lineSeparator should not be null.");
+        ArgUtils.notMin(recordLength, (long)lineSeparator.length + 1L, "recordLength");
+
+        this.file = file;
+        this.recordLength = recordLength;
+        this.lineSeparator = lineSeparator.clone();
+    }
+
+    /**
+     * ファイルをレコードの境界で分割する。
+     * <p>最終レコードの改行コードは省略されていても構いません。</p>
+     *
+     * @param splitCount 分割数。レコード数が少ない場合、実際の範囲の数は少なくなることがあります。
+     * @return 分割した範囲。ファイルの先頭から順に格納されます。空のファイルの場合は、空のリストを返します。
+     * @throws IllegalArgumentException {@literal splitCount < 1}
+     * @throws IOException ファイルの読み込みに失敗した場合、または、ファイルサイズや分割位置がレコード長と一致しない場合。
+     */
+    public List<CsvFileSplitter.Range> split(final int splitCount) throws IOException {
+
+        if(splitCount < 1) {
+            throw new IllegalArgumentException(String.format("splitCount should be greater than 0, but %d.", splitCount));
+        }
+
+        try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+            final long size = channel.size();
+            if(size == 0L) {
+                return Collections.emptyList();
+            }
+
+            final long recordCount;
+            if(size % recordLength == 0L) {
+                recordCount = size / recordLength;
+            } else if((size + lineSeparator.length) % recordLength == 0L) {
+                // 最終レコードの改行コードが省略されている場合
+                recordCount = (size + lineSeparator.length) / recordLength;
+            } else {
+                throw new IOException(String.format("file size (%d) is not a multiple of record length (%d) : %s",
+                        size, recordLength, file));
+            }
+
+            final long recordsPerRange = (recordCount + splitCount - 1L) / splitCount;
+            final List<CsvFileSplitter.Range> ranges = new ArrayList<>();
+            final ByteBuffer buffer = ByteBuffer.allocate(lineSeparator.length);
+
+            long start = 0L;
+            for(long record = recordsPerRange; record < recordCount; record += recordsPerRange) {
+                final long boundary = record * recordLength;
+                if(!isLineSeparator(channel, buffer, boundary - lineSeparator.length)) {
+                    throw new IOException(String.format("record length is not constant (%d bytes) at position %d : %s",
+                            recordLength, boundary, file));
+                }
+
+                ranges.add(new CsvFileSplitter.Range(ranges.size(), start, boundary));
+                start = boundary;
+            }
+
+            ranges.add(new CsvFileSplitter.Range(ranges.size(), start, size));
+            return ranges;
+        }
+
+    }
+
+    /**
+     * 指定した位置が改行コードかどうか判定する。
+     */
+    private boolean isLineSeparator(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+
+        buffer.clear();
+        while(buffer.hasRemaining()) {
+            if(channel.read(buffer, position + buffer.position()) < 0) {
+                return false;
+            }
+        }
+
+        return Arrays.equals(buffer.array(), lineSeparator);
+    }
+
+}
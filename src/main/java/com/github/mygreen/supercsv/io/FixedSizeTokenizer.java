@@ -17,6 +17,10 @@ import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * 固定長の行をカラムに分解するTokenizer。
+ * <p>カラムの射影を有効にした場合、アノテーション{@literal @CsvPartial}で補完したカラムなど、
+ *    フィールドにマッピングしないカラムは、文字列を作成せずに読み飛ばし、値として{@literal null}を設定します。
+ *   <br>ただし、最初の行は見出し行の可能性があるため、全てのカラムを読み込みます。
+ * </p>
  *
  * @since 2.5
  * @author T.TSUCHIE
@@ -36,7 +40,26 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
     /** カラム情報(固定長定義) */
     private final List<ColumnMapping> columnMappings;
 
+    /** マッピングしないカラムを読み飛ばすかどうか */
+    private final boolean columnProjection;
+
+    /** 読み込んだ行数 */
+    private int rowCount;
+
     public FixedSizeTokenizer(Reader reader, CsvPreference preferences, BeanMapping<?> beanMapping) {
+        this(reader, preferences, beanMapping, false);
+    }
+
+    /**
+     * カラムの射影を行うかどうかを指定するコンストラクタ。
+     * 
+     * @since 2.5
+     * @param reader the Reader
+     * @param preferences the CSV preferences
+     * @param beanMapping Beanのマッピング情報
+     * @param columnProjection {@literal true}の場合、フィールドにマッピングしないカラムを読み飛ばします。
+     */
+    public FixedSizeTokenizer(Reader reader, CsvPreference preferences, BeanMapping<?> beanMapping, boolean columnProjection) {
         super(reader, preferences);
 
         if (beanMapping.getColumns().isEmpty()) {
@@ -46,6 +69,7 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
         this.ignoreEmptyLines = preferences.isIgnoreEmptyLines();
         this.commentMatcher = preferences.getCommentMatcher();
         this.columnMappings = beanMapping.getColumns();
+        this.columnProjection = columnProjection;
     }
 
     /**
@@ -73,8 +97,11 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
         while( ignoreEmptyLines && line.length() == 0 || (commentMatcher != null && commentMatcher.isComment(line)) );
 
         // update the untokenized CSV row
+        currentRow.setLength(0);
         currentRow.append(line);
 
+        final boolean projection = columnProjection && rowCount++ > 0;
+
         final int[] codePointArray = Utils.toCodePointArray(line);
 
         int pos = 0;
@@ -85,15 +112,19 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
                 break;
             }
             
-            StringBuilder text = new StringBuilder();
-            int lastPos = lastPosition(pos, codePointArray, text, columnMapping);
+            int lastPos = lastPosition(pos, codePointArray, columnMapping);
 
             /*
              * 固定長の場合、エスケープ文字や途中改行などは対応しない。
              * ・ライブラリ側でエスケープ文字を挿入すると文字数が変わり、固定長をオーバーしてしまうため。
              * ・エスケープは、使用者側で行う。
              */
-            columns.add(text.toString());
+            if (projection && columnMapping.isPartialized()) {
+                // マッピングしないカラムは、位置のみを進める
+                columns.add(null);
+            } else {
+                columns.add(new String(codePointArray, pos, lastPos - pos));
+            }
 
             pos = lastPos;
         }
@@ -112,12 +143,11 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
      * 
      * @param start カラムの開始位置。
      * @param codePointArray 取得対象のCode Pointの配列。
-     * @param column カラムとして切り出した文字列を格納する。
-     * @param columnProperty 固定長カラムの定義情報。
+     * @param columnMapping 固定長カラムの定義情報。
      * @return カラムの最後の位置としての引数 {@literal codePointArray} のインデックスを返す。
      * @throws SuperCsvFixedSizeInsufficientException カラムのサイズが不足している場合。
      */
-    private int lastPosition(final int start, int[] codePointArray, StringBuilder column, ColumnMapping columnMapping) {
+    private int lastPosition(final int start, int[] codePointArray, ColumnMapping columnMapping) {
 
         int pos = start;
         int actualSize = 0;
@@ -139,8 +169,6 @@ public class FixedSizeTokenizer extends AbstractTokenizer {
                 .build();
         }
 
-        column.append(new String(codePointArray, start, pos - start));
-
         return pos;
 
     }
@@ -7,7 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.io.ITokenizer;
@@ -17,9 +18,9 @@ import com.github.mygreen.supercsv.annotation.CsvPartial;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.BeanMappingFactoryHelper;
 import com.github.mygreen.supercsv.builder.ColumnMapping;
-import com.github.mygreen.supercsv.builder.HeaderMapper;
 import com.github.mygreen.supercsv.builder.LazyBeanMappingFactory;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchColumnSizeException;
 import com.github.mygreen.supercsv.exception.SuperCsvNoMatchHeaderException;
 import com.github.mygreen.supercsv.localization.MessageBuilder;
@@ -32,7 +33,7 @@ import com.github.mygreen.supercsv.localization.MessageBuilder;
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
  * 
- * @version 2.2
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -174,7 +175,7 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
                 
             } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
                 // convert exception and format to message.
-                errorMessages.addAll(exceptionConverter.convertAndFormat(e, beanMappingCache.getOriginal()));
+                addErrorMessages(e);
                 throw e;
             }
         }
@@ -266,6 +267,61 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
         
     }
     
+    /**
+     * エラーの許容範囲を指定して、レコードを全て読み込みます。
+     * <p>ヘッダー行も自動的に処理されます。</p>
+     * <p>例外{@link SuperCsvNoMatchColumnSizeException}、{@link SuperCsvNoMatchHeaderException}、{@link SuperCsvBindingException}
+     *    が発生しても続行し、エラーが許容範囲を超えた時点で処理を終了します。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * // 連続して10件のエラーが発生した場合は中断する
+     * List&lt;SampleCsv&gt; list = csvReader.readAll(CsvErrorPolicy.maxConsecutiveErrors(9));
+     * </code></pre>
+     * 
+     * @since 2.5
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。
+     * 
+     * @throws NullPointerException {@literal errorPolicy is null.}
+     * @throws IOException レコードの読み込みに失敗した場合。
+     * @throws SuperCsvErrorPolicyException エラーが許容範囲を超えた場合
+     * @throws SuperCsvException 設定など、その他に問題がある場合
+     * @throws IllegalStateException ヘッダー行を持たないときに、{@link #init(String...)}で初期化が済んでいない場合。
+     */
+    public List<T> readAll(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        errorPolicy.reset();
+        
+        processHeader(errorPolicy);
+        
+        return readAllRecords(errorPolicy);
+    }
+    
+    /**
+     * {@inheritDoc}
+     * <p>初期化が済んでいない場合、ヘッダー行を持つときは、1行目を読み込んで初期化します。</p>
+     * @throws IllegalStateException ヘッダー行を持たないときに、{@link #init(String...)}で初期化が済んでいない場合。
+     */
+    @Override
+    protected void processHeader(final CsvErrorPolicy errorPolicy) throws IOException {
+        
+        if(!initialized) {
+            if(beanMapping.isHeader()) {
+                // ヘッダーがファイルに存在する場合、１行目を読み込んで初期化を行う。
+                try {
+                    init();
+                } catch(SuperCsvNoMatchColumnSizeException | SuperCsvNoMatchHeaderException e) {
+                    checkErrorPolicy(errorPolicy, e);
+                }
+                
+            } else {
+                // ヘッダーがファイルに存在しない場合、独自にinit(header1, header2)メソッドを呼んで初期化する必要がある。
+                throw newNotInitialzedException();
+            }
+        }
+    }
+    
     /**
      * {@inheritDoc}
      * @throws IllegalStateException ヘッダーが読み込まれておらず、マッピング情報の初期か完了していない場合。
@@ -283,6 +339,22 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
         
     }
     
+    /**
+     * {@inheritDoc}
+     * @throws IllegalStateException ヘッダーが読み込まれておらず、マッピング情報の初期か完了していない場合。
+     */
+    @Override
+    public boolean readInto(final T bean) throws IOException {
+        
+        // ヘッダーが読み込まれておらず、初期化が終わっていない場合
+        if(!initialized) {
+            throw newNotInitialzedException();
+        }
+        
+        return super.readInto(bean);
+        
+    }
+    
     /**
      * 読み込んだヘッダーを元に、マッピング情報を補完する。
      * <p>カラムの位置である番号を確定する。</p>
@@ -294,27 +366,8 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
     private void setupMappingColumns(final String[] headers) {
         
         final List<ColumnMapping> columnMappingList = beanMapping.getColumns();
-        final HeaderMapper headerMapper = beanMapping.getHeaderMapper();
-        
         // 一致するラベルがあれば、カラムの番号を補完する
-        final int headerSize = headers.length;
-        for(int i=0; i < headerSize;i ++) {
-            
-            final String header = headers[i];
-            
-            /*
-             * 番号が決まっておらず、ラベルが一致するカラム情報を抽出する。
-             * ※既に番号が決まっているが、ラベルが一致しないのものは、後からチェックする。
-             */
-            List<ColumnMapping> undeterminedColumnList = columnMappingList.stream()
-                .filter(col -> col.getNumber() <= 0)
-                .filter(col -> headerMapper.toMap(col, beanMapping.getConfiguration(), beanMapping.getGroups()).equals(header))
-                .collect(Collectors.toList());
-            
-            final int columnNumber = i+1;
-            undeterminedColumnList.forEach(col -> col.setNumber(columnNumber));
-            
-        }
+        BeanMappingFactoryHelper.determineColumnNumberByHeader(beanMapping, columnMappingList, headers);
         
         // カラムの番号順に並び変える
         columnMappingList.sort(null);
@@ -360,4 +413,27 @@ public class LazyCsvAnnotationBeanReader<T> extends AbstractCsvAnnotationBeanRea
     }
     
     
+    /**
+     * エラーの許容範囲を指定して、レコードを全て非同期に読み込みます。
+     * <p>{@link #readAll(CsvErrorPolicy)}を、指定した{@link Executor}で実行します。
+     *   <br>Java21以降では、仮想スレッドのExecutorを指定することで、CSVごとにプラットフォームスレッドを占有せずに読み込めます。
+     * </p>
+     * <pre class="highlight"><code class="java">
+     * csvReader.readAllAsync(Executors.newVirtualThreadPerTaskExecutor(), CsvErrorPolicy.maxErrors(100))
+     *     .thenAccept(list -&gt; service.register(list));
+     * </code></pre>
+     * <p>読み込みが完了するまでは、このインスタンスを他のスレッドから使用しないでください。</p>
+     * 
+     * @since 2.5
+     * @param executor 読み込み処理を実行する{@link Executor}。
+     * @param errorPolicy エラーの許容範囲。読み込みの開始時に初期化します。
+     * @return 読み込んだレコード情報。{@link IOException}などの例外は、ラップせずに例外として設定されます。
+     * @throws NullPointerException {@literal executor or errorPolicy is null.}
+     */
+    public CompletableFuture<List<T>> readAllAsync(final Executor executor, final CsvErrorPolicy errorPolicy) {
+        
+        Objects.requireNonNull(errorPolicy, "errorPolicy should not be null.");
+        return executeAsync(executor, () -> readAll(errorPolicy));
+    }
+    
 }
@@ -18,7 +18,6 @@ import com.github.mygreen.supercsv.annotation.CsvPartial;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.BeanMappingFactoryHelper;
 import com.github.mygreen.supercsv.builder.ColumnMapping;
-import com.github.mygreen.supercsv.builder.HeaderMapper;
 import com.github.mygreen.supercsv.builder.LazyBeanMappingFactory;
 import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
 import com.github.mygreen.supercsv.localization.MessageBuilder;
@@ -29,7 +28,7 @@ import com.github.mygreen.supercsv.localization.MessageBuilder;
  * 
  * @param <T> マッピング対象のBeanのクラスタイプ
  * 
- * @version 2.2
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -130,27 +129,8 @@ public class LazyCsvAnnotationBeanWriter<T> extends AbstractCsvAnnotationBeanWri
     private void setupMappingColumns(final String[] headers) {
         
         final List<ColumnMapping> columnMappingList = beanMapping.getColumns();
-        final HeaderMapper headerMapper = beanMapping.getHeaderMapper();
-        
         // 一致するラベルがあれば、カラムの番号を補完する
-        final int headerSize = headers.length;
-        for(int i=0; i < headerSize;i ++) {
-            
-            final String header = headers[i];
-            
-            /*
-             * 番号が決まっておらず、ラベルが一致するカラム情報を抽出する。
-             * ※既に番号が決まっているが、ラベルが一致しないのものは、後からチェックする。
-             */
-            List<ColumnMapping> undeterminedColumnList = columnMappingList.stream()
-                .filter(col -> !col.isDeterminedNumber())
-                .filter(col -> headerMapper.toMap(col, beanMapping.getConfiguration(), beanMapping.getGroups()).equals(header))
-                .collect(Collectors.toList());
-            
-            final int columnNumber = i+1;
-            undeterminedColumnList.forEach(col -> col.setNumber(columnNumber));
-            
-        }
+        BeanMappingFactoryHelper.determineColumnNumberByHeader(beanMapping, columnMappingList, headers);
         
         // カラムの番号順に並び変える
         columnMappingList.sort(null);
@@ -0,0 +1,255 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * {@link FileChannel#map(java.nio.channels.FileChannel.MapMode, long, long)} でメモリにマッピングしたファイルを、
+ * 直接デコードして読み込む {@link Reader}。
+ * <p>{@link java.io.InputStreamReader} のように中間のバイト配列へのコピーを行わず、マッピングしたバッファから直接文字にデコードします。</p>
+ * <p>1度にマッピングできるサイズには上限があるため、一定サイズのウィンドウ単位に区切ってマッピングします。
+ *   <br>ウィンドウの境界でマルチバイト文字が分断された場合は、その文字の先頭位置から次のウィンドウをマッピングし直します。
+ * </p>
+ * <p>ファイルの一部の範囲（バイト単位）のみを読み込むことも可能です。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class MappedFileReader extends Reader {
+
+    /**
+     * 1度にマッピングするウィンドウのデフォルトサイズ（バイト）。
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    /** 読み込み対象のファイルのチャネル */
+    private final FileChannel channel;
+
+    /** 文字コードのデコーダ */
+    private final CharsetDecoder decoder;
+
+    /** 1度にマッピングするサイズ */
+    private final int windowSize;
+
+    /** 読み込み範囲の終了位置（この位置は含まない） */
+    private final long end;
+
+    /** 現在マッピングしているウィンドウの開始位置 */
+    private long windowStart;
+
+    /** 現在マッピングしているバッファ。未マッピングの場合はnull。 */
+    private ByteBuffer buffer;
+
+    /**
+     * 読み込み先の領域が不足していたときに、デコード済みの文字を一時的に保持するバッファ。
+     * <p>サロゲートペアは2文字で構成されるため、最低2文字分の領域が必要となる。</p>
+     */
+    private final CharBuffer leftover = CharBuffer.allocate(2);
+
+    /** デコードが完了したかどうか */
+    private boolean decodeFinished = false;
+
+    /** 閉じられたかどうか */
+    private boolean closed = false;
+
+    /**
+     * ファイル全体を読み込むためのコンストラクタ。
+     *
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    public MappedFileReader(final Path file, final Charset charset) throws IOException {
+        this(file, charset, 0L, -1L);
+    }
+
+    /**
+     * ファイルの範囲を指定して読み込むためのコンストラクタ。
+     * <p>範囲の開始位置は、文字の境界である必要があります。</p>
+     *
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param start 読み込み範囲の開始位置（バイト）。
+     * @param end 読み込み範囲の終了位置（バイト、この位置は含まない）。負の値の場合はファイルの終端。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IllegalArgumentException {@literal start is negative or end is less than start.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    public MappedFileReader(final Path file, final Charset charset, final long start, final long end) throws IOException {
+        this(file, charset, start, end, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * ファイルの範囲と、1度にマッピングするサイズを指定して読み込むためのコンストラクタ。
+     *
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @param start 読み込み範囲の開始位置（バイト）。
+     * @param end 読み込み範囲の終了位置（バイト、この位置は含まない）。負の値の場合はファイルの終端。
+     * @param windowSize 1度にマッピングするサイズ（バイト）。1文字の最大のバイト数以上の値を指定する必要があります。
+     * @throws NullPointerException {@literal file or charset is null.}
+     * @throws IllegalArgumentException {@literal start is negative or end is less than start, or windowSize is too small.}
+     * @throws IOException ファイルのオープンに失敗した場合。
+     */
+    MappedFileReader(final Path file, final Charset charset, final long start, final long end, final int windowSize)
+            throws IOException {
+
+        Objects.requireNonNull(file, "file should not be null.");
+        Objects.requireNonNull(charset, "charset should not be null.");
+
+        if(start < 0L) {
+            throw new IllegalArgumentException(String.format("start should be zero or positive, but %d.", start));
+        }
+
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        if(windowSize < Math.max(4, (int)Math.ceil(1.0f / decoder.averageCharsPerByte()))) {
+            throw new IllegalArgumentException(String.format("windowSize is too small : %d.", windowSize));
+        }
+
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.end = end < 0L ? channel.size() : Math.min(end, channel.size());
+        if(this.end < start) {
+            channel.close();
+            throw new IllegalArgumentException(String.format("end (%d) should be greater than or equal to start (%d).", end, start));
+        }
+
+        this.windowSize = windowSize;
+        this.windowStart = start;
+        this.leftover.flip();
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+
+        ensureOpen();
+
+        if(off < 0 || len < 0 || off + len > cbuf.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if(len == 0) {
+            return 0;
+        }
+
+        final CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+
+        // 前回の読み込み時に残った文字
+        while(leftover.hasRemaining() && out.hasRemaining()) {
+            out.put(leftover.get());
+        }
+
+        if(out.hasRemaining()) {
+            decode(out);
+        }
+
+        if(out.position() == off && !decodeFinished) {
+            // 読み込み先の領域が小さく、サロゲートペアを格納できない場合
+            leftover.clear();
+            decode(leftover);
+            leftover.flip();
+            if(leftover.hasRemaining()) {
+                out.put(leftover.get());
+            }
+        }
+
+        final int count = out.position() - off;
+        if(count == 0 && decodeFinished) {
+            return -1;
+        }
+
+        return count;
+
+    }
+
+    /**
+     * マッピングしたバッファから、読み込み先の領域が一杯になるか、範囲の終端に達するまでデコードする。
+     * @param out デコードした文字の格納先。
+     * @throws IOException マッピングに失敗した場合。
+     */
+    private void decode(final CharBuffer out) throws IOException {
+
+        while(!decodeFinished && out.hasRemaining()) {
+
+            if(buffer == null && !mapNextWindow()) {
+                // 範囲の終端
+                decoder.decode(ByteBuffer.allocate(0), out, true);
+                decoder.flush(out);
+                decodeFinished = true;
+                break;
+            }
+
+            final boolean lastWindow = (windowStart + buffer.limit()) >= end;
+            final CoderResult result = decoder.decode(buffer, out, lastWindow);
+
+            if(result.isOverflow()) {
+                break;
+
+            } else if(result.isUnderflow()) {
+                if(lastWindow) {
+                    if(decoder.flush(out).isOverflow()) {
+                        break;
+                    }
+                    decodeFinished = true;
+
+                } else {
+                    // 次のウィンドウをマッピングする。分断された文字がある場合は、その位置から再マッピングする。
+                    windowStart += buffer.position();
+                    buffer = null;
+                }
+
+            } else {
+                result.throwException();
+            }
+        }
+
+    }
+
+    /**
+     * 次のウィンドウをマッピングする。
+     * @return 範囲の終端に達している場合はfalseを返す。
+     * @throws IOException マッピングに失敗した場合。
+     */
+    private boolean mapNextWindow() throws IOException {
+
+        if(windowStart >= end) {
+            return false;
+        }
+
+        final long size = Math.min(windowSize, end - windowStart);
+        this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, size);
+        return true;
+    }
+
+    private void ensureOpen() throws IOException {
+        if(closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if(closed) {
+            return;
+        }
+
+        closed = true;
+        buffer = null;
+        channel.close();
+    }
+
+}
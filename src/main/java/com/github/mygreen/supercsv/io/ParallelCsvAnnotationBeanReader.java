@@ -0,0 +1,100 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * 1つの大きなCSVファイルを、レコードの境界で複数の範囲に分割して並列に読み込むクラス。
+ * <p>ファイルの分割は、{@link CsvFileSplitter}で行い、クォートで囲まれた改行を含むカラムも考慮します。
+ *   <br>分割した範囲ごとに、{@link MappedFileReader}で範囲を読み込む{@link CsvAnnotationBeanReader}を作成して処理します。
+ *   <br>{@link CsvPreference#getCommentMatcher()}が設定されている場合、コメント行のクォート文字は境界の判定に含めません。
+ * </p>
+ * <p>読み込んだレコードは、ファイルの先頭からの順序で返します。
+ *   <br>エラー情報の行番号とレコード番号は、ファイル全体での値に補正されます。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * ParallelCsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader = new ParallelCsvAnnotationBeanReader&lt;&gt;(
+ *         SampleCsv.class, Paths.get("sample.csv"), StandardCharsets.UTF_8, CsvPreference.STANDARD_PREFERENCE);
+ * csvReader.setParallelism(32);
+ *
+ * List&lt;SampleCsv&gt; list = csvReader.readAll(true);
+ * List&lt;String&gt; messages = csvReader.getErrorMessages();
+ * </code></pre>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class ParallelCsvAnnotationBeanReader<T> extends AbstractParallelCsvAnnotationBeanReader<T> {
+
+    /** CSVの設定情報 */
+    private final CsvPreference preference;
+
+    /**
+     * Beanのクラスタイプを指定して、{@link ParallelCsvAnnotationBeanReader}を作成するコンストラクタ。
+     *
+     * @param beanType Beanのクラスタイプ。
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。改行とクォート文字が1バイトで表現される必要があります。
+     * @param preference the CSV preferences.
+     * @param groups グループ情報。適用するアノテーションを切り替える際に指定します。
+     * @throws NullPointerException {@literal if beanType or file or charset or preferences are null.}
+     * @throws IllegalArgumentException ファイルをバイト単位で分割できない文字コード、またはクォート文字の場合。
+     * @throws SuperCsvInvalidAnnotationException 並列に処理できないアノテーションが付与されている場合。
+     */
+    public ParallelCsvAnnotationBeanReader(final Class<T> beanType, final Path file, final Charset charset,
+            final CsvPreference preference, final Class<?>... groups) {
+        this(new BeanMappingFactory().create(Objects.requireNonNull(beanType, "beanType should not be null."), groups),
+                file, charset, preference);
+    }
+
+    /**
+     * Beanのマッピング情報を指定して、{@link ParallelCsvAnnotationBeanReader}を作成するコンストラクタ。
+     * <p>Beanのマッピング情報を独自にカスタマイズして、{@link BeanMappingFactory}から作成する場合に利用します。</p>
+     *
+     * @param beanMapping Beanのマッピング情報。
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。改行とクォート文字が1バイトで表現される必要があります。
+     * @param preference the CSV preferences.
+     * @throws NullPointerException {@literal if beanMapping or file or charset or preferences are null.}
+     * @throws IllegalArgumentException ファイルをバイト単位で分割できない文字コード、またはクォート文字の場合。
+     * @throws SuperCsvInvalidAnnotationException 並列に処理できないアノテーションが付与されている場合。
+     */
+    public ParallelCsvAnnotationBeanReader(final BeanMapping<T> beanMapping, final Path file, final Charset charset,
+            final CsvPreference preference) {
+        super(beanMapping, file, charset);
+
+        Objects.requireNonNull(preference, "preference should not be null.");
+
+        if(!CsvFileSplitter.isSplittable(charset, preference.getQuoteChar())) {
+            throw new IllegalArgumentException(String.format(
+                    "not support splitting file by byte with charset '%s' and quote char '%s'.",
+                    charset.name(), preference.getQuoteChar()));
+        }
+
+        this.preference = preference;
+    }
+
+    @Override
+    protected List<CsvFileSplitter.Range> split(final int splitCount, final ExecutorService executor) throws IOException {
+        return new CsvFileSplitter(file, charset, preference).split(splitCount, executor);
+    }
+
+    @Override
+    protected AbstractCsvAnnotationBeanReader<T> createRangeReader(final CsvFileSplitter.Range range) throws IOException {
+        return new CsvAnnotationBeanReader<>(beanMapping,
+                new MappedFileReader(file, charset, range.getStart(), range.getEnd()), preference);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.github.mygreen.supercsv.io;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+
+import com.github.mygreen.supercsv.builder.ColumnMapping;
+import com.github.mygreen.supercsv.builder.FixedSizeColumnProperty;
+import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProcessor;
+import com.github.mygreen.supercsv.cellprocessor.conversion.CharWidthPaddingProcessor;
+import com.github.mygreen.supercsv.cellprocessor.conversion.PaddingProcessor;
+import com.github.mygreen.supercsv.cellprocessor.conversion.SimplePaddingProcessor;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * 1レコードのバイト長が一定の固定長ファイルを、レコードの境界で複数の範囲に分割して並列に読み込むクラス。
+ * <p>レコードのバイト長は、各カラムの固定長のサイズ {@link FixedSizeColumnProperty#getSize()} と改行コードの長さから計算し、
+ *   ファイルを走査せずに分割します。
+ *   <br>分割した範囲ごとに、{@link MappedFileReader}で範囲を読み込む{@link FixedSizeCsvAnnotationBeanReader}を作成して処理します。
+ * </p>
+ * <p>カラムのサイズがバイト数と一致する必要があるため、次のいずれかを満たす必要があります。</p>
+ * <ul>
+ *   <li>1バイト文字コードのファイルで、パディング処理がその文字コードの全ての文字を長さ1としてカウントすること。
+ *     <br>例えば、{@link SimplePaddingProcessor}や、US-ASCIIの場合の{@link CharWidthPaddingProcessor}が該当します。</li>
+ *   <li>パディング処理が、ファイルと同じ文字コードの {@link ByteSizePaddingProcessor} であること。</li>
+ * </ul>
+ * <p>また、コメント行はレコード長が異なるため、{@link FixedSizeCsvPreference.Builder#skipComment(org.supercsv.comment.CommentMatcher)}
+ *    は指定できません。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * FixedSizeCsvPreference&lt;SampleCsv&gt; preference = FixedSizeCsvPreference.builder(SampleCsv.class).build();
+ *
+ * ParallelFixedSizeCsvAnnotationBeanReader&lt;SampleCsv&gt; csvReader =
+ *         preference.parallelCsvReader(Paths.get("sample.txt"), StandardCharsets.ISO_8859_1);
+ *
+ * List&lt;SampleCsv&gt; list = csvReader.readAll(true);
+ * </code></pre>
+ *
+ * @param <T> マッピング対象のBeanのクラスタイプ
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class ParallelFixedSizeCsvAnnotationBeanReader<T> extends AbstractParallelCsvAnnotationBeanReader<T> {
+
+    /** 固定長のCSV設定 */
+    private final FixedSizeCsvPreference<T> preference;
+
+    /** 改行コードを含む1レコードのバイト長 */
+    private final long recordLength;
+
+    /** 改行コードのバイト列 */
+    private final byte[] lineSeparator;
+
+    /**
+     * 固定長のCSV設定を指定して、{@link ParallelFixedSizeCsvAnnotationBeanReader}を作成するコンストラクタ。
+     *
+     * @param preference 固定長のCSV設定。
+     * @param file 読み込み対象のファイル。
+     * @param charset ファイルの文字コード。
+     * @throws NullPointerException {@literal if preference or file or charset are null.}
+     * @throws IllegalArgumentException レコードのバイト長を計算できない設定の場合。
+     * @throws SuperCsvInvalidAnnotationException 並列に処理できないアノテーションが付与されている場合。
+     */
+    public ParallelFixedSizeCsvAnnotationBeanReader(final FixedSizeCsvPreference<T> preference, final Path file,
+            final Charset charset) {
+        super(Objects.requireNonNull(preference, "preference should not be null.").getBeanMappingCache().getOriginal(),
+                file, charset);
+
+        if(preference.getCsvPreference().getCommentMatcher() != null) {
+            throw new IllegalArgumentException("not support skipping comment, because the record length of comment is not constant.");
+        }
+
+        this.preference = preference;
+        this.lineSeparator = preference.getCsvPreference().getEndOfLineSymbols().getBytes(charset);
+        this.recordLength = calculateRecordLength();
+    }
+
+    /**
+     * 改行コードを含む1レコードのバイト長を計算する。
+     * @return 1レコードのバイト長
+     * @throws IllegalArgumentException カラムのサイズがバイト数と一致しない場合。
+     */
+    private long calculateRecordLength() {
+
+        final String singleByteChars = decodeSingleByteChars();
+
+        long length = lineSeparator.length;
+        for(ColumnMapping column : beanMapping.getColumns()) {
+            final FixedSizeColumnProperty property = column.getFixedSizeProperty();
+            final PaddingProcessor paddingProcessor = property.getPaddingProcessor();
+
+            final boolean byteSize;
+            if(paddingProcessor instanceof ByteSizePaddingProcessor) {
+                byteSize = ((ByteSizePaddingProcessor) paddingProcessor).getCharset().equals(charset);
+            } else if(singleByteChars != null) {
+                // 全ての文字を長さ1としてカウントする場合
+                byteSize = paddingProcessor.count(singleByteChars) == singleByteChars.length();
+            } else {
+                byteSize = false;
+            }
+
+            if(!byteSize) {
+                throw new IllegalArgumentException(String.format(
+                        "not support calculating record length with column %d, because padding processor '%s' dosen't count bytes in charset '%s'.",
+                        column.getNumber(), paddingProcessor.getClass().getName(), charset.name()));
+            }
+
+            length += property.getSize();
+        }
+
+        return length;
+    }
+
+    /**
+     * 1バイト文字コードの場合、表現可能な全ての文字を取得する。
+     * <p>ただし、制御文字は除く。</p>
+     * @return 1バイト文字コードでない場合は、{@literal null}を返す。
+     */
+    private String decodeSingleByteChars() {
+
+        if(charset.newEncoder().maxBytesPerChar() != 1.0f) {
+            return null;
+        }
+
+        final CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.IGNORE)
+                .onUnmappableCharacter(CodingErrorAction.IGNORE);
+
+        final byte[] bytes = new byte[256];
+        for(int i=0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+
+        try {
+            final StringBuilder chars = new StringBuilder();
+            decoder.decode(ByteBuffer.wrap(bytes)).chars()
+                .filter(c -> !Character.isISOControl(c))
+                .forEach(c -> chars.append((char)c));
+            return chars.toString();
+
+        } catch(CharacterCodingException e) {
+            return null;
+        }
+    }
+
+    @Override
+    protected List<CsvFileSplitter.Range> split(final int splitCount, final ExecutorService executor) throws IOException {
+        return new FixedSizeFileSplitter(file, recordLength, lineSeparator).split(splitCount);
+    }
+
+    @Override
+    protected AbstractCsvAnnotationBeanReader<T> createRangeReader(final CsvFileSplitter.Range range) throws IOException {
+        return new FixedSizeCsvAnnotationBeanReader<>(new MappedFileReader(file, charset, range.getStart(), range.getEnd()),
+                preference);
+    }
+
+    /**
+     * 改行コードを含む1レコードのバイト長を取得します。
+     * @return 1レコードのバイト長
+     */
+    public long getRecordLength() {
+        return recordLength;
+    }
+
+}
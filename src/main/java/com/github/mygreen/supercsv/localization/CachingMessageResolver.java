@@ -0,0 +1,80 @@
+package com.github.mygreen.supercsv.localization;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 他の{@link MessageResolver}の結果をキャッシュする{@link MessageResolver}。
+ * <p>メッセージが見つからなかったコードも記録するため、同じコードに対して委譲先を呼び出すのは1回のみです。
+ *   <br>{@link SpringMessageResolver}のように、コードが見つからない場合に例外を生成する実装などをラップして使用します。
+ * </p>
+ * <p>キャッシュはロケールを区別しません。スレッドごとにロケールが変わるメッセージソースの場合は使用しないでください。
+ *   <br>委譲先のメッセージを変更した場合は、{@link #clearCache()}でキャッシュを破棄してください。
+ * </p>
+ * <pre class="highlight"><code class="java">
+ * CsvExceptionConverter exceptionConverter = new CsvExceptionConverter();
+ * exceptionConverter.setMessageResolver(new CachingMessageResolver(new SpringMessageResolver(messageSource)));
+ * </code></pre>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CachingMessageResolver implements MessageResolver {
+
+    private final MessageResolver delegate;
+
+    private final ConcurrentMap<String, Optional<String>> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 委譲先を指定してインスタンスを作成します。
+     * @param delegate 実際にメッセージを解決する処理。
+     * @throws NullPointerException {@literal delegate is null.}
+     */
+    public CachingMessageResolver(final MessageResolver delegate) {
+        Objects.requireNonNull(delegate, "delegate should not be null.");
+        this.delegate = delegate;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<String> getMessage(final String code) {
+
+        final Optional<String> message = cache.get(code);
+        if(message != null) {
+            return message;
+        }
+
+        final Optional<String> resolved = delegate.getMessage(code);
+        final Optional<String> existing = cache.putIfAbsent(code, resolved);
+        return existing != null ? existing : resolved;
+    }
+
+    /**
+     * キャッシュを破棄します。
+     */
+    public void clearCache() {
+        cache.clear();
+    }
+
+    /**
+     * キャッシュしているコードの数を取得します。
+     * @return メッセージが見つからなかったコードも含みます。
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * 委譲先を取得します。
+     * @return 実際にメッセージを解決する処理。
+     */
+    public MessageResolver getDelegate() {
+        return delegate;
+    }
+
+}
@@ -1,10 +1,10 @@
 package com.github.mygreen.supercsv.localization;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
-import java.util.List;
 import java.util.Map;
 import java.util.MissingResourceException;
 import java.util.Objects;
@@ -17,8 +17,11 @@ import com.github.mygreen.supercsv.util.ArgUtils;
  * {@link ResourceBundle}を元にメッセージを解決するクラス。
  * <p>クラスパスのルートにリソース名が{@literal SuperCsvMessages}のプロパティファイルを配置していると自動的に読み込みます。</p>
  * <p>デフォルトでは、{@link ResourceBundleMessageResolver#DEFAULT_MESSAGE}に配置されているリソースファイルを読み込みます。</p>
+ * <p>メッセージソースの追加・削除時に、全てのメッセージソースのメッセージを1つのマップにまとめた索引を作成します。
+ *   <br>そのため、メッセージの取得は、コードが見つからない場合も含めて1回のハッシュ検索で行います。
+ * </p>
  * 
- * @version 2.2
+ * @version 2.5
  * @author T.TSUCHIE
  *
  */
@@ -29,10 +32,14 @@ public class ResourceBundleMessageResolver implements MessageResolver {
      */
     public static final String DEFAULT_MESSAGE = "com.github.mygreen.supercsv.localization.SuperCsvMessages";
     
-    private final Map<ResourceBundle, List<String>> messageBundleKeys = new HashMap<ResourceBundle, List<String>>(8);
-    
     private final LinkedList<ResourceBundle> messageBundles = new LinkedList<ResourceBundle>();
     
+    /**
+     * 全てのメッセージソースのメッセージをまとめた変更不可能なマップ。
+     * メッセージソースの追加・削除時に作り直す。
+     */
+    private volatile Map<String, String> messageIndex = Collections.emptyMap();
+    
     /**
      * メッセージリソースのパスを指定して、インスタンスを作成します。
      * @param baseName メッセージリソースのパス。
@@ -85,18 +92,7 @@ public class ResourceBundleMessageResolver implements MessageResolver {
      * {@inheritDoc}
      */
     public Optional<String> getMessage(final String code) {
-        for(final ResourceBundle bundle : messageBundles) {
-            final List<String> keys = messageBundleKeys.get(bundle);
-            if(keys.contains(code)) {
-                try {
-                    return Optional.of(bundle.getString(code));
-                } catch(MissingResourceException e) {
-                    return Optional.empty();
-                }
-            }
-        }
-        
-        return Optional.empty();
+        return Optional.ofNullable(messageIndex.get(code));
     }
     
     /**
@@ -105,7 +101,7 @@ public class ResourceBundleMessageResolver implements MessageResolver {
      * @return 既に追加済みの場合はfalseを返します。
      * @throws NullPointerException resourceBundle is null.
      */
-    public final boolean addResourceBundle(final ResourceBundle resourceBundle) {
+    public final synchronized boolean addResourceBundle(final ResourceBundle resourceBundle) {
         Objects.requireNonNull(resourceBundle, "resourceBundle should not be null.");
         
         if(messageBundles.contains(resourceBundle)) {
@@ -113,13 +109,7 @@ public class ResourceBundleMessageResolver implements MessageResolver {
         }
         
         messageBundles.addFirst(resourceBundle);
-        final List<String> keys = new ArrayList<String>();
-        
-        for(final Enumeration<String> keysEnum = resourceBundle.getKeys(); keysEnum.hasMoreElements();) {
-            keys.add(keysEnum.nextElement());
-        }
-        
-        messageBundleKeys.put(resourceBundle, keys);
+        rebuildMessageIndex();
         
         return true;
     }
@@ -130,7 +120,7 @@ public class ResourceBundleMessageResolver implements MessageResolver {
      * @return 登録されているメッセージソースがある場合はtrueを返します。
      * @throws NullPointerException resourceBundle is null.
      */
-    public boolean removeResourceBundle(final ResourceBundle resourceBundle) {
+    public synchronized boolean removeResourceBundle(final ResourceBundle resourceBundle) {
         Objects.requireNonNull(resourceBundle, "resourceBundle should not be null.");
         
         if(!messageBundles.contains(resourceBundle)) {
@@ -138,6 +128,31 @@ public class ResourceBundleMessageResolver implements MessageResolver {
         }
         
         messageBundles.remove(resourceBundle);
+        rebuildMessageIndex();
+        
         return true;
     }
+    
+    /**
+     * メッセージの索引を作り直します。
+     * <p>後から追加したメッセージソースの値を優先するため、古いメッセージソースから順に登録します。</p>
+     */
+    private void rebuildMessageIndex() {
+        
+        final Map<String, String> index = new HashMap<>();
+        for(Iterator<ResourceBundle> itr = messageBundles.descendingIterator(); itr.hasNext();) {
+            final ResourceBundle bundle = itr.next();
+            for(final Enumeration<String> keysEnum = bundle.getKeys(); keysEnum.hasMoreElements();) {
+                final String key = keysEnum.nextElement();
+                try {
+                    index.put(key, bundle.getString(key));
+                } catch(MissingResourceException | ClassCastException e) {
+                    // 文字列ではない値は、メッセージとして扱わない
+                    index.remove(key);
+                }
+            }
+        }
+        
+        this.messageIndex = Collections.unmodifiableMap(index);
+    }
 }
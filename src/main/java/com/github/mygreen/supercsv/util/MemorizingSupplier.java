@@ -1,11 +1,15 @@
 package com.github.mygreen.supercsv.util;
 
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
  * 結果をキャッシュする {@link} Supplier} の実装クラス。
  * <p>Google Guavaの {@code com.google.common.base.Suppliers.MemoizingSupplier} の実装を参考にしています。</p>
+ * <p>初期化時の排他には{@link ReentrantLock}を使用するため、仮想スレッドから呼び出しても、キャリアスレッドを占有しません。
+ *   <br>初期化後は、ロックせずに値を返します。
+ * </p>
  * 
  * @param <T> キャッシュするオブジェクトの型
  * @since 2.5
@@ -16,9 +20,9 @@ public class MemorizingSupplier<T> implements Supplier<T> {
     
     private final Supplier<T> deleagte;
 
-    private final AtomicBoolean initialized = new AtomicBoolean(false);
+    private volatile boolean initialized;
 
-    private transient Object lock = new Object();
+    private final Lock lock = new ReentrantLock();
     
     private T value;
     
@@ -38,10 +42,15 @@ public class MemorizingSupplier<T> implements Supplier<T> {
     @Override
     public T get() {
         
-        if (!initialized.get()) {
-            synchronized(lock) {
-                this.value = deleagte.get();
-                initialized.set(true);
+        if (!initialized) {
+            lock.lock();
+            try {
+                if (!initialized) {
+                    this.value = deleagte.get();
+                    this.initialized = true;
+                }
+            } finally {
+                lock.unlock();
             }
         }
         
@@ -54,7 +63,7 @@ public class MemorizingSupplier<T> implements Supplier<T> {
      * @return 初期化されている場合はtrueを返します。
      */
     public boolean isInitialized() {
-        return initialized.get();
+        return initialized;
     }
 
 }
@@ -0,0 +1,760 @@
+package com.github.mygreen.supercsv.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 正規表現による文字列全体の一致を判定するクラス。
+ * <p>よく使用される単純な形式の正規表現は、{@link Matcher}のインスタンスを作成せずに判定します。</p>
+ * <ul>
+ *   <li>文字クラスやリテラル文字と量指定子の並び。例：{@literal ^[0-9]{7}$}、{@literal [A-Z]{3}-\d+}、{@literal ABC.*XYZ}。</li>
+ *   <li>リテラル文字列の選択。例：{@literal ^(abc|def)$}。</li>
+ * </ul>
+ * <p>それ以外の形式の正規表現や、フラグを指定している場合は、{@link java.util.regex}を使用し、
+ *    スレッドごとに{@link Matcher}のインスタンスを再利用します。
+ * </p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class RegexMatcher {
+
+    private final Pattern pattern;
+
+    /**
+     * スレッドごとに再利用する{@link Matcher}
+     */
+    private final ThreadLocal<Matcher> localMatcher;
+
+    /**
+     * 正規表現を使用しない判定処理。対応していない形式の場合は{@literal null}。
+     */
+    private final Shape shape;
+
+    /**
+     * コンパイル済みの正規表現を指定するコンストラクタ。
+     * @param pattern コンパイル済みの正規表現
+     * @throws NullPointerException {@literal pattern is null.}
+     */
+    public RegexMatcher(final Pattern pattern) {
+        ArgUtils.notNull(pattern, "pattern");
+        this.pattern = pattern;
+        this.localMatcher = ThreadLocal.withInitial(() -> pattern.matcher(""));
+        this.shape = parseShape(pattern);
+    }
+
+    /**
+     * 文字列全体が正規表現に一致するか判定します。
+     * @param input 判定対象の文字列
+     * @return 一致する場合は{@literal true}を返します。
+     * @throws NullPointerException {@literal input is null.}
+     */
+    public boolean matches(final CharSequence input) {
+
+        if(shape != null && !containsSurrogate(input)) {
+            return shape.matches(input);
+        }
+
+        return matcher(input).matches();
+    }
+
+    /**
+     * スレッドごとに再利用する{@link Matcher}を、指定した文字列で初期化して取得します。
+     * <p>取得した{@link Matcher}は、同じスレッドで再度このメソッドを呼ぶまでの間だけ使用してください。</p>
+     * @param input 処理対象の文字列
+     * @return 初期化した{@link Matcher}
+     */
+    public Matcher matcher(final CharSequence input) {
+        return localMatcher.get().reset(input);
+    }
+
+    /**
+     * 正規表現を使用せずに判定するかどうか。
+     * @return 正規表現を使用しない形式の場合は{@literal true}を返します。
+     */
+    public boolean isOptimized() {
+        return shape != null;
+    }
+
+    /**
+     * コンパイル済みの正規表現を取得します。
+     * @return コンパイル済みの正規表現
+     */
+    public Pattern getPattern() {
+        return pattern;
+    }
+
+    /**
+     * サロゲートペアの文字は、コードポイント単位で判定が必要なため、正規表現を使用する。
+     */
+    private static boolean containsSurrogate(final CharSequence input) {
+        final int length = input.length();
+        for(int i=0; i < length; i++) {
+            if(Character.isSurrogate(input.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * リテラル文字列のみの選択から構成される正規表現の場合、選択肢の文字列を取得します。
+     * <p>例えば、{@literal abc|de\.f}の場合は、{@literal [abc, de.f]}を返します。
+     *    <br>アンカー({@literal ^, $})、グループ、フラグを含む場合は空を返します。
+     * </p>
+     * @param pattern コンパイル済みの正規表現
+     * @return 記述順の選択肢の文字列。リテラル文字列のみの選択ではない場合は、空を返します。
+     */
+    public static Optional<List<String>> parseLiteralAlternation(final Pattern pattern) {
+        if(pattern.flags() != 0) {
+            return Optional.empty();
+        }
+
+        final String regex = pattern.pattern();
+        return Optional.ofNullable(parseLiterals(regex, 0, regex.length()));
+    }
+
+    private static Shape parseShape(final Pattern pattern) {
+
+        if(pattern.flags() != 0) {
+            return null;
+        }
+
+        final String regex = pattern.pattern();
+        int start = 0;
+        int end = regex.length();
+
+        // 全体の一致の判定時は、先頭と末尾のアンカーは意味を持たない
+        if(start < end && regex.charAt(start) == '^') {
+            start++;
+        }
+
+        if(end > start && regex.charAt(end - 1) == '$' && !isEscaped(regex, end - 1)) {
+            end--;
+        }
+
+        final Shape sequence = SequenceShape.parse(regex, start, end);
+        if(sequence != null) {
+            return sequence;
+        }
+
+        // グループで囲まれている場合
+        if(regex.startsWith("(?:", start) && end - start > 4 && regex.charAt(end - 1) == ')') {
+            start += 3;
+            end--;
+        } else if(start < end && regex.charAt(start) == '(' && end - start > 2 && regex.charAt(end - 1) == ')') {
+            start++;
+            end--;
+        }
+
+        final List<String> literals = parseLiterals(regex, start, end);
+        return literals != null ? new LiteralsShape(literals) : null;
+
+    }
+
+    private static boolean isEscaped(final String regex, final int index) {
+        int count = 0;
+        for(int i=index-1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+            count++;
+        }
+        return count % 2 == 1;
+    }
+
+    /**
+     * {@literal |}で区切られたリテラル文字列を解析する。
+     * @return リテラル文字列のみではない場合は{@literal null}。
+     */
+    private static List<String> parseLiterals(final String regex, final int start, final int end) {
+
+        final List<String> literals = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        for(int i=start; i < end; i++) {
+            final char c = regex.charAt(i);
+            if(c == '|') {
+                if(literal.length() == 0) {
+                    return null;
+                }
+                literals.add(literal.toString());
+                literal = new StringBuilder();
+
+            } else if(c == '\\') {
+                if(i + 1 >= end) {
+                    return null;
+                }
+                final int escaped = parseEscapedLiteral(regex.charAt(++i));
+                if(escaped < 0) {
+                    return null;
+                }
+                literal.append((char)escaped);
+
+            } else if(isMetaChar(c) || Character.isSurrogate(c)) {
+                return null;
+
+            } else {
+                literal.append(c);
+            }
+        }
+
+        if(literal.length() == 0) {
+            return null;
+        }
+        literals.add(literal.toString());
+
+        return Collections.unmodifiableList(literals);
+
+    }
+
+    private static boolean isMetaChar(final char c) {
+        return "\\^$.|?*+()[]{}".indexOf(c) >= 0;
+    }
+
+    /**
+     * エスケープされた文字がリテラルの場合、その文字を取得する。
+     * @return リテラルではない場合は{@literal -1}。
+     */
+    private static int parseEscapedLiteral(final char c) {
+        switch(c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            default:
+                // 英数字は特殊な意味を持つ
+                if(c < 0x80 && !Character.isLetterOrDigit(c)) {
+                    return c;
+                }
+                return -1;
+        }
+    }
+
+    /**
+     * 正規表現を使用しない判定処理
+     */
+    private interface Shape {
+
+        boolean matches(CharSequence input);
+
+    }
+
+    /**
+     * リテラル文字列の選択
+     */
+    private static class LiteralsShape implements Shape {
+
+        private final Set<String> literals;
+
+        LiteralsShape(final List<String> literals) {
+            this.literals = new HashSet<>(literals);
+        }
+
+        @Override
+        public boolean matches(final CharSequence input) {
+            return literals.contains(input.toString());
+        }
+
+    }
+
+    /**
+     * 文字クラスと量指定子の並び
+     */
+    private static class SequenceShape implements Shape {
+
+        private static final int UNLIMITED = Integer.MAX_VALUE;
+
+        private final CharClass[] classes;
+
+        private final int[] mins;
+
+        private final int[] maxs;
+
+        /**
+         * 長さが可変の要素のインデックス。ただし、1つのみの場合。それ以外は{@literal -1}。
+         */
+        private final int variableIndex;
+
+        private final boolean fixedLength;
+
+        private final int minLength;
+
+        private SequenceShape(final List<CharClass> classes, final List<int[]> counts) {
+            this.classes = classes.toArray(new CharClass[classes.size()]);
+            this.mins = counts.stream().mapToInt(c -> c[0]).toArray();
+            this.maxs = counts.stream().mapToInt(c -> c[1]).toArray();
+
+            int variableCount = 0;
+            int variable = -1;
+            int length = 0;
+            for(int i=0; i < mins.length; i++) {
+                if(mins[i] != maxs[i]) {
+                    variableCount++;
+                    variable = i;
+                }
+                length += mins[i];
+            }
+
+            this.fixedLength = variableCount == 0;
+            this.variableIndex = variableCount == 1 ? variable : -1;
+            this.minLength = length;
+        }
+
+        static Shape parse(final String regex, final int start, final int end) {
+
+            final List<CharClass> classes = new ArrayList<>();
+            final List<int[]> counts = new ArrayList<>();
+
+            int i = start;
+            while(i < end) {
+                final char c = regex.charAt(i);
+                final CharClass charClass;
+                if(c == '[') {
+                    final int close = findBracketEnd(regex, i, end);
+                    if(close < 0) {
+                        return null;
+                    }
+                    charClass = CharClass.parseBracket(regex, i + 1, close);
+                    i = close + 1;
+
+                } else if(c == '.') {
+                    charClass = CharClass.DOT;
+                    i++;
+
+                } else if(c == '\\') {
+                    if(i + 1 >= end) {
+                        return null;
+                    }
+                    charClass = CharClass.parseEscape(regex.charAt(i + 1));
+                    i += 2;
+
+                } else if(isMetaChar(c) || Character.isSurrogate(c)) {
+                    return null;
+
+                } else {
+                    charClass = CharClass.of(c);
+                    i++;
+                }
+
+                if(charClass == null) {
+                    return null;
+                }
+
+                // 量指定子
+                int min = 1;
+                int max = 1;
+                if(i < end) {
+                    final char q = regex.charAt(i);
+                    if(q == '?') {
+                        min = 0;
+                        i++;
+                    } else if(q == '*') {
+                        min = 0;
+                        max = UNLIMITED;
+                        i++;
+                    } else if(q == '+') {
+                        max = UNLIMITED;
+                        i++;
+                    } else if(q == '{') {
+                        final int close = regex.indexOf('}', i);
+                        if(close < 0 || close >= end) {
+                            return null;
+                        }
+                        final int[] range = parseRange(regex.substring(i + 1, close));
+                        if(range == null) {
+                            return null;
+                        }
+                        min = range[0];
+                        max = range[1];
+                        i = close + 1;
+                    }
+
+                    // 最短一致、強欲な量指定子は対象外
+                    if(i < end && (min != 1 || max != 1) && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+                        return null;
+                    }
+                }
+
+                classes.add(charClass);
+                counts.add(new int[]{min, max});
+            }
+
+            if(classes.isEmpty()) {
+                return null;
+            }
+
+            // 長さが可変の要素が複数ある場合は、後続の要素と文字が重ならない場合のみ、バックトラックなしで判定できる
+            int variableCount = 0;
+            for(int[] count : counts) {
+                if(count[0] != count[1]) {
+                    variableCount++;
+                }
+            }
+
+            if(variableCount >= 2) {
+                for(int j=0; j < classes.size(); j++) {
+                    if(counts.get(j)[0] == counts.get(j)[1]) {
+                        continue;
+                    }
+
+                    for(int k=j+1; k < classes.size(); k++) {
+                        if(classes.get(j).intersects(classes.get(k))) {
+                            return null;
+                        }
+                        if(counts.get(k)[0] > 0) {
+                            break;
+                        }
+                    }
+                }
+            }
+
+            return new SequenceShape(classes, counts);
+
+        }
+
+        private static int findBracketEnd(final String regex, final int open, final int end) {
+            for(int i=open+1; i < end; i++) {
+                final char c = regex.charAt(i);
+                if(c == '\\') {
+                    i++;
+                } else if(c == ']') {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static int[] parseRange(final String range) {
+            try {
+                final int comma = range.indexOf(',');
+                if(comma < 0) {
+                    final int count = Integer.parseInt(range);
+                    return new int[]{count, count};
+                }
+
+                final int min = Integer.parseInt(range.substring(0, comma));
+                final String maxStr = range.substring(comma + 1);
+                final int max = maxStr.isEmpty() ? UNLIMITED : Integer.parseInt(maxStr);
+                if(min < 0 || max < min) {
+                    return null;
+                }
+                return new int[]{min, max};
+
+            } catch(NumberFormatException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean matches(final CharSequence input) {
+
+            final int length = input.length();
+            if(length < minLength) {
+                return false;
+            }
+
+            if(fixedLength) {
+                if(length != minLength) {
+                    return false;
+                }
+                int pos = 0;
+                for(int i=0; i < classes.length; i++) {
+                    final CharClass charClass = classes[i];
+                    for(int j=0; j < mins[i]; j++) {
+                        if(!charClass.contains(input.charAt(pos++))) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+
+            } else if(variableIndex >= 0) {
+                return matchesSingleVariable(input, length);
+
+            } else {
+                return matchesGreedy(input, length);
+            }
+
+        }
+
+        /**
+         * 長さが可変の要素が1つの場合、前方と後方の固定長の要素をそれぞれ判定する。
+         */
+        private boolean matchesSingleVariable(final CharSequence input, final int length) {
+
+            final int variableLength = length - minLength + mins[variableIndex];
+            if(variableLength > maxs[variableIndex]) {
+                return false;
+            }
+
+            int pos = 0;
+            for(int i=0; i < classes.length; i++) {
+                final CharClass charClass = classes[i];
+                final int count = (i == variableIndex) ? variableLength : mins[i];
+                for(int j=0; j < count; j++) {
+                    if(!charClass.contains(input.charAt(pos++))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 先頭から最長一致で判定する。
+         */
+        private boolean matchesGreedy(final CharSequence input, final int length) {
+
+            int pos = 0;
+            for(int i=0; i < classes.length; i++) {
+                final CharClass charClass = classes[i];
+                int count = 0;
+                while(count < maxs[i] && pos < length && charClass.contains(input.charAt(pos))) {
+                    pos++;
+                    count++;
+                }
+
+                if(count < mins[i]) {
+                    return false;
+                }
+            }
+
+            return pos == length;
+        }
+
+    }
+
+    /**
+     * 基本多言語面の文字クラス
+     */
+    private static class CharClass {
+
+        private static final int MAX_CHAR = Character.MAX_VALUE;
+
+        /**
+         * 改行文字以外の任意の文字
+         */
+        static final CharClass DOT = new CharClass(new int[]{'\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028, 0x2029}, true);
+
+        static final CharClass DIGIT = new CharClass(new int[]{'0', '9'}, false);
+
+        static final CharClass WORD = new CharClass(new int[]{'0', '9', 'A', 'Z', '_', '_', 'a', 'z'}, false);
+
+        static final CharClass SPACE = new CharClass(new int[]{'\t', '\r', ' ', ' '}, false);
+
+        /**
+         * 昇順で重複のない、開始と終了の文字コードの組
+         */
+        private final int[] ranges;
+
+        private final boolean[] ascii = new boolean[0x80];
+
+        CharClass(final int[] ranges, final boolean negated) {
+            final int[] normalized = normalize(ranges);
+            this.ranges = negated ? complement(normalized) : normalized;
+
+            for(int c=0; c < ascii.length; c++) {
+                ascii[c] = containsInRanges((char)c);
+            }
+        }
+
+        static CharClass of(final char c) {
+            return new CharClass(new int[]{c, c}, false);
+        }
+
+        static CharClass parseEscape(final char c) {
+            switch(c) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return new CharClass(DIGIT.ranges, true);
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return new CharClass(WORD.ranges, true);
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return new CharClass(SPACE.ranges, true);
+                default:
+                    final int literal = parseEscapedLiteral(c);
+                    return literal < 0 ? null : of((char)literal);
+            }
+        }
+
+        /**
+         * 角括弧{@literal [...]}の中身を解析する。
+         */
+        static CharClass parseBracket(final String regex, final int start, final int end) {
+
+            int i = start;
+            boolean negated = false;
+            if(i < end && regex.charAt(i) == '^') {
+                negated = true;
+                i++;
+            }
+
+            if(i >= end) {
+                return null;
+            }
+
+            final List<Integer> ranges = new ArrayList<>();
+            while(i < end) {
+                final char c = regex.charAt(i);
+                int from;
+                if(c == '\\') {
+                    if(i + 1 >= end) {
+                        return null;
+                    }
+                    final CharClass shorthand = parseEscapeInBracket(regex.charAt(i + 1));
+                    i += 2;
+                    if(shorthand != null) {
+                        for(int r : shorthand.ranges) {
+                            ranges.add(r);
+                        }
+                        continue;
+                    }
+
+                    final int literal = parseEscapedLiteral(regex.charAt(i - 1));
+                    if(literal < 0) {
+                        return null;
+                    }
+                    from = literal;
+
+                } else if(c == '[' || c == '&' || Character.isSurrogate(c)) {
+                    // 和集合、積集合は対象外
+                    return null;
+
+                } else {
+                    from = c;
+                    i++;
+                }
+
+                int to = from;
+                if(i + 1 < end && regex.charAt(i) == '-') {
+                    final char next = regex.charAt(i + 1);
+                    if(next == '\\') {
+                        if(i + 2 >= end) {
+                            return null;
+                        }
+                        to = parseEscapedLiteral(regex.charAt(i + 2));
+                        i += 3;
+                    } else if(next == '[' || next == '&' || Character.isSurrogate(next)) {
+                        return null;
+                    } else {
+                        to = next;
+                        i += 2;
+                    }
+
+                    if(to < from) {
+                        return null;
+                    }
+                }
+
+                ranges.add(from);
+                ranges.add(to);
+            }
+
+            return new CharClass(ranges.stream().mapToInt(Integer::intValue).toArray(), negated);
+
+        }
+
+        private static CharClass parseEscapeInBracket(final char c) {
+            switch(c) {
+                case 'd':
+                case 'D':
+                case 'w':
+                case 'W':
+                case 's':
+                case 'S':
+                    return parseEscape(c);
+                default:
+                    return null;
+            }
+        }
+
+        private static int[] normalize(final int[] ranges) {
+
+            final int size = ranges.length / 2;
+            final int[][] pairs = new int[size][];
+            for(int i=0; i < size; i++) {
+                pairs[i] = new int[]{ranges[i*2], ranges[i*2 + 1]};
+            }
+            Arrays.sort(pairs, (a, b) -> Integer.compare(a[0], b[0]));
+
+            final List<Integer> merged = new ArrayList<>();
+            for(int[] pair : pairs) {
+                final int last = merged.size() - 1;
+                if(last > 0 && pair[0] <= merged.get(last) + 1) {
+                    merged.set(last, Math.max(merged.get(last), pair[1]));
+                } else {
+                    merged.add(pair[0]);
+                    merged.add(pair[1]);
+                }
+            }
+
+            return merged.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        private static int[] complement(final int[] ranges) {
+
+            final List<Integer> result = new ArrayList<>();
+            int next = 0;
+            for(int i=0; i < ranges.length; i+=2) {
+                if(ranges[i] > next) {
+                    result.add(next);
+                    result.add(ranges[i] - 1);
+                }
+                next = ranges[i + 1] + 1;
+            }
+
+            if(next <= MAX_CHAR) {
+                result.add(next);
+                result.add(MAX_CHAR);
+            }
+
+            return result.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        boolean contains(final char c) {
+            if(c < 0x80) {
+                return ascii[c];
+            }
+            return containsInRanges(c);
+        }
+
+        private boolean containsInRanges(final char c) {
+            for(int i=0; i < ranges.length; i+=2) {
+                if(c < ranges[i]) {
+                    return false;
+                }
+                if(c <= ranges[i + 1]) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean intersects(final CharClass other) {
+            for(int i=0; i < ranges.length; i+=2) {
+                for(int j=0; j < other.ranges.length; j+=2) {
+                    if(ranges[i] <= other.ranges[j + 1] && other.ranges[j] <= ranges[i + 1]) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -15,8 +16,11 @@ import com.github.mygreen.supercsv.util.Utils;
  * CSVのエラー情報を管理するためのクラス。
  * <p>SpringFrameworkのBindingResultを参考。</p>
  * <p>現状、ネストしたフィールドはサポートしていないため、パスの機能を省略して実装する。</p>
+ * <p>フィールドエラーは、追加時にフィールド名ごとに索引を作成するため、ワイルドカード以外のパスを指定した参照は、
+ *    エラーの件数によらず一定の時間で処理します。
+ * </p>
  *
- * @version 2.2
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -35,6 +39,15 @@ public class CsvBindingErrors implements Serializable {
     /** エラーオブジェクト */
     private final List<CsvError> errors = new ArrayList<>();
     
+    /**
+     * フィールド名ごとのフィールドエラーの索引。
+     * フィールドエラーが追加されるまではnull。
+     */
+    private Map<String, List<CsvFieldError>> fieldErrorIndex;
+    
+    /** フィールドエラーの件数 */
+    private int fieldErrorCount;
+    
     /** エラーコードの候補を生成するクラス */
     private MessageCodeGenerator messageCodeGenerator = new MessageCodeGenerator();
     
@@ -66,10 +79,10 @@ public class CsvBindingErrors implements Serializable {
     
     /**
      * 全てのエラー情報を取得する。
-     * @return 現在のエラー情報
+     * @return 現在のエラー情報。変更不可能なビューのため、エラー情報を追加・削除すると反映されます。
      */
     public List<CsvError> getAllErrors() {
-        return new ArrayList<>(errors);
+        return Collections.unmodifiableList(errors);
     }
     
     /**
@@ -78,6 +91,15 @@ public class CsvBindingErrors implements Serializable {
      */
     public void addError(final CsvError error) {
         this.errors.add(error);
+        
+        if(error instanceof CsvFieldError) {
+            final CsvFieldError fieldError = (CsvFieldError) error;
+            if(fieldErrorIndex == null) {
+                this.fieldErrorIndex = new HashMap<>();
+            }
+            fieldErrorIndex.computeIfAbsent(fieldError.getField(), key -> new ArrayList<>(2)).add(fieldError);
+            fieldErrorCount++;
+        }
     }
     
     /**
@@ -85,7 +107,9 @@ public class CsvBindingErrors implements Serializable {
      * @param errors 追加するエラー情報。
      */
     public void addAllErrors(Collection<CsvError> errors) {
-        this.errors.addAll(errors);
+        for(CsvError error : errors) {
+            addError(error);
+        }
     }
     
     /**
@@ -93,6 +117,8 @@ public class CsvBindingErrors implements Serializable {
      */
     public void clearAllErrors() {
         this.errors.clear();
+        this.fieldErrorIndex = null;
+        this.fieldErrorCount = 0;
     }
     
     /**
@@ -108,6 +134,10 @@ public class CsvBindingErrors implements Serializable {
      * @return エラーがない場合は空のリストを返す
      */
     public List<CsvError> getGlobalErrors() {
+        if(fieldErrorCount == 0) {
+            return new ArrayList<>(errors);
+        }
+        
         final List<CsvError> list = new ArrayList<CsvError>();
         for(CsvError item : this.errors) {
             if(!(item instanceof CsvFieldError)) {
@@ -123,6 +153,10 @@ public class CsvBindingErrors implements Serializable {
      * @return 存在しない場合は、nullを返す。
      */
     public CsvError getFirstGlobalError() {
+        if(getGlobalErrorCount() == 0) {
+            return null;
+        }
+        
         for(CsvError item : this.errors) {
             if(!(item instanceof CsvFieldError)) {
                 return item;
@@ -137,7 +171,7 @@ public class CsvBindingErrors implements Serializable {
      * @return
      */
     public boolean hasGlobalErrors() {
-        return !getGlobalErrors().isEmpty();
+        return getGlobalErrorCount() > 0;
     }
     
     /**
@@ -145,7 +179,7 @@ public class CsvBindingErrors implements Serializable {
      * @return
      */
     public int getGlobalErrorCount() {
-        return getGlobalErrors().size();
+        return errors.size() - fieldErrorCount;
     }
     
     /**
@@ -153,6 +187,10 @@ public class CsvBindingErrors implements Serializable {
      * @return エラーがない場合は空のリストを返す
      */
     public List<CsvFieldError> getFieldErrors() {
+        if(fieldErrorCount == 0) {
+            return new ArrayList<>();
+        }
+        
         final List<CsvFieldError> list = new ArrayList<CsvFieldError>();
         for(CsvError item : this.errors) {
             if(item instanceof CsvFieldError) {
@@ -168,6 +206,10 @@ public class CsvBindingErrors implements Serializable {
      * @return エラーがない場合は空のリストを返す
      */
     public CsvFieldError getFirstFieldError() {
+        if(fieldErrorCount == 0) {
+            return null;
+        }
+        
         for(CsvError item : this.errors) {
             if(item instanceof CsvFieldError) {
                 return (CsvFieldError) item;
@@ -182,7 +224,7 @@ public class CsvBindingErrors implements Serializable {
      * @return true:フィールドエラーを持つ。
      */
     public boolean hasFieldErrors() {
-        return !getFieldErrors().isEmpty();
+        return fieldErrorCount > 0;
     }
     
     /**
@@ -190,7 +232,7 @@ public class CsvBindingErrors implements Serializable {
      * @return
      */
     public int getFieldErrorCount() {
-        return getFieldErrors().size();
+        return fieldErrorCount;
     }
     
     /**
@@ -202,6 +244,14 @@ public class CsvBindingErrors implements Serializable {
     public List<CsvFieldError> getFieldErrors(final String path) {
         ArgUtils.notEmpty(path, "path");
         
+        if(fieldErrorCount == 0) {
+            return new ArrayList<>();
+        }
+        
+        if(!path.endsWith("*")) {
+            return new ArrayList<>(getIndexedFieldErrors(path));
+        }
+        
         final List<CsvFieldError> list = new ArrayList<CsvFieldError>();
         for(CsvError item : this.errors) {
             if(item instanceof CsvFieldError && isMatchingFieldError(path, (CsvFieldError) item)) {
@@ -220,6 +270,15 @@ public class CsvBindingErrors implements Serializable {
     public CsvFieldError getFirstFieldError(final String path) {
         ArgUtils.notEmpty(path, "path");
         
+        if(fieldErrorCount == 0) {
+            return null;
+        }
+        
+        if(!path.endsWith("*")) {
+            final List<CsvFieldError> list = getIndexedFieldErrors(path);
+            return list.isEmpty() ? null : list.get(0);
+        }
+        
         for(CsvError item : this.errors) {
             if(item instanceof CsvFieldError && isMatchingFieldError(path, (CsvFieldError) item)) {
                 return (CsvFieldError) item;
@@ -235,7 +294,7 @@ public class CsvBindingErrors implements Serializable {
      * @return true:エラーがある場合。
      */
     public boolean hasFieldErrors(final String path) {
-        return !getFieldErrors(path).isEmpty();
+        return getFieldErrorCount(path) > 0;
     }
     
     /**
@@ -244,9 +303,29 @@ public class CsvBindingErrors implements Serializable {
      * @return
      */
     public int getFieldErrorCount(final String path) {
+        ArgUtils.notEmpty(path, "path");
+        
+        if(fieldErrorCount == 0) {
+            return 0;
+        }
+        
+        if(!path.endsWith("*")) {
+            return getIndexedFieldErrors(path).size();
+        }
+        
         return getFieldErrors(path).size();
     }
     
+    /**
+     * 索引から、フィールド名が一致するフィールドエラーを取得する。
+     * @param field フィールド名
+     * @return 存在しない場合は空のリスト。
+     */
+    private List<CsvFieldError> getIndexedFieldErrors(final String field) {
+        final List<CsvFieldError> list = fieldErrorIndex.get(field);
+        return list != null ? list : Collections.emptyList();
+    }
+    
     /**
      * 指定したパスがフィールドエラーのパスと一致するかチェックするかどうか。
      * @param path 
@@ -11,7 +11,7 @@ import com.github.mygreen.supercsv.localization.MessageResolver;
 /**
  * オブジェクトに対するエラーメッセージ。
  * 
- * @version 2.0
+ * @version 2.5
  * @author T.TSUCHIE
  *
  */
@@ -58,7 +58,7 @@ public class CsvError implements Serializable {
      */
     public String format(final MessageResolver messageResolver, final MessageInterpolator messageInterpolator) {
         
-        for(String code : getCodes()) {
+        for(String code : codes) {
             Optional<String> message = messageResolver.getMessage(code);
             if(message.isPresent()) {
                 return messageInterpolator.interpolate(message.get(), getVariables(), true, messageResolver);
@@ -80,10 +80,11 @@ public class CsvError implements Serializable {
     
     /**
      * メッセージコードの候補を取得する。
+     * <p>メッセージコードの配列は、同じ種類のエラー間で共有しているため、コピーを返します。</p>
      * @return メッセージコードの候補。
      */
     public String[] getCodes() {
-        return codes;
+        return codes.clone();
     }
     
     /**
@@ -118,7 +119,12 @@ public class CsvError implements Serializable {
         }
         
         public Builder variables(final Map<String, Object> variables) {
-            this.variables.putAll(variables);
+            if(variables instanceof CsvErrorVariables && this.variables.isEmpty()) {
+                // 遅延して作成するマップは、コピーせずにそのまま使用する
+                this.variables = variables;
+            } else {
+                this.variables.putAll(variables);
+            }
             return this;
         }
         
@@ -0,0 +1,148 @@
+package com.github.mygreen.supercsv.validation;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * エラーメッセージ中の変数を保持するマップ。
+ * <p>行番号などの決まった変数は、名前と値の配列で保持し、{@link #get(Object)}で参照されたときに値を返します。
+ *   <br>全ての要素を参照する場合や、値を変更する場合に、初めて{@link HashMap}を作成します。
+ * </p>
+ * <p>追加の変数と名前が重複する場合は、追加の変数の値を優先します。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorVariables extends AbstractMap<String, Object> implements Serializable {
+
+    /** serialVersionUID */
+    private static final long serialVersionUID = 1L;
+
+    private final String[] names;
+
+    private final Object[] values;
+
+    private final Map<String, ?> extraVariables;
+
+    /** 作成したマップ。作成前はnull。 */
+    private Map<String, Object> materialized;
+
+    /**
+     * 変数の名前と値を指定してインスタンスを作成します。
+     *
+     * @param names 変数の名前。配列は変更せずに共有するため、定数として定義したものを指定します。
+     * @param values 変数の値。
+     * @param extraVariables 追加の変数。
+     * @throws NullPointerException {@literal names or values or extraVariables is null.}
+     * @throws IllegalArgumentException {@literal names.length != values.length}
+     */
+    public CsvErrorVariables(final String[] names, final Object[] values, final Map<String, ?> extraVariables) {
+        if(names.length != values.length) {
+            throw new IllegalArgumentException(String.format("names length (%d) should be equal to values length (%d).",
+                    names.length, values.length));
+        }
+
+        this.names = names;
+        this.values = values;
+        this.extraVariables = extraVariables.isEmpty() ? Collections.emptyMap() : extraVariables;
+    }
+
+    /**
+     * 変数の名前と値を指定してインスタンスを作成します。
+     *
+     * @param names 変数の名前。配列は変更せずに共有するため、定数として定義したものを指定します。
+     * @param values 変数の値。
+     * @throws NullPointerException {@literal names or values is null.}
+     * @throws IllegalArgumentException {@literal names.length != values.length}
+     */
+    public CsvErrorVariables(final String[] names, final Object[] values) {
+        this(names, values, Collections.emptyMap());
+    }
+
+    private int indexOf(final Object name) {
+        for(int i = 0; i < names.length; i++) {
+            if(names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private Map<String, Object> materialize() {
+        if(materialized == null) {
+            final Map<String, Object> map = new HashMap<>();
+            for(int i = 0; i < names.length; i++) {
+                map.put(names[i], values[i]);
+            }
+            map.putAll(extraVariables);
+            this.materialized = map;
+        }
+        return materialized;
+    }
+
+    @Override
+    public Object get(final Object key) {
+
+        if(materialized != null) {
+            return materialized.get(key);
+        }
+
+        if(extraVariables.containsKey(key)) {
+            return extraVariables.get(key);
+        }
+
+        final int index = indexOf(key);
+        return index < 0 ? null : values[index];
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+
+        if(materialized != null) {
+            return materialized.containsKey(key);
+        }
+
+        return extraVariables.containsKey(key) || indexOf(key) >= 0;
+    }
+
+    @Override
+    public Object put(final String key, final Object value) {
+        return materialize().put(key, value);
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        return materialize().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        materialize().clear();
+    }
+
+    @Override
+    public boolean isEmpty() {
+
+        if(materialized != null) {
+            return materialized.isEmpty();
+        }
+
+        return names.length == 0 && extraVariables.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return materialize().size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return materialize().entrySet();
+    }
+
+}
@@ -2,7 +2,6 @@ package com.github.mygreen.supercsv.validation;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -23,7 +22,6 @@ import com.github.mygreen.supercsv.exception.SuperCsvValidationException;
 import com.github.mygreen.supercsv.localization.MessageInterpolator;
 import com.github.mygreen.supercsv.localization.MessageResolver;
 import com.github.mygreen.supercsv.localization.ResourceBundleMessageResolver;
-import com.github.mygreen.supercsv.util.Utils;
 
 /**
  * {@link SuperCsvException}をメッセージに変換するクラス。
@@ -40,6 +38,22 @@ public class CsvExceptionConverter {
     
     private MessageCodeGenerator codeGenerator = new MessageCodeGenerator();
     
+    /** カラムに対するエラーの変数名 */
+    private static final String[] COLUMN_VARIABLE_NAMES = {"lineNumber", "rowNumber", "columnNumber", "label", "validatedValue"};
+    
+    /** 列数のエラーの変数名 */
+    private static final String[] COLUMN_SIZE_VARIABLE_NAMES = {"lineNumber", "rowNumber", "expectedSize", "actualSize"};
+    
+    /** 見出しのエラーの変数名 */
+    private static final String[] HEADER_VARIABLE_NAMES = {"lineNumber", "rowNumber", "expectedHeaders", "actualHeaders",
+            "joinedExpectedHeaders", "joinedActualHeaders"};
+    
+    /** 固定長のエラーの変数名 */
+    private static final String[] FIXED_SIZE_VARIABLE_NAMES = {"lineNumber", "rowNumber", "columnNumber", "label"};
+    
+    /** その他のエラーの変数名 */
+    private static final String[] DEFAULT_VARIABLE_NAMES = {"lineNumber", "rowNumber", "columnNumber"};
+    
     public CsvExceptionConverter() {
         
     }
@@ -123,33 +137,19 @@ public class CsvExceptionConverter {
                 .orElseThrow(() ->  new IllegalStateException(
                         String.format("not found column definition with umber=%d.", columnNumber)));
                 
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("columnNumber", context.getColumnNumber());
-        variables.put("label", columnMapping.getLabel());
-        variables.put("validatedValue", exception.getRejectedValue());
-        variables.putAll(exception.getMessageVariables());
+        final Map<String, Object> variables = new CsvErrorVariables(COLUMN_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(), context.getColumnNumber(),
+                columnMapping.getLabel(), exception.getRejectedValue()},
+                exception.getMessageVariables());
         
         final String defaultMessage = exception.getValidationMessage();
         final String errorCode = exception.getProcessor().getClass().getSimpleName();
         final String objectName = beanMapping.getType().getSimpleName();
         final String fieldName = columnMapping.getName();
         
-        // 型変換エラーのコードを生成する
-        String[] typeMismatchCodes = {};
-        if(exception.isParedError()) {
-            // パース時の型変換エラーの場合
-            typeMismatchCodes = codeGenerator.generateTypeMismatchCodes(
-                    objectName, columnMapping.getName(), columnMapping.getField().getType());
-            
-        }
-        
-        // Bean名でエラーコードを生成する
-        String[] errorCodes = codeGenerator.generateCodes(
-                errorCode, objectName, columnMapping.getName(), columnMapping.getField().getType());
-        
-        errorCodes = Utils.concat(typeMismatchCodes, errorCodes);
+        // Bean名でエラーコードを生成する。パース時の型変換エラーの場合は、型変換エラーのコードを先頭に追加する。
+        final String[] errorCodes = codeGenerator.generateCachedCodes(
+                errorCode, objectName, fieldName, columnMapping.getField().getType(), exception.isParedError());
         
         final CsvFieldError fieldError = new CsvFieldError.Builder(objectName, fieldName, errorCodes)
                 .processingFailure(true)
@@ -170,12 +170,9 @@ public class CsvExceptionConverter {
                 .orElseThrow(() ->  new IllegalStateException(
                         String.format("not found column definition with number=%d.", columnNumber)));
                 
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("columnNumber", context.getColumnNumber());
-        variables.put("label", columnMapping.getLabel());
-        variables.put("validatedValue", rejectedValue);
+        final Map<String, Object> variables = new CsvErrorVariables(COLUMN_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(), context.getColumnNumber(),
+                columnMapping.getLabel(), rejectedValue});
         
         final String defaultMessage = exception.getMessage();
         
@@ -183,8 +180,8 @@ public class CsvExceptionConverter {
         final String objectName = beanMapping.getType().getSimpleName();
         final String fieldName = columnMapping.getName();
         
-        String[] errorCodes = codeGenerator.generateCodes(
-                errorCode, objectName, columnMapping.getName(), columnMapping.getField().getType());
+        final String[] errorCodes = codeGenerator.generateCachedCodes(
+                errorCode, objectName, fieldName, columnMapping.getField().getType(), false);
         
         final CsvFieldError fieldError = new CsvFieldError.Builder(objectName, fieldName, errorCodes)
                 .processingFailure(true)
@@ -201,17 +198,15 @@ public class CsvExceptionConverter {
         
         final CsvContext context = exception.getCsvContext();
         
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("expectedSize", exception.getEpxpectedColumnSize());
-        variables.put("actualSize", exception.getActualColumnSize());
+        final Map<String, Object> variables = new CsvErrorVariables(COLUMN_SIZE_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(),
+                exception.getEpxpectedColumnSize(), exception.getActualColumnSize()});
         
         final String defaultMessage = exception.getMessage();
         
         final String errorCode = "csvError.noMatchColumnSize";
         final String objectName = beanMapping.getType().getSimpleName();
-        final String[] errorCodes = codeGenerator.generateCodes(errorCode, objectName);
+        final String[] errorCodes = codeGenerator.generateCachedCodes(errorCode, objectName, null, null, false);
         
         final CsvError error = new CsvError.Builder(objectName, errorCodes)
                 .variables(variables)
@@ -226,19 +221,16 @@ public class CsvExceptionConverter {
         
         final CsvContext context = exception.getCsvContext();
         
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("expectedHeaders", exception.getExpectedHeaders());
-        variables.put("actualHeaders", exception.getActualHeaders());
-        variables.put("joinedExpectedHeaders", String.join(", ", exception.getExpectedHeaders()));
-        variables.put("joinedActualHeaders", String.join(", ", exception.getActualHeaders()));
+        final Map<String, Object> variables = new CsvErrorVariables(HEADER_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(),
+                exception.getExpectedHeaders(), exception.getActualHeaders(),
+                String.join(", ", exception.getExpectedHeaders()), String.join(", ", exception.getActualHeaders())});
         
         final String defaultMessage = exception.getMessage();
         
         final String errorCode = "csvError.noMatchHeader";
         final String objectName = beanMapping.getType().getSimpleName();
-        final String[] errorCodes = codeGenerator.generateCodes(errorCode, objectName);
+        final String[] errorCodes = codeGenerator.generateCachedCodes(errorCode, objectName, null, null, false);
         
         final CsvError error = new CsvError.Builder(objectName, errorCodes)
                 .variables(variables)
@@ -258,18 +250,15 @@ public class CsvExceptionConverter {
                 .orElseThrow(() ->  new IllegalStateException(
                         String.format("not found column definition with umber=%d.", columnNumber)));
         
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("columnNumber", context.getColumnNumber());
-        variables.put("label", columnMapping.getLabel());
-        variables.putAll(exception.getMessageVariables());
+        final Map<String, Object> variables = new CsvErrorVariables(FIXED_SIZE_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(), context.getColumnNumber(), columnMapping.getLabel()},
+                exception.getMessageVariables());
         
         final String defaultMessage = exception.getMessage();
         
         final String errorCode = exception.getMessageCode();
         final String objectName = beanMapping.getType().getSimpleName();
-        final String[] errorCodes = codeGenerator.generateCodes(errorCode, objectName);
+        final String[] errorCodes = codeGenerator.generateCachedCodes(errorCode, objectName, null, null, false);
         
         final CsvError error = new CsvError.Builder(objectName, errorCodes)
                 .variables(variables)
@@ -284,16 +273,14 @@ public class CsvExceptionConverter {
         
         final CsvContext context = exception.getCsvContext();
         
-        final Map<String, Object> variables = new HashMap<>();
-        variables.put("lineNumber", context.getLineNumber());
-        variables.put("rowNumber", context.getRowNumber());
-        variables.put("columnNumber", context.getColumnNumber());
+        final Map<String, Object> variables = new CsvErrorVariables(DEFAULT_VARIABLE_NAMES, new Object[]{
+                context.getLineNumber(), context.getRowNumber(), context.getColumnNumber()});
         
         final String defaultMessage = exception.getMessage();
         
         final String errorCode = "csvError";
         final String objectName = beanMapping.getType().getSimpleName();
-        final String[] errorCodes = codeGenerator.generateCodes(errorCode, objectName);
+        final String[] errorCodes = codeGenerator.generateCachedCodes(errorCode, objectName, null, null, false);
         
         final CsvError error = new CsvError.Builder(objectName, errorCodes)
                 .variables(variables)
@@ -74,7 +74,12 @@ public class CsvFieldError extends CsvError {
         }
         
         public Builder variables(final Map<String, Object> variables) {
-            this.variables.putAll(variables);
+            if(variables instanceof CsvErrorVariables && this.variables.isEmpty()) {
+                // 遅延して作成するマップは、コピーせずにそのまま使用する
+                this.variables = variables;
+            } else {
+                this.variables.putAll(variables);
+            }
             return this;
         }
         
@@ -1,10 +1,14 @@
 package com.github.mygreen.supercsv.validation;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.github.mygreen.supercsv.util.Utils;
 
@@ -13,6 +17,7 @@ import com.github.mygreen.supercsv.util.Utils;
  * メッセージのコードを生成するクラス。
  * <p>Stringの「DefaultMessageCodeResolver」を参照。</p>
  * 
+ * @version 2.5
  * @author T.TSUCHIE
  *
  */
@@ -29,6 +34,17 @@ public class MessageCodeGenerator implements Serializable {
     /** 型変換エラー時のコード */
     private String typeMismatchCode = "typeMismatch";
     
+    /**
+     * {@link #generateCachedCodes(String, String, String, Class, boolean)}で生成したコードのキャッシュ。
+     * 接頭語などの設定を変更したときに破棄する。
+     */
+    private transient ConcurrentMap<CodeKey, String[]> codeCache = new ConcurrentHashMap<>();
+    
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        this.codeCache = new ConcurrentHashMap<>();
+    }
+    
     /**
      * コードの候補を生成する。
      * @param code
@@ -50,6 +66,39 @@ public class MessageCodeGenerator implements Serializable {
         return generateCodes(getTypeMismatchCode(), objectName, field, fileType);
     }
     
+    /**
+     * キーの候補を生成し、引数の組み合わせごとにキャッシュして再利用する。
+     * <p>カラムと処理の組み合わせごとにコードは変わらないため、エラーごとに生成し直さずに済みます。
+     *   <br>戻り値の配列は共有されるため、変更しないでください。
+     * </p>
+     * 
+     * @since 2.5
+     * @param code 元となるメッセージのコード
+     * @param objectName オブジェクト名
+     * @param field フィールド名 （指定しない場合はnullを設定する）
+     * @param fieldType フィールドのクラスタイプ（指定しない場合はnullを設定する）
+     * @param typeMismatch 型変換エラーのコードの候補を先頭に含めるかどうか。
+     * @return {@link #generateCodes(String, String, String, Class)}の結果。
+     *         引数typeMismatchが{@literal true}の場合は、{@link #generateTypeMismatchCodes(String, String, Class)}の結果と連結した値。
+     */
+    public String[] generateCachedCodes(final String code, final String objectName, final String field, final Class<?> fieldType,
+            final boolean typeMismatch) {
+        
+        final CodeKey key = new CodeKey(code, objectName, field, fieldType, typeMismatch);
+        String[] codes = codeCache.get(key);
+        if(codes != null) {
+            return codes;
+        }
+        
+        codes = generateCodes(code, objectName, field, fieldType);
+        if(typeMismatch) {
+            codes = Utils.concat(generateTypeMismatchCodes(objectName, field, fieldType), codes);
+        }
+        
+        final String[] existing = codeCache.putIfAbsent(key, codes);
+        return existing != null ? existing : codes;
+    }
+    
     /**
      * オブジェクト名のキーの候補を生成する。
      * @param objectName
@@ -231,6 +280,7 @@ public class MessageCodeGenerator implements Serializable {
     
     public void setPrefix(String prefix) {
         this.prefix = prefix;
+        codeCache.clear();
     }
     
     public String getTypeMismatchCode() {
@@ -239,5 +289,62 @@ public class MessageCodeGenerator implements Serializable {
     
     public void setTypeMismatchCode(String typeMismatchCode) {
         this.typeMismatchCode = typeMismatchCode;
+        codeCache.clear();
+    }
+    
+    /**
+     * コードのキャッシュのキー。
+     */
+    private static final class CodeKey {
+        
+        private final String code;
+        
+        private final String objectName;
+        
+        private final String field;
+        
+        private final Class<?> fieldType;
+        
+        private final boolean typeMismatch;
+        
+        private final int hashCode;
+        
+        CodeKey(final String code, final String objectName, final String field, final Class<?> fieldType,
+                final boolean typeMismatch) {
+            this.code = code;
+            this.objectName = objectName;
+            this.field = field;
+            this.fieldType = fieldType;
+            this.typeMismatch = typeMismatch;
+            
+            int hash = Objects.hashCode(code);
+            hash = 31 * hash + Objects.hashCode(objectName);
+            hash = 31 * hash + Objects.hashCode(field);
+            hash = 31 * hash + Objects.hashCode(fieldType);
+            this.hashCode = 31 * hash + Boolean.hashCode(typeMismatch);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if(this == obj) {
+                return true;
+            }
+            if(!(obj instanceof CodeKey)) {
+                return false;
+            }
+            
+            final CodeKey other = (CodeKey) obj;
+            return hashCode == other.hashCode
+                    && typeMismatch == other.typeMismatch
+                    && fieldType == other.fieldType
+                    && Objects.equals(code, other.code)
+                    && Objects.equals(objectName, other.objectName)
+                    && Objects.equals(field, other.field);
+        }
     }
 }
@@ -1,18 +1,28 @@
 package com.github.mygreen.supercsv.validation.beanvalidation;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.validation.ConstraintViolation;
 import javax.validation.Validation;
 import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
+import javax.validation.metadata.BeanDescriptor;
 import javax.validation.metadata.ConstraintDescriptor;
+import javax.validation.metadata.ContainerDescriptor;
+import javax.validation.metadata.ContainerElementTypeDescriptor;
+import javax.validation.metadata.PropertyDescriptor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,8 +37,11 @@ import com.github.mygreen.supercsv.validation.ValidationContext;
 
 /**
  * BeanValidaion JSR-303(ver.1.0)/JSR-349(ver.1.1)/JSR-380(ver2.0)にブリッジする{@link CsvValidator}。
+ * <p>制約のメタ情報から作成するエラーコードやメッセージ変数は、{@link ConstraintDescriptor}ごとにキャッシュします。
+ *   <br>また、検証するグループに一致する制約を持たないBeanは、検証を省略します。
+ * </p>
  * 
- * @version 2.4
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -53,6 +66,15 @@ public class CsvBeanValidator implements CsvValidator<Object> {
     
     private final Validator targetValidator;
     
+    /** 制約ごとのエラーコードとメッセージ変数のキャッシュ */
+    private final ConcurrentMap<ConstraintDescriptor<?>, ConstraintMetadata> constraintCache = new ConcurrentHashMap<>();
+    
+    /** Beanのクラスごとの制約のメタ情報のキャッシュ */
+    private final ConcurrentMap<Class<?>, BeanMetadata> beanCache = new ConcurrentHashMap<>();
+    
+    /** CellProcessorで処理に成功したプロパティのみを検証するかどうか */
+    private boolean validateOnlyProcessedProperties = false;
+    
     public CsvBeanValidator(final Validator targetValidator) {
         Objects.requireNonNull(targetValidator);
         this.targetValidator = targetValidator;
@@ -105,9 +127,68 @@ public class CsvBeanValidator implements CsvValidator<Object> {
         Objects.requireNonNull(bindingErrors);
         Objects.requireNonNull(validationContext);
         
+        final BeanMetadata beanMetadata = getBeanMetadata(record.getClass());
+        if(!beanMetadata.hasConstraints(groups)) {
+            // 検証するグループの制約が存在しない場合
+            return;
+        }
+        
+        if(validateOnlyProcessedProperties && beanMetadata.isPropertySelectable() && bindingErrors.hasFieldErrors()) {
+            // CellProcessorでエラーとなったプロパティを除いて検証する
+            final Set<ConstraintViolation<Object>> violations = new LinkedHashSet<>();
+            for(String property : beanMetadata.getPropertyNames()) {
+                final CsvFieldError fieldError = bindingErrors.getFirstFieldError(property);
+                if(fieldError != null && fieldError.isProcessingFailure()) {
+                    continue;
+                }
+                violations.addAll(getTargetValidator().validateProperty(record, property, groups));
+            }
+            
+            processConstraintViolation(violations, bindingErrors, validationContext);
+            return;
+        }
+        
         processConstraintViolation(getTargetValidator().validate(record, groups), bindingErrors, validationContext);
     }
     
+    /**
+     * Beanのクラスの制約のメタ情報を取得する。
+     * @param beanType Beanのクラスタイプ
+     * @return キャッシュしたメタ情報
+     */
+    private BeanMetadata getBeanMetadata(final Class<?> beanType) {
+        
+        BeanMetadata metadata = beanCache.get(beanType);
+        if(metadata == null) {
+            metadata = new BeanMetadata(getTargetValidator().getConstraintsForClass(beanType));
+            final BeanMetadata existing = beanCache.putIfAbsent(beanType, metadata);
+            if(existing != null) {
+                metadata = existing;
+            }
+        }
+        
+        return metadata;
+    }
+    
+    /**
+     * 制約のエラーコードとメッセージ変数を取得する。
+     * @param descriptor 制約の情報
+     * @return キャッシュしたメタ情報
+     */
+    private ConstraintMetadata getConstraintMetadata(final ConstraintDescriptor<?> descriptor) {
+        
+        ConstraintMetadata metadata = constraintCache.get(descriptor);
+        if(metadata == null) {
+            metadata = new ConstraintMetadata(determineErrorCode(descriptor), createVariableForConstraint(descriptor));
+            final ConstraintMetadata existing = constraintCache.putIfAbsent(descriptor, metadata);
+            if(existing != null) {
+                metadata = existing;
+            }
+        }
+        
+        return metadata;
+    }
+    
     /**
      * BeanValidationの検証結果をSheet用のエラーに変換する
      * @param violations BeanValidationの検証結果
@@ -122,9 +203,10 @@ public class CsvBeanValidator implements CsvValidator<Object> {
             final String field = violation.getPropertyPath().toString();
             final ConstraintDescriptor<?> cd = violation.getConstraintDescriptor();
             
-            final String[] errorCodes = determineErrorCode(cd);
+            final ConstraintMetadata constraintMetadata = getConstraintMetadata(cd);
+            final String[] errorCodes = constraintMetadata.errorCodes;
             
-            final Map<String, Object> errorVars = createVariableForConstraint(cd);
+            final Map<String, Object> errorVars = new HashMap<>(constraintMetadata.variables);
             
             if(isCsvField(field, validationContext)) {
                 // フィールドエラーの場合
@@ -164,6 +246,7 @@ public class CsvBeanValidator implements CsvValidator<Object> {
     /**
      * エラーコードを決定する。
      * <p>※ユーザ指定メッセージの場合はエラーコードは空。</p>
+     * <p>結果は、{@link ConstraintDescriptor}ごとにキャッシュされます。</p>
      * 
      * @since 2.4
      * @param descriptor フィールド情報
@@ -233,4 +316,152 @@ public class CsvBeanValidator implements CsvValidator<Object> {
         
     }
     
+    /**
+     * CellProcessorで処理に成功したプロパティのみを検証するかどうかを取得します。
+     * 
+     * @since 2.5
+     * @return {@literal true}の場合、処理に成功したプロパティのみを検証します。デフォルトは{@literal false}です。
+     */
+    public boolean isValidateOnlyProcessedProperties() {
+        return validateOnlyProcessedProperties;
+    }
+    
+    /**
+     * CellProcessorで処理に成功したプロパティのみを検証するかどうかを設定します。
+     * <p>{@literal true}の場合、CellProcessorでエラーとなったカラムがあるレコードは、
+     *    それ以外のプロパティごとに{@link Validator#validateProperty(Object, String, Class...)}で検証します。
+     *   <br>エラーとなったカラムに対する制約の評価を省略できますが、グループシーケンスはプロパティごとに適用されます。
+     * </p>
+     * <p>クラスに対する制約や、カスケード({@literal @Valid})するプロパティがあるBeanは、常にBean全体を検証します。</p>
+     * 
+     * @since 2.5
+     * @param validateOnlyProcessedProperties {@literal true}の場合、処理に成功したプロパティのみを検証します。
+     */
+    public void setValidateOnlyProcessedProperties(boolean validateOnlyProcessedProperties) {
+        this.validateOnlyProcessedProperties = validateOnlyProcessedProperties;
+    }
+    
+    /**
+     * 制約から作成したエラーコードとメッセージ変数。
+     */
+    private static final class ConstraintMetadata {
+        
+        private final String[] errorCodes;
+        
+        private final Map<String, Object> variables;
+        
+        private ConstraintMetadata(final String[] errorCodes, final Map<String, Object> variables) {
+            this.errorCodes = errorCodes;
+            this.variables = variables;
+        }
+    }
+    
+    /**
+     * Beanのクラスの制約のメタ情報。
+     */
+    private static final class BeanMetadata {
+        
+        private final BeanDescriptor descriptor;
+        
+        /** 制約を持つプロパティ名 */
+        private final List<String> propertyNames;
+        
+        /** プロパティごとに検証できるかどうか */
+        private final boolean propertySelectable;
+        
+        /** グループごとの制約の有無 */
+        private final ConcurrentMap<List<Class<?>>, Boolean> groupConstraints = new ConcurrentHashMap<>();
+        
+        private BeanMetadata(final BeanDescriptor descriptor) {
+            this.descriptor = descriptor;
+            
+            final List<String> names = new ArrayList<>();
+            boolean cascaded = false;
+            for(PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+                names.add(property.getPropertyName());
+                cascaded |= property.isCascaded() || isCascadedContainerElement(property);
+            }
+            
+            this.propertyNames = Collections.unmodifiableList(names);
+            this.propertySelectable = !cascaded && descriptor.getConstraintDescriptors().isEmpty();
+        }
+        
+        private boolean hasConstraints(final Class<?>... groups) {
+            
+            if(!descriptor.isBeanConstrained()) {
+                return false;
+            }
+            
+            if(groups == null) {
+                // 判定できないため、Validatorに任せる
+                return true;
+            }
+            
+            return groupConstraints.computeIfAbsent(Arrays.asList(groups), key -> {
+                if(descriptor.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+                    return true;
+                }
+                
+                for(PropertyDescriptor property : descriptor.getConstrainedProperties()) {
+                    if(property.isCascaded() || property.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+                        return true;
+                    }
+                    
+                    // List<@NotBlank String>などのコンテナの要素の制約
+                    if(hasContainerElementConstraints(property, groups)) {
+                        return true;
+                    }
+                }
+                
+                return false;
+            });
+        }
+        
+        /**
+         * コンテナの要素に、指定したグループの制約、または、カスケードがあるか判定します。
+         * <p>{@literal Map<String, List<@NotBlank String>>}のように入れ子になっている場合は、再帰的に判定します。</p>
+         * @param container コンテナのメタ情報
+         * @param groups 検証グループ
+         * @return 制約またはカスケードがある場合は{@literal true}。
+         */
+        private static boolean hasContainerElementConstraints(final ContainerDescriptor container, final Class<?>... groups) {
+            
+            for(ContainerElementTypeDescriptor element : container.getConstrainedContainerElementTypes()) {
+                if(element.isCascaded() || element.findConstraints().unorderedAndMatchingGroups(groups).hasConstraints()) {
+                    return true;
+                }
+                
+                if(hasContainerElementConstraints(element, groups)) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+        
+        /**
+         * コンテナの要素に、カスケードがあるか判定します。
+         * @param container コンテナのメタ情報
+         * @return カスケードがある場合は{@literal true}。
+         */
+        private static boolean isCascadedContainerElement(final ContainerDescriptor container) {
+            
+            for(ContainerElementTypeDescriptor element : container.getConstrainedContainerElementTypes()) {
+                if(element.isCascaded() || isCascadedContainerElement(element)) {
+                    return true;
+                }
+            }
+            
+            return false;
+        }
+        
+        private List<String> getPropertyNames() {
+            return propertyNames;
+        }
+        
+        private boolean isPropertySelectable() {
+            return propertySelectable;
+        }
+    }
+    
 }
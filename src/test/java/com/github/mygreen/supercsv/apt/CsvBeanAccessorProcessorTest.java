@@ -0,0 +1,269 @@
+package com.github.mygreen.supercsv.apt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.builder.BeanAccessor;
+import com.github.mygreen.supercsv.builder.BeanAccessorResolver;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReader;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanWriter;
+import com.github.mygreen.supercsv.validation.CsvBindingErrors;
+
+/**
+ * {@link CsvBeanAccessorProcessor}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvBeanAccessorProcessorTest {
+
+    private Path tempDir;
+
+    private URLClassLoader classLoader;
+
+    @Before
+    public void setUp() throws Exception {
+        this.tempDir = Files.createTempDirectory("apt");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if(classLoader != null) {
+            classLoader.close();
+        }
+
+        try(Stream<Path> paths = Files.walk(tempDir)) {
+            for(Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * ソースをアノテーションプロセッサを指定してコンパイルする。
+     * @return コンパイル時の診断メッセージ
+     */
+    private List<Diagnostic<? extends JavaFileObject>> compile(final String className, final String source) throws IOException {
+
+        final Path sourceFile = tempDir.resolve("src").resolve(className.replace('.', File.separatorChar) + ".java");
+        Files.createDirectories(sourceFile.getParent());
+        Files.write(sourceFile, source.getBytes(StandardCharsets.UTF_8));
+
+        final Path outputDir = Files.createDirectories(tempDir.resolve("classes"));
+        final String classpath = new File(CsvBean.class.getProtectionDomain().getCodeSource().getLocation().getPath()).getPath();
+
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.ROOT, StandardCharsets.UTF_8)) {
+
+            final List<String> options = Arrays.asList("-classpath", classpath, "-d", outputDir.toString(),
+                    "-s", outputDir.toString(), "-encoding", "UTF-8",
+                    "-processor", CsvBeanAccessorProcessor.class.getName());
+
+            final Boolean result = compiler.getTask(null, fileManager, diagnostics, options, null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile())).call();
+            assertThat(result).as("compile error : %s", diagnostics.getDiagnostics()).isTrue();
+        }
+
+        this.classLoader = new URLClassLoader(new URL[]{outputDir.toUri().toURL()}, getClass().getClassLoader());
+        return diagnostics.getDiagnostics();
+
+    }
+
+    @Test
+    public void testGenerate() throws Exception {
+
+        compile("sample.GeneratedBean", String.join("\n",
+                "package sample;",
+                "import com.github.mygreen.supercsv.annotation.*;",
+                "@CsvBean(header=true)",
+                "public class GeneratedBean {",
+                "    @CsvColumn(number=1) private int id;",
+                "    @CsvColumn(number=2) String name;",
+                "    @CsvColumn(number=3) private boolean enabled;",
+                "    private int setterCount;",
+                "    public int getId() { return id; }",
+                "    public void setId(int id) { this.id = id; setterCount++; }",
+                "    public boolean isEnabled() { return enabled; }",
+                "    public void setEnabled(boolean enabled) { this.enabled = enabled; setterCount++; }",
+                "    public int getSetterCount() { return setterCount; }",
+                "}"));
+
+        final Class<?> beanType = classLoader.loadClass("sample.GeneratedBean");
+        assertThat(BeanAccessorResolver.getAccessorClassName(beanType)).isEqualTo("sample.GeneratedBean_CsvBeanAccessor");
+
+        assertReadAndWrite(beanType);
+
+        // native-image用の設定ファイル
+        final String config = new String(Files.readAllBytes(tempDir.resolve("classes")
+                .resolve("META-INF/native-image/com.github.mygreen/super-csv-annotation-generated/reflect-config.json")),
+                StandardCharsets.UTF_8);
+        assertThat(config).contains("\"name\" : \"sample.GeneratedBean\"", "\"name\" : \"sample.GeneratedBean_CsvBeanAccessor\"");
+
+    }
+
+    private <T> void assertReadAndWrite(final Class<T> beanType) throws Exception {
+
+        final BeanMapping<T> beanMapping = new BeanMappingFactory().create(beanType);
+        assertThat(beanMapping.getBeanAccessor()).isPresent();
+
+        final BeanAccessor<T> accessor = beanMapping.getBeanAccessor().get();
+        assertThat(accessor.getBeanType()).isEqualTo(beanType);
+
+        // 読み込み
+        final List<T> list = new ArrayList<>();
+        try(CsvAnnotationBeanReader<T> csvReader = new CsvAnnotationBeanReader<>(beanType,
+                new StringReader("id,name,enabled\r\n1,abc,true\r\n2,,false\r\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            list.addAll(csvReader.readAll());
+        }
+
+        assertThat(list).hasSize(2);
+        assertThat(accessor.getValue(list.get(0), "id")).isEqualTo(1);
+        assertThat(accessor.getValue(list.get(0), "name")).isEqualTo("abc");
+        assertThat(accessor.getValue(list.get(0), "enabled")).isEqualTo(true);
+        assertThat(accessor.getValue(list.get(1), "name")).isNull();
+
+        // setterメソッドが存在する場合は、setterメソッドを経由して設定される
+        assertThat(beanType.getMethod("getSetterCount").invoke(list.get(0))).isEqualTo(2);
+
+        // 書き込み
+        final StringWriter writer = new StringWriter();
+        try(CsvAnnotationBeanWriter<T> csvWriter = new CsvAnnotationBeanWriter<>(beanType, writer, CsvPreference.STANDARD_PREFERENCE)) {
+            csvWriter.writeAll(list);
+        }
+
+        assertThat(writer.toString()).isEqualTo("id,name,enabled\r\n1,abc,true\r\n2,,false\r\n");
+
+    }
+
+    /**
+     * マッピング対象のフィールドとコールバックメソッドの情報を生成する。
+     */
+    @Test
+    public void testGenerate_metadata() throws Exception {
+
+        compile("sample.MetadataBean", String.join("\n",
+                "package sample;",
+                "import com.github.mygreen.supercsv.annotation.*;",
+                "import com.github.mygreen.supercsv.validation.CsvBindingErrors;",
+                "@CsvBean(header=true)",
+                "public class MetadataBean {",
+                "    @CsvColumn(number=2) public String name;",
+                "    @CsvColumn(number=1) public int id;",
+                "    public String other;",
+                "    public int postReadCount;",
+                "    @CsvPostRead public void handlePostRead(CsvBindingErrors errors) { postReadCount++; }",
+                "    @CsvPreWrite private void handlePreWrite(Object[] values, Class<?>[] groups) { }",
+                "    public void notCallback() { }",
+                "    @CsvBean",
+                "    public static class HiddenTypeBean {",
+                "        @CsvColumn(number=1) public String value;",
+                "        @CsvPostRead void handlePostRead(Hidden hidden) { }",
+                "        private static class Hidden { }",
+                "    }",
+                "}"));
+
+        final Class<?> beanType = classLoader.loadClass("sample.MetadataBean");
+        final BeanAccessor<?> accessor = BeanAccessorResolver.resolve(beanType).get();
+
+        assertThat(accessor.getColumnFieldNames()).contains(Arrays.asList("name", "id"));
+        assertThat(accessor.getCallbackMethodSignatures()).contains(Arrays.asList(
+                new BeanAccessor.MethodSignature("handlePostRead", CsvBindingErrors.class),
+                new BeanAccessor.MethodSignature("handlePreWrite", Object[].class, Class[].class)));
+
+        // 生成した情報を元にマッピングを作成し、コールバックメソッドが呼ばれる
+        final BeanMapping<?> beanMapping = new BeanMappingFactory().create(beanType);
+        assertThat(beanMapping.getColumns()).extracting(c -> c.getName()).containsExactly("id", "name");
+        assertThat(beanMapping.getPostReadMethods()).hasSize(1);
+        assertThat(beanMapping.getPreWriteMethods()).hasSize(1);
+
+        try(CsvAnnotationBeanReader<?> csvReader = new CsvAnnotationBeanReader<>(beanType,
+                new StringReader("id,name\r\n1,abc\r\n"), CsvPreference.STANDARD_PREFERENCE)) {
+            final List<?> list = csvReader.readAll();
+            assertThat(list).hasSize(1);
+            assertThat(beanType.getField("postReadCount").get(list.get(0))).isEqualTo(1);
+        }
+
+        // 引数のクラスタイプを参照できない場合は、メソッドの情報を生成しない
+        final BeanAccessor<?> hiddenAccessor = BeanAccessorResolver.resolve(classLoader.loadClass("sample.MetadataBean$HiddenTypeBean")).get();
+        assertThat(hiddenAccessor.getColumnFieldNames()).contains(Arrays.asList("value"));
+        assertThat(hiddenAccessor.getCallbackMethodSignatures()).isEmpty();
+
+    }
+
+    /**
+     * アクセスできないフィールドがある場合は、生成をスキップする。
+     */
+    @Test
+    public void testSkip_notAccessible() throws Exception {
+
+        List<Diagnostic<? extends JavaFileObject>> diagnostics = compile("sample.SkipBean", String.join("\n",
+                "package sample;",
+                "import com.github.mygreen.supercsv.annotation.*;",
+                "public class SkipBean {",
+                "    @CsvBean",
+                "    public static class NoSetterBean {",
+                "        @CsvColumn(number=1) private String value;",
+                "        public String getValue() { return value; }",
+                "    }",
+                "    @CsvBean",
+                "    private static class PrivateBean {",
+                "        @CsvColumn(number=1) public String value;",
+                "    }",
+                "    @CsvBean",
+                "    public static class NestedBean {",
+                "        @CsvColumn(number=1) public String value;",
+                "    }",
+                "}"));
+
+        final List<String> messages = diagnostics.stream()
+                .map(d -> d.getMessage(Locale.ROOT))
+                .collect(Collectors.toList());
+        assertThat(messages).contains(
+                "skip generating BeanAccessor for 'sample.SkipBean.NoSetterBean', because the field 'value' has no accessible setter.",
+                "skip generating BeanAccessor for 'sample.SkipBean.PrivateBean', because the class or enclosing class is private.");
+
+        final Class<?> noSetterBean = classLoader.loadClass("sample.SkipBean$NoSetterBean");
+        assertThat(BeanAccessorResolver.resolve(noSetterBean)).isEmpty();
+        assertThat(new BeanMappingFactory().create(noSetterBean).getBeanAccessor()).isEmpty();
+
+        // ネストしたクラスの場合
+        final Class<?> nestedBean = classLoader.loadClass("sample.SkipBean$NestedBean");
+        assertThat(BeanAccessorResolver.getAccessorClassName(nestedBean)).isEqualTo("sample.SkipBean_NestedBean_CsvBeanAccessor");
+        assertThat(BeanAccessorResolver.resolve(nestedBean)).isPresent();
+
+    }
+
+}
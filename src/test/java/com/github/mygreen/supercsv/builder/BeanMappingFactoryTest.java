@@ -2,25 +2,36 @@ package com.github.mygreen.supercsv.builder;
 
 import static org.junit.Assert.*;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.*;
 
 
 import org.junit.Before;
 import org.junit.Test;
+import org.supercsv.cellprocessor.ift.CellProcessor;
 import org.supercsv.exception.SuperCsvException;
+import org.supercsv.util.CsvContext;
 
 import com.github.mygreen.supercsv.annotation.CsvBean;
 import com.github.mygreen.supercsv.annotation.CsvColumn;
 import com.github.mygreen.supercsv.annotation.CsvPartial;
+import com.github.mygreen.supercsv.annotation.CsvPostRead;
+import com.github.mygreen.supercsv.annotation.CsvPreRead;
+import com.github.mygreen.supercsv.annotation.format.CsvDateTimeFormat;
+import com.github.mygreen.supercsv.annotation.format.CsvNumberFormat;
 import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+import com.github.mygreen.supercsv.cellprocessor.format.ParseProcessor;
+import com.github.mygreen.supercsv.cellprocessor.format.TextFormatter;
+import com.github.mygreen.supercsv.cellprocessor.format.TextFormatterPool;
 import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
 
 /**
  * {@link BeanMappingFactory}/{@link BeanMappingFactoryHelper}のテスタ
  *
- * @version 2.2
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -75,6 +86,115 @@ public class BeanMappingFactoryTest {
                         NoBeanAnnoBean.class.getName());
     }
     
+    /**
+     * 生成された{@link BeanAccessor}を必須とする場合
+     * @since 2.5
+     */
+    @Test
+    public void testCreate_requireBeanAccessor() {
+        
+        assertThat(factory.create(AllModifiresBean.class, groupEmpty).getBeanAccessor()).isEmpty();
+        
+        factory.getConfiguration().setRequireBeanAccessor(true);
+        assertThatThrownBy(() -> factory.create(AllModifiresBean.class, groupEmpty))
+                .isInstanceOf(SuperCsvInvalidAnnotationException.class)
+                .hasMessage("'%s' において、アノテーションプロセッサで生成されたクラス '%s' が見つかりません。",
+                        AllModifiresBean.class.getName(),
+                        "com.github.mygreen.supercsv.builder.BeanMappingFactoryTest_AllModifiresBean_CsvBeanAccessor");
+    }
+    
+    /**
+     * 生成された{@link BeanAccessor}がフィールドとメソッドの情報を提供している場合は、
+     * Beanのクラスを走査せずに、提供されたフィールドとメソッドのみを使用すること。
+     * @since 2.5
+     */
+    @Test
+    public void testCreate_beanAccessorMetadata() {
+        
+        BeanMapping<MetadataBean> beanMapping = factory.create(MetadataBean.class, groupEmpty);
+        assertThat(beanMapping.getBeanAccessor()).isPresent();
+        
+        // 提供されていないフィールドとメソッドは、アノテーションを付与していても対象とならない
+        assertThat(beanMapping.getColumns()).extracting(ColumnMapping::getName).containsExactly("id", "name");
+        assertThat(beanMapping.getPreReadMethods()).isEmpty();
+        assertThat(beanMapping.getPostReadMethods()).hasSize(1);
+        
+        BeanMapping<MetadataBean> lazyBeanMapping = lazyFactory.create(MetadataBean.class, groupEmpty);
+        assertThat(lazyBeanMapping.getColumns()).extracting(ColumnMapping::getName).containsExactly("id", "name");
+        
+    }
+    
+    /**
+     * フォーマッタのインスタンスがカラムごとに1つであること
+     * @since 2.5
+     */
+    @Test
+    public void testCreate_formatterPerColumn() {
+        
+        BeanMapping<FormatBean> beanMapping = factory.create(FormatBean.class, groupEmpty);
+        Configuration config = factory.getConfiguration();
+        
+        for(ColumnMapping column : beanMapping.getColumns()) {
+            @SuppressWarnings("unchecked")
+            AbstractProcessorBuilder<Object> builder = (AbstractProcessorBuilder<Object>) config.getBuilderResolver()
+                    .resolve(column.getField().getType());
+            
+            assertThat(column.getFormatter()).isNotNull()
+                    .isSameAs(builder.getFormatter(column.getField(), config));
+            
+            CellProcessor processor = column.getCellProcessorForReading();
+            assertThat(processor).isInstanceOf(ParseProcessor.class);
+            assertThat(((ParseProcessor<?>)processor).getParser()).isSameAs(column.getFormatter());
+        }
+        
+        // プールを設定していない場合は、書式が同じでもカラムごとに作成する
+        assertThat(beanMapping.getColumnMapping("number1").get().getFormatter())
+                .isNotSameAs(beanMapping.getColumnMapping("number2").get().getFormatter());
+        
+    }
+    
+    /**
+     * 書式が同じフォーマッタをプールで共有する場合
+     * @since 2.5
+     */
+    @Test
+    public void testCreate_formatterPool() {
+        
+        TextFormatterPool pool = new TextFormatterPool();
+        factory.getConfiguration().setFormatterPool(pool);
+        
+        // 同じシステム設定を使用する
+        BeanMappingFactory otherFactory = new BeanMappingFactory();
+        otherFactory.setConfiguration(factory.getConfiguration());
+        
+        BeanMapping<FormatBean> beanMapping = factory.create(FormatBean.class, groupEmpty);
+        BeanMapping<OtherFormatBean> otherMapping = otherFactory.create(OtherFormatBean.class, groupEmpty);
+        
+        TextFormatter<?> number1 = beanMapping.getColumnMapping("number1").get().getFormatter();
+        TextFormatter<?> number2 = beanMapping.getColumnMapping("number2").get().getFormatter();
+        TextFormatter<?> number3 = beanMapping.getColumnMapping("number3").get().getFormatter();
+        TextFormatter<?> date = beanMapping.getColumnMapping("date").get().getFormatter();
+        
+        // 書式が同じ
+        assertThat(number1).isSameAs(number2);
+        assertThat(otherMapping.getColumnMapping("amount").get().getFormatter()).isSameAs(number1);
+        assertThat(otherMapping.getColumnMapping("day").get().getFormatter()).isSameAs(date);
+        
+        // 書式が異なる
+        assertThat(number3).isNotSameAs(number1);
+        
+        assertThat(pool.size()).isEqualTo(3);
+        
+        // システム設定が異なる場合は、同じプールでも共有しない
+        BeanMappingFactory anotherFactory = new BeanMappingFactory();
+        anotherFactory.getConfiguration().setFormatterPool(pool);
+        
+        BeanMapping<OtherFormatBean> anotherMapping = anotherFactory.create(OtherFormatBean.class, groupEmpty);
+        assertThat(anotherMapping.getColumnMapping("amount").get().getFormatter()).isNotSameAs(number1);
+        assertThat(anotherMapping.getColumnMapping("day").get().getFormatter()).isNotSameAs(date);
+        
+    }
+    
     /**
      * {@link CsvColumn}アノテーションが存在しない
      */
@@ -258,6 +378,38 @@ public class BeanMappingFactoryTest {
         
     }
     
+    /**
+     * ヘッダーのラベルを元にカラム番号を決定する
+     * @since 2.5
+     */
+    @Test
+    public void testDetermineColumnNumberByHeader() {
+        
+        BeanMapping<NonDeterminedColumnBean> beanMapping = lazyFactory.create(NonDeterminedColumnBean.class, groupEmpty);
+        
+        // ヘッダーのマッピングの呼び出し回数を数える
+        AtomicInteger count = new AtomicInteger();
+        beanMapping.setHeaderMapper((column, config, groups) -> {
+            count.incrementAndGet();
+            return column.getLabel();
+        });
+        
+        List<ColumnMapping> list = beanMapping.getColumns();
+        String[] headers = new String[] {"カラム3", null, "col2", "カラム1", "カラム3"};
+        
+        BeanMappingFactoryHelper.determineColumnNumberByHeader(beanMapping, list, headers);
+        
+        // 番号が決まっていないカラムごとに1回のみ
+        assertThat(count.get()).isEqualTo(2);
+        
+        assertThat(beanMapping.getColumnMapping("col1").get().getNumber()).isEqualTo(4);
+        assertThat(beanMapping.getColumnMapping("col2").get().getNumber()).isEqualTo(1);
+        
+        // 同じラベルのヘッダーが複数ある場合は、先頭の位置
+        assertThat(beanMapping.getColumnMapping("col3").get().getNumber()).isEqualTo(1);
+        
+    }
+    
     /**
      * カラム番号が未決定のラベルをチェックする
      */
@@ -452,4 +604,75 @@ public class BeanMappingFactoryTest {
         @CsvColumn(label="カラム3")
         private String col3;
     }
+    
+    /**
+     * 書式を指定したBean
+     *
+     */
+    @CsvBean
+    private static class FormatBean {
+        
+        @CsvColumn(number=1)
+        @CsvNumberFormat(pattern="#,##0")
+        private Integer number1;
+        
+        @CsvColumn(number=2)
+        @CsvNumberFormat(pattern="#,##0")
+        private Integer number2;
+        
+        @CsvColumn(number=3)
+        @CsvNumberFormat(pattern="#,##0.0")
+        private Integer number3;
+        
+        @CsvColumn(number=4)
+        @CsvDateTimeFormat(pattern="uuuu/MM/dd")
+        private LocalDate date;
+        
+    }
+    
+    /**
+     * {@link BeanMappingFactoryTest_MetadataBean_CsvBeanAccessor}により、
+     * フィールドとメソッドの情報が提供されるBean
+     *
+     */
+    @CsvBean
+    static class MetadataBean {
+        
+        @CsvColumn(number=1)
+        int id;
+        
+        @CsvColumn(number=2)
+        String name;
+        
+        @CsvColumn(number=3)
+        String notProvided;
+        
+        @CsvPreRead
+        void handlePreRead() {
+            
+        }
+        
+        @CsvPostRead
+        void handlePostRead(CsvContext context) {
+            
+        }
+        
+    }
+    
+    /**
+     * 書式を指定した他のBean
+     *
+     */
+    @CsvBean
+    private static class OtherFormatBean {
+        
+        @CsvColumn(number=1)
+        @CsvNumberFormat(pattern="#,##0")
+        private Integer amount;
+        
+        @CsvColumn(number=2)
+        @CsvDateTimeFormat(pattern="uuuu/MM/dd")
+        private LocalDate day;
+        
+    }
 }
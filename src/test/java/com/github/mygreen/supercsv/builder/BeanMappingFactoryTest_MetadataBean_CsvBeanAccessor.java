@@ -0,0 +1,67 @@
+package com.github.mygreen.supercsv.builder;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.builder.BeanMappingFactoryTest.MetadataBean;
+
+/**
+ * {@link MetadataBean}に対する{@link BeanAccessor}。
+ * <p>アノテーションプロセッサで生成されるクラスの代わりに、一部のフィールドとメソッドのみの情報を提供します。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public final class BeanMappingFactoryTest_MetadataBean_CsvBeanAccessor implements BeanAccessor<MetadataBean> {
+
+    @Override
+    public Class<MetadataBean> getBeanType() {
+        return MetadataBean.class;
+    }
+
+    @Override
+    public MetadataBean newInstance() {
+        return new MetadataBean();
+    }
+
+    @Override
+    public Object getValue(final MetadataBean bean, final String fieldName) {
+        switch(fieldName) {
+            case "id":
+                return bean.id;
+            case "name":
+                return bean.name;
+            default:
+                throw new IllegalArgumentException("not found accessible field : " + fieldName);
+        }
+    }
+
+    @Override
+    public void setValue(final MetadataBean bean, final String fieldName, final Object value) {
+        switch(fieldName) {
+            case "id":
+                bean.id = (Integer) value;
+                return;
+            case "name":
+                bean.name = (String) value;
+                return;
+            default:
+                throw new IllegalArgumentException("not found accessible field : " + fieldName);
+        }
+    }
+
+    @Override
+    public Optional<List<String>> getColumnFieldNames() {
+        return Optional.of(Arrays.asList("id", "name"));
+    }
+
+    @Override
+    public Optional<List<MethodSignature>> getCallbackMethodSignatures() {
+        return Optional.of(Arrays.asList(new MethodSignature("handlePostRead", CsvContext.class)));
+    }
+
+}
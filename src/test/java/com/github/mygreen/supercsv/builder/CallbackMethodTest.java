@@ -6,11 +6,13 @@ import static org.assertj.core.api.Assertions.*;
 import java.awt.Point;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.supercsv.exception.SuperCsvReflectionException;
 import org.supercsv.prefs.CsvPreference;
 import org.supercsv.util.CsvContext;
 
@@ -314,4 +316,97 @@ public class CallbackMethodTest {
         assertThat(csv).isEqualTo(TEST_CSV);
     }
     
+    /**
+     * 引数の組み立て方を事前に作成したメソッドを、繰り返し実行する
+     */
+    @Test
+    public void testInvoke_compiled() throws Exception {
+        
+        BeanMapping<TestCsv> beanMapping = beanMappingFactory.create(TestCsv.class, Group1.class, Group2.class);
+        
+        CallbackMethod callback = new CallbackMethod(
+                InvokeTarget.class.getDeclaredMethod("handle", ValidationContext.class, Class[].class, String.class, TestCsv.class),
+                TestCsv.class);
+        
+        InvokeTarget target = new InvokeTarget();
+        ListenerCallbackMethod listenerCallback = new ListenerCallbackMethod(target,
+                InvokeTarget.class.getDeclaredMethod("handle", ValidationContext.class, Class[].class, String.class, TestCsv.class));
+        
+        CsvContext context = new CsvContext(2, 1, 1);
+        TestCsv record = new TestCsv(1, "a");
+        for(int i=0; i < 3; i++) {
+            listenerCallback.invoke(record, context, new CsvBindingErrors(TestCsv.class), beanMapping);
+        }
+        
+        assertThat(target.messages).containsExactly("1-2", "1-2", "1-2");
+        
+        // 実行対象のインスタンスのタイプが異なる
+        assertThatThrownBy(() -> callback.invoke(record, context, new CsvBindingErrors(TestCsv.class), beanMapping))
+            .isInstanceOf(SuperCsvReflectionException.class)
+            .hasCauseInstanceOf(ClassCastException.class);
+        
+    }
+    
+    /**
+     * 従来の{@link CallbackMethod#execute(Object, Object[])}をオーバーライドしている場合
+     */
+    @Test
+    public void testInvoke_legacyExecute() throws Exception {
+        
+        BeanMapping<TestCsv> beanMapping = beanMappingFactory.create(TestCsv.class, Group1.class, Group2.class);
+        
+        InvokeTarget target = new InvokeTarget();
+        LegacyCallbackMethod callback = new LegacyCallbackMethod(target,
+                InvokeTarget.class.getDeclaredMethod("handle", ValidationContext.class, Class[].class, String.class, TestCsv.class));
+        
+        CsvContext context = new CsvContext(2, 1, 1);
+        TestCsv record = new TestCsv(1, "a");
+        callback.invoke(record, context, new CsvBindingErrors(TestCsv.class), beanMapping);
+        callback.invoke(record, context, new CsvBindingErrors(TestCsv.class), beanMapping);
+        
+        assertThat(callback.executeCount).isEqualTo(2);
+        assertThat(target.messages).containsExactly("1-2", "1-2");
+        
+    }
+    
+    @SuppressWarnings("deprecation")
+    private static class LegacyCallbackMethod extends CallbackMethod {
+        
+        private final Object listener;
+        
+        private int executeCount;
+        
+        private LegacyCallbackMethod(final Object listener, final Method method) {
+            super(method);
+            this.listener = listener;
+        }
+        
+        @Override
+        protected void execute(final Object record, final Object[] paramValues) {
+            executeCount++;
+            super.execute(record, paramValues);
+        }
+        
+        @Override
+        protected Object getTarget(final Object record) {
+            return listener;
+        }
+    }
+    
+    private static class InvokeTarget {
+        
+        private List<String> messages = new ArrayList<>();
+        
+        @SuppressWarnings("unused")
+        private void handle(final ValidationContext<TestCsv> validationContext, final Class<?>[] groups,
+                final String unknown, final TestCsv record) {
+            
+            assertThat(validationContext.getBeanMapping().getType()).isEqualTo(TestCsv.class);
+            assertThat(groups).containsExactly(Group1.class, Group2.class);
+            assertThat(unknown).isNull();
+            
+            messages.add(record.getId() + "-" + validationContext.getCsvContext().getLineNumber());
+        }
+    }
+    
 }
@@ -374,6 +374,34 @@ public class FieldAccessorTest {
         
     }
     
+    /**
+     * グループで絞り込んだ結果はキャッシュされ、変更できないこと
+     * @since 2.5
+     */
+    @Test
+    public void testGetAnnotationsByGroup_cache() throws Exception {
+        
+        Field field = SampleBean.class.getDeclaredField("col4");
+        FieldAccessor property = new FieldAccessor(field, comparator);
+        
+        List<CsvNumberRange> annos1 = property.getAnnotationsByGroup(CsvNumberRange.class, DefaultGroup.class, Group1.class);
+        List<CsvNumberRange> annos2 = property.getAnnotationsByGroup(CsvNumberRange.class, DefaultGroup.class, Group1.class);
+        assertThat(annos1).hasSize(2).isSameAs(annos2);
+        
+        // グループの順序が異なる場合は、別の結果となる
+        assertThat(property.getAnnotationsByGroup(CsvNumberRange.class, Group1.class, DefaultGroup.class))
+            .isNotSameAs(annos1)
+            .containsExactlyElementsOf(annos1);
+        
+        // タイプを指定しない場合とは区別する
+        assertThat(property.getAnnotationsByGroup(DefaultGroup.class, Group1.class)).hasSize(2);
+        assertThat(property.getAnnotationsByGroup(CsvRequire.class, DefaultGroup.class, Group1.class)).isEmpty();
+        
+        assertThatThrownBy(() -> annos1.clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> property.getAnnotations(CsvNumberRange.class).clear()).isInstanceOf(UnsupportedOperationException.class);
+        
+    }
+    
     /**
      * アノテーションの一覧の取得。
      * <p>繰り返しのアノテーションの場合</p>
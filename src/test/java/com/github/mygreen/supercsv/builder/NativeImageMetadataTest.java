@@ -0,0 +1,160 @@
+package com.github.mygreen.supercsv.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.constraint.CsvConstraint;
+import com.github.mygreen.supercsv.annotation.conversion.CsvConversion;
+import com.github.mygreen.supercsv.cellprocessor.conversion.CharWidthPaddingProcessor;
+
+/**
+ * GraalVMのnative-image用の設定ファイル{@literal META-INF/native-image}のテスタ。
+ * <p>ライブラリのクラスを追加・変更した際に、設定ファイルの更新漏れを検出します。</p>
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class NativeImageMetadataTest {
+
+    private static final String CONFIG_DIR = "META-INF/native-image/com.github.mygreen/super-csv-annotation/";
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("^    \"name\" : \"([^\"]+)\"", Pattern.MULTILINE);
+
+    private static final Pattern INTERFACES_PATTERN = Pattern.compile("\"interfaces\" : \\[ \"([^\"]+)\" \\]");
+
+    private String readConfig(final String name) throws IOException {
+
+        try(InputStream in = getClass().getClassLoader().getResourceAsStream(CONFIG_DIR + name)) {
+            assertThat(in).as(name).isNotNull();
+
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            final byte[] buf = new byte[8192];
+            int len;
+            while((len = in.read(buf)) > 0) {
+                out.write(buf, 0, len);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private List<String> extract(final Pattern pattern, final String text) {
+        final List<String> list = new ArrayList<>();
+        final Matcher matcher = pattern.matcher(text);
+        while(matcher.find()) {
+            list.add(matcher.group(1));
+        }
+        return list;
+    }
+
+    /**
+     * ライブラリのアノテーションのクラスを全て取得する。
+     */
+    private List<Class<?>> findAnnotationClasses() throws IOException, URISyntaxException, ClassNotFoundException {
+
+        final Path root = Paths.get(CsvBean.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final Path annoDir = root.resolve("com/github/mygreen/supercsv/annotation");
+
+        final List<String> classNames;
+        try(Stream<Path> paths = Files.walk(annoDir)) {
+            classNames = paths.filter(p -> p.toString().endsWith(".class"))
+                    .map(p -> root.relativize(p).toString().replace('\\', '/').replace('/', '.').replaceAll("\\.class$", ""))
+                    .collect(Collectors.toList());
+        }
+
+        final List<Class<?>> list = new ArrayList<>();
+        for(String className : classNames) {
+            final Class<?> clazz = Class.forName(className, false, getClass().getClassLoader());
+            if(clazz.isAnnotation()) {
+                list.add(clazz);
+            }
+        }
+
+        return list;
+    }
+
+    @Test
+    public void testReflectConfig() throws Exception {
+
+        final List<String> names = extract(NAME_PATTERN, readConfig("reflect-config.json"));
+
+        // 全てのクラスが存在すること
+        for(String name : names) {
+            Class.forName(name, false, getClass().getClassLoader());
+        }
+
+        // 全てのアノテーションが登録されていること
+        final List<Class<?>> annoClasses = findAnnotationClasses();
+        assertThat(annoClasses).isNotEmpty();
+        for(Class<?> annoClass : annoClasses) {
+            assertThat(names).as("annotation").contains(annoClass.getName());
+        }
+
+        // アノテーションの属性で指定されているファクトリクラスが登録されていること
+        for(Class<?> annoClass : annoClasses) {
+            final List<Class<?>> factoryClasses = new ArrayList<>();
+            final CsvConstraint constraintAnno = annoClass.getAnnotation(CsvConstraint.class);
+            if(constraintAnno != null) {
+                factoryClasses.addAll(Arrays.asList(constraintAnno.value()));
+            }
+
+            final CsvConversion conversionAnno = annoClass.getAnnotation(CsvConversion.class);
+            if(conversionAnno != null) {
+                factoryClasses.addAll(Arrays.asList(conversionAnno.value()));
+            }
+
+            for(Class<?> factoryClass : factoryClasses) {
+                assertThat(names).as("factory of %s", annoClass.getName()).contains(factoryClass.getName());
+            }
+        }
+
+        assertThat(names).contains(DefaultHeaderMapper.class.getName(), FixedSizeHeaderMapper.class.getName(),
+                CharWidthPaddingProcessor.class.getName());
+
+    }
+
+    @Test
+    public void testProxyConfig() throws Exception {
+
+        final List<String> names = extract(INTERFACES_PATTERN, readConfig("proxy-config.json"));
+        assertThat(names).isNotEmpty();
+
+        for(String name : names) {
+            final Class<?> clazz = Class.forName(name, false, getClass().getClassLoader());
+            assertThat(Annotation.class.isAssignableFrom(clazz)).as(name).isTrue();
+        }
+
+    }
+
+    @Test
+    public void testResourceConfig() throws Exception {
+
+        final String config = readConfig("resource-config.json");
+        final String pattern = extract(Pattern.compile("\"pattern\" : \"(.+)\""), config).get(0)
+                .replace("\\\\", "\\");
+
+        assertThat("com/github/mygreen/supercsv/localization/Messages.properties").matches(pattern);
+        assertThat("com/github/mygreen/supercsv/localization/SuperCsvMessages.properties").matches(pattern);
+
+    }
+
+}
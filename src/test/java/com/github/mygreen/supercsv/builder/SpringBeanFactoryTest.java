@@ -10,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Configurable;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Description;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Controller;
 import org.springframework.stereotype.Repository;
@@ -125,6 +126,33 @@ public class SpringBeanFactoryTest {
 
     }
 
+    /**
+     * 解決結果のキャッシュ - シングルトンは同じインスタンスを返す
+     */
+    @Test
+    public void testCreate_cache() {
+
+        Object bean1 = beanFactory.create(AtSpringBean.class);
+        Object bean2 = beanFactory.create(AtSpringBean.class);
+        assertThat(bean1).isSameAs(bean2);
+
+        // プロトタイプのBeanは毎回作成する
+        AtSpringPrototypeBean prototype1 = (AtSpringPrototypeBean) beanFactory.create(AtSpringPrototypeBean.class);
+        AtSpringPrototypeBean prototype2 = (AtSpringPrototypeBean) beanFactory.create(AtSpringPrototypeBean.class);
+        assertThat(prototype1).isNotSameAs(prototype2);
+        assertThat(prototype2.hello()).isEqualTo("hello@atSpringPrototypeBean");
+
+        // Spring管理外のクラスは毎回作成する
+        NonSpringWithInject nonSpring1 = (NonSpringWithInject) beanFactory.create(NonSpringWithInject.class);
+        NonSpringWithInject nonSpring2 = (NonSpringWithInject) beanFactory.create(NonSpringWithInject.class);
+        assertThat(nonSpring1).isNotSameAs(nonSpring2);
+        assertThat(nonSpring2.atSpringBean).isSameAs(bean1);
+
+        beanFactory.clearCache();
+        assertThat(beanFactory.create(AtSpringBean.class)).isSameAs(bean1);
+
+    }
+
     /**
      * SpringのJavaConfig
      *
@@ -162,6 +190,15 @@ public class SpringBeanFactoryTest {
             return bean;
         }
 
+        @Description("Spring管理のクラス - プロトタイプ")
+        @Bean
+        @Scope("prototype")
+        AtSpringPrototypeBean atSpringPrototypeBean() {
+            AtSpringPrototypeBean bean = new AtSpringPrototypeBean();
+            bean.message = "hello@atSpringPrototypeBean";
+            return bean;
+        }
+
 
     }
 
@@ -226,6 +263,20 @@ public class SpringBeanFactoryTest {
 
     }
 
+    /**
+     * Spring管理のクラス - プロトタイプ
+     *
+     */
+    private static class AtSpringPrototypeBean {
+
+        String message;
+
+        String hello() {
+            return message;
+        }
+
+    }
+
     @Component("componentBean")
     private static class AtSpringComponentBean {
 
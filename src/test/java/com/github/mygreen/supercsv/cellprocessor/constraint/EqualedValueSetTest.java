@@ -0,0 +1,95 @@
+package com.github.mygreen.supercsv.cellprocessor.constraint;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * {@link EqualedValueSet}のテスタ
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class EqualedValueSetTest {
+    
+    @Test
+    public void testOf_null() {
+        
+        assertThatThrownBy(() -> EqualedValueSet.of(null)).isInstanceOf(NullPointerException.class);
+        
+    }
+    
+    @Test
+    public void testOf_same() {
+        
+        EqualedValueSet<String> set = EqualedValueSet.of(Arrays.asList("a", "b"));
+        assertThat(EqualedValueSet.of(set)).isSameAs(set);
+        
+    }
+    
+    @Test
+    public void testContains_string() {
+        
+        List<String> codes = new ArrayList<>();
+        for(int i=0; i < 10_000; i++) {
+            codes.add(String.format("C%05d", i));
+        }
+        codes.add("C00001");
+        
+        EqualedValueSet<String> set = EqualedValueSet.of(codes);
+        
+        // 重複を除いて、記述順に保持する
+        assertThat(set).hasSize(10_000);
+        assertThat(set.getValues().get(0)).isEqualTo("C00000");
+        assertThat(set.getValues().get(9_999)).isEqualTo("C09999");
+        
+        for(String code : codes) {
+            assertThat(set.contains(code)).as(code).isTrue();
+        }
+        
+        assertThat(set.contains("C10000")).isFalse();
+        assertThat(set.contains("")).isFalse();
+        assertThat(set.contains(null)).isFalse();
+        assertThat(set.contains(1)).isFalse();
+        
+        assertThatThrownBy(() -> set.getValues().add("abc")).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> set.iterator().remove()).isInstanceOf(UnsupportedOperationException.class);
+        
+    }
+    
+    @Test
+    public void testContains_enum() {
+        
+        EqualedValueSet<TimeUnit> set = EqualedValueSet.of(Arrays.asList(TimeUnit.SECONDS, TimeUnit.DAYS));
+        
+        assertThat(set).containsExactly(TimeUnit.SECONDS, TimeUnit.DAYS);
+        assertThat(set.contains(TimeUnit.DAYS)).isTrue();
+        assertThat(set.contains(TimeUnit.HOURS)).isFalse();
+        assertThat(set.contains("DAYS")).isFalse();
+        
+    }
+    
+    @Test
+    public void testContains_object() {
+        
+        EqualedValueSet<Object> set = EqualedValueSet.of(Arrays.asList(new BigDecimal("1.0"), null, "abc", 10));
+        
+        assertThat(set).hasSize(4);
+        assertThat(set.contains(new BigDecimal("1.0"))).isTrue();
+        assertThat(set.contains(new BigDecimal("1.00"))).isFalse();
+        assertThat(set.contains(null)).isTrue();
+        assertThat(set.contains("abc")).isTrue();
+        assertThat(set.contains(10)).isTrue();
+        
+        assertThat(EqualedValueSet.of(new ArrayList<>())).isEmpty();
+        
+    }
+    
+}
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
@@ -41,6 +42,7 @@ import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 /**
  * {@link EqualsFactory}のテスタ
  *
+ * @version 2.5
  * @since 2.0
  * @author T.TSUCHIE
  *
@@ -103,6 +105,11 @@ public class EqualsFactoryTest {
         @CsvEquals(provider=FileEqualedValueProvider.class)
         private Integer col_privider;
         
+        @CsvColumn(number=4)
+        @CsvNumberFormat(pattern=TEST_FORMATTED_PATTERN)
+        @CsvEquals(provider=SharedEqualedValueProvider.class)
+        private Integer col_shared_provider;
+        
         @CsvColumn(number=10)
         @CsvNumberFormat(pattern=TEST_FORMATTED_PATTERN)
         @CsvEquals(value={"-1,000", "1,000"}, message="テストメッセージ")
@@ -162,6 +169,17 @@ public class EqualsFactoryTest {
         }
     }
     
+    // 作成済みの索引を返す場合
+    private static class SharedEqualedValueProvider implements EqualedValueProvider<Integer> {
+        
+        private static final EqualedValueSet<Integer> SHARED = EqualedValueSet.of(Arrays.asList(VALUES));
+        
+        @Override
+        public Collection<Integer> getEqualedValues(final FieldAccessor field) {
+            return SHARED;
+        }
+    }
+    
     @Test
     public void testCreate_default() {
         
@@ -225,6 +243,27 @@ public class EqualsFactoryTest {
         
     }
     
+    /**
+     * 属性providerで、作成済みの索引を返す場合は共有する
+     * @since 2.5
+     */
+    @Test
+    public void testCreate_attrProvider_shared() {
+        
+        FieldAccessor field = getFieldAccessor(TestCsv.class, "col_shared_provider", comparator);
+        IntegerProcessorBuilder builder = (IntegerProcessorBuilder) builderResolver.resolve(Integer.class);
+        TextFormatter<Integer> formatter = builder.getFormatter(field, config);
+        
+        CsvEquals anno = field.getAnnotationsByGroup(CsvEquals.class, groupEmpty).get(0);
+        
+        Equals<Integer> actual = (Equals<Integer>)factory.create(anno, Optional.empty(), field, formatter, config).get();
+        assertThat(actual.getEqualedValues()).isSameAs(SharedEqualedValueProvider.SHARED);
+        
+        assertThat((Object)actual.execute(TEST_VALUE_VALID_OBJ, ANONYMOUS_CSVCONTEXT)).isEqualTo(TEST_VALUE_VALID_OBJ);
+        assertThatThrownBy(() -> actual.execute(TEST_VALUE_WRONG_OBJ, ANONYMOUS_CSVCONTEXT)).isInstanceOf(SuperCsvValidationException.class);
+        
+    }
+    
     /**
      * 属性providerを指定
      */
@@ -4,6 +4,10 @@ import static org.junit.Assert.*;
 import static org.assertj.core.api.Assertions.*;
 import static com.github.mygreen.supercsv.tool.TestUtils.*;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.experimental.runners.Enclosed;
@@ -12,6 +16,7 @@ import org.junit.runner.RunWith;
 /**
  * {@link PaddingProcessor}ののテスタ
  *
+ * @version 2.5
  * @since 2.1
  * @author T.TSUCHIE
  *
@@ -149,6 +154,44 @@ public class PaddingProcessorTest {
             assertThat(paddingProcessor.count("𡌛")).isEqualTo(2);
             
         }
+        
+        /**
+         * 表による文字幅が、文字ごとの判定と一致すること
+         * @since 2.5
+         */
+        @Test
+        public void count_table() {
+            
+            assertThat(paddingProcessor.count("")).isEqualTo(0);
+            assertThat(paddingProcessor.count("abc\u007f")).isEqualTo(5);
+            assertThat(paddingProcessor.count("ab\u00a5\u203eｱあ𡌛c")).isEqualTo(10);
+            
+            // 対になっていないサロゲート
+            assertThat(paddingProcessor.count("a\ud842")).isEqualTo(3);
+            
+            for(int c=0; c <= Character.MAX_VALUE; c++) {
+                final int expected = (c <= 0x7e || c == 0xa5 || c == 0x203e || (c >= 0xff61 && c <= 0xff9f)) ? 1 : 2;
+                assertThat(paddingProcessor.count(c)).as("\\u%04x", c).isEqualTo(expected);
+            }
+            
+        }
+        
+        /**
+         * パディングが不要な場合は、同じインスタンスを返すこと
+         * @since 2.5
+         */
+        @Test
+        public void pad_noPadding() {
+            
+            final String text = "abあ";
+            assertThat(paddingProcessor.pad(text, 4, '_', false, false)).isSameAs(text);
+            assertThat(paddingProcessor.pad(text, 3, '_', true, false)).isSameAs(text);
+            
+            // パディング文字が全角で、不足している長さが足りない場合
+            assertThat(paddingProcessor.pad(text, 5, '　', false, false)).isSameAs(text);
+            assertThat(paddingProcessor.pad(text, 6, '　', true, false)).isEqualTo("　abあ");
+            
+        }
     
     }
     
@@ -222,6 +265,44 @@ public class PaddingProcessorTest {
             assertThat(paddingProcessorEucJP.count("𡌛")).isEqualTo(1);    // 文字化けする
             
         }
+        
+        /**
+         * 表によるバイト数が、文字列全体をエンコードした場合と一致すること
+         * @since 2.5
+         */
+        @Test
+        public void count_table() {
+            
+            final String text = "abc\u00e9\u00a5ｱあ漢①𡌛\ud842x";
+            for(ByteSizePaddingProcessor processor : Arrays.asList(paddingProcessorUtf8, paddingProcessorWindows31j, paddingProcessorEucJP)) {
+                
+                assertThat(processor.count(text)).isEqualTo(text.getBytes(processor.getCharset()).length);
+                
+                for(int c=0; c <= Character.MAX_VALUE; c += 7) {
+                    final String str = String.valueOf((char)c);
+                    assertThat(processor.count(c)).as("\\u%04x", c).isEqualTo(str.getBytes(processor.getCharset()).length);
+                }
+            }
+            
+        }
+        
+        /**
+         * 前後の文字によってバイト数が変わる文字コードの場合
+         * @since 2.5
+         */
+        @Test
+        public void count_stateful() {
+            
+            final ByteSizePaddingProcessor iso2022jp = new ByteSizePaddingProcessor(Charset.forName("ISO-2022-JP")) {};
+            assertThat(iso2022jp.count("aあ漢a")).isEqualTo("aあ漢a".getBytes(iso2022jp.getCharset()).length);
+            
+            final ByteSizePaddingProcessor utf16 = new ByteSizePaddingProcessor(StandardCharsets.UTF_16) {};
+            assertThat(utf16.count("abc")).isEqualTo(8);
+            
+            final ByteSizePaddingProcessor utf16be = new ByteSizePaddingProcessor(StandardCharsets.UTF_16BE) {};
+            assertThat(utf16be.count("abc𡌛")).isEqualTo(10);
+            
+        }
     
     }
     
@@ -14,7 +14,7 @@ import org.supercsv.cellprocessor.ift.CellProcessor;
 /**
  * {@link RegexReplace}のテスタ
  * 
- * @version 2.0
+ * @version 2.5
  * @since 1.2
  * @author T.TSUCHIE
  *
@@ -118,6 +118,29 @@ public class RegexReplaceTest {
         assertThat((Object)partialProcessorChain.execute(input, ANONYMOUS_CSVCONTEXT)).isEqualTo(output);
     }
     
+    /**
+     * リテラル文字列の選択の場合 - 正規表現による置換と結果が一致すること
+     * @since 2.5
+     */
+    @Test
+    public void testExecute_literals() {
+        
+        final Pattern literalPattern = Pattern.compile("a|aa|b\\.c");
+        for(boolean partial : new boolean[]{true, false}) {
+            final CellProcessor literalProcessor = new RegexReplace(literalPattern, "#", partial);
+            
+            for(String input : new String[]{"", "a", "aa", "xaaybcb.cz", "b.c", "bxc", "zzz"}) {
+                final java.util.regex.Matcher matcher = literalPattern.matcher(input);
+                final String expected = (partial ? matcher.find() : matcher.matches()) ? matcher.replaceAll("#") : input;
+                
+                assertThat((Object)literalProcessor.execute(input, ANONYMOUS_CSVCONTEXT))
+                    .as("partial=%s, input=%s", partial, input)
+                    .isEqualTo(expected);
+            }
+        }
+        
+    }
+    
     /**
      * Tests execution with a null input (should throw an Exception).
      */
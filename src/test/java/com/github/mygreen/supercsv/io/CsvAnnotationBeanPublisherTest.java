@@ -0,0 +1,225 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReaderTest.ReuseBean;
+
+/**
+ * {@link CsvAnnotationBeanPublisher}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvAnnotationBeanPublisherTest {
+
+    /** 呼び出したスレッドで実行する */
+    private final Executor executor = Runnable::run;
+
+    /**
+     * 要求した件数分だけ読み込む
+     */
+    @Test
+    public void testRequest() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\n2,b,200\r\n3,c,300\r\n4,d,400\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final TestSubscriber subscriber = new TestSubscriber();
+            csvReader.publisher(executor).subscribe(subscriber);
+
+            // 要求するまでは読み込まない
+            assertThat(csvReader.getLineNumber()).isEqualTo(0);
+
+            subscriber.subscription.request(1);
+            assertThat(subscriber.items).extracting(ReuseBean::getId).containsExactly(1);
+            assertThat(csvReader.getRowNumber()).isEqualTo(2);
+
+            subscriber.subscription.request(2);
+            assertThat(subscriber.items).extracting(ReuseBean::getId).containsExactly(1, 2, 3);
+            assertThat(subscriber.completed).isFalse();
+
+            subscriber.subscription.request(Long.MAX_VALUE);
+            assertThat(subscriber.items).extracting(ReuseBean::getId).containsExactly(1, 2, 3, 4);
+            assertThat(subscriber.completed).isTrue();
+            assertThat(subscriber.error).isNull();
+        }
+
+    }
+
+    /**
+     * 購読の中止
+     */
+    @Test
+    public void testCancel() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\n2,b,200\r\n3,c,300\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final TestSubscriber subscriber = new TestSubscriber() {
+
+                @Override
+                public void onNext(ReuseBean item) {
+                    super.onNext(item);
+                    subscription.cancel();
+                }
+            };
+
+            csvReader.publisher(executor).subscribe(subscriber);
+            subscriber.subscription.request(10);
+
+            assertThat(subscriber.items).hasSize(1);
+            assertThat(subscriber.completed).isFalse();
+            assertThat(subscriber.error).isNull();
+        }
+
+    }
+
+    /**
+     * 購読者がonNextで例外をスローした場合は、onErrorを通知せずに中止する
+     */
+    @Test
+    public void testSubscriberThrows() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\n2,b,200\r\n3,c,300\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final TestSubscriber subscriber = new TestSubscriber() {
+
+                @Override
+                public void onNext(ReuseBean item) {
+                    super.onNext(item);
+                    throw new IllegalStateException("subscriber error");
+                }
+            };
+
+            csvReader.publisher(executor).subscribe(subscriber);
+            subscriber.subscription.request(10);
+            subscriber.subscription.request(10);
+
+            assertThat(subscriber.items).hasSize(1);
+            assertThat(subscriber.error).isNull();
+            assertThat(subscriber.completed).isFalse();
+        }
+
+    }
+
+    /**
+     * エラーの許容範囲を指定しない場合、最初のエラーで終了する
+     */
+    @Test
+    public void testError() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\n3,c,300\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final TestSubscriber subscriber = new TestSubscriber();
+            csvReader.publisher(executor).subscribe(subscriber);
+            subscriber.subscription.request(10);
+
+            assertThat(subscriber.items).extracting(ReuseBean::getId).containsExactly(1);
+            assertThat(subscriber.error).isInstanceOf(SuperCsvBindingException.class);
+            assertThat(subscriber.completed).isFalse();
+        }
+
+    }
+
+    /**
+     * 許容範囲内のエラーは読み飛ばし、超えた時点で終了する
+     */
+    @Test
+    public void testErrorPolicy() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\n3,c,300\r\ny,d,400\r\n5,e,500\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final TestSubscriber subscriber = new TestSubscriber();
+            csvReader.publisher(executor, CsvErrorPolicy.maxErrors(1)).subscribe(subscriber);
+            subscriber.subscription.request(10);
+
+            assertThat(subscriber.items).extracting(ReuseBean::getId).containsExactly(1, 3);
+            assertThat(subscriber.error).isInstanceOf(SuperCsvErrorPolicyException.class);
+            assertThat(csvReader.getErrorMessages()).hasSize(2);
+        }
+
+    }
+
+    /**
+     * 不正な要求と、2回目の購読
+     */
+    @Test
+    public void testInvalid() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            final CsvAnnotationBeanPublisher<ReuseBean> publisher = csvReader.publisher(executor);
+
+            final TestSubscriber subscriber1 = new TestSubscriber();
+            publisher.subscribe(subscriber1);
+            subscriber1.subscription.request(0);
+            assertThat(subscriber1.error).isInstanceOf(IllegalArgumentException.class);
+
+            final TestSubscriber subscriber2 = new TestSubscriber();
+            publisher.subscribe(subscriber2);
+            assertThat(subscriber2.error).isInstanceOf(IllegalStateException.class);
+        }
+
+    }
+
+    private static class TestSubscriber implements CsvFlow.Subscriber<ReuseBean> {
+
+        CsvFlow.Subscription subscription;
+
+        final List<ReuseBean> items = new ArrayList<>();
+
+        Throwable error;
+
+        boolean completed;
+
+        @Override
+        public void onSubscribe(CsvFlow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ReuseBean item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+
+    }
+
+}
@@ -8,7 +8,10 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.StringReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -18,6 +21,8 @@ import org.junit.Test;
 import org.supercsv.exception.SuperCsvException;
 import org.supercsv.prefs.CsvPreference;
 
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
 import com.github.mygreen.supercsv.annotation.DefaultGroup;
 import com.github.mygreen.supercsv.builder.BeanMapping;
 import com.github.mygreen.supercsv.builder.BeanMappingFactory;
@@ -129,6 +134,35 @@ public class CsvAnnotationBeanReaderTest {
         
     }
     
+    /**
+     * 正常系のテスト - メモリにマッピングしたファイルの読み込み
+     * @since 2.5
+     */
+    @Test
+    public void testRead_mappedFile() throws IOException {
+        
+        CsvAnnotationBeanReader<SampleNormalBean> csvReader = CsvAnnotationBeanReader.ofMappedFile(
+                SampleNormalBean.class,
+                Paths.get("src/test/data/test_read_normal.csv"), StandardCharsets.UTF_8,
+                CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        List<SampleNormalBean> list = csvReader.readAll();
+        assertThat(list).hasSize(2);
+        
+        for(SampleNormalBean bean : list) {
+            assertBean(bean);
+        }
+        
+        assertThat(csvReader.getLineNumber()).isEqualTo(3);
+        assertThat(csvReader.getRowNumber()).isEqualTo(3);
+        assertThat(csvReader.getErrorMessages()).hasSize(0);
+        
+        csvReader.close();
+        
+    }
+    
     /**
      * ヘッダーの列数が一致しない
      */
@@ -609,6 +643,40 @@ public class CsvAnnotationBeanReaderTest {
         
     }
     
+    /**
+     * 部分的にカラムを読み込む - マッピングしないカラムを読み飛ばす
+     */
+    @Test
+    public void testRead_partial_columnProjection() throws IOException {
+        
+        File file = new File("src/test/data/test_read_normal.csv");
+        
+        CsvAnnotationBeanReader<SamplePartialBean> csvReader = CsvAnnotationBeanReader.ofColumnProjection(
+                SamplePartialBean.class,
+                new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")),
+                CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        // read header
+        final String[] csvHeaders = csvReader.getHeader(true);
+        assertThat(csvHeaders).containsExactly(csvReader.getDefinedHeader());
+        
+        List<SamplePartialBean> list = new ArrayList<>();
+        SamplePartialBean bean;
+        while((bean = csvReader.read()) != null) {
+            list.add(bean);
+            
+            assertBean(bean);
+        }
+        
+        assertThat(list).isNotEmpty();
+        assertThat(csvReader.getErrorMessages()).hasSize(0);
+        
+        csvReader.close();
+        
+    }
+    
     /**
      * 固定長のカラムを読み込む
      */
@@ -734,6 +802,97 @@ public class CsvAnnotationBeanReaderTest {
         
     }
     
+    /**
+     * Beanのインスタンスを再利用して読み込むテスト
+     * <p>値がnullのカラム、エラーとなったカラムは、前のレコードの値が残らないこと。</p>
+     * @since 2.5
+     */
+    @Test
+    public void testReadInto_reuse() throws IOException {
+        
+        String text = "id,name,price\r\n"
+                + "1,apple,100\r\n"
+                + ",,\r\n"
+                + "3,orange,abc\r\n"
+                + "4,grape,400\r\n";
+        
+        CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(text), CsvPreference.STANDARD_PREFERENCE);
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        csvReader.getHeader(true);
+        
+        final ReuseBean bean = new ReuseBean();
+        
+        assertThat(csvReader.readInto(bean)).isTrue();
+        assertThat(bean).extracting(ReuseBean::getId, ReuseBean::getName, ReuseBean::getPrice)
+            .containsExactly(1, "apple", 100);
+        
+        // 空のカラムは、初期値で上書きされる
+        assertThat(csvReader.readInto(bean)).isTrue();
+        assertThat(bean).extracting(ReuseBean::getId, ReuseBean::getName, ReuseBean::getPrice)
+            .containsExactly(0, null, null);
+        
+        // エラーとなったカラムも、初期値で上書きされる
+        List<ReuseBean> list = new ArrayList<>();
+        List<SuperCsvException> errors = new ArrayList<>();
+        assertThat(csvReader.readInto(bean, list::add, errors::add)).isEqualTo(CsvReadStatus.ERROR);
+        assertThat(errors).hasSize(1);
+        assertThat(bean).extracting(ReuseBean::getId, ReuseBean::getName, ReuseBean::getPrice)
+            .containsExactly(3, "orange", null);
+        
+        assertThat(csvReader.readInto(bean, list::add, errors::add)).isEqualTo(CsvReadStatus.SUCCESS);
+        assertThat(list).hasSize(1).allMatch(record -> record == bean);
+        assertThat(bean).extracting(ReuseBean::getId, ReuseBean::getName, ReuseBean::getPrice)
+            .containsExactly(4, "grape", 400);
+        
+        assertThat(csvReader.readInto(bean, list::add, errors::add)).isEqualTo(CsvReadStatus.EOF);
+        assertThat(csvReader.readInto(bean)).isFalse();
+        
+        assertThat(csvReader.getErrorMessages()).hasSize(1);
+        
+        csvReader.close();
+        
+    }
+    
+    @CsvBean(header=true)
+    public static class ReuseBean {
+        
+        @CsvColumn(number=1)
+        private int id;
+        
+        @CsvColumn(number=2)
+        private String name;
+        
+        @CsvColumn(number=3)
+        private Integer price;
+        
+        public int getId() {
+            return id;
+        }
+        
+        public void setId(int id) {
+            this.id = id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public void setName(String name) {
+            this.name = name;
+        }
+        
+        public Integer getPrice() {
+            return price;
+        }
+        
+        public void setPrice(Integer price) {
+            this.price = price;
+        }
+        
+    }
+    
     /**
      * Streamで読み込むテスト - 正常時
      * @since 2.3
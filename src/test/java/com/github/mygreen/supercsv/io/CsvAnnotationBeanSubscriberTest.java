@@ -0,0 +1,171 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.constraint.CsvRequire;
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReaderTest.ReuseBean;
+
+/**
+ * {@link CsvAnnotationBeanSubscriber}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvAnnotationBeanSubscriberTest {
+
+    /**
+     * 読み込んだレコードを、非同期に書き込む
+     */
+    @Test
+    public void testWrite() throws Exception {
+
+        final String input = "id,name,price\r\n1,a,100\r\n2,b,200\r\n3,c,300\r\n4,d,400\r\n5,e,500\r\n";
+        final FlushCountWriter output = new FlushCountWriter();
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                    ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE);
+                CsvAnnotationBeanWriter<ReuseBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                    ReuseBean.class, output, CsvPreference.STANDARD_PREFERENCE)) {
+
+            csvWriter.writeHeader();
+
+            final CsvAnnotationBeanSubscriber<ReuseBean> subscriber = new CsvAnnotationBeanSubscriber<>(csvWriter, 2, null);
+            csvReader.publisher(executor).subscribe(subscriber);
+
+            subscriber.getCompletion().get(10, TimeUnit.SECONDS);
+
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(output.toString()).isEqualTo(input);
+
+        // 2件ごとと、完了時にフラッシュする
+        assertThat(output.flushCount).isEqualTo(3);
+
+    }
+
+    /**
+     * 発行者でエラーが発生した場合
+     */
+    @Test
+    public void testError() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\n3,c,300\r\n";
+        final StringWriter output = new StringWriter();
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                    ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE);
+                CsvAnnotationBeanWriter<ReuseBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                    ReuseBean.class, output, CsvPreference.STANDARD_PREFERENCE)) {
+
+            final CsvAnnotationBeanSubscriber<ReuseBean> subscriber = new CsvAnnotationBeanSubscriber<>(csvWriter);
+            csvReader.publisher(Runnable::run).subscribe(subscriber);
+
+            assertThatThrownBy(() -> subscriber.getCompletion().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(SuperCsvBindingException.class);
+
+            // エラーまでに受け取ったレコードは書き込まれている
+            assertThat(output.toString()).isEqualTo("1,a,100\r\n");
+        }
+
+        assertThatThrownBy(() -> new CsvAnnotationBeanSubscriber<>(null))
+            .isInstanceOf(NullPointerException.class);
+
+    }
+
+    /**
+     * 書き込みでエラーが発生した場合も、それまでに書き込んだレコードはフラッシュする
+     */
+    @Test
+    public void testWriteError() throws IOException {
+
+        final FlushCountWriter output = new FlushCountWriter();
+
+        try(CsvAnnotationBeanWriter<RequiredBean> csvWriter = new CsvAnnotationBeanWriter<>(
+                    RequiredBean.class, output, CsvPreference.STANDARD_PREFERENCE)) {
+
+            final CsvAnnotationBeanSubscriber<RequiredBean> subscriber = new CsvAnnotationBeanSubscriber<>(csvWriter);
+            final boolean[] cancelled = new boolean[1];
+            subscriber.onSubscribe(new CsvFlow.Subscription() {
+
+                @Override
+                public void request(long n) {
+                    // ignore
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled[0] = true;
+                }
+            });
+
+            subscriber.onNext(new RequiredBean("a"));
+            subscriber.onNext(new RequiredBean(null));
+
+            assertThat(cancelled[0]).isTrue();
+            assertThatThrownBy(() -> subscriber.getCompletion().get())
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(SuperCsvBindingException.class);
+
+            assertThat(output.toString()).isEqualTo("a\r\n");
+            assertThat(output.flushCount).isEqualTo(1);
+        }
+
+    }
+
+    @CsvBean
+    public static class RequiredBean {
+
+        @CsvColumn(number=1)
+        @CsvRequire
+        private String name;
+
+        public RequiredBean() {
+
+        }
+
+        public RequiredBean(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+    }
+
+    private static class FlushCountWriter extends StringWriter {
+
+        int flushCount;
+
+        @Override
+        public void flush() {
+            flushCount++;
+            super.flush();
+        }
+
+    }
+
+}
@@ -0,0 +1,182 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.annotation.DefaultGroup;
+import com.github.mygreen.supercsv.cellprocessor.format.TextPrinter;
+import com.github.mygreen.supercsv.validation.CsvError;
+import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
+import com.github.mygreen.supercsv.validation.CsvFieldError;
+
+/**
+ * {@link CsvErrorJsonLinesWriter}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorJsonLinesWriterTest {
+
+    @Test
+    public void testWrite() throws IOException {
+
+        final Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("columnNumber", 2);
+        variables.put("label", "名前\"1\"");
+        variables.put("validatedValue", "a\\b\r\n\u0001");
+        variables.put("values", Arrays.asList(1, null, true));
+        variables.put("max", Double.NaN);
+        variables.put("printer", (TextPrinter<Object>) String::valueOf);
+
+        final CsvFieldError error = new CsvFieldError.Builder("SampleBean", "name", new String[]{"code.name", "code"})
+                .variables(variables)
+                .build();
+
+        final StringWriter out = new StringWriter();
+        try(CsvErrorJsonLinesWriter writer = new CsvErrorJsonLinesWriter(out)) {
+            writer.write(Arrays.asList(error), new CsvContext(3, 2, 1), "1,\"a\r\nb\"");
+            writer.write(Arrays.asList(new CsvError.Builder("SampleBean", new String[]{"code"}).build()), null, null);
+        }
+
+        final String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(2);
+
+        // メッセージ変数の順序は保証されない
+        assertThat(lines[0])
+            .startsWith("{\"lineNumber\":3,\"rowNumber\":2,\"columnNumber\":2,\"objectName\":\"SampleBean\",\"field\":\"name\""
+                    + ",\"codes\":[\"code.name\",\"code\"],\"variables\":{")
+            .contains("\"label\":\"名前\\\"1\\\"\"")
+            .contains("\"validatedValue\":\"a\\\\b\\r\\n\\u0001\"")
+            .contains("\"values\":[1,null,true]")
+            .contains("\"max\":\"NaN\"")
+            .doesNotContain("\"printer\"")
+            .endsWith("},\"untokenizedRow\":\"1,\\\"a\\r\\nb\\\"\"}");
+
+        assertThat(lines[1]).isEqualTo("{\"objectName\":\"SampleBean\",\"codes\":[\"code\"],\"variables\":{}}");
+
+    }
+
+    /**
+     * 自身を参照するMapやCollectionを含む場合
+     */
+    @Test
+    public void testWrite_cyclic() throws IOException {
+
+        final Map<String, Object> map = new LinkedHashMap<>();
+        map.put("a", 1);
+        map.put("self", map);
+
+        final List<Object> list = new ArrayList<>();
+        list.add("b");
+        list.add(list);
+
+        // 同じインスタンスを複数回参照しているだけの場合は、そのまま出力する
+        final List<Integer> shared = Arrays.asList(1, 2);
+
+        final Map<String, Object> variables = new LinkedHashMap<>();
+        variables.put("map", map);
+        variables.put("list", list);
+        variables.put("shared1", shared);
+        variables.put("shared2", shared);
+        variables.put("variables", variables);
+
+        final CsvError error = new CsvError.Builder("SampleBean", new String[]{"code"})
+                .variables(variables)
+                .build();
+
+        final StringWriter out = new StringWriter();
+        try(CsvErrorJsonLinesWriter writer = new CsvErrorJsonLinesWriter(out)) {
+            writer.write(Arrays.asList(error), null, null);
+        }
+
+        assertThat(out.toString())
+            .contains("\"map\":{\"a\":1,\"self\":\"java.util.LinkedHashMap@")
+            .contains("\"list\":[\"b\",\"java.util.ArrayList@")
+            .contains("\"shared1\":[1,2],\"shared2\":[1,2]");
+
+    }
+
+    /**
+     * 読み込み時のエラーを出力する
+     */
+    @Test
+    public void testRead_error_wrong_pattern() throws IOException {
+
+        final File file = new File("src/test/data/test_read_error_wrong_pattern.csv");
+        final StringWriter out = new StringWriter();
+
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                    SampleNormalBean.class,
+                    new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")),
+                    CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+                CsvErrorJsonLinesWriter errorWriter = new CsvErrorJsonLinesWriter(out)) {
+
+            csvReader.setFormatErrorMessages(false);
+            csvReader.setErrorJsonLinesWriter(errorWriter);
+
+            assertThat(csvReader.readAll(true)).hasSize(1);
+            assertThat(csvReader.getErrorMessages()).isEmpty();
+        }
+
+        final String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(lines[0])
+            .startsWith("{\"lineNumber\":2,\"rowNumber\":2,\"columnNumber\":6,\"objectName\":\"SampleNormalBean\",\"field\":\"date1\"")
+            .contains("\"codes\":[\"typeMismatch.SampleNormalBean.date1\"")
+            .contains("\"validatedValue\":\"2000/01/01 00:01:02\"")
+            .doesNotContain("\"printer\"")
+            .doesNotContain("\"message\"")
+            .endsWith(",\"untokenizedRow\":\"1,\\\"999,110\\\",10.2,abcd,12345,2000/01/01 00:01:02,2000年02月03日,RED,赤,true,\"}");
+
+    }
+
+    /**
+     * メッセージもフォーマットして出力する
+     */
+    @Test
+    public void testRead_error_column_size_withMessage() throws IOException {
+
+        final File file = new File("src/test/data/test_read_error_column_size.csv");
+        final StringWriter out = new StringWriter();
+
+        try(CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                    SampleNormalBean.class,
+                    new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")),
+                    CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+                CsvErrorJsonLinesWriter errorWriter = new CsvErrorJsonLinesWriter(out)) {
+
+            errorWriter.setMessageConverter(new CsvExceptionConverter());
+            csvReader.setErrorJsonLinesWriter(errorWriter);
+
+            assertThat(csvReader.readAll(true)).hasSize(1);
+        }
+
+        final String[] lines = out.toString().split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(lines[0])
+            .startsWith("{\"lineNumber\":3,\"rowNumber\":3,\"objectName\":\"SampleNormalBean\",\"codes\":[\"csvError.noMatchColumnSize\"]")
+            .contains("\"expectedSize\":11")
+            .contains("\"message\":\"[3行] : 列数が不正です。 11列で設定すべきですが、実際には13列になっています。\"")
+            .endsWith(",\"untokenizedRow\":\"2,-12,,あいうえお,,2000-02-01 03:04:05,,BLUE,,false,×,,\"}");
+
+    }
+
+}
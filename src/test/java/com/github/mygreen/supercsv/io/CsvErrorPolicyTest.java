@@ -0,0 +1,188 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvErrorPolicyException;
+import com.github.mygreen.supercsv.io.CsvAnnotationBeanReaderTest.ReuseBean;
+
+/**
+ * {@link CsvErrorPolicy}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorPolicyTest {
+
+    @Test
+    public void testMaxErrors() {
+
+        final CsvErrorPolicy policy = CsvErrorPolicy.maxErrors(2);
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isFalse();
+
+        policy.reset();
+        assertThat(policy.record(true)).isTrue();
+
+        assertThat(CsvErrorPolicy.maxErrors(0).record(true)).isFalse();
+        assertThatThrownBy(() -> CsvErrorPolicy.maxErrors(-1)).isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    @Test
+    public void testMaxConsecutiveErrors() {
+
+        final CsvErrorPolicy policy = CsvErrorPolicy.maxConsecutiveErrors(2);
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isFalse();
+
+    }
+
+    @Test
+    public void testMaxErrorRate() {
+
+        // 直近4レコード中、エラーは1件まで
+        final CsvErrorPolicy policy = CsvErrorPolicy.maxErrorRate(0.25, 4);
+
+        // 判定するレコード数に達するまでは中断しない
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(false)).isFalse();
+
+        policy.reset();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+
+        // 先頭のエラーが範囲外になる
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(true)).isFalse();
+
+        // 浮動小数の誤差で、許容するエラー件数が切り捨てられない(0.29 * 100 = 29件まで)
+        final CsvErrorPolicy boundary = CsvErrorPolicy.maxErrorRate(0.29, 100);
+        for(int i=0; i < 71; i++) {
+            assertThat(boundary.record(false)).isTrue();
+        }
+        for(int i=0; i < 29; i++) {
+            assertThat(boundary.record(true)).isTrue();
+        }
+        assertThat(boundary.record(true)).isFalse();
+
+        assertThatThrownBy(() -> CsvErrorPolicy.maxErrorRate(1.5, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CsvErrorPolicy.maxErrorRate(0.5, 0)).isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    @Test
+    public void testAnyOf() {
+
+        final CsvErrorPolicy policy = CsvErrorPolicy.anyOf(
+                CsvErrorPolicy.maxErrors(3),
+                CsvErrorPolicy.maxConsecutiveErrors(1));
+
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(true)).isFalse();
+
+        policy.reset();
+        assertThat(policy.record(true)).isTrue();
+        assertThat(policy.record(false)).isTrue();
+
+    }
+
+    /**
+     * 許容範囲内のエラーは読み飛ばす
+     */
+    @Test
+    public void testReadAll_withinPolicy() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\n3,c,300\r\n4,d,y\r\n5,e,500\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            assertThat(csvReader.readAll(CsvErrorPolicy.maxErrors(2)))
+                .extracting(ReuseBean::getId)
+                .containsExactly(1, 3, 5);
+            assertThat(csvReader.getErrorMessages()).hasSize(2);
+        }
+
+    }
+
+    /**
+     * 許容範囲を超えた時点で、以降のレコードを読み込まない
+     */
+    @Test
+    public void testReadAll_exceeded() throws IOException {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\ny,c,300\r\n4,d,400\r\n";
+
+        try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+            assertThatThrownBy(() -> csvReader.readAll(CsvErrorPolicy.maxConsecutiveErrors(1)))
+                .isInstanceOf(SuperCsvErrorPolicyException.class)
+                .hasCauseInstanceOf(SuperCsvBindingException.class);
+
+            assertThat(csvReader.getLineNumber()).isEqualTo(4);
+            assertThat(csvReader.getErrorMessages()).hasSize(2);
+        }
+
+    }
+
+    /**
+     * 非同期に読み込む
+     */
+    @Test
+    public void testReadAllAsync() throws Exception {
+
+        final String input = "id,name,price\r\n1,a,100\r\nx,b,200\r\ny,c,300\r\n4,d,400\r\n";
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                    ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+                final List<ReuseBean> list = csvReader.readAllAsync(executor, CsvErrorPolicy.maxErrors(2)).get();
+                assertThat(list).extracting(ReuseBean::getId).containsExactly(1, 4);
+            }
+
+            // 許容範囲を超えた場合は、例外で完了する
+            try(CsvAnnotationBeanReader<ReuseBean> csvReader = new CsvAnnotationBeanReader<>(
+                    ReuseBean.class, new StringReader(input), CsvPreference.STANDARD_PREFERENCE)) {
+
+                final CompletableFuture<List<ReuseBean>> future = csvReader.readAllAsync(executor, CsvErrorPolicy.maxErrors(1));
+                assertThatThrownBy(() -> future.get())
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(SuperCsvErrorPolicyException.class);
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+}
@@ -0,0 +1,211 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+import org.supercsv.comment.CommentStartsWith;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ITokenizer;
+import org.supercsv.io.Tokenizer;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.BeanMappingFactory;
+
+/**
+ * {@link CsvTokenizer}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvTokenizerTest {
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "a,b,c\r\n1,2,3\r\n",
+            "a,,c\r\n,,\r\n\r\nx\r\n",
+            "\"a\",\"b,c\",\"d\"\"e\"\r\n\"\",\"\"\"\",f\r\n",
+            "\"multi\r\nline\",b\r\n\"x\r\n\r\ny\",z\r\n",
+            "  a  , b ,\"  c  \"  ,  \" d \" e\r\n",
+            "#comment\r\na,b\r\n#x,y\r\nc,d\r\n",
+            "ab\"cd\"ef,\"g\"h\r\n",
+            "a;b;c\r\n\"x;y\";z\r\n",
+            "a\tb\t\"c\td\"\r\n",
+            "a,b\r\n\r\n\r\nc,d");
+
+    private static final List<CsvPreference> PREFERENCES = Arrays.asList(
+            CsvPreference.STANDARD_PREFERENCE,
+            CsvPreference.EXCEL_NORTH_EUROPE_PREFERENCE,
+            CsvPreference.TAB_PREFERENCE,
+            new CsvPreference.Builder('"', ',', "\r\n").surroundingSpacesNeedQuotes(true).build(),
+            new CsvPreference.Builder('"', ',', "\r\n").ignoreEmptyLines(false).build(),
+            new CsvPreference.Builder('\'', ',', "\r\n").skipComments(new CommentStartsWith("#")).build());
+
+    private List<List<String>> readAll(final ITokenizer tokenizer) throws IOException {
+
+        final List<List<String>> rows = new ArrayList<>();
+        final List<String> columns = new ArrayList<>();
+        try {
+            while(tokenizer.readColumns(columns)) {
+                rows.add(new ArrayList<>(columns));
+                rows.add(Arrays.asList(tokenizer.getUntokenizedRow(), String.valueOf(tokenizer.getLineNumber())));
+            }
+        } catch(SuperCsvException e) {
+            rows.add(Arrays.asList(e.getMessage()));
+        }
+        return rows;
+    }
+
+    private void assertSameAsTokenizer(final String input, final CsvPreference preference) throws IOException {
+
+        final List<List<String>> expected = readAll(new Tokenizer(new StringReader(input), preference));
+
+        assertThat(readAll(new CsvTokenizer(new StringReader(input), preference)))
+                .as("input=%s, delimiter=%s", input, (char)preference.getDelimiterChar())
+                .isEqualTo(expected);
+
+        // 1文字ずつ読み込む場合
+        assertThat(readAll(new CsvTokenizer(new OneCharReader(input), preference)))
+                .as("input=%s, delimiter=%s", input, (char)preference.getDelimiterChar())
+                .isEqualTo(expected);
+    }
+
+    /**
+     * 1回の読み込みで、1文字のみを返すReader。
+     */
+    private static class OneCharReader extends FilterReader {
+
+        OneCharReader(final String input) {
+            super(new StringReader(input));
+        }
+
+        @Override
+        public int read(final char[] cbuf, final int off, final int len) throws IOException {
+            return super.read(cbuf, off, Math.min(len, 1));
+        }
+    }
+
+    /**
+     * Super CSVの{@link Tokenizer}と同じ結果になること
+     */
+    @Test
+    public void testReadColumns_sameAsTokenizer() throws IOException {
+
+        for(CsvPreference preference : PREFERENCES) {
+            for(String input : INPUTS) {
+                assertSameAsTokenizer(input, preference);
+            }
+        }
+
+    }
+
+    /**
+     * ランダムな入力に対して、Super CSVの{@link Tokenizer}と同じ結果になること
+     */
+    @Test
+    public void testReadColumns_random() throws IOException {
+
+        final char[] chars = {'a', 'b', ' ', ',', ';', '"', '\'', '\r', '\n', '#', 'あ'};
+        final Random random = new Random(12345L);
+
+        for(int i = 0; i < 500; i++) {
+            final StringBuilder input = new StringBuilder();
+            final int length = random.nextInt(40);
+            for(int j = 0; j < length; j++) {
+                input.append(chars[random.nextInt(chars.length)]);
+            }
+
+            for(CsvPreference preference : PREFERENCES) {
+                assertSameAsTokenizer(input.toString(), preference);
+            }
+
+            final CsvPreference maxLines = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE).maxLinesPerRow(2).build();
+            assertSameAsTokenizer(input.toString(), maxLines);
+        }
+
+    }
+
+    /**
+     * バッファのサイズを超えるレコードの場合
+     */
+    @Test
+    public void testReadColumns_largeRow() throws IOException {
+
+        final StringBuilder input = new StringBuilder();
+        for(int i = 0; i < 3000; i++) {
+            input.append("value").append(i).append(",\"quoted\r\n").append(i).append("\"\"\",");
+        }
+        input.append("end\r\n");
+        for(int i = 0; i < 3000; i++) {
+            input.append("row").append(i).append(",").append(i).append("\r\n");
+        }
+
+        assertSameAsTokenizer(input.toString(), CsvPreference.STANDARD_PREFERENCE);
+
+    }
+
+    @Test
+    public void testReadColumns_unclosedQuote() throws IOException {
+
+        final List<String> columns = new ArrayList<>();
+
+        try(CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"b\r\nc"), CsvPreference.STANDARD_PREFERENCE)) {
+            assertThatThrownBy(() -> tokenizer.readColumns(columns))
+                    .isInstanceOf(SuperCsvException.class)
+                    .hasMessage("unexpected end of file while reading quoted column beginning on line 1 and ending on line 2");
+        }
+
+        final CsvPreference preference = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE).maxLinesPerRow(1).build();
+        try(CsvTokenizer tokenizer = new CsvTokenizer(new StringReader("a,\"b\r\nc\"\r\n"), preference)) {
+            assertThatThrownBy(() -> tokenizer.readColumns(columns))
+                    .isInstanceOf(SuperCsvException.class)
+                    .hasMessage("unexpected end of line while reading quoted column on line 1");
+        }
+
+    }
+
+    /**
+     * マッピングしないカラムを読み飛ばす
+     */
+    @Test
+    public void testReadColumns_projection() throws IOException {
+
+        final BeanMapping<SamplePartialBean> beanMapping = new BeanMappingFactory().create(SamplePartialBean.class);
+
+        final String input = "id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\r\n"
+                + "1,\"1,000\",\"x,\"\"y\r\nz\",abc,\"\",2017-01-01 00:00:00,\"a\"b,RED,\"\"\"\",true,,\r\n"
+                + "2,2,c,def,d,2017-01-02 00:00:00,e,BLUE,f,false,g\r\n";
+
+        try(CsvTokenizer tokenizer = new CsvTokenizer(new StringReader(input), CsvPreference.STANDARD_PREFERENCE, beanMapping)) {
+
+            final List<String> columns = new ArrayList<>();
+
+            // 見出し行は、全て読み込む
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("id", "数字1", "number2", "string1", "string2",
+                    "date1", "date2", "enum1", "列挙型2", "boolean1", "boolean2");
+
+            // 値に区切り文字、改行、クォートを含む場合
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("1", "1,000", null, "abc", null,
+                    "2017-01-01 00:00:00", null, "RED", null, "true", null, null);
+            assertThat(tokenizer.getLineNumber()).isEqualTo(3);
+
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).containsExactly("2", "2", null, "def", null,
+                    "2017-01-02 00:00:00", null, "BLUE", null, "false", null);
+
+            assertThat(tokenizer.readColumns(columns)).isFalse();
+        }
+
+    }
+
+}
@@ -8,6 +8,8 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
@@ -15,7 +17,9 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
 import org.supercsv.exception.SuperCsvException;
+import org.supercsv.io.ITokenizer;
 
+import com.github.mygreen.supercsv.builder.ColumnMapping;
 import com.github.mygreen.supercsv.exception.SuperCsvFixedSizeException;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
 
@@ -98,6 +102,31 @@ public class FixedSizeCsvAnnotationBeanReaderTest {
         
     }
     
+    /**
+     * メモリにマッピングしたファイルの読み込み
+     */
+    @Test
+    public void testReadAll_mappedFile() throws IOException {
+        
+        FixedSizeCsvAnnotationBeanReader<SampleFixedColumnBean> csvReader = FixedSizeCsvPreference.builder(SampleFixedColumnBean.class)
+                .build()
+                .csvReader(Paths.get("src/test/data/test_read_fixed_normal.csv"), StandardCharsets.UTF_8);
+        
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        List<SampleFixedColumnBean> list = csvReader.readAll();
+        assertThat(list).hasSize(3);
+        
+        for(SampleFixedColumnBean bean : list) {
+            assertBean(bean);
+        }
+        
+        assertThat(csvReader.getErrorMessages()).hasSize(0);
+        
+        csvReader.close();
+        
+    }
+    
     /**
      * 列のサイズが不足している場合
      */
@@ -186,6 +215,60 @@ public class FixedSizeCsvAnnotationBeanReaderTest {
         
     }
 
+    
+    /**
+     * 固定長＋部分的なカラムの読み見込み - マッピングしないカラムを読み飛ばす
+     */
+    @Test
+    public void testRead_partialColumn_columnProjection() throws Exception {
+        
+        File file = new File("src/test/data/test_read_fixed_partial_normal.csv");
+        
+        FixedSizeCsvPreference<SampleFixedColumnPartialBean> preference = FixedSizeCsvPreference.builder(SampleFixedColumnPartialBean.class)
+                .columnProjection(true)
+                .build();
+        
+        // Tokenizerの読み込み結果
+        try(ITokenizer tokenizer = preference.createTokenizer(new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")))) {
+            List<String> columns = new ArrayList<>();
+            
+            // 見出し行は、全て読み込む
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            assertThat(columns).doesNotContainNull();
+            
+            assertThat(tokenizer.readColumns(columns)).isTrue();
+            for(ColumnMapping columnMapping : preference.getBeanMappingCache().getOriginal().getColumns()) {
+                if(columnMapping.isPartialized()) {
+                    assertThat(columns.get(columnMapping.getNumber()-1)).isNull();
+                } else {
+                    assertThat(columns.get(columnMapping.getNumber()-1)).isNotNull();
+                }
+            }
+        }
+        
+        FixedSizeCsvAnnotationBeanReader<SampleFixedColumnPartialBean> csvReader = preference
+                .csvReader(new InputStreamReader(new FileInputStream(file), Charset.forName("UTF-8")));
+        
+        csvReader.setExceptionConverter(exceptionConverter);
+        
+        // read header
+        final String[] csvHeaders = csvReader.getHeader(true);
+        assertThat(csvHeaders).containsExactly(csvReader.getDefinedHeader());
+        
+        List<SampleFixedColumnPartialBean> list = new ArrayList<>();
+        SampleFixedColumnPartialBean bean;
+        while((bean = csvReader.read()) != null) {
+            list.add(bean);
+            
+            assertBean(bean);
+        }
+        
+        assertThat(list).isNotEmpty();
+        assertThat(csvReader.getErrorMessages()).hasSize(0);
+        
+        csvReader.close();
+        
+    }
 
     private void assertBean(final SampleFixedColumnBean bean) {
 
@@ -0,0 +1,154 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.nio.charset.Charset;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.prefs.CsvPreference;
+import org.supercsv.util.CsvContext;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.BeanMapping;
+import com.github.mygreen.supercsv.builder.FixedSizeBeanMappingFactory;
+import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProcessor;
+import com.github.mygreen.supercsv.exception.SuperCsvFixedSizeException;
+
+/**
+ * {@link FixedSizeCsvEncoder}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class FixedSizeCsvEncoderTest {
+
+    private FixedSizeCsvEncoder<SampleFixedColumnBean> encoder;
+
+    private CsvPreference preference;
+
+    private int supplierCount;
+
+    @Before
+    public void setUp() throws Exception {
+
+        final BeanMapping<SampleFixedColumnBean> beanMapping = new FixedSizeBeanMappingFactory().create(SampleFixedColumnBean.class);
+        this.supplierCount = 0;
+        this.encoder = new FixedSizeCsvEncoder<>(() -> {
+            supplierCount++;
+            return beanMapping;
+        });
+        this.preference = CsvPreference.STANDARD_PREFERENCE;
+    }
+
+    @Test
+    public void testEncode_normal() {
+
+        assertThat(encoder.encode("    1", new CsvContext(1, 1, 1), preference)).isEqualTo("    1");
+
+        // 全角は長さ2、サロゲートペアは長さ2としてカウントする
+        assertThat(encoder.encode("𠮷野家　　　　　　　", new CsvContext(1, 1, 2), preference)).isEqualTo("𠮷野家　　　　　　　");
+
+        // マッピング情報は1度だけ参照する
+        assertThat(supplierCount).isEqualTo(1);
+    }
+
+    @Test
+    public void testEncode_sizeOver() {
+
+        try {
+            encoder.encode("𠮷野家　　　　　　　　", new CsvContext(1, 1, 2), preference);
+            fail();
+
+        } catch(SuperCsvFixedSizeException e) {
+            assertThat(e.getMessageCode()).isEqualTo("csvError.fixedSizeOver");
+            assertThat(e.getMessageVariables()).containsEntry("actualSize", 22)
+                .containsEntry("fixedColumnSize", 20);
+        }
+    }
+
+    /**
+     * サイズ超過と改行コードを両方含む場合は、サイズ超過を優先する。
+     */
+    @Test
+    public void testEncode_lineBreak() {
+
+        try {
+            encoder.encode("ab\r\ncd", new CsvContext(1, 1, 3), preference);
+            fail();
+
+        } catch(SuperCsvFixedSizeException e) {
+            assertThat(e.getMessageCode()).isEqualTo("csvError.fixedSizeContainsLineBreak");
+        }
+
+        try {
+            encoder.encode("abcdefghij\n", new CsvContext(1, 1, 3), preference);
+            fail();
+
+        } catch(SuperCsvFixedSizeException e) {
+            assertThat(e.getMessageCode()).isEqualTo("csvError.fixedSizeOver");
+        }
+    }
+
+    @Test(expected=IllegalStateException.class)
+    public void testEncode_columnNotFound() {
+
+        encoder.encode("abc", new CsvContext(1, 1, 5), preference);
+        fail();
+    }
+
+    /**
+     * ステートフルな文字コードの場合、文字列全体のバイト数でカウントする。
+     * <p>ISO-2022-JPの場合、1文字ずつでは「あ」「い」がそれぞれ8バイトとなるが、
+     *   文字列全体では、エスケープシーケンスは前後に1回ずつのため10バイトとなる。
+     * </p>
+     */
+    @Test
+    public void testEncode_statefulCharset() {
+
+        final BeanMapping<Iso2022JpBean> beanMapping = new FixedSizeBeanMappingFactory().create(Iso2022JpBean.class);
+        final FixedSizeCsvEncoder<Iso2022JpBean> encoder = new FixedSizeCsvEncoder<>(() -> beanMapping);
+
+        assertThat(encoder.encode("あい", new CsvContext(1, 1, 1), preference)).isEqualTo("あい");
+
+        try {
+            encoder.encode("あいう", new CsvContext(1, 1, 1), preference);
+            fail();
+
+        } catch(SuperCsvFixedSizeException e) {
+            assertThat(e.getMessageCode()).isEqualTo("csvError.fixedSizeOver");
+            assertThat(e.getMessageVariables()).containsEntry("actualSize", 12);
+        }
+    }
+
+    /**
+     * ISO-2022-JPのバイト数でカウントする
+     */
+    public static class Iso2022JpPaddingProcessor extends ByteSizePaddingProcessor {
+
+        public Iso2022JpPaddingProcessor() {
+            super(Charset.forName("ISO-2022-JP"));
+        }
+    }
+
+    @CsvBean
+    public static class Iso2022JpBean {
+
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=10, paddingProcessor=Iso2022JpPaddingProcessor.class)
+        private String value;
+
+        public String getValue() {
+            return value;
+        }
+
+        public void setValue(String value) {
+            this.value = value;
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * {@link MappedFileReader}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class MappedFileReaderTest {
+
+    private Path tempFile;
+
+    @Before
+    public void setUp() throws Exception {
+        this.tempFile = Files.createTempFile("mapped", ".csv");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(tempFile);
+    }
+
+    /**
+     * ファイル全体の読み込み
+     */
+    @Test
+    public void testRead_whole() throws IOException {
+
+        Path file = Paths.get("src/test/data/test_read_normal.csv");
+        String expected = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+
+        try(Reader reader = new MappedFileReader(file, StandardCharsets.UTF_8)) {
+            assertThat(readFully(reader, 8192)).isEqualTo(expected);
+        }
+
+    }
+
+    /**
+     * ウィンドウの境界でマルチバイト文字が分断される場合
+     */
+    @Test
+    public void testRead_splitWindow() throws IOException {
+
+        final String text = "あいうえお,𠮷野家,abc\r\nかきくけこ,\"改行\n含む\",漢字\r\n";
+
+        for(Charset charset : new Charset[]{StandardCharsets.UTF_8, Charset.forName("MS932")}) {
+            Files.write(tempFile, text.getBytes(charset));
+
+            for(int windowSize = 4; windowSize <= 9; windowSize++) {
+                try(Reader reader = new MappedFileReader(tempFile, charset, 0L, -1L, windowSize)) {
+                    String expected = charset.equals(StandardCharsets.UTF_8) ? text : text.replace("𠮷", "?");
+                    assertThat(readFully(reader, 3)).isEqualTo(expected);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * 読み込み先の領域が1文字分しかない場合
+     */
+    @Test
+    public void testRead_singleChar() throws IOException {
+
+        final String text = "𠮷a𠮷";
+        Files.write(tempFile, text.getBytes(StandardCharsets.UTF_8));
+
+        try(Reader reader = new MappedFileReader(tempFile, StandardCharsets.UTF_8)) {
+            assertThat(readFully(reader, 1)).isEqualTo(text);
+        }
+
+    }
+
+    /**
+     * 範囲を指定した読み込み
+     */
+    @Test
+    public void testRead_range() throws IOException {
+
+        final String text = "abc\r\nあいう\r\nxyz\r\n";
+        Files.write(tempFile, text.getBytes(StandardCharsets.UTF_8));
+
+        try(Reader reader = new MappedFileReader(tempFile, StandardCharsets.UTF_8, 5L, 16L)) {
+            assertThat(readFully(reader, 8192)).isEqualTo("あいう\r\n");
+        }
+
+        try(Reader reader = new MappedFileReader(tempFile, StandardCharsets.UTF_8, 16L, -1L)) {
+            assertThat(readFully(reader, 8192)).isEqualTo("xyz\r\n");
+        }
+
+        try(Reader reader = new MappedFileReader(tempFile, StandardCharsets.UTF_8, 21L, -1L)) {
+            assertThat(reader.read()).isEqualTo(-1);
+        }
+
+    }
+
+    private String readFully(final Reader reader, final int bufferSize) throws IOException {
+
+        final StringBuilder text = new StringBuilder();
+        final char[] buf = new char[bufferSize];
+        int len;
+        while((len = reader.read(buf, 0, buf.length)) != -1) {
+            text.append(buf, 0, len);
+        }
+
+        return text.toString();
+    }
+}
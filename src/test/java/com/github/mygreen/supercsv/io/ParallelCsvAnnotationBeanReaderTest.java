@@ -0,0 +1,332 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.supercsv.comment.CommentStartsWith;
+import org.supercsv.exception.SuperCsvException;
+import org.supercsv.prefs.CsvPreference;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.DefaultGroup;
+import com.github.mygreen.supercsv.annotation.constraint.CsvUnique;
+import com.github.mygreen.supercsv.exception.SuperCsvBindingException;
+import com.github.mygreen.supercsv.exception.SuperCsvInvalidAnnotationException;
+
+/**
+ * {@link ParallelCsvAnnotationBeanReader}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class ParallelCsvAnnotationBeanReaderTest {
+
+    private Path tempFile;
+
+    @Before
+    public void setUp() throws Exception {
+        this.tempFile = Files.createTempFile("parallel", ".csv");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(tempFile);
+    }
+
+    /**
+     * テスト用のCSVファイルを作成する。
+     * <p>クォートで囲まれた改行、エスケープされたクォート、エラーとなるレコードを含む。</p>
+     */
+    private void writeTestFile(final Charset charset, final int size) throws IOException {
+        writeTestFile(charset, size, false);
+    }
+
+    /**
+     * テスト用のCSVファイルを作成する。
+     * @param withComment {@literal true}の場合、クォート文字を1つ含むコメント行を挿入する。
+     */
+    private void writeTestFile(final Charset charset, final int size, final boolean withComment) throws IOException {
+
+        final StringBuilder text = new StringBuilder();
+        text.append("id,数字1,number2,string1,string2,date1,date2,enum1,列挙型2,boolean1,boolean2\r\n");
+        for(int i=1; i <= size; i++) {
+            if(withComment && i % 7 == 0) {
+                text.append("# it's a \"comment\r\n");
+            }
+            text.append(i).append(',')
+                .append(i % 37 == 0 ? "1,000,000" : "\"999,110\"").append(',')
+                .append("10.2").append(',')
+                .append(i % 5 == 0 ? "\"改行を\r\n含む\"\"値\"\"\"" : "あいうえお").append(',')
+                .append(i % 23 == 0 ? "1234567" : "12345").append(',')
+                .append("2000-01-01 00:01:02").append(',')
+                .append("2000年02月03日").append(',')
+                .append("RED,赤,true,").append("\r\n");
+        }
+
+        Files.write(tempFile, text.toString().getBytes(charset));
+    }
+
+    /**
+     * 順次読み込んだ場合の結果
+     */
+    private List<SampleNormalBean> readSequential(final Charset charset, final List<String> messages) throws IOException {
+        return readSequential(charset, CsvPreference.STANDARD_PREFERENCE, messages);
+    }
+
+    private List<SampleNormalBean> readSequential(final Charset charset, final CsvPreference preference,
+            final List<String> messages) throws IOException {
+
+        try(Reader reader = Files.newBufferedReader(tempFile, charset)) {
+            CsvAnnotationBeanReader<SampleNormalBean> csvReader = new CsvAnnotationBeanReader<>(
+                    SampleNormalBean.class, reader, preference,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+
+            List<SampleNormalBean> list = csvReader.readAll(true);
+            messages.addAll(csvReader.getErrorMessages());
+            return list;
+        }
+    }
+
+    @Test
+    public void testReadAll_continueOnError() throws IOException {
+
+        for(Charset charset : new Charset[]{StandardCharsets.UTF_8, Charset.forName("MS932")}) {
+
+            writeTestFile(charset, 500);
+
+            List<String> expectedMessages = new ArrayList<>();
+            List<SampleNormalBean> expected = readSequential(charset, expectedMessages);
+            assertThat(expectedMessages).isNotEmpty();
+
+            ParallelCsvAnnotationBeanReader<SampleNormalBean> csvReader = new ParallelCsvAnnotationBeanReader<>(
+                    SampleNormalBean.class, tempFile, charset, CsvPreference.STANDARD_PREFERENCE,
+                    DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+            csvReader.setParallelism(4);
+            csvReader.setSplitSize(1024L);
+
+            List<SampleNormalBean> actual = csvReader.readAll(true);
+
+            assertThat(actual.stream().map(SampleNormalBean::getId).collect(Collectors.toList()))
+                .containsExactlyElementsOf(expected.stream().map(SampleNormalBean::getId).collect(Collectors.toList()));
+            assertThat(actual.stream().map(SampleNormalBean::getString1).collect(Collectors.toList()))
+                .containsExactlyElementsOf(expected.stream().map(SampleNormalBean::getString1).collect(Collectors.toList()));
+
+            // 行番号、レコード番号がファイル全体での値であること
+            assertThat(csvReader.getErrorMessages()).containsExactlyElementsOf(expectedMessages);
+        }
+
+    }
+
+    /**
+     * クォート文字を1つ含むコメント行がある場合
+     */
+    @Test
+    public void testReadAll_commentWithQuote() throws IOException {
+
+        final CsvPreference preference = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+                .skipComments(new CommentStartsWith("#"))
+                .build();
+
+        writeTestFile(StandardCharsets.UTF_8, 300, true);
+
+        List<String> expectedMessages = new ArrayList<>();
+        List<SampleNormalBean> expected = readSequential(StandardCharsets.UTF_8, preference, expectedMessages);
+
+        ParallelCsvAnnotationBeanReader<SampleNormalBean> csvReader = new ParallelCsvAnnotationBeanReader<>(
+                SampleNormalBean.class, tempFile, StandardCharsets.UTF_8, preference,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setParallelism(4);
+        csvReader.setSplitSize(1024L);
+
+        List<SampleNormalBean> actual = csvReader.readAll(true);
+
+        assertThat(actual.stream().map(SampleNormalBean::getId).collect(Collectors.toList()))
+            .containsExactlyElementsOf(expected.stream().map(SampleNormalBean::getId).collect(Collectors.toList()));
+        assertThat(csvReader.getErrorMessages()).containsExactlyElementsOf(expectedMessages);
+
+    }
+
+    @Test
+    public void testReadAll_stopOnError() throws IOException {
+
+        writeTestFile(StandardCharsets.UTF_8, 200);
+
+        ParallelCsvAnnotationBeanReader<SampleNormalBean> csvReader = new ParallelCsvAnnotationBeanReader<>(
+                SampleNormalBean.class, tempFile, StandardCharsets.UTF_8, CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setParallelism(3);
+        csvReader.setSplitSize(512L);
+
+        try {
+            csvReader.readAll();
+            fail();
+
+        } catch(SuperCsvBindingException e) {
+            // id=23 の string2 の文字数が超過
+            assertThat(e.getCsvContext().getRowNumber()).isEqualTo(24);
+            assertThat(e.getCsvContext().getLineNumber()).isEqualTo(28);
+        }
+
+        assertThat(csvReader.getErrorMessages()).hasSize(1);
+
+    }
+
+    @Test
+    public void testReadAll_withHandler() throws IOException {
+
+        writeTestFile(StandardCharsets.UTF_8, 100);
+
+        List<String> expectedMessages = new ArrayList<>();
+        List<SampleNormalBean> expected = readSequential(StandardCharsets.UTF_8, expectedMessages);
+
+        ParallelCsvAnnotationBeanReader<SampleNormalBean> csvReader = new ParallelCsvAnnotationBeanReader<>(
+                SampleNormalBean.class, tempFile, StandardCharsets.UTF_8, CsvPreference.STANDARD_PREFERENCE,
+                DefaultGroup.class, SampleNormalBean.ReadGroup.class);
+        csvReader.setSplitSize(256L);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            csvReader.setExecutorService(executor);
+
+            List<SampleNormalBean> actual = new ArrayList<>();
+            List<SuperCsvException> errors = new ArrayList<>();
+            csvReader.readAll(actual::add, errors::add);
+
+            assertThat(actual).hasSameSizeAs(expected);
+            assertThat(errors).hasSameSizeAs(expectedMessages);
+            assertThat(executor.isShutdown()).isFalse();
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * 分割位置がクォートの内側になる場合
+     */
+    @Test
+    public void testSplit_quotedLineBreak() throws IOException {
+
+        final String text = "a,\"1\n2\n3\n4\n5\n6\n7\n8\n9\",b\n"
+                + "c,\"\"\"\n\"\"\n\",d\r\n"
+                + "e,f,g";
+        Files.write(tempFile, text.getBytes(StandardCharsets.UTF_8));
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for(int count=1; count <= text.length(); count++) {
+                List<CsvFileSplitter.Range> ranges = new CsvFileSplitter(tempFile, StandardCharsets.UTF_8, '"')
+                        .split(count, executor);
+
+                List<String> chunks = new ArrayList<>();
+                long prevEnd = 0L;
+                for(CsvFileSplitter.Range range : ranges) {
+                    assertThat(range.getStart()).isEqualTo(prevEnd);
+                    chunks.add(text.substring((int)range.getStart(), (int)range.getEnd()));
+                    prevEnd = range.getEnd();
+                }
+
+                assertThat(prevEnd).isEqualTo(text.length());
+                assertThat(chunks).isSubsetOf("a,\"1\n2\n3\n4\n5\n6\n7\n8\n9\",b\n",
+                        "c,\"\"\"\n\"\"\n\",d\r\n",
+                        "e,f,g",
+                        "a,\"1\n2\n3\n4\n5\n6\n7\n8\n9\",b\nc,\"\"\"\n\"\"\n\",d\r\n",
+                        "c,\"\"\"\n\"\"\n\",d\r\ne,f,g",
+                        text);
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * コメント行にクォート文字が1つ含まれる場合、コメント行のクォート文字は数えない
+     */
+    @Test
+    public void testSplit_commentWithQuote() throws IOException {
+
+        final String[] lines = {
+                "a,b\n",
+                "# it's \"odd\n",
+                "c,\"1\n# 2\n3\",d\r\n",
+                "# \"\r\n",
+                "e,f\n",
+                "g,h"};
+        final String text = String.join("", lines);
+        Files.write(tempFile, text.getBytes(StandardCharsets.UTF_8));
+
+        // 行の区切り位置のみ、分割の境界となる
+        final List<Long> boundaries = new ArrayList<>();
+        long offset = 0L;
+        for(String line : lines) {
+            boundaries.add(offset);
+            offset += line.length();
+        }
+        boundaries.add(offset);
+
+        final CsvPreference preference = new CsvPreference.Builder(CsvPreference.STANDARD_PREFERENCE)
+                .skipComments(new CommentStartsWith("#"))
+                .build();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for(int count=1; count <= text.length(); count++) {
+                List<CsvFileSplitter.Range> ranges = new CsvFileSplitter(tempFile, StandardCharsets.UTF_8, preference)
+                        .split(count, executor);
+
+                long prevEnd = 0L;
+                for(CsvFileSplitter.Range range : ranges) {
+                    assertThat(range.getStart()).isEqualTo(prevEnd);
+                    assertThat(boundaries).contains(range.getEnd());
+                    prevEnd = range.getEnd();
+                }
+
+                assertThat(prevEnd).isEqualTo(text.length());
+            }
+
+        } finally {
+            executor.shutdown();
+        }
+
+    }
+
+    /**
+     * レコードをまたがって検証するアノテーションは、サポートしない。
+     */
+    @Test(expected=SuperCsvInvalidAnnotationException.class)
+    public void testConstructor_uniqueNotSupported() throws IOException {
+
+        new ParallelCsvAnnotationBeanReader<>(UniqueBean.class, tempFile, StandardCharsets.UTF_8,
+                CsvPreference.STANDARD_PREFERENCE);
+    }
+
+    @CsvBean
+    private static class UniqueBean {
+
+        @CsvColumn(number=1)
+        @CsvUnique
+        private String id;
+
+    }
+
+}
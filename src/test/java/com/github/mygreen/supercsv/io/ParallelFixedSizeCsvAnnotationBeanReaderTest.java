@@ -0,0 +1,264 @@
+package com.github.mygreen.supercsv.io;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.mygreen.supercsv.annotation.CsvBean;
+import com.github.mygreen.supercsv.annotation.CsvColumn;
+import com.github.mygreen.supercsv.annotation.conversion.CsvFixedSize;
+import com.github.mygreen.supercsv.builder.FixedSizeHeaderMapper;
+import com.github.mygreen.supercsv.cellprocessor.conversion.ByteSizePaddingProcessor;
+import com.github.mygreen.supercsv.cellprocessor.conversion.SimplePaddingProcessor;
+
+/**
+ * {@link ParallelFixedSizeCsvAnnotationBeanReader}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class ParallelFixedSizeCsvAnnotationBeanReaderTest {
+
+    private Path tempFile;
+
+    @Before
+    public void setUp() throws Exception {
+        this.tempFile = Files.createTempFile("parallel", ".txt");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(tempFile);
+    }
+
+    /**
+     * 1バイト文字コードのファイル
+     */
+    @Test
+    public void testReadAll_singleByte() throws IOException {
+
+        final StringBuilder text = new StringBuilder();
+        text.append("   no" + "name      " + "comment   " + "\r\n");
+        for(int i=1; i <= 1000; i++) {
+            text.append(String.format("%5s", i % 31 == 0 ? "x" + i : i))
+                .append(String.format("%-10s", "name" + i))
+                .append(String.format("%-10s", "café"))
+                .append("\r\n");
+        }
+        Files.write(tempFile, text.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+        final FixedSizeCsvPreference<SingleByteBean> preference = FixedSizeCsvPreference.builder(SingleByteBean.class).build();
+
+        final List<SingleByteBean> expected;
+        final List<String> expectedMessages = new ArrayList<>();
+        try(FixedSizeCsvAnnotationBeanReader<SingleByteBean> csvReader = preference.csvReader(tempFile, StandardCharsets.ISO_8859_1)) {
+            expected = csvReader.readAll(true);
+            expectedMessages.addAll(csvReader.getErrorMessages());
+        }
+        assertThat(expectedMessages).hasSize(32);
+
+        ParallelFixedSizeCsvAnnotationBeanReader<SingleByteBean> csvReader = preference.parallelCsvReader(tempFile, StandardCharsets.ISO_8859_1);
+        csvReader.setParallelism(4);
+        csvReader.setSplitSize(1000L);
+        assertThat(csvReader.getRecordLength()).isEqualTo(27L);
+
+        List<SingleByteBean> actual = csvReader.readAll(true);
+
+        assertThat(actual.stream().map(SingleByteBean::getNo).collect(Collectors.toList()))
+            .containsExactlyElementsOf(expected.stream().map(SingleByteBean::getNo).collect(Collectors.toList()));
+        assertThat(actual).extracting(SingleByteBean::getComment).containsOnly("café");
+
+        // 行番号、レコード番号がファイル全体での値であること
+        assertThat(csvReader.getErrorMessages()).containsExactlyElementsOf(expectedMessages);
+
+    }
+
+    /**
+     * ファイルと同じ文字コードでバイト数をカウントする場合
+     */
+    @Test
+    public void testReadAll_byteSize() throws IOException {
+
+        final Charset charset = Charset.forName("Windows-31j");
+
+        final StringBuilder text = new StringBuilder();
+        for(int i=1; i <= 100; i++) {
+            text.append(String.format("%5d", i))
+                .append(i % 2 == 0 ? "山田太郎  " : "ﾔﾏﾀﾞ      ")
+                .append("\n");
+        }
+        // 最終レコードの改行は省略
+        text.setLength(text.length() - 1);
+        Files.write(tempFile, text.toString().getBytes(charset));
+
+        ParallelFixedSizeCsvAnnotationBeanReader<ByteSizeBean> csvReader = FixedSizeCsvPreference.builder(ByteSizeBean.class)
+                .endOfLineSymbols("\n")
+                .build()
+                .parallelCsvReader(tempFile, charset);
+        csvReader.setSplitSize(64L);
+
+        List<ByteSizeBean> list = csvReader.readAll();
+
+        assertThat(list).hasSize(100);
+        for(int i=0; i < list.size(); i++) {
+            assertThat(list.get(i).getNo()).isEqualTo(i + 1);
+            assertThat(list.get(i).getName()).isEqualTo(i % 2 == 0 ? "ﾔﾏﾀﾞ" : "山田太郎");
+        }
+
+    }
+
+    /**
+     * レコード長が一定でない場合
+     */
+    @Test
+    public void testReadAll_notConstantLength() throws IOException {
+
+        final Charset charset = Charset.forName("Windows-31j");
+
+        // ファイルサイズはレコード長の倍数だが、途中のレコードの長さが異なる
+        final StringBuilder text = new StringBuilder();
+        for(int i=1; i <= 100; i++) {
+            text.append(String.format("%5d", i))
+                .append(i == 10 ? "yamada      " : i == 90 ? "yamada  " : "yamada    ")
+                .append("\n");
+        }
+        Files.write(tempFile, text.toString().getBytes(charset));
+
+        ParallelFixedSizeCsvAnnotationBeanReader<ByteSizeBean> csvReader = FixedSizeCsvPreference.builder(ByteSizeBean.class)
+                .endOfLineSymbols("\n")
+                .build()
+                .parallelCsvReader(tempFile, charset);
+        csvReader.setParallelism(2);
+        csvReader.setSplitSize(256L);
+        assertThat(csvReader.getRecordLength()).isEqualTo(16L);
+
+        try {
+            csvReader.readAll();
+            fail();
+
+        } catch(IOException e) {
+            assertThat(e.getMessage()).startsWith("record length is not constant");
+        }
+
+    }
+
+    /**
+     * 文字幅でカウントする場合は、全角文字を含む文字コードではレコード長を計算できない。
+     */
+    @Test(expected=IllegalArgumentException.class)
+    public void testConstructor_charWidth() {
+
+        FixedSizeCsvPreference.builder(SampleFixedColumnBean.class)
+            .build()
+            .parallelCsvReader(tempFile, StandardCharsets.UTF_8);
+
+        fail();
+    }
+
+    /**
+     * 文字幅でカウントする場合でも、US-ASCIIの場合は全て長さ1となるため、レコード長を計算できる。
+     */
+    @Test
+    public void testConstructor_charWidthAscii() {
+
+        ParallelFixedSizeCsvAnnotationBeanReader<SampleFixedColumnBean> csvReader = FixedSizeCsvPreference.builder(SampleFixedColumnBean.class)
+            .build()
+            .parallelCsvReader(tempFile, StandardCharsets.US_ASCII);
+
+        assertThat(csvReader.getRecordLength()).isEqualTo(57L);
+
+        try {
+            FixedSizeCsvPreference.builder(SampleFixedColumnBean.class)
+                .build()
+                .parallelCsvReader(tempFile, StandardCharsets.ISO_8859_1);
+            fail();
+
+        } catch(IllegalArgumentException e) {
+            assertThat(e.getMessage()).contains("CharWidthPaddingProcessor");
+        }
+    }
+
+    @CsvBean(header=true, headerMapper=FixedSizeHeaderMapper.class)
+    public static class SingleByteBean {
+
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=5, rightAlign=true, paddingProcessor=SimplePaddingProcessor.class)
+        private int no;
+
+        @CsvColumn(number=2)
+        @CsvFixedSize(size=10, paddingProcessor=SimplePaddingProcessor.class)
+        private String name;
+
+        @CsvColumn(number=3)
+        @CsvFixedSize(size=10, paddingProcessor=SimplePaddingProcessor.class)
+        private String comment;
+
+        public int getNo() {
+            return no;
+        }
+
+        public void setNo(int no) {
+            this.no = no;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getComment() {
+            return comment;
+        }
+
+        public void setComment(String comment) {
+            this.comment = comment;
+        }
+
+    }
+
+    @CsvBean
+    public static class ByteSizeBean {
+
+        @CsvColumn(number=1)
+        @CsvFixedSize(size=5, rightAlign=true, paddingProcessor=ByteSizePaddingProcessor.Windows31j.class)
+        private int no;
+
+        @CsvColumn(number=2)
+        @CsvFixedSize(size=10, paddingProcessor=ByteSizePaddingProcessor.Windows31j.class)
+        private String name;
+
+        public int getNo() {
+            return no;
+        }
+
+        public void setNo(int no) {
+            this.no = no;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.github.mygreen.supercsv.localization;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ResourceBundle;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * {@link ResourceBundleMessageResolver}と{@link CachingMessageResolver}のテスタ。
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class ResourceBundleMessageResolverTest {
+
+    /**
+     * テスト用のメッセージソース
+     */
+    private static class MapResourceBundle extends ResourceBundle {
+
+        private final Map<String, Object> messages = new HashMap<>();
+
+        MapResourceBundle(final String... keyValues) {
+            for(int i = 0; i < keyValues.length; i += 2) {
+                messages.put(keyValues[i], keyValues[i+1]);
+            }
+        }
+
+        @Override
+        protected Object handleGetObject(final String key) {
+            return messages.get(key);
+        }
+
+        @Override
+        public Enumeration<String> getKeys() {
+            return Collections.enumeration(messages.keySet());
+        }
+    }
+
+    @Test
+    public void testGetMessage() {
+
+        final ResourceBundleMessageResolver resolver = new ResourceBundleMessageResolver();
+
+        assertThat(resolver.getMessage("csvError")).isPresent();
+        assertThat(resolver.getMessage("notFound.code")).isEmpty();
+
+    }
+
+    /**
+     * 後から追加したメッセージソースが優先されること
+     */
+    @Test
+    public void testGetMessage_order() {
+
+        final ResourceBundle bundle1 = new MapResourceBundle("code1", "message1-1", "code2", "message1-2");
+        final ResourceBundle bundle2 = new MapResourceBundle("code1", "message2-1", "code3", "message2-3");
+
+        final ResourceBundleMessageResolver resolver = new ResourceBundleMessageResolver(bundle1);
+        assertThat(resolver.addResourceBundle(bundle2)).isTrue();
+        assertThat(resolver.addResourceBundle(bundle2)).isFalse();
+
+        assertThat(resolver.getMessage("code1")).hasValue("message2-1");
+        assertThat(resolver.getMessage("code2")).hasValue("message1-2");
+        assertThat(resolver.getMessage("code3")).hasValue("message2-3");
+
+        // 削除した場合
+        assertThat(resolver.removeResourceBundle(bundle2)).isTrue();
+        assertThat(resolver.removeResourceBundle(bundle2)).isFalse();
+
+        assertThat(resolver.getMessage("code1")).hasValue("message1-1");
+        assertThat(resolver.getMessage("code3")).isEmpty();
+
+    }
+
+    /**
+     * 見つからなかったコードもキャッシュされること
+     */
+    @Test
+    public void testCachingMessageResolver() {
+
+        final Properties properties = new Properties();
+        properties.setProperty("code1", "message1");
+
+        final AtomicInteger count = new AtomicInteger();
+        final PropertiesMessageResolver delegate = new PropertiesMessageResolver(properties);
+        final CachingMessageResolver resolver = new CachingMessageResolver(code -> {
+            count.incrementAndGet();
+            return delegate.getMessage(code);
+        });
+
+        for(int i = 0; i < 3; i++) {
+            assertThat(resolver.getMessage("code1")).hasValue("message1");
+            assertThat(resolver.getMessage("code2")).isEmpty();
+        }
+
+        assertThat(count.get()).isEqualTo(2);
+        assertThat(resolver.getCacheSize()).isEqualTo(2);
+
+        // キャッシュの破棄
+        properties.setProperty("code2", "message2");
+        assertThat(resolver.getMessage("code2")).isEmpty();
+
+        resolver.clearCache();
+        assertThat(resolver.getMessage("code2")).hasValue("message2");
+        assertThat(count.get()).isEqualTo(3);
+
+        assertThatThrownBy(() -> new CachingMessageResolver(null)).isInstanceOf(NullPointerException.class);
+
+    }
+
+}
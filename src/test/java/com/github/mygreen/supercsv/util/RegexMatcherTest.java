@@ -0,0 +1,112 @@
+package com.github.mygreen.supercsv.util;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+/**
+ * {@link RegexMatcher}のテスタ
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class RegexMatcherTest {
+
+    private static final List<String> INPUTS = Arrays.asList(
+            "", "a", "abc", "ABC", "abc\n", "1234567", "123456", "12345678", "123-4567", "１２３",
+            "ABC-123", "ABC-", "ABCD-12", "abc.def", "abcxdef", "ABCxyzXYZ", "ABCXYZ", "ABC\nXYZ",
+            "foo@example.com", "Foo_1 bar", " \t", "def", "ghi", "abcdef", "a-b", "]", "^a", "\\",
+            "𡌛", "a𡌛b", " ", "\u0085");
+
+    private void assertSameAsRegex(final String regex, final boolean optimized) {
+
+        final Pattern pattern = Pattern.compile(regex);
+        final RegexMatcher matcher = new RegexMatcher(pattern);
+        assertThat(matcher.isOptimized()).as(regex).isEqualTo(optimized);
+
+        for(String input : INPUTS) {
+            assertThat(matcher.matches(input)).as("regex=%s, input=%s", regex, input)
+                    .isEqualTo(pattern.matcher(input).matches());
+        }
+    }
+
+    @Test
+    public void testMatches_sequence() {
+
+        assertSameAsRegex("^[0-9]{7}$", true);
+        assertSameAsRegex("[A-Z]{3}", true);
+        assertSameAsRegex("\\d{3}-\\d{4}", true);
+        assertSameAsRegex("[A-Z]{3}-\\d+", true);
+        assertSameAsRegex("[A-Z]{3}-[0-9]{0,3}", true);
+        assertSameAsRegex("ABC.*XYZ", true);
+        assertSameAsRegex("abc\\.def", true);
+        assertSameAsRegex("abc.def", true);
+        assertSameAsRegex("[\\w.]+@[a-z]+\\.com", true);
+        assertSameAsRegex("\\w+\\s\\w*", true);
+        assertSameAsRegex("[^0-9]+", true);
+        assertSameAsRegex("[a-]-[\\-b]", true);
+        assertSameAsRegex("[a-z]+@[a-z]+\\.com", true);
+        assertSameAsRegex("\\\\", true);
+        assertSameAsRegex(".", true);
+        assertSameAsRegex("a?b?c?", true);
+
+    }
+
+    @Test
+    public void testMatches_literals() {
+
+        assertSameAsRegex("abc|def|ghi", true);
+        assertSameAsRegex("^(abc|def)$", true);
+        assertSameAsRegex("(?:abc|abc\\.def)", true);
+
+    }
+
+    /**
+     * 正規表現を使用する形式
+     */
+    @Test
+    public void testMatches_fallback() {
+
+        // 後続の要素と文字が重なる
+        assertSameAsRegex("\\S\\W?\\D*", false);
+        assertSameAsRegex("\\w*\\d?[a-c]", false);
+
+        // グループ、後方参照など
+        assertSameAsRegex("(ab)+", false);
+        assertSameAsRegex("(a)\\1", false);
+        assertSameAsRegex("a|b+", false);
+        assertSameAsRegex("\\p{Alpha}+", false);
+        assertSameAsRegex("[a-z&&[^b]]+", false);
+        assertSameAsRegex("a+?", false);
+        assertSameAsRegex("(?i)abc", false);
+
+        // フラグを指定
+        final Pattern pattern = Pattern.compile("abc", Pattern.CASE_INSENSITIVE);
+        final RegexMatcher matcher = new RegexMatcher(pattern);
+        assertThat(matcher.isOptimized()).isFalse();
+        assertThat(matcher.matches("ABC")).isTrue();
+
+    }
+
+    @Test
+    public void testParseLiteralAlternation() {
+
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("abc|de\\.f")))
+                .hasValue(Arrays.asList("abc", "de.f"));
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("abc")))
+                .hasValue(Arrays.asList("abc"));
+
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("^abc"))).isEmpty();
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("(abc|def)"))).isEmpty();
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("abc|"))).isEmpty();
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("a.c"))).isEmpty();
+        assertThat(RegexMatcher.parseLiteralAlternation(Pattern.compile("abc", Pattern.LITERAL))).isEmpty();
+
+    }
+
+}
@@ -24,4 +24,51 @@ public class CsvBindingErrorsTest {
     public void test() {
         
     }
+    
+    /**
+     * フィールドエラーの索引
+     * @since 2.5
+     */
+    @Test
+    public void testFieldErrorIndex() {
+        
+        final CsvBindingErrors bindingErrors = new CsvBindingErrors("SampleBean");
+        assertThat(bindingErrors.hasErrors()).isFalse();
+        assertThat(bindingErrors.hasFieldErrors("name")).isFalse();
+        assertThat(bindingErrors.getFieldErrors("name")).isEmpty();
+        assertThat(bindingErrors.getFirstFieldError("name")).isNull();
+        
+        bindingErrors.rejectValue("name", "error1");
+        bindingErrors.reject("global1");
+        bindingErrors.rejectValue("name", "error2");
+        bindingErrors.rejectValue("nameKana", "error3");
+        
+        assertThat(bindingErrors.getAllErrors()).hasSize(4);
+        assertThat(bindingErrors.getFieldErrorCount()).isEqualTo(3);
+        assertThat(bindingErrors.getGlobalErrorCount()).isEqualTo(1);
+        assertThat(bindingErrors.hasGlobalErrors()).isTrue();
+        assertThat(bindingErrors.getFirstGlobalError().getCodes()).contains("global1");
+        
+        assertThat(bindingErrors.getFieldErrorCount("name")).isEqualTo(2);
+        assertThat(bindingErrors.getFirstFieldError("name").getCodes()).contains("error1");
+        assertThat(bindingErrors.getFieldErrors("name")).extracting(CsvFieldError::getField).containsExactly("name", "name");
+        assertThat(bindingErrors.hasFieldErrors("price")).isFalse();
+        assertThat(bindingErrors.getFirstFieldError("price")).isNull();
+        
+        // ワイルドカード
+        assertThat(bindingErrors.getFieldErrorCount("name*")).isEqualTo(3);
+        assertThat(bindingErrors.getFirstFieldError("nameK*").getField()).isEqualTo("nameKana");
+        
+        // 取得したリストの変更は反映されない
+        bindingErrors.getFieldErrors("name").clear();
+        assertThat(bindingErrors.getFieldErrorCount("name")).isEqualTo(2);
+        assertThatThrownBy(() -> bindingErrors.getAllErrors().clear()).isInstanceOf(UnsupportedOperationException.class);
+        
+        bindingErrors.clearAllErrors();
+        assertThat(bindingErrors.hasErrors()).isFalse();
+        assertThat(bindingErrors.hasFieldErrors("name")).isFalse();
+        assertThat(bindingErrors.getFieldErrorCount()).isEqualTo(0);
+        assertThat(bindingErrors.getGlobalErrorCount()).isEqualTo(0);
+        
+    }
 }
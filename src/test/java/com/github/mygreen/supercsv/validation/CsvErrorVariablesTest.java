@@ -0,0 +1,131 @@
+package com.github.mygreen.supercsv.validation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * {@link CsvErrorVariables}と、{@link MessageCodeGenerator}のキャッシュのテスタ
+ *
+ * @since 2.5
+ * @author T.TSUCHIE
+ *
+ */
+public class CsvErrorVariablesTest {
+
+    private static final String[] NAMES = {"lineNumber", "rowNumber", "label"};
+
+    @Test
+    public void testGet() {
+
+        final Map<String, Object> extra = new HashMap<>();
+        extra.put("label", "上書き");
+        extra.put("max", 10);
+
+        final CsvErrorVariables variables = new CsvErrorVariables(NAMES, new Object[]{1, 2, "ラベル"}, extra);
+
+        assertThat(variables.get("lineNumber")).isEqualTo(1);
+        assertThat(variables.get("max")).isEqualTo(10);
+        assertThat(variables.get("label")).isEqualTo("上書き");
+        assertThat(variables.get("unknown")).isNull();
+        assertThat(variables.containsKey("rowNumber")).isTrue();
+        assertThat(variables.containsKey("unknown")).isFalse();
+        assertThat(variables.isEmpty()).isFalse();
+
+        // 全ての要素を参照する場合
+        assertThat(variables).hasSize(4)
+            .containsEntry("lineNumber", 1)
+            .containsEntry("rowNumber", 2)
+            .containsEntry("label", "上書き")
+            .containsEntry("max", 10);
+
+    }
+
+    @Test
+    public void testPut() {
+
+        final CsvErrorVariables variables = new CsvErrorVariables(NAMES, new Object[]{1, 2, "ラベル"});
+
+        assertThat(variables.put("lineNumber", 5)).isEqualTo(1);
+        variables.put("validatedValue", "abc");
+        assertThat(variables.remove("rowNumber")).isEqualTo(2);
+
+        assertThat(variables).hasSize(3)
+            .containsEntry("lineNumber", 5)
+            .containsEntry("label", "ラベル")
+            .containsEntry("validatedValue", "abc")
+            .doesNotContainKey("rowNumber");
+
+        // 元の配列は変更しない
+        assertThat(NAMES).containsExactly("lineNumber", "rowNumber", "label");
+
+    }
+
+    @Test
+    public void testConstructor_lengthMismatch() {
+
+        assertThatThrownBy(() -> new CsvErrorVariables(NAMES, new Object[]{1}))
+            .isInstanceOf(IllegalArgumentException.class);
+
+    }
+
+    @Test
+    public void testBuilder_adoptVariables() {
+
+        final CsvErrorVariables variables = new CsvErrorVariables(NAMES, new Object[]{1, 2, "ラベル"});
+
+        final CsvFieldError error = new CsvFieldError.Builder("SampleBean", "name", new String[]{"code"})
+                .variables(variables)
+                .build();
+
+        assertThat(error.getVariables()).containsEntry("label", "ラベル");
+
+    }
+
+    @Test
+    public void testGenerateCachedCodes() {
+
+        final MessageCodeGenerator generator = new MessageCodeGenerator();
+
+        final String[] codes = generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, false);
+        assertThat(codes).containsExactly(generator.generateCodes("CsvRequire", "SampleBean", "name", String.class));
+        assertThat(generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, false)).isSameAs(codes);
+
+        // 型変換エラーのコードを先頭に追加する
+        final String[] typeMismatchCodes = generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, true);
+        assertThat(typeMismatchCodes).startsWith(generator.generateTypeMismatchCodes("SampleBean", "name", String.class))
+            .endsWith(codes);
+
+        // 設定を変更するとキャッシュを破棄する
+        generator.setPrefix("test.");
+        final String[] prefixedCodes = generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, false);
+        assertThat(prefixedCodes).isNotSameAs(codes)
+            .containsExactly(generator.generateCodes("CsvRequire", "SampleBean", "name", String.class));
+        assertThat(prefixedCodes[0]).startsWith("test.");
+
+    }
+
+    /**
+     * キャッシュしたコードを共有するエラーで、取得したコードを変更しても他のエラーに影響しない
+     */
+    @Test
+    public void testGetCodes_shared() {
+
+        final MessageCodeGenerator generator = new MessageCodeGenerator();
+        final String[] codes = generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, false);
+        final String first = codes[0];
+
+        final CsvError error1 = new CsvError.Builder("SampleBean", codes).build();
+        final CsvError error2 = new CsvError.Builder("SampleBean", codes).build();
+
+        error1.getCodes()[0] = "changed";
+
+        assertThat(error1.getCodes()[0]).isEqualTo(first);
+        assertThat(error2.getCodes()[0]).isEqualTo(first);
+        assertThat(generator.generateCachedCodes("CsvRequire", "SampleBean", "name", String.class, false)[0]).isEqualTo(first);
+
+    }
+}
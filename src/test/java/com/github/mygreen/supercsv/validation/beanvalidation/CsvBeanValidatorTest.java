@@ -3,6 +3,7 @@ package com.github.mygreen.supercsv.validation.beanvalidation;
 import static com.github.mygreen.supercsv.tool.TestUtils.*;
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.stream.Collectors;
@@ -12,6 +13,7 @@ import javax.validation.Validator;
 import javax.validation.ValidatorFactory;
 import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.DecimalMax;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 
 import org.hibernate.validator.constraints.Length;
@@ -32,6 +34,7 @@ import com.github.mygreen.supercsv.localization.MessageResolver;
 import com.github.mygreen.supercsv.localization.ResourceBundleMessageResolver;
 import com.github.mygreen.supercsv.validation.CsvBindingErrors;
 import com.github.mygreen.supercsv.validation.CsvExceptionConverter;
+import com.github.mygreen.supercsv.validation.CsvFieldError;
 import com.github.mygreen.supercsv.validation.ValidationContext;
 
 /**
@@ -94,6 +97,8 @@ public class CsvBeanValidatorTest {
     private interface Group2 { }
     private interface Group3 { }
     private interface Group4 { }
+    private interface Group5 { }
+    private interface Group6 { }
     
     @CsvBean
     private static class TestCsv {
@@ -346,5 +351,101 @@ public class CsvBeanValidatorTest {
         
     }
     
+    /**
+     * 検証するグループの制約が存在しない場合
+     * @since 2.5
+     */
+    @Test
+    public void testValidate_noConstraintsForGroups() {
+        
+        Class<?>[] groups = new Class[]{Group5.class};
+        CsvBindingErrors bindingErrors = new CsvBindingErrors(TestCsv.class);
+        
+        BeanMapping<TestCsv> beanMapping = beanMappingFactory.create(TestCsv.class, groupEmpty);
+        ValidationContext<TestCsv> validationContext = new ValidationContext<>(ANONYMOUS_CSVCONTEXT, beanMapping);
+        
+        TestCsv record = new TestCsv();
+        
+        csvValidator.validate(record, bindingErrors, (ValidationContext)validationContext, groups);
+        assertThat(bindingErrors.hasErrors()).isFalse();
+        
+        // 同じBeanでも、制約を持つグループの場合は検証する
+        csvValidator.validate(record, bindingErrors, (ValidationContext)validationContext, groupEmpty);
+        assertThat(bindingErrors.getFieldErrorCount("id")).isEqualTo(1);
+        
+    }
+    
+    @CsvBean
+    private static class ContainerElementCsv {
+        
+        @CsvColumn(number=1)
+        private String id;
+        
+        // コンテナの要素のみに制約がある
+        private List<@NotBlank(groups=Group6.class) String> tags;
+        
+    }
+    
+    /**
+     * 検証するグループの制約が、コンテナの要素のみに存在する場合
+     * @since 2.5
+     */
+    @Test
+    public void testValidate_containerElementConstraints() {
+        
+        Class<?>[] groups = new Class[]{Group6.class};
+        CsvBindingErrors bindingErrors = new CsvBindingErrors(ContainerElementCsv.class);
+        
+        BeanMapping<ContainerElementCsv> beanMapping = beanMappingFactory.create(ContainerElementCsv.class, groupEmpty);
+        ValidationContext<ContainerElementCsv> validationContext = new ValidationContext<>(ANONYMOUS_CSVCONTEXT, beanMapping);
+        
+        ContainerElementCsv record = new ContainerElementCsv();
+        record.tags = Arrays.asList("abc", " ");
+        
+        csvValidator.validate(record, bindingErrors, (ValidationContext)validationContext, groups);
+        assertThat(bindingErrors.hasErrors()).isTrue();
+        
+    }
+    
+    /**
+     * CellProcessorで処理に成功したプロパティのみを検証する場合
+     * @since 2.5
+     */
+    @Test
+    public void testValidate_onlyProcessedProperties() {
+        
+        BeanMapping<TestCsv> beanMapping = beanMappingFactory.create(TestCsv.class, groupEmpty);
+        ValidationContext<TestCsv> validationContext = new ValidationContext<>(ANONYMOUS_CSVCONTEXT, beanMapping);
+        
+        TestCsv record = new TestCsv();
+        record.name = "abcdefghijk";
+        
+        final List<String> expected = validateWithProcessingFailure(csvValidator, record, validationContext);
+        
+        csvValidator.setValidateOnlyProcessedProperties(true);
+        final List<String> actual = validateWithProcessingFailure(csvValidator, record, validationContext);
+        
+        assertThat(actual).hasSize(2)
+            .containsExactlyElementsOf(expected);
+        assertThat(actual.get(1)).startsWith("[2行, 2列] : 項目「name」");
+        
+    }
+    
+    private List<String> validateWithProcessingFailure(final CsvBeanValidator validator, final TestCsv record,
+            final ValidationContext<TestCsv> validationContext) {
+        
+        // カラム「id」はCellProcessorでエラーになったとする
+        CsvBindingErrors bindingErrors = new CsvBindingErrors(TestCsv.class);
+        bindingErrors.addError(new CsvFieldError.Builder("TestCsv", "id", new String[]{"CsvRequire"})
+                .processingFailure(true)
+                .defaultMessage("processing failure")
+                .build());
+        
+        validator.validate(record, bindingErrors, (ValidationContext)validationContext);
+        
+        return bindingErrors.getAllErrors().stream()
+                .map(error -> error.format(testMessageResolver, messageInterpolator))
+                .collect(Collectors.toList());
+    }
     
 }